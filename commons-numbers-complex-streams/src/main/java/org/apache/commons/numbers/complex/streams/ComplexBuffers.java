@@ -0,0 +1,498 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexArray;
+
+/**
+ * Static utilities to read and write {@link Complex} numbers using
+ * interleaved complex data stored in NIO buffers.
+ *
+ * <p>The complex number at index {@code k} has the real part at buffer index
+ * {@code 2k} and the imaginary part at {@code 2k + 1}.
+ *
+ * <p>The methods {@link #get(DoubleBuffer, int) get} and
+ * {@link #put(DoubleBuffer, int, Complex) put} use the index of the complex number from
+ * the start of the buffer. The bulk methods read or write the complex numbers starting
+ * at the current position of the buffer and increment the position.
+ *
+ * <p>Files can be mapped into memory as a buffer view. Large files may be processed
+ * in windows by mapping a region of the file for each window. The bulk methods transfer
+ * a window between the mapped buffer and split {@code double[]} arrays, as used by
+ * {@link SplitComplexArrays}, or a {@link ComplexArray}. The destination can be reused
+ * for each window and no {@code Complex} is created. Interleaved {@code float[]} arrays,
+ * as used by the kernels of {@link org.apache.commons.numbers.complex.ComplexFloat
+ * ComplexFloat}, are transferred using the bulk methods of {@link FloatBuffer}.
+ */
+public final class ComplexBuffers {
+    /** Number of bytes of a complex number using double precision. */
+    private static final int DOUBLE_COMPLEX_BYTES = 2 * Double.BYTES;
+    /** Number of bytes of a complex number using single precision. */
+    private static final int FLOAT_COMPLEX_BYTES = 2 * Float.BYTES;
+
+    /**
+     * Utility class.
+     */
+    private ComplexBuffers() {}
+
+    /**
+     * Maps a region of the file into memory as an interleaved complex {@code double} buffer.
+     *
+     * <p>If the mode is {@link FileChannel.MapMode#READ_WRITE READ_WRITE} and the region
+     * extends beyond the end of the file then the file is enlarged.
+     *
+     * @param channel file channel
+     * @param mode mapping mode
+     * @param position position in the file (in bytes) of the first complex number
+     * @param count number of complex numbers
+     * @param order byte order of the data
+     * @return the buffer
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the position is negative or the size of the
+     * region is above {@link Integer#MAX_VALUE} bytes
+     * @see FileChannel#map(FileChannel.MapMode, long, long)
+     */
+    public static DoubleBuffer map(FileChannel channel, FileChannel.MapMode mode,
+                                   long position, int count, ByteOrder order) throws IOException {
+        return channel.map(mode, position, (long) count * DOUBLE_COMPLEX_BYTES).order(order).asDoubleBuffer();
+    }
+
+    /**
+     * Maps a region of the file into memory as an interleaved complex {@code float} buffer.
+     *
+     * <p>If the mode is {@link FileChannel.MapMode#READ_WRITE READ_WRITE} and the region
+     * extends beyond the end of the file then the file is enlarged.
+     *
+     * @param channel file channel
+     * @param mode mapping mode
+     * @param position position in the file (in bytes) of the first complex number
+     * @param count number of complex numbers
+     * @param order byte order of the data
+     * @return the buffer
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the position is negative or the size of the
+     * region is above {@link Integer#MAX_VALUE} bytes
+     * @see FileChannel#map(FileChannel.MapMode, long, long)
+     */
+    public static FloatBuffer mapFloat(FileChannel channel, FileChannel.MapMode mode,
+                                       long position, int count, ByteOrder order) throws IOException {
+        return channel.map(mode, position, (long) count * FLOAT_COMPLEX_BYTES).order(order).asFloatBuffer();
+    }
+
+    /**
+     * Gets the number of complex numbers between the position and the limit of the
+     * buffer. This is half the number of remaining elements and is the number of complex
+     * numbers read by {@link #interleaved2Complex(DoubleBuffer)}.
+     *
+     * @param buffer interleaved complex buffer
+     * @return the number of complex numbers
+     */
+    public static int size(DoubleBuffer buffer) {
+        return buffer.remaining() >> 1;
+    }
+
+    /**
+     * Gets the number of complex numbers between the position and the limit of the
+     * buffer. This is half the number of remaining elements and is the number of complex
+     * numbers read by {@link #interleaved2Complex(FloatBuffer)}.
+     *
+     * @param buffer interleaved complex buffer
+     * @return the number of complex numbers
+     */
+    public static int size(FloatBuffer buffer) {
+        return buffer.remaining() >> 1;
+    }
+
+    /**
+     * Gets the complex number at the specified index of the interleaved buffer.
+     * The position of the buffer is not changed.
+     *
+     * @param buffer interleaved complex buffer
+     * @param index index of the complex number
+     * @return {@code Complex}
+     * @throws IndexOutOfBoundsException if {@code 2 * index + 1} is not smaller than the
+     * buffer limit
+     */
+    public static Complex get(DoubleBuffer buffer, int index) {
+        final int i = index << 1;
+        return Complex.ofCartesian(buffer.get(i), buffer.get(i + 1));
+    }
+
+    /**
+     * Gets the complex number at the specified index of the interleaved buffer.
+     * The position of the buffer is not changed.
+     *
+     * @param buffer interleaved complex buffer
+     * @param index index of the complex number
+     * @return {@code Complex}
+     * @throws IndexOutOfBoundsException if {@code 2 * index + 1} is not smaller than the
+     * buffer limit
+     */
+    public static Complex get(FloatBuffer buffer, int index) {
+        final int i = index << 1;
+        return Complex.ofCartesian(buffer.get(i), buffer.get(i + 1));
+    }
+
+    /**
+     * Sets the complex number at the specified index of the interleaved buffer.
+     * The position of the buffer is not changed.
+     *
+     * @param buffer interleaved complex buffer
+     * @param index index of the complex number
+     * @param c {@code Complex}
+     * @throws IndexOutOfBoundsException if {@code 2 * index + 1} is not smaller than the
+     * buffer limit
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static void put(DoubleBuffer buffer, int index, Complex c) {
+        final int i = index << 1;
+        buffer.put(i, c.getReal());
+        buffer.put(i + 1, c.getImaginary());
+    }
+
+    /**
+     * Sets the complex number at the specified index of the interleaved buffer.
+     * The position of the buffer is not changed. The parts are narrowed to
+     * {@code float} values.
+     *
+     * @param buffer interleaved complex buffer
+     * @param index index of the complex number
+     * @param c {@code Complex}
+     * @throws IndexOutOfBoundsException if {@code 2 * index + 1} is not smaller than the
+     * buffer limit
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static void put(FloatBuffer buffer, int index, Complex c) {
+        final int i = index << 1;
+        buffer.put(i, (float) c.getReal());
+        buffer.put(i + 1, (float) c.getImaginary());
+    }
+
+    /**
+     * Reads the complex numbers between the position and the limit of the interleaved
+     * buffer. The buffer position is incremented to the end of the last complex number.
+     *
+     * @param buffer interleaved complex buffer
+     * @return {@code Complex} array
+     */
+    public static Complex[] interleaved2Complex(DoubleBuffer buffer) {
+        final Complex[] c = new Complex[buffer.remaining() >> 1];
+        for (int n = 0; n < c.length; n++) {
+            c[n] = Complex.ofCartesian(buffer.get(), buffer.get());
+        }
+        return c;
+    }
+
+    /**
+     * Reads the complex numbers between the position and the limit of the interleaved
+     * buffer. The buffer position is incremented to the end of the last complex number.
+     *
+     * @param buffer interleaved complex buffer
+     * @return {@code Complex} array
+     */
+    public static Complex[] interleaved2Complex(FloatBuffer buffer) {
+        final Complex[] c = new Complex[buffer.remaining() >> 1];
+        for (int n = 0; n < c.length; n++) {
+            c[n] = Complex.ofCartesian(buffer.get(), buffer.get());
+        }
+        return c;
+    }
+
+    /**
+     * Writes the complex numbers to the interleaved buffer starting at the current
+     * position. The buffer position is incremented by {@code 2 * c.length}.
+     *
+     * @param c {@code Complex} array
+     * @param buffer interleaved complex buffer
+     * @throws BufferOverflowException if there is insufficient space remaining
+     * in the buffer
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static void complex2Interleaved(Complex[] c, DoubleBuffer buffer) {
+        if (buffer.remaining() < 2L * c.length) {
+            throw new BufferOverflowException();
+        }
+        for (final Complex z : c) {
+            buffer.put(z.getReal()).put(z.getImaginary());
+        }
+    }
+
+    /**
+     * Writes the complex numbers to the interleaved buffer starting at the current
+     * position. The buffer position is incremented by {@code 2 * c.length}.
+     * The parts are narrowed to {@code float} values.
+     *
+     * @param c {@code Complex} array
+     * @param buffer interleaved complex buffer
+     * @throws BufferOverflowException if there is insufficient space remaining
+     * in the buffer
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static void complex2Interleaved(Complex[] c, FloatBuffer buffer) {
+        if (buffer.remaining() < 2L * c.length) {
+            throw new BufferOverflowException();
+        }
+        for (final Complex z : c) {
+            buffer.put((float) z.getReal()).put((float) z.getImaginary());
+        }
+    }
+
+    /**
+     * Reads {@code length} complex numbers from the interleaved buffer into the split
+     * arrays starting at {@code offset}. The buffer position is incremented by
+     * {@code 2 * length}.
+     *
+     * @param buffer interleaved complex buffer
+     * @param real real component (output)
+     * @param imag imaginary component (output)
+     * @param offset index of the first complex number in the arrays
+     * @param length number of complex numbers
+     * @throws IllegalArgumentException if the arrays are different lengths
+     * @throws IndexOutOfBoundsException if the range {@code [offset, offset + length)}
+     * is not within the arrays
+     * @throws BufferUnderflowException if there are fewer than {@code length} complex
+     * numbers remaining in the buffer
+     */
+    public static void interleaved2Split(DoubleBuffer buffer, double[] real, double[] imag,
+                                         int offset, int length) {
+        SplitComplexArrays.checkLength(real.length, imag.length);
+        checkRange(offset, length, real.length);
+        checkRemaining(buffer.remaining(), length, false);
+        for (int i = offset; i < offset + length; i++) {
+            real[i] = buffer.get();
+            imag[i] = buffer.get();
+        }
+    }
+
+    /**
+     * Reads {@code length} complex numbers from the interleaved buffer into the split
+     * arrays starting at {@code offset}. The buffer position is incremented by
+     * {@code 2 * length}.
+     *
+     * @param buffer interleaved complex buffer
+     * @param real real component (output)
+     * @param imag imaginary component (output)
+     * @param offset index of the first complex number in the arrays
+     * @param length number of complex numbers
+     * @throws IllegalArgumentException if the arrays are different lengths
+     * @throws IndexOutOfBoundsException if the range {@code [offset, offset + length)}
+     * is not within the arrays
+     * @throws BufferUnderflowException if there are fewer than {@code length} complex
+     * numbers remaining in the buffer
+     */
+    public static void interleaved2Split(FloatBuffer buffer, double[] real, double[] imag,
+                                         int offset, int length) {
+        SplitComplexArrays.checkLength(real.length, imag.length);
+        checkRange(offset, length, real.length);
+        checkRemaining(buffer.remaining(), length, false);
+        for (int i = offset; i < offset + length; i++) {
+            real[i] = buffer.get();
+            imag[i] = buffer.get();
+        }
+    }
+
+    /**
+     * Writes {@code length} complex numbers from the split arrays starting at
+     * {@code offset} to the interleaved buffer. The buffer position is incremented by
+     * {@code 2 * length}.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param offset index of the first complex number in the arrays
+     * @param length number of complex numbers
+     * @param buffer interleaved complex buffer
+     * @throws IllegalArgumentException if the arrays are different lengths
+     * @throws IndexOutOfBoundsException if the range {@code [offset, offset + length)}
+     * is not within the arrays
+     * @throws BufferOverflowException if there is insufficient space remaining
+     * in the buffer
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static void split2Interleaved(double[] real, double[] imag, int offset, int length,
+                                         DoubleBuffer buffer) {
+        SplitComplexArrays.checkLength(real.length, imag.length);
+        checkRange(offset, length, real.length);
+        checkRemaining(buffer.remaining(), length, true);
+        for (int i = offset; i < offset + length; i++) {
+            buffer.put(real[i]).put(imag[i]);
+        }
+    }
+
+    /**
+     * Writes {@code length} complex numbers from the split arrays starting at
+     * {@code offset} to the interleaved buffer. The buffer position is incremented by
+     * {@code 2 * length}. The parts are narrowed to {@code float} values.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param offset index of the first complex number in the arrays
+     * @param length number of complex numbers
+     * @param buffer interleaved complex buffer
+     * @throws IllegalArgumentException if the arrays are different lengths
+     * @throws IndexOutOfBoundsException if the range {@code [offset, offset + length)}
+     * is not within the arrays
+     * @throws BufferOverflowException if there is insufficient space remaining
+     * in the buffer
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static void split2Interleaved(double[] real, double[] imag, int offset, int length,
+                                         FloatBuffer buffer) {
+        SplitComplexArrays.checkLength(real.length, imag.length);
+        checkRange(offset, length, real.length);
+        checkRemaining(buffer.remaining(), length, true);
+        for (int i = offset; i < offset + length; i++) {
+            buffer.put((float) real[i]).put((float) imag[i]);
+        }
+    }
+
+    /**
+     * Reads {@code length} complex numbers from the interleaved buffer into the array
+     * starting at {@code offset}. The buffer position is incremented by
+     * {@code 2 * length}.
+     *
+     * @param buffer interleaved complex buffer
+     * @param array complex array (output)
+     * @param offset index of the first complex number in the array
+     * @param length number of complex numbers
+     * @throws IndexOutOfBoundsException if the range {@code [offset, offset + length)}
+     * is not within the array
+     * @throws BufferUnderflowException if there are fewer than {@code length} complex
+     * numbers remaining in the buffer
+     */
+    public static void interleaved2ComplexArray(DoubleBuffer buffer, ComplexArray array,
+                                                int offset, int length) {
+        checkRange(offset, length, array.size());
+        checkRemaining(buffer.remaining(), length, false);
+        for (int i = offset; i < offset + length; i++) {
+            array.set(i, buffer.get(), buffer.get());
+        }
+    }
+
+    /**
+     * Reads {@code length} complex numbers from the interleaved buffer into the array
+     * starting at {@code offset}. The buffer position is incremented by
+     * {@code 2 * length}.
+     *
+     * @param buffer interleaved complex buffer
+     * @param array complex array (output)
+     * @param offset index of the first complex number in the array
+     * @param length number of complex numbers
+     * @throws IndexOutOfBoundsException if the range {@code [offset, offset + length)}
+     * is not within the array
+     * @throws BufferUnderflowException if there are fewer than {@code length} complex
+     * numbers remaining in the buffer
+     */
+    public static void interleaved2ComplexArray(FloatBuffer buffer, ComplexArray array,
+                                                int offset, int length) {
+        checkRange(offset, length, array.size());
+        checkRemaining(buffer.remaining(), length, false);
+        for (int i = offset; i < offset + length; i++) {
+            array.set(i, buffer.get(), buffer.get());
+        }
+    }
+
+    /**
+     * Writes {@code length} complex numbers from the array starting at {@code offset}
+     * to the interleaved buffer. The buffer position is incremented by
+     * {@code 2 * length}.
+     *
+     * @param array complex array
+     * @param offset index of the first complex number in the array
+     * @param length number of complex numbers
+     * @param buffer interleaved complex buffer
+     * @throws IndexOutOfBoundsException if the range {@code [offset, offset + length)}
+     * is not within the array
+     * @throws BufferOverflowException if there is insufficient space remaining
+     * in the buffer
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static void complexArray2Interleaved(ComplexArray array, int offset, int length,
+                                                DoubleBuffer buffer) {
+        checkRange(offset, length, array.size());
+        checkRemaining(buffer.remaining(), length, true);
+        for (int i = offset; i < offset + length; i++) {
+            buffer.put(array.getReal(i)).put(array.getImaginary(i));
+        }
+    }
+
+    /**
+     * Writes {@code length} complex numbers from the array starting at {@code offset}
+     * to the interleaved buffer. The buffer position is incremented by
+     * {@code 2 * length}. The parts are narrowed to {@code float} values.
+     *
+     * @param array complex array
+     * @param offset index of the first complex number in the array
+     * @param length number of complex numbers
+     * @param buffer interleaved complex buffer
+     * @throws IndexOutOfBoundsException if the range {@code [offset, offset + length)}
+     * is not within the array
+     * @throws BufferOverflowException if there is insufficient space remaining
+     * in the buffer
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static void complexArray2Interleaved(ComplexArray array, int offset, int length,
+                                                FloatBuffer buffer) {
+        checkRange(offset, length, array.size());
+        checkRemaining(buffer.remaining(), length, true);
+        for (int i = offset; i < offset + length; i++) {
+            buffer.put((float) array.getReal(i)).put((float) array.getImaginary(i));
+        }
+    }
+
+    /**
+     * Check the range {@code [offset, offset + length)} is within {@code [0, size)}.
+     *
+     * @param offset Start of the range.
+     * @param length Length of the range.
+     * @param size Size of the array.
+     * @throws IndexOutOfBoundsException if the range is not within the array.
+     */
+    private static void checkRange(int offset, int length, int size) {
+        if ((offset | length) < 0 || length > size - offset) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " +
+                length + ") out of bounds for length " + size);
+        }
+    }
+
+    /**
+     * Check the remaining elements of the buffer hold the complex numbers.
+     *
+     * @param remaining Remaining elements in the buffer.
+     * @param length Number of complex numbers.
+     * @param write Set to true to write to the buffer; otherwise read from the buffer.
+     * @throws BufferOverflowException if writing and there is insufficient space.
+     * @throws BufferUnderflowException if reading and there is insufficient data.
+     */
+    private static void checkRemaining(int remaining, int length, boolean write) {
+        if (remaining < 2L * length) {
+            if (write) {
+                throw new BufferOverflowException();
+            }
+            throw new BufferUnderflowException();
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexFunctions;
+
+/**
+ * Static methods to create streams of {@link Complex} numbers, or of values computed
+ * from complex numbers, using interleaved or split complex {@code double[]} arrays.
+ *
+ * <p>The streams are sequential and lazily create each value from the array when
+ * consumed. The streams have a known size and split evenly when processed in parallel.
+ * The arrays are not copied; modification of the array during the stream pipeline
+ * is not supported.
+ */
+public final class ComplexStreams {
+    /** Characteristics of the spliterators. */
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED |
+        Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+    /**
+     * Utility class.
+     */
+    private ComplexStreams() {}
+
+    /**
+     * Creates a stream of the complex numbers in the interleaved array.
+     * If the array length is odd the final element is ignored.
+     *
+     * @param interleaved array of numbers to be interleaved
+     * @return {@code Complex} stream
+     */
+    public static Stream<Complex> interleaved(double[] interleaved) {
+        return StreamSupport.stream(new ComplexSpliterator(0, interleaved.length >> 1,
+            i -> Complex.ofCartesian(interleaved[i << 1], interleaved[(i << 1) + 1])), false);
+    }
+
+    /**
+     * Creates a stream of the complex numbers in the split array.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return {@code Complex} stream
+     * @throws IllegalArgumentException if the arrays are different lengths
+     */
+    public static Stream<Complex> split(double[] real, double[] imag) {
+        SplitComplexArrays.checkLength(real.length, imag.length);
+        return StreamSupport.stream(new ComplexSpliterator(0, real.length,
+            i -> Complex.ofCartesian(real[i], imag[i])), false);
+    }
+
+    /**
+     * Creates a stream of the absolute values of the complex numbers in the interleaved array.
+     * If the array length is odd the final element is ignored.
+     *
+     * @param interleaved array of numbers to be interleaved
+     * @return absolute value stream
+     * @see Complex#abs()
+     */
+    public static DoubleStream absInterleaved(double[] interleaved) {
+        return StreamSupport.doubleStream(new ValueSpliterator(0, interleaved.length >> 1,
+            i -> ComplexFunctions.abs(interleaved[i << 1], interleaved[(i << 1) + 1])), false);
+    }
+
+    /**
+     * Creates a stream of the arguments of the complex numbers in the interleaved array.
+     * If the array length is odd the final element is ignored.
+     *
+     * @param interleaved array of numbers to be interleaved
+     * @return argument stream
+     * @see Complex#arg()
+     */
+    public static DoubleStream argInterleaved(double[] interleaved) {
+        return StreamSupport.doubleStream(new ValueSpliterator(0, interleaved.length >> 1,
+            i -> Math.atan2(interleaved[(i << 1) + 1], interleaved[i << 1])), false);
+    }
+
+    /**
+     * Creates a stream of the absolute values of the complex numbers in the split array.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return absolute value stream
+     * @throws IllegalArgumentException if the arrays are different lengths
+     * @see Complex#abs()
+     */
+    public static DoubleStream abs(double[] real, double[] imag) {
+        SplitComplexArrays.checkLength(real.length, imag.length);
+        return StreamSupport.doubleStream(new ValueSpliterator(0, real.length,
+            i -> ComplexFunctions.abs(real[i], imag[i])), false);
+    }
+
+    /**
+     * Creates a stream of the arguments of the complex numbers in the split array.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return argument stream
+     * @throws IllegalArgumentException if the arrays are different lengths
+     * @see Complex#arg()
+     */
+    public static DoubleStream arg(double[] real, double[] imag) {
+        SplitComplexArrays.checkLength(real.length, imag.length);
+        return StreamSupport.doubleStream(new ValueSpliterator(0, real.length,
+            i -> Math.atan2(imag[i], real[i])), false);
+    }
+
+    /**
+     * Spliterator over a range of indices that creates a {@code Complex} for each index.
+     */
+    private static final class ComplexSpliterator implements Spliterator<Complex> {
+        /** Current index (inclusive). */
+        private int index;
+        /** End index (exclusive). */
+        private final int end;
+        /** Function to create the value for an index. */
+        private final IntFunction<Complex> function;
+
+        /**
+         * @param index start index (inclusive)
+         * @param end end index (exclusive)
+         * @param function function to create the value for an index
+         */
+        ComplexSpliterator(int index, int end, IntFunction<Complex> function) {
+            this.index = index;
+            this.end = end;
+            this.function = function;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Complex> action) {
+            if (index < end) {
+                action.accept(function.apply(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Complex> action) {
+            final int hi = end;
+            int i = index;
+            index = hi;
+            for (; i < hi; i++) {
+                action.accept(function.apply(i));
+            }
+        }
+
+        @Override
+        public Spliterator<Complex> trySplit() {
+            final int lo = index;
+            final int mid = (lo + end) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ComplexSpliterator(lo, mid, function);
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+
+    /**
+     * Spliterator over a range of indices that computes a {@code double} value for each index.
+     */
+    private static final class ValueSpliterator implements Spliterator.OfDouble {
+        /** Current index (inclusive). */
+        private int index;
+        /** End index (exclusive). */
+        private final int end;
+        /** Function to compute the value for an index. */
+        private final IntToDoubleFunction function;
+
+        /**
+         * @param index start index (inclusive)
+         * @param end end index (exclusive)
+         * @param function function to compute the value for an index
+         */
+        ValueSpliterator(int index, int end, IntToDoubleFunction function) {
+            this.index = index;
+            this.end = end;
+            this.function = function;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (index < end) {
+                action.accept(function.applyAsDouble(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            final int hi = end;
+            int i = index;
+            index = hi;
+            for (; i < hi; i++) {
+                action.accept(function.applyAsDouble(i));
+            }
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            final int lo = index;
+            final int mid = (lo + end) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ValueSpliterator(lo, mid, function);
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.commons.numbers.complex.streams;
 
+import java.util.concurrent.ForkJoinPool;
+
 import org.apache.commons.numbers.complex.Complex;
 
 /**
@@ -1592,6 +1594,280 @@ public final class ComplexUtils {
         return i;
     }
 
+    // PARALLEL METHODS
+
+    /**
+     * Creates {@code Complex[][][]} array given {@code double[][][]} arrays of
+     * r and theta. The conversion is performed in parallel using the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param r array of moduli
+     * @param theta array of arguments
+     * @return {@code Complex}
+     * @throws IllegalArgumentException if any element in {@code r} is negative
+     * @see #polar2Complex(double[][][], double[][][])
+     */
+    public static Complex[][][] parallelPolar2Complex(double[][][] r, double[][][] theta) {
+        return parallelPolar2Complex(r, theta, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates {@code Complex[][][]} array given {@code double[][][]} arrays of
+     * r and theta. The conversion is performed in parallel using the
+     * specified pool.
+     *
+     * @param r array of moduli
+     * @param theta array of arguments
+     * @param pool pool used to execute the conversion
+     * @return {@code Complex}
+     * @throws IllegalArgumentException if any element in {@code r} is negative
+     * @see #polar2Complex(double[][][], double[][][])
+     */
+    public static Complex[][][] parallelPolar2Complex(double[][][] r, double[][][] theta, ForkJoinPool pool) {
+        return ParallelArrays.convert(new Complex[r.length][][], ParallelArrays.size(r), pool,
+            x -> ParallelArrays.convert(new Complex[r[x].length][], ParallelArrays.size(r[x]), pool,
+                y -> polar2Complex(r[x][y], theta[x][y])));
+    }
+
+    /**
+     * Converts a 3D real {@code double[][][]} array to a {@code Complex [][][]}
+     * array. The conversion is performed in parallel using the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param d 3D real array
+     * @return 3D {@code Complex} array
+     * @see #real2Complex(double[][][])
+     */
+    public static Complex[][][] parallelReal2Complex(double[][][] d) {
+        return parallelReal2Complex(d, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts a 3D real {@code double[][][]} array to a {@code Complex [][][]}
+     * array. The conversion is performed in parallel using the specified pool.
+     *
+     * @param d 3D real array
+     * @param pool pool used to execute the conversion
+     * @return 3D {@code Complex} array
+     * @see #real2Complex(double[][][])
+     */
+    public static Complex[][][] parallelReal2Complex(double[][][] d, ForkJoinPool pool) {
+        return ParallelArrays.convert(new Complex[d.length][][], ParallelArrays.size(d), pool,
+            x -> ParallelArrays.convert(new Complex[d[x].length][], ParallelArrays.size(d[x]), pool,
+                y -> real2Complex(d[x][y])));
+    }
+
+    /**
+     * Converts a 4D real {@code double[][][][]} array to a {@code Complex [][][][]}
+     * array. The conversion is performed in parallel using the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param d 4D real array
+     * @return 4D {@code Complex} array
+     * @see #real2Complex(double[][][][])
+     */
+    public static Complex[][][][] parallelReal2Complex(double[][][][] d) {
+        return parallelReal2Complex(d, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts a 4D real {@code double[][][][]} array to a {@code Complex [][][][]}
+     * array. The conversion is performed in parallel using the specified pool.
+     *
+     * @param d 4D real array
+     * @param pool pool used to execute the conversion
+     * @return 4D {@code Complex} array
+     * @see #real2Complex(double[][][][])
+     */
+    public static Complex[][][][] parallelReal2Complex(double[][][][] d, ForkJoinPool pool) {
+        return ParallelArrays.convert(new Complex[d.length][][][], ParallelArrays.size(d), pool,
+            x -> parallelReal2Complex(d[x], pool));
+    }
+
+    /**
+     * Converts a 3D {@code Complex[][][]} array to an interleaved complex
+     * {@code double[][][]} array. The third level of the array is
+     * interleaved. The conversion is performed in parallel using the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param c 3D Complex array
+     * @return complex interleaved array alternating real and
+     *         imaginary values
+     * @see #complex2Interleaved(Complex[][][])
+     */
+    public static double[][][] parallelComplex2Interleaved(Complex[][][] c) {
+        return parallelComplex2Interleaved(c, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts a 3D {@code Complex[][][]} array to an interleaved complex
+     * {@code double[][][]} array. The third level of the array is
+     * interleaved. The conversion is performed in parallel using the specified pool.
+     *
+     * @param c 3D Complex array
+     * @param pool pool used to execute the conversion
+     * @return complex interleaved array alternating real and
+     *         imaginary values
+     * @see #complex2Interleaved(Complex[][][])
+     */
+    public static double[][][] parallelComplex2Interleaved(Complex[][][] c, ForkJoinPool pool) {
+        return ParallelArrays.convert(new double[c.length][][], ParallelArrays.size(c), pool,
+            x -> ParallelArrays.convert(new double[c[x].length][], ParallelArrays.size(c[x]), pool,
+                y -> complex2Interleaved(c[x][y])));
+    }
+
+    /**
+     * Converts a 4D {@code Complex[][][][]} array to an interleaved complex
+     * {@code double[][][][]} array. The fourth level of the array is
+     * interleaved. The conversion is performed in parallel using the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param c 4D Complex array
+     * @return complex interleaved array alternating real and
+     *         imaginary values
+     * @see #complex2Interleaved(Complex[][][][])
+     */
+    public static double[][][][] parallelComplex2Interleaved(Complex[][][][] c) {
+        return parallelComplex2Interleaved(c, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts a 4D {@code Complex[][][][]} array to an interleaved complex
+     * {@code double[][][][]} array. The fourth level of the array is
+     * interleaved. The conversion is performed in parallel using the specified pool.
+     *
+     * @param c 4D Complex array
+     * @param pool pool used to execute the conversion
+     * @return complex interleaved array alternating real and
+     *         imaginary values
+     * @see #complex2Interleaved(Complex[][][][])
+     */
+    public static double[][][][] parallelComplex2Interleaved(Complex[][][][] c, ForkJoinPool pool) {
+        return ParallelArrays.convert(new double[c.length][][][], ParallelArrays.size(c), pool,
+            x -> parallelComplex2Interleaved(c[x], pool));
+    }
+
+    /**
+     * Converts a 3D interleaved complex {@code double[][][]} array to a
+     * {@code Complex[][][]} array. The third level of the array is assumed to be
+     * interleaved. The conversion is performed in parallel using the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param d 3D complex interleaved array
+     * @return 3D {@code Complex} array
+     * @see #interleaved2Complex(double[][][])
+     */
+    public static Complex[][][] parallelInterleaved2Complex(double[][][] d) {
+        return parallelInterleaved2Complex(d, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts a 3D interleaved complex {@code double[][][]} array to a
+     * {@code Complex[][][]} array. The third level of the array is assumed to be
+     * interleaved. The conversion is performed in parallel using the specified pool.
+     *
+     * @param d 3D complex interleaved array
+     * @param pool pool used to execute the conversion
+     * @return 3D {@code Complex} array
+     * @see #interleaved2Complex(double[][][])
+     */
+    public static Complex[][][] parallelInterleaved2Complex(double[][][] d, ForkJoinPool pool) {
+        return ParallelArrays.convert(new Complex[d.length][][], ParallelArrays.size(d) / 2, pool,
+            x -> ParallelArrays.convert(new Complex[d[x].length][], ParallelArrays.size(d[x]) / 2, pool,
+                y -> interleaved2Complex(d[x][y])));
+    }
+
+    /**
+     * Converts a 4D interleaved complex {@code double[][][][]} array to a
+     * {@code Complex[][][][]} array. The fourth level of the array is assumed to be
+     * interleaved. The conversion is performed in parallel using the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param d 4D complex interleaved array
+     * @return 4D {@code Complex} array
+     * @see #interleaved2Complex(double[][][][], int)
+     */
+    public static Complex[][][][] parallelInterleaved2Complex(double[][][][] d) {
+        return parallelInterleaved2Complex(d, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts a 4D interleaved complex {@code double[][][][]} array to a
+     * {@code Complex[][][][]} array. The fourth level of the array is assumed to be
+     * interleaved. The conversion is performed in parallel using the specified pool.
+     *
+     * @param d 4D complex interleaved array
+     * @param pool pool used to execute the conversion
+     * @return 4D {@code Complex} array
+     * @see #interleaved2Complex(double[][][][], int)
+     */
+    public static Complex[][][][] parallelInterleaved2Complex(double[][][][] d, ForkJoinPool pool) {
+        return ParallelArrays.convert(new Complex[d.length][][][], ParallelArrays.size(d) / 2, pool,
+            x -> parallelInterleaved2Complex(d[x], pool));
+    }
+
+    /**
+     * Converts a 3D split complex array {@code double[][][] r, double[][][] i}
+     * to a 3D {@code Complex[][][]} array. The conversion is performed in parallel
+     * using the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return 3D {@code Complex} array
+     * @see #split2Complex(double[][][], double[][][])
+     */
+    public static Complex[][][] parallelSplit2Complex(double[][][] real, double[][][] imag) {
+        return parallelSplit2Complex(real, imag, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts a 3D split complex array {@code double[][][] r, double[][][] i}
+     * to a 3D {@code Complex[][][]} array. The conversion is performed in parallel
+     * using the specified pool.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param pool pool used to execute the conversion
+     * @return 3D {@code Complex} array
+     * @see #split2Complex(double[][][], double[][][])
+     */
+    public static Complex[][][] parallelSplit2Complex(double[][][] real, double[][][] imag, ForkJoinPool pool) {
+        return ParallelArrays.convert(new Complex[real.length][][], ParallelArrays.size(real), pool,
+            x -> ParallelArrays.convert(new Complex[real[x].length][], ParallelArrays.size(real[x]), pool,
+                y -> split2Complex(real[x][y], imag[x][y])));
+    }
+
+    /**
+     * Converts a 4D split complex array {@code double[][][][] r, double[][][][] i}
+     * to a 4D {@code Complex[][][][]} array. The conversion is performed in parallel
+     * using the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return 4D {@code Complex} array
+     * @see #split2Complex(double[][][][], double[][][][])
+     */
+    public static Complex[][][][] parallelSplit2Complex(double[][][][] real, double[][][][] imag) {
+        return parallelSplit2Complex(real, imag, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts a 4D split complex array {@code double[][][][] r, double[][][][] i}
+     * to a 4D {@code Complex[][][][]} array. The conversion is performed in parallel
+     * using the specified pool.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param pool pool used to execute the conversion
+     * @return 4D {@code Complex} array
+     * @see #split2Complex(double[][][][], double[][][][])
+     */
+    public static Complex[][][][] parallelSplit2Complex(double[][][][] real, double[][][][] imag,
+                                                        ForkJoinPool pool) {
+        return ParallelArrays.convert(new Complex[real.length][][][], ParallelArrays.size(real), pool,
+            x -> parallelSplit2Complex(real[x], imag[x], pool));
+    }
+
     /**
      * Exception to be throw when a negative value is passed as the modulus.
      */
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+
+/**
+ * Support for the parallel conversion of multi-dimensional arrays using a
+ * {@link ForkJoinPool}.
+ *
+ * <p>The outer dimension of the array is recursively split into tasks until
+ * the number of array elements in a task is below a threshold.
+ */
+final class ParallelArrays {
+    /** Minimum number of array elements to process in a single task. */
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    /**
+     * Utility class.
+     */
+    private ParallelArrays() {}
+
+    /**
+     * Fills the result array using the converter function for each index.
+     * The conversion is performed in parallel if the number of array elements
+     * is above a threshold.
+     *
+     * @param <T> the type of the result array elements
+     * @param result result array
+     * @param size total number of array elements to convert
+     * @param pool pool used to execute the conversion
+     * @param converter function to create the result for an index
+     * @return the result array
+     */
+    static <T> T[] convert(T[] result, long size, ForkJoinPool pool,
+                           IntFunction<T> converter) {
+        final ConvertTask<T> task = new ConvertTask<>(result, 0, result.length,
+            size / Math.max(1, result.length), converter);
+        if (size < PARALLEL_THRESHOLD || result.length < 2) {
+            task.convert();
+        } else if (ForkJoinTask.getPool() == pool) {
+            // Already executing in the pool
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of elements in a rectangular array. The size of each
+     * dimension is obtained from the first element.
+     *
+     * @param a array
+     * @return the number of elements
+     */
+    static long size(Object[] a) {
+        if (a.length == 0) {
+            return 0;
+        }
+        final Object e = a[0];
+        final long n;
+        if (e instanceof Object[]) {
+            n = size((Object[]) e);
+        } else if (e instanceof double[]) {
+            n = ((double[]) e).length;
+        } else {
+            n = 1;
+        }
+        return a.length * n;
+    }
+
+    /**
+     * Task to convert a range of indices of an array.
+     *
+     * @param <T> the type of the result array elements
+     */
+    private static class ConvertTask<T> extends RecursiveAction {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20201018L;
+
+        /** Result array. */
+        private final T[] result;
+        /** Start index (inclusive). */
+        private final int from;
+        /** End index (exclusive). */
+        private final int to;
+        /** Number of array elements converted for each index. */
+        private final long elementsPerIndex;
+        /** Function to create the result for an index. */
+        private final IntFunction<T> converter;
+
+        /**
+         * @param result result array
+         * @param from start index (inclusive)
+         * @param to end index (exclusive)
+         * @param elementsPerIndex number of array elements converted for each index
+         * @param converter function to create the result for an index
+         */
+        ConvertTask(T[] result, int from, int to, long elementsPerIndex, IntFunction<T> converter) {
+            this.result = result;
+            this.from = from;
+            this.to = to;
+            this.elementsPerIndex = elementsPerIndex;
+            this.converter = converter;
+        }
+
+        @Override
+        protected void compute() {
+            final int n = to - from;
+            if (n < 2 || n * elementsPerIndex <= PARALLEL_THRESHOLD) {
+                convert();
+            } else {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new ConvertTask<>(result, from, mid, elementsPerIndex, converter),
+                          new ConvertTask<>(result, mid, to, elementsPerIndex, converter));
+            }
+        }
+
+        /**
+         * Convert the range sequentially.
+         */
+        void convert() {
+            for (int i = from; i < to; i++) {
+                result[i] = converter.apply(i);
+            }
+        }
+    }
+}
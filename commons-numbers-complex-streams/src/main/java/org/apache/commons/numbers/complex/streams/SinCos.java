@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+/**
+ * Computes the sine and cosine of an angle together.
+ *
+ * <p>The sine and cosine share the reduction of the argument to the range
+ * \( [-\frac{\pi}{4}, \frac{\pi}{4}] \) and the selection of the quadrant. The reduction
+ * and the polynomial approximations are those of the fdlibm library used by
+ * {@link StrictMath}. For arguments with a magnitude up to \( 2^{19} \frac{\pi}{2} \)
+ * the results are identical to {@link StrictMath#sin(double)} and
+ * {@link StrictMath#cos(double)}. Larger arguments and non-finite arguments are
+ * computed using {@link Math}; the multi-precision reduction of large arguments by
+ * {@link StrictMath} is several times slower. The results for large arguments are
+ * those of {@link Math#sin(double)} and {@link Math#cos(double)}.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @see <a href="https://www.netlib.org/fdlibm/">fdlibm</a>
+ */
+final class SinCos {
+    /** High word of pi/4. */
+    private static final int PI_O_4_HIGH = 0x3fe921fb;
+    /** High word of 2^19 * pi/2: the limit of the medium size reduction. */
+    private static final int MEDIUM_LIMIT_HIGH = 0x413921fb;
+    /** High word of 2^-27. */
+    private static final int TINY_HIGH = 0x3e400000;
+    /** High word of 0.3. */
+    private static final int POINT_3_HIGH = 0x3fd33333;
+    /** High word of 0.78125. */
+    private static final int POINT_78125_HIGH = 0x3fe90000;
+    /** Mask for the exponent in the high word. */
+    private static final int EXPONENT_MASK = 0x7ff;
+
+    /** 2/pi. */
+    private static final double INV_PIO2 = 6.36619772367581382433e-01;
+    /** First 33 bits of pi/2. */
+    private static final double PIO2_1 = 1.57079632673412561417e+00;
+    /** pi/2 - PIO2_1. */
+    private static final double PIO2_1T = 6.07710050650619224932e-11;
+    /** Second 33 bits of pi/2. */
+    private static final double PIO2_2 = 6.07710050630396597660e-11;
+    /** pi/2 - (PIO2_1 + PIO2_2). */
+    private static final double PIO2_2T = 2.02226624879595063154e-21;
+    /** Third 33 bits of pi/2. */
+    private static final double PIO2_3 = 2.02226624871116645580e-21;
+    /** pi/2 - (PIO2_1 + PIO2_2 + PIO2_3). */
+    private static final double PIO2_3T = 8.47842766036889956997e-32;
+
+    /** Sine polynomial coefficient. */
+    private static final double S1 = -1.66666666666666324348e-01;
+    /** Sine polynomial coefficient. */
+    private static final double S2 = 8.33333333332248946124e-03;
+    /** Sine polynomial coefficient. */
+    private static final double S3 = -1.98412698298579493134e-04;
+    /** Sine polynomial coefficient. */
+    private static final double S4 = 2.75573137070700676789e-06;
+    /** Sine polynomial coefficient. */
+    private static final double S5 = -2.50507602534068634195e-08;
+    /** Sine polynomial coefficient. */
+    private static final double S6 = 1.58969099521155010221e-10;
+
+    /** Cosine polynomial coefficient. */
+    private static final double C1 = 4.16666666666666019037e-02;
+    /** Cosine polynomial coefficient. */
+    private static final double C2 = -1.38888888888741095749e-03;
+    /** Cosine polynomial coefficient. */
+    private static final double C3 = 2.48015872894767294178e-05;
+    /** Cosine polynomial coefficient. */
+    private static final double C4 = -2.75573143513906633035e-07;
+    /** Cosine polynomial coefficient. */
+    private static final double C5 = 2.08757232129817482790e-09;
+    /** Cosine polynomial coefficient. */
+    private static final double C6 = -1.13596475577881948265e-11;
+
+    /** The sine. */
+    private double sin;
+    /** The cosine. */
+    private double cos;
+
+    /**
+     * Gets the sine of the last angle.
+     *
+     * @return the sine
+     */
+    double sin() {
+        return sin;
+    }
+
+    /**
+     * Gets the cosine of the last angle.
+     *
+     * @return the cosine
+     */
+    double cos() {
+        return cos;
+    }
+
+    /**
+     * Compute the sine and cosine of the angle.
+     *
+     * @param x Angle (in radians).
+     */
+    void set(double x) {
+        final int hx = highWord(x);
+        final int ix = hx & Integer.MAX_VALUE;
+
+        // |x| ~<= pi/4
+        if (ix <= PI_O_4_HIGH) {
+            sin = kernelSin(x);
+            cos = kernelCos(x, 0);
+            return;
+        }
+        // Large or non-finite
+        if (ix > MEDIUM_LIMIT_HIGH) {
+            sin = Math.sin(x);
+            cos = Math.cos(x);
+            return;
+        }
+
+        // Argument reduction of |x| to y0 + y1 in [-pi/4, pi/4]:
+        // |x| = n * pi/2 + y0 + y1.
+        // pi/2 is represented using up to three 33-bit parts; the extra parts are
+        // used when cancellation in the reduction loses significant bits.
+        final double t = Math.abs(x);
+        final int n = (int) (t * INV_PIO2 + 0.5);
+        final double fn = n;
+        double r = t - fn * PIO2_1;
+        double w = fn * PIO2_1T;
+        final int j = ix >> 20;
+        double y0 = r - w;
+        int i = j - exponent(y0);
+        if (i > 16) {
+            double u = r;
+            w = fn * PIO2_2;
+            r = u - w;
+            w = fn * PIO2_2T - ((u - r) - w);
+            y0 = r - w;
+            i = j - exponent(y0);
+            if (i > 49) {
+                u = r;
+                w = fn * PIO2_3;
+                r = u - w;
+                w = fn * PIO2_3T - ((u - r) - w);
+                y0 = r - w;
+            }
+        }
+        final double y1 = (r - y0) - w;
+
+        final double s = kernelSin(y0, y1);
+        final double c = kernelCos(y0, y1);
+        double ss;
+        switch (n & 3) {
+        case 0:
+            ss = s;
+            cos = c;
+            break;
+        case 1:
+            ss = c;
+            cos = -s;
+            break;
+        case 2:
+            ss = -s;
+            cos = -c;
+            break;
+        default:
+            ss = -c;
+            cos = s;
+            break;
+        }
+        // sin(-x) = -sin(x); cos(-x) = cos(x)
+        sin = hx < 0 ? -ss : ss;
+    }
+
+    /**
+     * Compute the sine of an angle in [-pi/4, pi/4].
+     *
+     * @param x Angle.
+     * @return the sine
+     */
+    private static double kernelSin(double x) {
+        if ((highWord(x) & Integer.MAX_VALUE) < TINY_HIGH) {
+            // Also preserves the sign of zero
+            return x;
+        }
+        final double z = x * x;
+        final double v = z * x;
+        final double r = S2 + z * (S3 + z * (S4 + z * (S5 + z * S6)));
+        return x + v * (S1 + z * r);
+    }
+
+    /**
+     * Compute the sine of an angle {@code x + y} in [-pi/4, pi/4] where {@code y} is the
+     * tail of {@code x}.
+     *
+     * @param x Angle.
+     * @param y Tail of the angle.
+     * @return the sine
+     */
+    private static double kernelSin(double x, double y) {
+        if ((highWord(x) & Integer.MAX_VALUE) < TINY_HIGH) {
+            return x;
+        }
+        final double z = x * x;
+        final double v = z * x;
+        final double r = S2 + z * (S3 + z * (S4 + z * (S5 + z * S6)));
+        return x - ((z * (0.5 * y - v * r) - y) - v * S1);
+    }
+
+    /**
+     * Compute the cosine of an angle {@code x + y} in [-pi/4, pi/4] where {@code y} is the
+     * tail of {@code x}.
+     *
+     * @param x Angle.
+     * @param y Tail of the angle.
+     * @return the cosine
+     */
+    private static double kernelCos(double x, double y) {
+        final int ix = highWord(x) & Integer.MAX_VALUE;
+        if (ix < TINY_HIGH) {
+            return 1;
+        }
+        final double z = x * x;
+        final double r = z * (C1 + z * (C2 + z * (C3 + z * (C4 + z * (C5 + z * C6)))));
+        if (ix < POINT_3_HIGH) {
+            return 1 - (0.5 * z - (z * r - x * y));
+        }
+        // Subtract an exact part of 0.5 * z to reduce the rounding error:
+        // cos(x) = (1 - qx) - ((0.5 * z - qx) - (z * r - x * y))
+        final double qx = ix > POINT_78125_HIGH ?
+            0.28125 :
+            // x/4 with the low word cleared
+            Double.longBitsToDouble(((long) (ix - 0x00200000)) << 32);
+        final double hz = 0.5 * z - qx;
+        final double a = 1 - qx;
+        return a - (hz - (z * r - x * y));
+    }
+
+    /**
+     * Gets the high 32-bits of the IEEE 754 representation of the value.
+     *
+     * @param x Value.
+     * @return the high word
+     */
+    private static int highWord(double x) {
+        return (int) (Double.doubleToRawLongBits(x) >>> 32);
+    }
+
+    /**
+     * Gets the biased exponent of the value.
+     *
+     * @param x Value.
+     * @return the exponent
+     */
+    private static int exponent(double x) {
+        return (highWord(x) >> 20) & EXPONENT_MASK;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import org.apache.commons.numbers.complex.ComplexFunctions;
+
+/**
+ * Static bulk conversions of complex numbers stored in primitive arrays.
+ *
+ * <p>The complex numbers are represented by the split real and imaginary parts
+ * {@code double[] real, double[] imag}, or by the polar moduli and arguments
+ * {@code double[] r, double[] theta}. The result is written to the provided output
+ * arrays and no {@code Complex} is created.
+ *
+ * @see ComplexUtils
+ */
+public final class SplitComplexArrays {
+    /**
+     * Utility class.
+     */
+    private SplitComplexArrays() {}
+
+    /**
+     * Converts the polar representation {@code double[] r, double[] theta} to the split
+     * complex representation {@code double[] real, double[] imag}. For each index {@code i}:
+     * <pre>
+     * real[i] = r[i] * cos(theta[i])
+     * imag[i] = r[i] * sin(theta[i])</pre>
+     *
+     * <p>No {@code Complex} is created. The sine and cosine of each angle are computed
+     * together using a shared argument reduction. For angles with a magnitude up to
+     * \( 2^{19} \frac{\pi}{2} \) the values are identical to {@link StrictMath#sin(double)}
+     * and {@link StrictMath#cos(double)}; larger angles use {@link Math#sin(double)} and
+     * {@link Math#cos(double)}. The result may differ from
+     * {@link ComplexUtils#polar2Complex(double, double)} by 1 ULP.
+     *
+     * <p>The output arrays may be the same as the input arrays to perform the
+     * conversion in-place. If an element of {@code r} is negative an exception is
+     * raised and the output arrays are partially written.
+     *
+     * @param r moduli
+     * @param theta arguments
+     * @param real real component (output)
+     * @param imag imaginary component (output)
+     * @throws IllegalArgumentException if the arrays are different lengths or any
+     * element in {@code r} is negative
+     * @see ComplexUtils#polar2Complex(double[], double[])
+     */
+    public static void polar2Split(double[] r, double[] theta, double[] real, double[] imag) {
+        final int length = r.length;
+        checkLength(length, theta.length);
+        checkLength(length, real.length);
+        checkLength(length, imag.length);
+        final SinCos sc = new SinCos();
+        for (int x = 0; x < length; x++) {
+            final double rho = r[x];
+            if (rho < 0) {
+                throw new IllegalArgumentException("Modulus is negative: " + rho);
+            }
+            sc.set(theta[x]);
+            real[x] = rho * sc.cos();
+            imag[x] = rho * sc.sin();
+        }
+    }
+
+    /**
+     * Converts the split complex representation {@code double[] real, double[] imag}
+     * to the polar representation {@code double[] r, double[] theta}. For each index
+     * {@code i}:
+     * <pre>
+     * r[i] = abs(real[i], imag[i])
+     * theta[i] = atan2(imag[i], real[i])</pre>
+     *
+     * <p>No {@code Complex} is created. The values are identical to
+     * {@link ComplexFunctions#abs(double, double)} and {@link Math#atan2(double, double)}.
+     *
+     * <p>The output arrays may be the same as the input arrays to perform the
+     * conversion in-place.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param r moduli (output)
+     * @param theta arguments (output)
+     * @throws IllegalArgumentException if the arrays are different lengths
+     */
+    public static void split2Polar(double[] real, double[] imag, double[] r, double[] theta) {
+        final int length = real.length;
+        checkLength(length, imag.length);
+        checkLength(length, r.length);
+        checkLength(length, theta.length);
+        for (int x = 0; x < length; x++) {
+            final double re = real[x];
+            final double im = imag[x];
+            r[x] = ComplexFunctions.abs(re, im);
+            theta[x] = Math.atan2(im, re);
+        }
+    }
+
+    /**
+     * Computes the absolute values (magnitudes) of the split complex representation
+     * {@code double[] real, double[] imag}. The values are identical to
+     * {@link ComplexFunctions#abs(double, double)}.
+     *
+     * <p>The output array may be the same as an input array.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param result absolute values (output)
+     * @return {@code result}
+     * @throws IllegalArgumentException if the arrays are different lengths
+     * @see ComplexUtils#abs(Complex[])
+     */
+    public static double[] abs(double[] real, double[] imag, double[] result) {
+        final int length = real.length;
+        checkLength(length, imag.length);
+        checkLength(length, result.length);
+        for (int x = 0; x < length; x++) {
+            result[x] = ComplexFunctions.abs(real[x], imag[x]);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the arguments (phase angles) of the split complex representation
+     * {@code double[] real, double[] imag}. The values are identical to
+     * {@link Math#atan2(double, double) atan2(imag, real)}.
+     *
+     * <p>The output array may be the same as an input array.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param result arguments (output)
+     * @return {@code result}
+     * @throws IllegalArgumentException if the arrays are different lengths
+     * @see ComplexUtils#arg(Complex[])
+     */
+    public static double[] arg(double[] real, double[] imag, double[] result) {
+        final int length = real.length;
+        checkLength(length, imag.length);
+        checkLength(length, result.length);
+        for (int x = 0; x < length; x++) {
+            result[x] = Math.atan2(imag[x], real[x]);
+        }
+        return result;
+    }
+
+    /**
+     * Check the lengths are equal.
+     *
+     * @param length1 First length.
+     * @param length2 Second length.
+     * @throws IllegalArgumentException if the lengths are different.
+     */
+    static void checkLength(int length1, int length2) {
+        if (length1 != length2) {
+            throw new IllegalArgumentException("Size mismatch: " + length1 + " != " + length2);
+        }
+    }
+}
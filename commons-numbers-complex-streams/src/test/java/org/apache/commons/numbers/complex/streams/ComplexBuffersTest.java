@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexArray;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ComplexBuffers}.
+ */
+class ComplexBuffersTest {
+    private static Complex[] createComplex(int n) {
+        final Complex[] c = new Complex[n];
+        for (int i = 0; i < n; i++) {
+            c[i] = Complex.ofCartesian(i * 0.5, -i * 0.25);
+        }
+        return c;
+    }
+
+    @Test
+    void testDoubleBuffer() {
+        final Complex[] c = createComplex(10);
+        final DoubleBuffer buffer = DoubleBuffer.allocate(20);
+        Assertions.assertEquals(10, ComplexBuffers.size(buffer));
+        ComplexBuffers.complex2Interleaved(c, buffer);
+        Assertions.assertEquals(20, buffer.position());
+        for (int i = 0; i < c.length; i++) {
+            Assertions.assertEquals(c[i], ComplexBuffers.get(buffer, i));
+        }
+        buffer.flip();
+        Assertions.assertArrayEquals(c, ComplexBuffers.interleaved2Complex(buffer));
+        Assertions.assertEquals(20, buffer.position());
+        ComplexBuffers.put(buffer, 3, Complex.I);
+        Assertions.assertEquals(Complex.I, ComplexBuffers.get(buffer, 3));
+        Assertions.assertEquals(0.0, buffer.get(6));
+        Assertions.assertEquals(1.0, buffer.get(7));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> ComplexBuffers.get(buffer, 10));
+        buffer.clear();
+        buffer.position(2);
+        Assertions.assertThrows(BufferOverflowException.class, () -> ComplexBuffers.complex2Interleaved(c, buffer));
+        Assertions.assertEquals(2, buffer.position());
+        Assertions.assertThrows(ReadOnlyBufferException.class,
+            () -> ComplexBuffers.put(buffer.asReadOnlyBuffer(), 0, Complex.ONE));
+    }
+
+    @Test
+    void testSize() {
+        final DoubleBuffer buffer = DoubleBuffer.allocate(20);
+        buffer.position(4).limit(15);
+        Assertions.assertEquals(5, ComplexBuffers.size(buffer));
+        Assertions.assertEquals(5, ComplexBuffers.interleaved2Complex(buffer).length);
+        final FloatBuffer buffer2 = FloatBuffer.allocate(20);
+        buffer2.position(2).limit(12);
+        Assertions.assertEquals(5, ComplexBuffers.size(buffer2));
+        Assertions.assertEquals(5, ComplexBuffers.interleaved2Complex(buffer2).length);
+    }
+
+    @Test
+    void testSplitDoubleBuffer() {
+        final Complex[] c = createComplex(10);
+        final double[] re = new double[8];
+        final double[] im = new double[8];
+        final DoubleBuffer buffer = DoubleBuffer.allocate(20);
+        ComplexBuffers.complex2Interleaved(c, buffer);
+        buffer.flip().position(2);
+        ComplexBuffers.interleaved2Split(buffer, re, im, 3, 5);
+        Assertions.assertEquals(12, buffer.position());
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(c[i + 1], Complex.ofCartesian(re[i + 3], im[i + 3]));
+        }
+        Assertions.assertEquals(0, re[2]);
+        buffer.clear().position(4);
+        ComplexBuffers.split2Interleaved(im, re, 3, 5, buffer);
+        Assertions.assertEquals(14, buffer.position());
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(Complex.ofCartesian(im[i + 3], re[i + 3]), ComplexBuffers.get(buffer, i + 2));
+        }
+        Assertions.assertEquals(c[1], ComplexBuffers.get(buffer, 1));
+        Assertions.assertEquals(c[7], ComplexBuffers.get(buffer, 7));
+    }
+
+    @Test
+    void testSplitFloatBuffer() {
+        final Complex[] c = createComplex(6);
+        final double[] re = new double[6];
+        final double[] im = new double[6];
+        final FloatBuffer buffer = FloatBuffer.allocate(12);
+        ComplexBuffers.complex2Interleaved(c, buffer);
+        buffer.flip();
+        ComplexBuffers.interleaved2Split(buffer, re, im, 0, 6);
+        Assertions.assertArrayEquals(c, ComplexUtils.split2Complex(re, im));
+        re[0] = 0.1;
+        buffer.clear();
+        ComplexBuffers.split2Interleaved(re, im, 0, 1, buffer);
+        Assertions.assertEquals(2, buffer.position());
+        Assertions.assertEquals(0.1f, buffer.get(0));
+    }
+
+    @Test
+    void testComplexArray() {
+        final Complex[] c = createComplex(10);
+        final ComplexArray array = ComplexArray.ofSize(6);
+        final DoubleBuffer buffer = DoubleBuffer.allocate(20);
+        ComplexBuffers.complex2Interleaved(c, buffer);
+        buffer.flip();
+        ComplexBuffers.interleaved2ComplexArray(buffer, array, 1, 5);
+        Assertions.assertEquals(10, buffer.position());
+        Assertions.assertEquals(Complex.ZERO, array.get(0));
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(c[i], array.get(i + 1));
+        }
+        buffer.clear();
+        ComplexBuffers.complexArray2Interleaved(array.exp(), 0, 6, buffer);
+        Assertions.assertEquals(12, buffer.position());
+        for (int i = 0; i < 6; i++) {
+            Assertions.assertEquals(array.get(i).exp(), ComplexBuffers.get(buffer, i));
+        }
+
+        final FloatBuffer buffer2 = FloatBuffer.allocate(12);
+        ComplexBuffers.complexArray2Interleaved(array, 0, 6, buffer2);
+        buffer2.flip();
+        final ComplexArray array2 = ComplexArray.ofSize(6);
+        ComplexBuffers.interleaved2ComplexArray(buffer2, array2, 0, 6);
+        Assertions.assertEquals(array, array2);
+    }
+
+    @Test
+    void testBulkErrors() {
+        final double[] re = new double[4];
+        final double[] im = new double[4];
+        final ComplexArray array = ComplexArray.ofSize(4);
+        final DoubleBuffer buffer = DoubleBuffer.allocate(6);
+        final FloatBuffer buffer2 = FloatBuffer.allocate(6);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBuffers.interleaved2Split(buffer, re, new double[3], 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBuffers.split2Interleaved(re, new double[3], 0, 1, buffer2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ComplexBuffers.interleaved2Split(buffer, re, im, -1, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ComplexBuffers.interleaved2Split(buffer2, re, im, 2, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ComplexBuffers.split2Interleaved(re, im, 1, -1, buffer));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ComplexBuffers.interleaved2ComplexArray(buffer, array, 3, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ComplexBuffers.complexArray2Interleaved(array, Integer.MAX_VALUE, 1, buffer2));
+        Assertions.assertThrows(BufferUnderflowException.class,
+            () -> ComplexBuffers.interleaved2Split(buffer, re, im, 0, 4));
+        Assertions.assertThrows(BufferUnderflowException.class,
+            () -> ComplexBuffers.interleaved2ComplexArray(buffer2, array, 0, 4));
+        Assertions.assertThrows(BufferOverflowException.class,
+            () -> ComplexBuffers.split2Interleaved(re, im, 0, 4, buffer2));
+        Assertions.assertThrows(BufferOverflowException.class,
+            () -> ComplexBuffers.complexArray2Interleaved(array, 0, 4, buffer));
+        Assertions.assertEquals(0, buffer.position());
+        Assertions.assertEquals(0, buffer2.position());
+    }
+
+    @Test
+    void testFloatBuffer() {
+        final Complex[] c = createComplex(7);
+        final FloatBuffer buffer = FloatBuffer.allocate(14);
+        Assertions.assertEquals(7, ComplexBuffers.size(buffer));
+        ComplexBuffers.complex2Interleaved(c, buffer);
+        Assertions.assertEquals(14, buffer.position());
+        for (int i = 0; i < c.length; i++) {
+            Assertions.assertEquals(c[i], ComplexBuffers.get(buffer, i));
+        }
+        buffer.flip();
+        Assertions.assertArrayEquals(c, ComplexBuffers.interleaved2Complex(buffer));
+        ComplexBuffers.put(buffer, 2, Complex.ofCartesian(0.1, 0.2));
+        Assertions.assertEquals(Complex.ofCartesian(0.1f, 0.2f), ComplexBuffers.get(buffer, 2));
+        buffer.clear();
+        buffer.position(1);
+        Assertions.assertThrows(BufferOverflowException.class, () -> ComplexBuffers.complex2Interleaved(c, buffer));
+    }
+
+    @Test
+    void testMap(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("data.bin");
+        final Complex[] c = createComplex(100);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final DoubleBuffer buffer = ComplexBuffers.map(channel, FileChannel.MapMode.READ_WRITE, 0,
+                c.length, ByteOrder.LITTLE_ENDIAN);
+            Assertions.assertEquals(c.length, ComplexBuffers.size(buffer));
+            ComplexBuffers.complex2Interleaved(c, buffer);
+            Assertions.assertEquals(16L * c.length, channel.size());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // Read a window
+            final DoubleBuffer buffer = ComplexBuffers.map(channel, FileChannel.MapMode.READ_ONLY, 16 * 40,
+                10, ByteOrder.LITTLE_ENDIAN);
+            final Complex[] window = ComplexBuffers.interleaved2Complex(buffer);
+            Assertions.assertEquals(10, window.length);
+            for (int i = 0; i < window.length; i++) {
+                Assertions.assertEquals(c[40 + i], window[i]);
+            }
+            // Read all windows into the same arrays
+            final double[] re = new double[30];
+            final double[] im = new double[30];
+            for (int from = 0; from < c.length; from += re.length) {
+                final int count = Math.min(re.length, c.length - from);
+                final DoubleBuffer w = ComplexBuffers.map(channel, FileChannel.MapMode.READ_ONLY, 16L * from,
+                    count, ByteOrder.LITTLE_ENDIAN);
+                ComplexBuffers.interleaved2Split(w, re, im, 0, count);
+                for (int i = 0; i < count; i++) {
+                    Assertions.assertEquals(c[from + i], Complex.ofCartesian(re[i], im[i]));
+                }
+            }
+            // Check the byte order
+            final ByteBuffer bytes = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(bytes, 16 * 3);
+            bytes.flip();
+            Assertions.assertEquals(c[3], Complex.ofCartesian(bytes.getDouble(), bytes.getDouble()));
+        }
+    }
+
+    @Test
+    void testMapFloat(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("data.bin");
+        final Complex[] c = createComplex(50);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final FloatBuffer buffer = ComplexBuffers.mapFloat(channel, FileChannel.MapMode.READ_WRITE, 0,
+                c.length, ByteOrder.BIG_ENDIAN);
+            ComplexBuffers.complex2Interleaved(c, buffer);
+            Assertions.assertEquals(8L * c.length, channel.size());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final FloatBuffer buffer = ComplexBuffers.mapFloat(channel, FileChannel.MapMode.READ_ONLY, 0,
+                c.length, ByteOrder.BIG_ENDIAN);
+            Assertions.assertArrayEquals(c, ComplexBuffers.interleaved2Complex(buffer));
+        }
+    }
+}
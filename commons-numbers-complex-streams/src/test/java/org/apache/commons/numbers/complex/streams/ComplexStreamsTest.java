@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexStreams}.
+ */
+class ComplexStreamsTest {
+    private static double[] createData(int n, double offset) {
+        final double[] d = new double[n];
+        for (int i = 0; i < n; i++) {
+            d[i] = Math.sin(i + offset) * (i + 1);
+        }
+        return d;
+    }
+
+    @Test
+    void testInterleaved() {
+        final double[] d = createData(2001, 0);
+        final Complex[] expected = ComplexUtils.interleaved2Complex(d);
+        Assertions.assertArrayEquals(expected, ComplexStreams.interleaved(d).toArray());
+        Assertions.assertArrayEquals(expected, ComplexStreams.interleaved(d).parallel().toArray());
+        Assertions.assertArrayEquals(ComplexUtils.abs(expected), ComplexStreams.absInterleaved(d).toArray());
+        Assertions.assertArrayEquals(ComplexUtils.arg(expected), ComplexStreams.argInterleaved(d).toArray());
+        Assertions.assertArrayEquals(ComplexUtils.abs(expected),
+            ComplexStreams.absInterleaved(d).parallel().toArray());
+        Assertions.assertArrayEquals(ComplexUtils.arg(expected),
+            ComplexStreams.argInterleaved(d).parallel().toArray());
+    }
+
+    @Test
+    void testSplit() {
+        final double[] re = createData(1000, 0);
+        final double[] im = createData(1000, 0.5);
+        final Complex[] expected = ComplexUtils.split2Complex(re, im);
+        Assertions.assertArrayEquals(expected, ComplexStreams.split(re, im).toArray());
+        Assertions.assertArrayEquals(expected, ComplexStreams.split(re, im).parallel().toArray());
+        Assertions.assertArrayEquals(ComplexUtils.abs(expected), ComplexStreams.abs(re, im).toArray());
+        Assertions.assertArrayEquals(ComplexUtils.arg(expected), ComplexStreams.arg(re, im).toArray());
+        Assertions.assertArrayEquals(ComplexUtils.abs(expected), ComplexStreams.abs(re, im).parallel().toArray());
+        Assertions.assertArrayEquals(ComplexUtils.arg(expected), ComplexStreams.arg(re, im).parallel().toArray());
+    }
+
+    @Test
+    void testSplitLengthMismatch() {
+        final double[] re = new double[3];
+        final double[] im = new double[4];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexStreams.split(re, im));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexStreams.abs(re, im));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexStreams.arg(re, im));
+    }
+
+    @Test
+    void testEmpty() {
+        Assertions.assertEquals(0, ComplexStreams.interleaved(new double[1]).count());
+        Assertions.assertEquals(0, ComplexStreams.absInterleaved(new double[0]).count());
+        Assertions.assertEquals(0, ComplexStreams.split(new double[0], new double[0]).count());
+    }
+
+    @Test
+    void testSpliterator() {
+        final double[] d = createData(20, 0);
+        final Stream<Complex> stream = ComplexStreams.interleaved(d);
+        final Spliterator<Complex> s1 = stream.spliterator();
+        Assertions.assertTrue(s1.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Assertions.assertEquals(10, s1.getExactSizeIfKnown());
+        final Spliterator<Complex> s2 = s1.trySplit();
+        Assertions.assertEquals(5, s1.estimateSize());
+        Assertions.assertEquals(5, s2.estimateSize());
+        final Complex[] c = ComplexUtils.interleaved2Complex(d);
+        final int[] count = {0};
+        Assertions.assertTrue(s2.tryAdvance(z -> Assertions.assertEquals(c[count[0]++], z)));
+        s2.forEachRemaining(z -> Assertions.assertEquals(c[count[0]++], z));
+        Assertions.assertFalse(s2.tryAdvance(z -> Assertions.fail()));
+        s1.forEachRemaining(z -> Assertions.assertEquals(c[count[0]++], z));
+        Assertions.assertEquals(10, count[0]);
+
+        final DoubleStream values = ComplexStreams.abs(new double[1], new double[1]);
+        final Spliterator.OfDouble s3 = values.spliterator();
+        Assertions.assertEquals(1, s3.getExactSizeIfKnown());
+        Assertions.assertNull(s3.trySplit());
+        Assertions.assertTrue(s3.tryAdvance((double x) -> Assertions.assertEquals(0.0, x)));
+        Assertions.assertFalse(s3.tryAdvance((double x) -> Assertions.fail()));
+    }
+}
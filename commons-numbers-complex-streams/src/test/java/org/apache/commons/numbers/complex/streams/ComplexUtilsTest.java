@@ -17,6 +17,8 @@
 
 package org.apache.commons.numbers.complex.streams;
 
+import java.util.concurrent.ForkJoinPool;
+
 import org.apache.commons.numbers.complex.Complex;
 
 import org.junit.jupiter.api.Assertions;
@@ -769,4 +771,80 @@ class ComplexUtilsTest {
             Assertions.assertEquals(c[i].arg(), observed[i]);
         }
     }
+
+    @Test
+    void testParallel3D() {
+        // Large enough to be split across tasks
+        final double[][][] re = createArray(3, 100, 128, 0);
+        final double[][][] im = createArray(3, 100, 128, 1);
+        final Complex[][][] c3 = ComplexUtils.split2Complex(re, im);
+        Assertions.assertArrayEquals(ComplexUtils.real2Complex(re), ComplexUtils.parallelReal2Complex(re));
+        Assertions.assertArrayEquals(c3, ComplexUtils.parallelSplit2Complex(re, im));
+        Assertions.assertArrayEquals(ComplexUtils.polar2Complex(re, im), ComplexUtils.parallelPolar2Complex(re, im));
+        final double[][][] i3 = ComplexUtils.complex2Interleaved(c3);
+        Assertions.assertArrayEquals(i3, ComplexUtils.parallelComplex2Interleaved(c3));
+        Assertions.assertArrayEquals(c3, ComplexUtils.parallelInterleaved2Complex(i3));
+    }
+
+    @Test
+    void testParallel4D() {
+        final double[][][][] re = new double[4][][][];
+        final double[][][][] im = new double[4][][][];
+        for (int x = 0; x < re.length; x++) {
+            re[x] = createArray(5, 40, 50, x);
+            im[x] = createArray(5, 40, 50, x + 10);
+        }
+        final Complex[][][][] c4 = ComplexUtils.split2Complex(re, im);
+        Assertions.assertArrayEquals(ComplexUtils.real2Complex(re), ComplexUtils.parallelReal2Complex(re));
+        Assertions.assertArrayEquals(c4, ComplexUtils.parallelSplit2Complex(re, im));
+        final double[][][][] i4 = ComplexUtils.complex2Interleaved(c4);
+        Assertions.assertArrayEquals(i4, ComplexUtils.parallelComplex2Interleaved(c4));
+        Assertions.assertArrayEquals(c4, ComplexUtils.parallelInterleaved2Complex(i4));
+    }
+
+    @Test
+    void testParallelWithPool() {
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            final double[][][] re = createArray(2, 300, 64, 3);
+            final double[][][] im = createArray(2, 300, 64, 4);
+            Assertions.assertArrayEquals(ComplexUtils.split2Complex(re, im),
+                ComplexUtils.parallelSplit2Complex(re, im, pool));
+            Assertions.assertArrayEquals(ComplexUtils.real2Complex(re),
+                ComplexUtils.parallelReal2Complex(re, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelSmallAndEmpty() {
+        setArrays();
+        Assertions.assertArrayEquals(c3d, ComplexUtils.parallelSplit2Complex(sr3d, si3d));
+        Assertions.assertArrayEquals(c4d, ComplexUtils.parallelSplit2Complex(sr4d, si4d));
+        Assertions.assertArrayEquals(c3d, ComplexUtils.parallelInterleaved2Complex(di3d2));
+        Assertions.assertArrayEquals(di4d3, ComplexUtils.parallelComplex2Interleaved(c4d));
+        Assertions.assertEquals(0, ComplexUtils.parallelReal2Complex(new double[0][][]).length);
+        Assertions.assertEquals(0, ComplexUtils.parallelReal2Complex(new double[0][][][]).length);
+    }
+
+    @Test
+    void testParallelPolar2ComplexNegativeModulus() {
+        final double[][][] r = createArray(3, 100, 128, 0);
+        final double[][][] theta = createArray(3, 100, 128, 1);
+        r[2][50][64] = -1;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexUtils.parallelPolar2Complex(r, theta));
+    }
+
+    private static double[][][] createArray(int w, int h, int depth, int seed) {
+        final double[][][] a = new double[w][h][depth];
+        for (int x = 0; x < w; x++) {
+            for (int y = 0; y < h; y++) {
+                for (int z = 0; z < depth; z++) {
+                    a[x][y][z] = Math.abs(Math.sin(seed + x * 1.5 + y * 0.25 + z * 0.125));
+                }
+            }
+        }
+        return a;
+    }
 }
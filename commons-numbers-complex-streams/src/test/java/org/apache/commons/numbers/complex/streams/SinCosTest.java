@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link SinCos}.
+ */
+class SinCosTest {
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -0.0, 1e-300, -1e-300, Double.MIN_VALUE, 0x1.0p-27, 0x1.0p-28, 0.1, 0.3,
+        0.5, 0.78125, 0.785, Math.PI / 4, -Math.PI / 4, 1, -1, Math.PI / 2, Math.PI, -Math.PI, 2 * Math.PI,
+        3 * Math.PI / 4, 5 * Math.PI / 4, 7 * Math.PI / 4, 1e3, -1e3, 1e5, 355, 103993, 0x1.0p19 * Math.PI / 2,
+        0x1.0p20, 1e10, 1e300, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN})
+    void testSinCos(double x) {
+        assertSinCos(new SinCos(), x);
+    }
+
+    @Test
+    void testRandomValues() {
+        final SplittableRandom rng = new SplittableRandom(1234823L);
+        final SinCos sc = new SinCos();
+        for (int i = 0; i < 5000; i++) {
+            // Angles across the medium reduction range
+            assertSinCos(sc, (rng.nextDouble() - 0.5) * Math.scalb(1.0, rng.nextInt(24) - 3));
+        }
+    }
+
+    @Test
+    void testNearMultiplesOfPiOver2() {
+        // Cancellation in the reduction requires the extended precision parts of pi/2
+        final SinCos sc = new SinCos();
+        for (int n = 1; n < 200000; n += 7) {
+            final double x = n * (Math.PI / 2);
+            assertSinCos(sc, x);
+            assertSinCos(sc, Math.nextUp(x));
+            assertSinCos(sc, Math.nextDown(x));
+            assertSinCos(sc, -x);
+        }
+    }
+
+    private static void assertSinCos(SinCos sc, double x) {
+        sc.set(x);
+        final double sin = sc.sin();
+        final double cos = sc.cos();
+        if (Math.abs(x) <= 0x1.0p19 * Math.PI / 2) {
+            // Identical to fdlibm
+            Assertions.assertEquals(StrictMath.sin(x), sin, () -> "sin " + x);
+            Assertions.assertEquals(StrictMath.cos(x), cos, () -> "cos " + x);
+        } else {
+            Assertions.assertEquals(Math.sin(x), sin, () -> "sin " + x);
+            Assertions.assertEquals(Math.cos(x), cos, () -> "cos " + x);
+        }
+    }
+}
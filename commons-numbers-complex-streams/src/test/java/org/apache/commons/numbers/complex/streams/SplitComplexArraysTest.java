@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import org.apache.commons.numbers.complex.Complex;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SplitComplexArrays}.
+ */
+class SplitComplexArraysTest {
+    private static final double inf = Double.POSITIVE_INFINITY;
+    private static final double nan = Double.NaN;
+    private static final double pi = Math.PI;
+
+    @Test
+    void testPolar2Split() {
+        final double[] r = {0, 1, 2.5, 1, 3, inf, inf, 0, 1, 2};
+        final double[] theta = {1, 0, pi / 3, -pi / 2, 1e4, pi / 4, 0, nan, inf, 1e300};
+        final double[] real = new double[r.length];
+        final double[] imag = new double[r.length];
+        SplitComplexArrays.polar2Split(r, theta, real, imag);
+        for (int i = 0; i < r.length; i++) {
+            if (Math.abs(theta[i]) <= 0x1.0p19 * pi / 2) {
+                Assertions.assertEquals(r[i] * StrictMath.cos(theta[i]), real[i]);
+                Assertions.assertEquals(r[i] * StrictMath.sin(theta[i]), imag[i]);
+            } else {
+                Assertions.assertEquals(r[i] * Math.cos(theta[i]), real[i]);
+                Assertions.assertEquals(r[i] * Math.sin(theta[i]), imag[i]);
+            }
+            // Within 1 ULP of the Complex result
+            final Complex z = ComplexUtils.polar2Complex(r[i], theta[i]);
+            assertEqualsUlp(z.getReal(), real[i]);
+            assertEqualsUlp(z.getImaginary(), imag[i]);
+        }
+        // In-place
+        final double[] r2 = r.clone();
+        final double[] theta2 = theta.clone();
+        SplitComplexArrays.polar2Split(r2, theta2, r2, theta2);
+        Assertions.assertArrayEquals(real, r2);
+        Assertions.assertArrayEquals(imag, theta2);
+    }
+
+    @Test
+    void testPolar2SplitIllegalArguments() {
+        final double[] a2 = new double[2];
+        final double[] a3 = new double[3];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SplitComplexArrays.polar2Split(a2, a3, a3, a3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SplitComplexArrays.polar2Split(a3, a2, a3, a3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SplitComplexArrays.polar2Split(a3, a3, a2, a3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SplitComplexArrays.polar2Split(a3, a3, a3, a2));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> SplitComplexArrays.polar2Split(new double[] {0, -1, 2}, a3, new double[3], new double[3]));
+    }
+
+    @Test
+    void testSplit2Polar() {
+        final double[] real = {0, -0.0, 1, -3, 1e300, -1e-310, inf, -inf, nan, 4};
+        final double[] imag = {0, 1, -0.0, 4, 1e300, 2e-310, 1, inf, 1, nan};
+        final double[] r = new double[real.length];
+        final double[] theta = new double[real.length];
+        SplitComplexArrays.split2Polar(real, imag, r, theta);
+        for (int i = 0; i < real.length; i++) {
+            final Complex z = Complex.ofCartesian(real[i], imag[i]);
+            Assertions.assertEquals(z.abs(), r[i]);
+            Assertions.assertEquals(z.arg(), theta[i]);
+        }
+        Assertions.assertArrayEquals(r, SplitComplexArrays.abs(real, imag, new double[real.length]));
+        Assertions.assertArrayEquals(theta, SplitComplexArrays.arg(real, imag, new double[real.length]));
+        // In-place
+        final double[] re2 = real.clone();
+        final double[] im2 = imag.clone();
+        SplitComplexArrays.split2Polar(re2, im2, re2, im2);
+        Assertions.assertArrayEquals(r, re2);
+        Assertions.assertArrayEquals(theta, im2);
+    }
+
+    @Test
+    void testRoundTrip() {
+        final double[] x = {1, -2, 0.5, 0};
+        final double[] y = {3, 0.25, -4, 1};
+        final double[] a = new double[x.length];
+        final double[] b = new double[x.length];
+        SplitComplexArrays.split2Polar(x, y, a, b);
+        SplitComplexArrays.polar2Split(a, b, a, b);
+        for (int i = 0; i < x.length; i++) {
+            Assertions.assertEquals(x[i], a[i], 1e-15);
+            Assertions.assertEquals(y[i], b[i], 1e-15);
+        }
+    }
+
+    @Test
+    void testSplit2PolarIllegalArguments() {
+        final double[] a2 = new double[2];
+        final double[] a3 = new double[3];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SplitComplexArrays.split2Polar(a2, a3, a3, a3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SplitComplexArrays.split2Polar(a3, a3, a2, a3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SplitComplexArrays.split2Polar(a3, a3, a3, a2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SplitComplexArrays.abs(a2, a3, a3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SplitComplexArrays.abs(a3, a3, a2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SplitComplexArrays.arg(a2, a3, a3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SplitComplexArrays.arg(a3, a3, a2));
+    }
+
+    private static void assertEqualsUlp(double expected, double actual) {
+        if (Double.isFinite(expected)) {
+            Assertions.assertEquals(expected, actual, Math.ulp(expected));
+        } else {
+            Assertions.assertEquals(expected, actual);
+        }
+    }
+}
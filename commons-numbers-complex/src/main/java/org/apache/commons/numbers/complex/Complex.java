@@ -55,6 +55,12 @@ import java.util.function.DoubleUnaryOperator;
  * cardinality of NaN component parts has increased as a real or imaginary part could
  * not be computed and is set to NaN.
  *
+ * <p>Selected functions are also provided as static methods that accept the real
+ * and imaginary parts of the argument and pass the result to a {@link ComplexSink}.
+ * These use the same implementation as the instance methods and allow the result to
+ * be consumed without the creation of a {@code Complex}, for example to write the
+ * parts directly into primitive arrays.</p>
+ *
  * @see <a href="http://www.open-std.org/JTC1/SC22/WG14/www/standards">
  *    ISO/IEC 9899 - Programming languages - C</a>
  */
@@ -201,6 +207,10 @@ public final class Complex implements Serializable  {
     private static final double TWO_POW_600 = 0x1.0p+600;
     /** 2^-600. */
     private static final double TWO_POW_NEG_600 = 0x1.0p-600;
+    /** Upper bound on the magnitude of the parts for the direct formula for division: 2^100. */
+    private static final double DIVIDE_UPPER = 0x1.0p100;
+    /** Lower bound on the magnitude of non-zero parts for the direct formula for division: 2^-100. */
+    private static final double DIVIDE_LOWER = 0x1.0p-100;
 
     /** Serializable version identifier. */
     private static final long serialVersionUID = 20180201L;
@@ -230,22 +240,6 @@ public final class Complex implements Serializable  {
     /** The real part. */
     private final double real;
 
-    /**
-     * Define a constructor for a Complex.
-     * This is used in functions that implement trigonomic identities.
-     */
-    @FunctionalInterface
-    private interface ComplexConstructor {
-        /**
-         * Create a complex number given the real and imaginary parts.
-         *
-         * @param real Real part.
-         * @param imaginary Imaginary part.
-         * @return {@code Complex} object.
-         */
-        Complex create(double real, double imaginary);
-    }
-
     /**
      * Private default constructor.
      *
@@ -358,8 +352,64 @@ public final class Complex implements Serializable  {
      * @throws NumberFormatException if the string does not contain a parsable complex number.
      * @see Double#parseDouble(String)
      * @see #toString()
+     * @see #parse(CharSequence, int, int)
      */
     public static Complex parse(String s) {
+        return parse(s, 0, s.length());
+    }
+
+    /**
+     * Returns a {@code Complex} instance representing the region of the
+     * character sequence {@code s} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * <p>The region must be in the format accepted by {@link #parse(String)} and the result
+     * is the same as {@code parse(s.subSequence(start, end).toString())}.
+     *
+     * <p>This method is intended for high-volume parsing of text records. When the numeric
+     * parts are in a simple decimal format with a limited number of significant digits, such as
+     * {@code "(-1.23,4.56e-7)"}, the parts are parsed directly from the sequence and no
+     * intermediate objects are created. Other input is parsed using the method for strings.
+     * Characters held in a {@code char[]}, or decoded from a {@code ByteBuffer}, can be
+     * parsed using a {@link java.nio.CharBuffer CharBuffer} which is a character sequence.
+     *
+     * @param s Character sequence.
+     * @param start Start index (inclusive).
+     * @param end End index (exclusive).
+     * @return {@code Complex} number.
+     * @throws NullPointerException if the sequence is null.
+     * @throws IndexOutOfBoundsException if the region is not within the sequence.
+     * @throws NumberFormatException if the region does not contain a parsable complex number.
+     * @see #parse(String)
+     */
+    public static Complex parse(CharSequence s, int start, int end) {
+        if (end - start >= FORMAT_MIN_LEN &&
+            s.charAt(start) == FORMAT_START &&
+            s.charAt(end - 1) == FORMAT_END) {
+            // Find the first separator. Any other separator fails the parsing
+            // of the imaginary part.
+            final int last = end - 1;
+            int sep = start + 1;
+            while (sep < last && s.charAt(sep) != FORMAT_SEP) {
+                sep++;
+            }
+            final double re = DoubleParser.parse(s, start + 1, sep);
+            final double im = DoubleParser.parse(s, sep + 1, last);
+            if (!Double.isNaN(re) && !Double.isNaN(im)) {
+                return ofCartesian(re, im);
+            }
+        }
+        return parseString(s.subSequence(start, end).toString());
+    }
+
+    /**
+     * Returns a {@code Complex} instance representing the specified string {@code s}.
+     *
+     * @param s String representation.
+     * @return {@code Complex} number.
+     * @throws NumberFormatException if the string does not contain a parsable complex number.
+     * @see #parse(String)
+     */
+    private static Complex parseString(String s) {
         final int len = s.length();
         if (len < FORMAT_MIN_LEN) {
             throw new NumberFormatException(
@@ -533,7 +583,7 @@ public final class Complex implements Serializable  {
      * @param imaginary Imaginary part.
      * @return The absolute value.
      */
-    private static double abs(double real, double imaginary) {
+    static double abs(double real, double imaginary) {
         // Specialised implementation of hypot.
         // See NUMBERS-143
         return hypot(real, imaginary);
@@ -864,7 +914,7 @@ public final class Complex implements Serializable  {
      * @see <a href="http://mathworld.wolfram.com/ComplexMultiplication.html">Complex Muliplication</a>
      */
     public Complex multiply(Complex factor) {
-        return multiply(real, imaginary, factor.real, factor.imaginary);
+        return multiply(real, imaginary, factor.real, factor.imaginary, Complex::ofCartesian);
     }
 
     /**
@@ -878,9 +928,12 @@ public final class Complex implements Serializable  {
      * @param im1 Imaginary component of first number.
      * @param re2 Real component of second number.
      * @param im2 Imaginary component of second number.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
      * @return (a + b i)(c + d i).
      */
-    private static Complex multiply(double re1, double im1, double re2, double im2) {
+    static <R> R multiply(double re1, double im1, double re2, double im2,
+                          ComplexSink<R> constructor) {
         double a = re1;
         double b = im1;
         double c = re2;
@@ -943,7 +996,7 @@ public final class Complex implements Serializable  {
                 y = Double.POSITIVE_INFINITY * (a * d + b * c);
             }
         }
-        return new Complex(x, y);
+        return constructor.apply(x, y);
     }
 
     /**
@@ -1059,7 +1112,7 @@ public final class Complex implements Serializable  {
      * @see <a href="http://mathworld.wolfram.com/ComplexDivision.html">Complex Division</a>
      */
     public Complex divide(Complex divisor) {
-        return divide(real, imaginary, divisor.real, divisor.imaginary);
+        return divide(real, imaginary, divisor.real, divisor.imaginary, Complex::ofCartesian);
     }
 
     /**
@@ -1083,11 +1136,65 @@ public final class Complex implements Serializable  {
      * @param im1 Imaginary component of first number.
      * @param re2 Real component of second number.
      * @param im2 Imaginary component of second number.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
      * @return (a + i b) / (c + i d).
      * @see <a href="http://mathworld.wolfram.com/ComplexDivision.html">Complex Division</a>
      * @see #divide(double)
      */
-    private static Complex divide(double re1, double im1, double re2, double im2) {
+    static <R> R divide(double re1, double im1, double re2, double im2,
+                        ComplexSink<R> constructor) {
+        // Fast path: all parts are zero or within a range where the direct formula
+        // cannot overflow or underflow, and the divisor is not zero. The result is
+        // identical to the scaled computation. This is small enough to be inlined.
+        if (isSafeForDivide(re1) && isSafeForDivide(im1) &&
+            isSafeForDivide(re2) && isSafeForDivide(im2) &&
+            (re2 != 0 || im2 != 0)) {
+            final double denom = re2 * re2 + im2 * im2;
+            return constructor.apply((re1 * re2 + im1 * im2) / denom,
+                                     (im1 * re2 - re1 * im2) / denom);
+        }
+        return divideScaled(re1, im1, re2, im2, constructor);
+    }
+
+    /**
+     * Checks if the part of a complex number is safe to use in the direct formula for
+     * division: it is zero or has a magnitude in {@code [2^-100, 2^100]}. Products and
+     * sums of such values, and quotients of the sums, are not sub-normal and do not overflow.
+     *
+     * @param x Part of a complex number.
+     * @return true if safe for division
+     */
+    private static boolean isSafeForDivide(double x) {
+        final double ax = Math.abs(x);
+        // Note: This is false for NaN
+        return ax <= DIVIDE_UPPER && (ax >= DIVIDE_LOWER || ax == 0);
+    }
+
+    /**
+     * Returns a {@code Complex} whose value is:
+     * <pre>
+     * <code>
+     *   a + i b     (ac + bd) + i (bc - ad)
+     *   -------  =  -----------------------
+     *   c + i d            c<sup>2</sup> + d<sup>2</sup>
+     * </code>
+     * </pre>
+     *
+     * <p>This is the slow path of {@link #divide(double, double, double, double, ComplexSink)}.
+     * The divisor is scaled to avoid overflow and underflow. Recalculates to recover
+     * infinities as specified in C99 standard G.5.1.
+     *
+     * @param re1 Real component of first number.
+     * @param im1 Imaginary component of first number.
+     * @param re2 Real component of second number.
+     * @param im2 Imaginary component of second number.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
+     * @return (a + i b) / (c + i d).
+     */
+    private static <R> R divideScaled(double re1, double im1, double re2, double im2,
+                                      ComplexSink<R> constructor) {
         double a = re1;
         double b = im1;
         double c = re2;
@@ -1142,7 +1249,7 @@ public final class Complex implements Serializable  {
                 y = 0.0 * (b * c - a * d);
             }
         }
-        return new Complex(x, y);
+        return constructor.apply(x, y);
     }
 
     /**
@@ -1239,6 +1346,19 @@ public final class Complex implements Serializable  {
      * @see <a href="http://functions.wolfram.com/ElementaryFunctions/Exp/">Exp</a>
      */
     public Complex exp() {
+        return exp(real, imaginary, Complex::ofCartesian);
+    }
+
+    /**
+     * Returns the exponential function of the complex number {@code exp(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
+     * @return The exponential of the complex number.
+     */
+    static <R> R exp(double real, double imaginary, ComplexSink<R> constructor) {
         if (Double.isInfinite(real)) {
             // Set the scale factor applied to cis(y)
             double zeroOrInf;
@@ -1247,35 +1367,37 @@ public final class Complex implements Serializable  {
                     // (−∞ + i∞) or (−∞ + iNaN) returns (±0 ± i0) (where the signs of the
                     // real and imaginary parts of the result are unspecified).
                     // Here we preserve the conjugate equality.
-                    return new Complex(0, Math.copySign(0, imaginary));
+                    return constructor.apply(0, Math.copySign(0, imaginary));
                 }
                 // (−∞ + iy) returns +0 cis(y), for finite y
                 zeroOrInf = 0;
             } else {
                 // (+∞ + i0) returns +∞ + i0.
                 if (imaginary == 0) {
-                    return this;
+                    return constructor.apply(real, imaginary);
                 }
                 // (+∞ + i∞) or (+∞ + iNaN) returns (±∞ + iNaN) and raises the invalid
                 // floating-point exception (where the sign of the real part of the
                 // result is unspecified).
                 if (!Double.isFinite(imaginary)) {
-                    return new Complex(real, Double.NaN);
+                    return constructor.apply(real, Double.NaN);
                 }
                 // (+∞ + iy) returns (+∞ cis(y)), for finite nonzero y.
                 zeroOrInf = real;
             }
-            return new Complex(zeroOrInf * Math.cos(imaginary),
-                               zeroOrInf * Math.sin(imaginary));
+            return constructor.apply(zeroOrInf * Math.cos(imaginary),
+                                     zeroOrInf * Math.sin(imaginary));
         } else if (Double.isNaN(real)) {
             // (NaN + i0) returns (NaN + i0)
             // (NaN + iy) returns (NaN + iNaN) and optionally raises the invalid floating-point exception
             // (NaN + iNaN) returns (NaN + iNaN)
-            return imaginary == 0 ? this : NAN;
+            return imaginary == 0 ?
+                constructor.apply(real, imaginary) :
+                constructor.apply(Double.NaN, Double.NaN);
         } else if (!Double.isFinite(imaginary)) {
             // (x + i∞) or (x + iNaN) returns (NaN + iNaN) and raises the invalid
             // floating-point exception, for finite x.
-            return NAN;
+            return constructor.apply(Double.NaN, Double.NaN);
         }
         // real and imaginary are finite.
         // Compute e^a * (cos(b) + i sin(b)).
@@ -1284,10 +1406,10 @@ public final class Complex implements Serializable  {
         // (±0 + i0) returns (1 + i0)
         final double exp = Math.exp(real);
         if (imaginary == 0) {
-            return new Complex(exp, imaginary);
+            return constructor.apply(exp, imaginary);
         }
-        return new Complex(exp * Math.cos(imaginary),
-                           exp * Math.sin(imaginary));
+        return constructor.apply(exp * Math.cos(imaginary),
+                                 exp * Math.sin(imaginary));
     }
 
     /**
@@ -1336,7 +1458,20 @@ public final class Complex implements Serializable  {
      * @see <a href="http://functions.wolfram.com/ElementaryFunctions/Log/">Log</a>
      */
     public Complex log() {
-        return log(Math::log, HALF, LN_2, Complex::ofCartesian);
+        return log(real, imaginary, Complex::ofCartesian);
+    }
+
+    /**
+     * Returns the natural logarithm of the complex number {@code log(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
+     * @return The natural logarithm of the complex number.
+     */
+    static <R> R log(double real, double imaginary, ComplexSink<R> constructor) {
+        return log(real, imaginary, Math::log, HALF, LN_2, constructor);
     }
 
     /**
@@ -1361,11 +1496,24 @@ public final class Complex implements Serializable  {
      * @see #arg()
      */
     public Complex log10() {
-        return log(Math::log10, LOG_10E_O_2, LOG10_2, Complex::ofCartesian);
+        return log10(real, imaginary, Complex::ofCartesian);
     }
 
     /**
-     * Returns the logarithm of this complex number using the provided function.
+     * Returns the base 10 common logarithm of the complex number {@code log10(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
+     * @return The base 10 logarithm of the complex number.
+     */
+    static <R> R log10(double real, double imaginary, ComplexSink<R> constructor) {
+        return log(real, imaginary, Math::log10, LOG_10E_O_2, LOG10_2, constructor);
+    }
+
+    /**
+     * Returns the logarithm of the complex number using the provided function.
      * Implements the formula:
      *
      * <pre>
@@ -1375,23 +1523,26 @@ public final class Complex implements Serializable  {
      * provided log function otherwise scaling using powers of 2 in the case of overflow
      * will be incorrect. This is provided as an internal optimisation.
      *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
      * @param log Log function.
      * @param logOfeOver2 The log function applied to e, then divided by 2.
      * @param logOf2 The log function applied to 2.
      * @param constructor Constructor for the returned complex.
-     * @return The logarithm of this complex number.
+     * @param <R> Type of the result.
+     * @return The logarithm of the complex number.
      * @see #abs()
      * @see #arg()
      */
-    private Complex log(DoubleUnaryOperator log, double logOfeOver2, double logOf2, ComplexConstructor constructor) {
+    private static <R> R log(double real, double imaginary, DoubleUnaryOperator log,
+                             double logOfeOver2, double logOf2, ComplexSink<R> constructor) {
         // Handle NaN
         if (Double.isNaN(real) || Double.isNaN(imaginary)) {
             // Return NaN unless infinite
-            if (isInfinite()) {
-                return constructor.create(Double.POSITIVE_INFINITY, Double.NaN);
+            if (Double.isInfinite(real) || Double.isInfinite(imaginary)) {
+                return constructor.apply(Double.POSITIVE_INFINITY, Double.NaN);
             }
-            // No-use of the input constructor
-            return NAN;
+            return constructor.apply(Double.NaN, Double.NaN);
         }
 
         // Returns the real part:
@@ -1411,8 +1562,8 @@ public final class Complex implements Serializable  {
 
         if (x == 0) {
             // Handle zero: raises the ‘‘divide-by-zero’’ floating-point exception.
-            return constructor.create(Double.NEGATIVE_INFINITY,
-                                      negative(real) ? Math.copySign(Math.PI, imaginary) : imaginary);
+            return constructor.apply(Double.NEGATIVE_INFINITY,
+                                     negative(real) ? Math.copySign(Math.PI, imaginary) : imaginary);
         }
 
         double re;
@@ -1437,7 +1588,7 @@ public final class Complex implements Serializable  {
                 // Potential overflow.
                 if (isPosInfinite(x)) {
                     // Handle infinity
-                    return constructor.create(x, arg());
+                    return constructor.apply(x, Math.atan2(imaginary, real));
                 }
                 // Scale down.
                 x /= 2;
@@ -1448,7 +1599,7 @@ public final class Complex implements Serializable  {
                 // Potential underflow.
                 if (y == 0) {
                     // Handle real only number
-                    return constructor.create(log.applyAsDouble(x), arg());
+                    return constructor.apply(log.applyAsDouble(x), Math.atan2(imaginary, real));
                 }
                 // Scale up sub-normal numbers to make them normal by scaling by 2^54,
                 // i.e. more than the mantissa digits.
@@ -1461,7 +1612,7 @@ public final class Complex implements Serializable  {
         }
 
         // All ISO C99 edge cases for the imaginary are satisfied by the Math library.
-        return constructor.create(re, arg());
+        return constructor.apply(re, Math.atan2(imaginary, real));
     }
 
     /**
@@ -1577,7 +1728,7 @@ public final class Complex implements Serializable  {
      * @see <a href="http://functions.wolfram.com/ElementaryFunctions/Sqrt/">Sqrt</a>
      */
     public Complex sqrt() {
-        return sqrt(real, imaginary);
+        return sqrt(real, imaginary, Complex::ofCartesian);
     }
 
     /**
@@ -1585,22 +1736,24 @@ public final class Complex implements Serializable  {
      *
      * @param real Real component.
      * @param imaginary Imaginary component.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
      * @return The square root of the complex number.
      */
-    private static Complex sqrt(double real, double imaginary) {
+    static <R> R sqrt(double real, double imaginary, ComplexSink<R> constructor) {
         // Handle NaN
         if (Double.isNaN(real) || Double.isNaN(imaginary)) {
             // Check for infinite
             if (Double.isInfinite(imaginary)) {
-                return new Complex(Double.POSITIVE_INFINITY, imaginary);
+                return constructor.apply(Double.POSITIVE_INFINITY, imaginary);
             }
             if (Double.isInfinite(real)) {
                 if (real == Double.NEGATIVE_INFINITY) {
-                    return new Complex(Double.NaN, Math.copySign(Double.POSITIVE_INFINITY, imaginary));
+                    return constructor.apply(Double.NaN, Math.copySign(Double.POSITIVE_INFINITY, imaginary));
                 }
-                return new Complex(Double.POSITIVE_INFINITY, Double.NaN);
+                return constructor.apply(Double.POSITIVE_INFINITY, Double.NaN);
             }
-            return NAN;
+            return constructor.apply(Double.NaN, Double.NaN);
         }
 
         // Compute with positive values and determine sign at the end
@@ -1625,19 +1778,19 @@ public final class Complex implements Serializable  {
 
             // Check for infinite
             if (isPosInfinite(y)) {
-                return new Complex(Double.POSITIVE_INFINITY, imaginary);
+                return constructor.apply(Double.POSITIVE_INFINITY, imaginary);
             } else if (isPosInfinite(x)) {
                 if (real == Double.NEGATIVE_INFINITY) {
-                    return new Complex(0, Math.copySign(Double.POSITIVE_INFINITY, imaginary));
+                    return constructor.apply(0, Math.copySign(Double.POSITIVE_INFINITY, imaginary));
                 }
-                return new Complex(Double.POSITIVE_INFINITY, Math.copySign(0, imaginary));
+                return constructor.apply(Double.POSITIVE_INFINITY, Math.copySign(0, imaginary));
             } else if (y == 0) {
                 // Real only
                 final double sqrtAbs = Math.sqrt(x);
                 if (real < 0) {
-                    return new Complex(0, Math.copySign(sqrtAbs, imaginary));
+                    return constructor.apply(0, Math.copySign(sqrtAbs, imaginary));
                 }
-                return new Complex(sqrtAbs, imaginary);
+                return constructor.apply(sqrtAbs, imaginary);
             } else if (x == 0) {
                 // Imaginary only. This sets the two components to the same magnitude.
                 // Note: In polar coordinates this does not happen:
@@ -1646,7 +1799,7 @@ public final class Complex implements Serializable  {
                 // arg() / 2 = pi/4 and cos and sin should both return sqrt(2)/2 but
                 // are different by 1 ULP.
                 final double sqrtAbs = Math.sqrt(y) * ONE_OVER_ROOT2;
-                return new Complex(sqrtAbs, Math.copySign(sqrtAbs, imaginary));
+                return constructor.apply(sqrtAbs, Math.copySign(sqrtAbs, imaginary));
             } else {
                 // Over/underflow.
                 // Full scaling is not required as this is done in the hypotenuse function.
@@ -1675,9 +1828,9 @@ public final class Complex implements Serializable  {
         }
 
         if (real >= 0) {
-            return new Complex(t / 2, imaginary / t);
+            return constructor.apply(t / 2, imaginary / t);
         }
-        return new Complex(y / t, Math.copySign(t / 2, imaginary));
+        return constructor.apply(y / t, Math.copySign(t / 2, imaginary));
     }
 
     /**
@@ -1820,11 +1973,12 @@ public final class Complex implements Serializable  {
      *
      * @param real Real part.
      * @param imaginary Imaginary part.
-     * @param constructor Constructor.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
      * @return The inverse sine of this complex number.
      */
-    private static Complex asin(final double real, final double imaginary,
-                                final ComplexConstructor constructor) {
+    static <R> R asin(final double real, final double imaginary,
+                      final ComplexSink<R> constructor) {
         // Compute with positive values and determine sign at the end
         final double x = Math.abs(real);
         final double y = Math.abs(imaginary);
@@ -1838,8 +1992,7 @@ public final class Complex implements Serializable  {
                 re = x;
                 im = y;
             } else {
-                // No-use of the input constructor
-                return NAN;
+                return constructor.apply(Double.NaN, Double.NaN);
             }
         } else if (Double.isNaN(y)) {
             if (x == 0) {
@@ -1849,8 +2002,7 @@ public final class Complex implements Serializable  {
                 re = y;
                 im = x;
             } else {
-                // No-use of the input constructor
-                return NAN;
+                return constructor.apply(Double.NaN, Double.NaN);
             }
         } else if (isPosInfinite(x)) {
             re = isPosInfinite(y) ? PI_OVER_4 : PI_OVER_2;
@@ -1861,7 +2013,7 @@ public final class Complex implements Serializable  {
         } else {
             // Special case for real numbers:
             if (y == 0 && x <= 1) {
-                return constructor.create(Math.asin(real), imaginary);
+                return constructor.apply(Math.asin(real), imaginary);
             }
 
             final double xp1 = x + 1;
@@ -1937,8 +2089,8 @@ public final class Complex implements Serializable  {
             }
         }
 
-        return constructor.create(changeSign(re, real),
-                                  changeSign(im, imaginary));
+        return constructor.apply(changeSign(re, real),
+                                 changeSign(im, imaginary));
     }
 
     /**
@@ -2014,11 +2166,12 @@ public final class Complex implements Serializable  {
      *
      * @param real Real part.
      * @param imaginary Imaginary part.
-     * @param constructor Constructor.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
      * @return The inverse cosine of the complex number.
      */
-    private static Complex acos(final double real, final double imaginary,
-                                final ComplexConstructor constructor) {
+    static <R> R acos(final double real, final double imaginary,
+                      final ComplexSink<R> constructor) {
         // Compute with positive values and determine sign at the end
         final double x = Math.abs(real);
         final double y = Math.abs(imaginary);
@@ -2033,26 +2186,25 @@ public final class Complex implements Serializable  {
                 im = y;
             } else if (Double.isNaN(y)) {
                 // sign of the imaginary part of the result is unspecified
-                return constructor.create(imaginary, real);
+                return constructor.apply(imaginary, real);
             } else {
                 re = 0;
                 im = Double.POSITIVE_INFINITY;
             }
         } else if (Double.isNaN(x)) {
             if (isPosInfinite(y)) {
-                return constructor.create(x, -imaginary);
+                return constructor.apply(x, -imaginary);
             }
-            // No-use of the input constructor
-            return NAN;
+            return constructor.apply(Double.NaN, Double.NaN);
         } else if (isPosInfinite(y)) {
             re = PI_OVER_2;
             im = y;
         } else if (Double.isNaN(y)) {
-            return constructor.create(x == 0 ? PI_OVER_2 : y, y);
+            return constructor.apply(x == 0 ? PI_OVER_2 : y, y);
         } else {
             // Special case for real numbers:
             if (y == 0 && x <= 1) {
-                return constructor.create(x == 0 ? PI_OVER_2 : Math.acos(real), -imaginary);
+                return constructor.apply(x == 0 ? PI_OVER_2 : Math.acos(real), -imaginary);
             }
 
             final double xp1 = x + 1;
@@ -2129,8 +2281,8 @@ public final class Complex implements Serializable  {
             }
         }
 
-        return constructor.create(negative(real) ? Math.PI - re : re,
-                                  negative(imaginary) ? im : -im);
+        return constructor.apply(negative(real) ? Math.PI - re : re,
+                                 negative(imaginary) ? im : -im);
     }
 
     /**
@@ -2203,33 +2355,34 @@ public final class Complex implements Serializable  {
      * Returns the hyperbolic sine of the complex number.
      *
      * <p>This function exists to allow implementation of the identity
-     * {@code sin(z) = -i sinh(iz)}.<p>
+     * {@code sin(z) = -i sinh(iz)}.
      *
      * @param real Real part.
      * @param imaginary Imaginary part.
-     * @param constructor Constructor.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
      * @return The hyperbolic sine of the complex number.
      */
-    private static Complex sinh(double real, double imaginary, ComplexConstructor constructor) {
+    static <R> R sinh(double real, double imaginary, ComplexSink<R> constructor) {
         if (Double.isInfinite(real) && !Double.isFinite(imaginary)) {
-            return constructor.create(real, Double.NaN);
+            return constructor.apply(real, Double.NaN);
         }
         if (real == 0) {
             // Imaginary-only sinh(iy) = i sin(y).
             if (Double.isFinite(imaginary)) {
                 // Maintain periodic property with respect to the imaginary component.
                 // sinh(+/-0.0) * cos(+/-x) = +/-0 * cos(x)
-                return constructor.create(changeSign(real, Math.cos(imaginary)),
-                                          Math.sin(imaginary));
+                return constructor.apply(changeSign(real, Math.cos(imaginary)),
+                                         Math.sin(imaginary));
             }
             // If imaginary is inf/NaN the sign of the real part is unspecified.
             // Returning the same real value maintains the conjugate equality.
             // It is not possible to also maintain the odd function (hence the unspecified sign).
-            return constructor.create(real, Double.NaN);
+            return constructor.apply(real, Double.NaN);
         }
         if (imaginary == 0) {
             // Real-only sinh(x).
-            return constructor.create(Math.sinh(real), imaginary);
+            return constructor.apply(Math.sinh(real), imaginary);
         }
         final double x = Math.abs(real);
         if (x > SAFE_EXP) {
@@ -2237,8 +2390,8 @@ public final class Complex implements Serializable  {
             return coshsinh(x, real, imaginary, true, constructor);
         }
         // No overflow of sinh/cosh
-        return constructor.create(Math.sinh(real) * Math.cos(imaginary),
-                                  Math.cosh(real) * Math.sin(imaginary));
+        return constructor.apply(Math.sinh(real) * Math.cos(imaginary),
+                                 Math.cosh(real) * Math.sin(imaginary));
     }
 
     /**
@@ -2284,31 +2437,32 @@ public final class Complex implements Serializable  {
      * Returns the hyperbolic cosine of the complex number.
      *
      * <p>This function exists to allow implementation of the identity
-     * {@code cos(z) = cosh(iz)}.<p>
+     * {@code cos(z) = cosh(iz)}.
      *
      * @param real Real part.
      * @param imaginary Imaginary part.
-     * @param constructor Constructor.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
      * @return The hyperbolic cosine of the complex number.
      */
-    private static Complex cosh(double real, double imaginary, ComplexConstructor constructor) {
+    static <R> R cosh(double real, double imaginary, ComplexSink<R> constructor) {
         // ISO C99: Preserve the even function by mapping to positive
         // f(z) = f(-z)
         if (Double.isInfinite(real) && !Double.isFinite(imaginary)) {
-            return constructor.create(Math.abs(real), Double.NaN);
+            return constructor.apply(Math.abs(real), Double.NaN);
         }
         if (real == 0) {
             // Imaginary-only cosh(iy) = cos(y).
             if (Double.isFinite(imaginary)) {
                 // Maintain periodic property with respect to the imaginary component.
                 // sinh(+/-0.0) * sin(+/-x) = +/-0 * sin(x)
-                return constructor.create(Math.cos(imaginary),
-                                          changeSign(real, Math.sin(imaginary)));
+                return constructor.apply(Math.cos(imaginary),
+                                         changeSign(real, Math.sin(imaginary)));
             }
             // If imaginary is inf/NaN the sign of the imaginary part is unspecified.
             // Although not required by C99 changing the sign maintains the conjugate equality.
             // It is not possible to also maintain the even function (hence the unspecified sign).
-            return constructor.create(Double.NaN, changeSign(real, imaginary));
+            return constructor.apply(Double.NaN, changeSign(real, imaginary));
         }
         if (imaginary == 0) {
             // Real-only cosh(x).
@@ -2316,7 +2470,7 @@ public final class Complex implements Serializable  {
             // sin(+/-0) * sinh(+/-x) = +/-0 * +/-a (sinh is monotonic and same sign)
             // => change the sign of imaginary using real. Handles special case of infinite real.
             // If real is NaN the sign of the imaginary part is unspecified.
-            return constructor.create(Math.cosh(real), changeSign(imaginary, real));
+            return constructor.apply(Math.cosh(real), changeSign(imaginary, real));
         }
         final double x = Math.abs(real);
         if (x > SAFE_EXP) {
@@ -2324,8 +2478,8 @@ public final class Complex implements Serializable  {
             return coshsinh(x, real, imaginary, false, constructor);
         }
         // No overflow of sinh/cosh
-        return constructor.create(Math.cosh(real) * Math.cos(imaginary),
-                                  Math.sinh(real) * Math.sin(imaginary));
+        return constructor.apply(Math.cosh(real) * Math.cos(imaginary),
+                                 Math.sinh(real) * Math.sin(imaginary));
     }
 
     /**
@@ -2343,11 +2497,12 @@ public final class Complex implements Serializable  {
      * @param real Real part (x).
      * @param imaginary Imaginary part (y).
      * @param sinh Set to true to compute sinh, otherwise cosh.
-     * @param constructor Constructor.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
      * @return The hyperbolic sine/cosine of the complex number.
      */
-    private static Complex coshsinh(double x, double real, double imaginary, boolean sinh,
-                                    ComplexConstructor constructor) {
+    private static <R> R coshsinh(double x, double real, double imaginary, boolean sinh,
+                                  ComplexSink<R> constructor) {
         // Always require the cos and sin.
         double re = Math.cos(imaginary);
         double im = Math.sin(imaginary);
@@ -2385,7 +2540,7 @@ public final class Complex implements Serializable  {
             re *= exp;
             im *= exp;
         }
-        return constructor.create(re, im);
+        return constructor.apply(re, im);
     }
 
     /**
@@ -2440,14 +2595,15 @@ public final class Complex implements Serializable  {
      * Returns the hyperbolic tangent of this complex number.
      *
      * <p>This function exists to allow implementation of the identity
-     * {@code tan(z) = -i tanh(iz)}.<p>
+     * {@code tan(z) = -i tanh(iz)}.
      *
      * @param real Real part.
      * @param imaginary Imaginary part.
-     * @param constructor Constructor.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
      * @return The hyperbolic tangent of the complex number.
      */
-    private static Complex tanh(double real, double imaginary, ComplexConstructor constructor) {
+    static <R> R tanh(double real, double imaginary, ComplexSink<R> constructor) {
         // Cache the absolute real value
         final double x = Math.abs(real);
 
@@ -2462,11 +2618,11 @@ public final class Complex implements Serializable  {
                     final double sign = Math.abs(imaginary) < PI_OVER_2 ?
                                         imaginary :
                                         Math.sin(imaginary) * Math.cos(imaginary);
-                    return constructor.create(Math.copySign(1, real),
-                                              Math.copySign(0, sign));
+                    return constructor.apply(Math.copySign(1, real),
+                                             Math.copySign(0, sign));
                 }
                 // imaginary is infinite or NaN
-                return constructor.create(Math.copySign(1, real), Math.copySign(0, imaginary));
+                return constructor.apply(Math.copySign(1, real), Math.copySign(0, imaginary));
             }
             // Remaining cases:
             // (0 + i inf), returns (0 + i NaN)
@@ -2476,8 +2632,8 @@ public final class Complex implements Serializable  {
             // (NaN + i 0), returns (NaN + i 0)
             // (NaN + i y), returns (NaN + i NaN) for non-zero y (including infinite)
             // (NaN + i NaN), returns (NaN + i NaN)
-            return constructor.create(real == 0 ? real : Double.NaN,
-                                      imaginary == 0 ? imaginary : Double.NaN);
+            return constructor.apply(real == 0 ? real : Double.NaN,
+                                     imaginary == 0 ? imaginary : Double.NaN);
         }
 
         // Finite components
@@ -2486,11 +2642,11 @@ public final class Complex implements Serializable  {
         if (real == 0) {
             // Imaginary-only tanh(iy) = i tan(y)
             // Identity: sin 2y / (1 + cos 2y) = tan(y)
-            return constructor.create(real, Math.tan(imaginary));
+            return constructor.apply(real, Math.tan(imaginary));
         }
         if (imaginary == 0) {
             // Identity: sinh 2x / (1 + cosh 2x) = tanh(x)
-            return constructor.create(Math.tanh(real), imaginary);
+            return constructor.apply(Math.tanh(real), imaginary);
         }
 
         // The double angles can be avoided using the identities:
@@ -2525,7 +2681,7 @@ public final class Complex implements Serializable  {
                 // e^2|x| = e^m * e^(2|x| - m)
                 im = 4 * im / EXP_M / Math.exp(2 * x - SAFE_EXP);
             }
-            return constructor.create(re, im);
+            return constructor.apply(re, im);
         }
 
         // No overflow of sinh(2x) and cosh(2x)
@@ -2538,8 +2694,8 @@ public final class Complex implements Serializable  {
         final double siny = Math.sin(imaginary);
         final double cosy = Math.cos(imaginary);
         final double divisor = sinhx * sinhx + cosy * cosy;
-        return constructor.create(sinhx * coshx / divisor,
-                                  siny * cosy / divisor);
+        return constructor.apply(sinhx * coshx / divisor,
+                                 siny * cosy / divisor);
     }
 
     /**
@@ -2717,11 +2873,12 @@ public final class Complex implements Serializable  {
      *
      * @param real Real part.
      * @param imaginary Imaginary part.
-     * @param constructor Constructor.
+     * @param constructor Sink for the result.
+     * @param <R> Type of the result.
      * @return The inverse hyperbolic tangent of the complex number.
      */
-    private static Complex atanh(final double real, final double imaginary,
-                                 final ComplexConstructor constructor) {
+    static <R> R atanh(final double real, final double imaginary,
+                       final ComplexSink<R> constructor) {
         // Compute with positive values and determine sign at the end
         double x = Math.abs(real);
         double y = Math.abs(imaginary);
@@ -2733,20 +2890,18 @@ public final class Complex implements Serializable  {
         if (Double.isNaN(x)) {
             if (isPosInfinite(y)) {
                 // The sign of the real part of the result is unspecified
-                return constructor.create(0, Math.copySign(PI_OVER_2, imaginary));
+                return constructor.apply(0, Math.copySign(PI_OVER_2, imaginary));
             }
-            // No-use of the input constructor.
             // Optionally raises the ‘‘invalid’’ floating-point exception, for finite y.
-            return NAN;
+            return constructor.apply(Double.NaN, Double.NaN);
         } else if (Double.isNaN(y)) {
             if (isPosInfinite(x)) {
-                return constructor.create(Math.copySign(0, real), Double.NaN);
+                return constructor.apply(Math.copySign(0, real), Double.NaN);
             }
             if (x == 0) {
-                return constructor.create(real, Double.NaN);
+                return constructor.apply(real, Double.NaN);
             }
-            // No-use of the input constructor
-            return NAN;
+            return constructor.apply(Double.NaN, Double.NaN);
         } else {
             // x && y are finite or infinite.
 
@@ -2799,10 +2954,10 @@ public final class Complex implements Serializable  {
                 // C99. G.7: Special case for imaginary only numbers
                 if (x == 0) {
                     if (imaginary == 0) {
-                        return constructor.create(real, imaginary);
+                        return constructor.apply(real, imaginary);
                     }
                     // atanh(iy) = i atan(y)
-                    return constructor.create(real, Math.atan(imaginary));
+                    return constructor.apply(real, Math.atan(imaginary));
                 }
 
                 // Real part:
@@ -2882,8 +3037,8 @@ public final class Complex implements Serializable  {
 
         re /= 4;
         im /= 2;
-        return constructor.create(changeSign(re, real),
-                                  changeSign(im, imaginary));
+        return constructor.apply(changeSign(re, real),
+                                 changeSign(im, imaginary));
     }
 
     /**
@@ -3255,12 +3410,25 @@ public final class Complex implements Serializable  {
      */
     @Override
     public String toString() {
-        return new StringBuilder(TO_STRING_SIZE)
-            .append(FORMAT_START)
+        return appendTo(new StringBuilder(TO_STRING_SIZE)).toString();
+    }
+
+    /**
+     * Appends the {@link #toString() string representation} of the complex number
+     * to the builder.
+     *
+     * <p>No intermediate strings are created. This method can be used to format
+     * many values into a single reused builder.
+     *
+     * @param sb String builder.
+     * @return the string builder
+     * @see #toString()
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        return sb.append(FORMAT_START)
             .append(real).append(FORMAT_SEP)
             .append(imaginary)
-            .append(FORMAT_END)
-            .toString();
+            .append(FORMAT_END);
     }
 
     /**
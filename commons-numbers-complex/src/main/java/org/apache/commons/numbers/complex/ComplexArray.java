@@ -0,0 +1,568 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size array of complex numbers. The real and imaginary parts are stored
+ * in separate {@code double[]} arrays (a structure-of-arrays layout).
+ *
+ * <p>Element-wise functions compute the same result as the equivalent method of
+ * {@link Complex} applied to each element, including the handling of special cases
+ * defined in ISO C99, without the creation of an intermediate {@code Complex} for
+ * each element.
+ *
+ * <p>The element-wise {@link #multiply(ComplexArray) multiply} computes blocks of
+ * elements using the direct formula in a loop without branches. This loop is a candidate
+ * for auto-vectorization by the JIT compiler. Elements where both parts of the result are
+ * NaN are then recomputed to apply the special case handling. No explicit SIMD code is
+ * used: the library targets Java 8 and does not provide an implementation using the
+ * incubating JDK Vector API. The branch free loop is faster than the scalar method when
+ * the data contains infinite or NaN parts; for finite data the performance is the same.
+ * Other functions are evaluated for each element using the scalar method of
+ * {@link Complex}:
+ * <ul>
+ *  <li>{@link #divide(ComplexArray) divide} is limited by the two divisions for each
+ *      element. The direct formula is only exact when the parts are within a safe range
+ *      for the intermediate products and testing the range of all elements costs more
+ *      than is gained by a branch free loop.
+ *  <li>{@link #exp()}, {@link #log()}, {@link #sqrt()} and the other transcendental
+ *      functions require calls to elementary functions of {@link Math} that are not
+ *      vectorized, and branch on the special cases of each part.
+ * </ul>
+ *
+ * <p>The element values are mutable using {@link #set(int, double, double)}.
+ * Functions of the array create a new instance for the result.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @see Complex
+ */
+public final class ComplexArray {
+    /** Number of elements to process in each block of the element-wise multiply. */
+    private static final int BLOCK_SIZE = 512;
+
+    /** The real parts. */
+    private final double[] real;
+    /** The imaginary parts. */
+    private final double[] imaginary;
+
+    /**
+     * Writes the result of a complex function to the arrays at the current index.
+     */
+    private static final class ArrayWriter implements ComplexSink<Void> {
+        /** The real parts. */
+        private final double[] re;
+        /** The imaginary parts. */
+        private final double[] im;
+        /** The current index. */
+        private int index;
+
+        /**
+         * @param array Destination array.
+         */
+        ArrayWriter(ComplexArray array) {
+            re = array.real;
+            im = array.imaginary;
+        }
+
+        @Override
+        public Void apply(double r, double i) {
+            re[index] = r;
+            im[index] = i;
+            return null;
+        }
+    }
+
+    /**
+     * Create an instance using the provided arrays. No copy is made.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     */
+    ComplexArray(double[] real, double[] imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Create an array of the given size. All elements are initialised to zero.
+     *
+     * @param size Size.
+     * @return the array
+     * @throws NegativeArraySizeException if {@code size} is negative.
+     */
+    public static ComplexArray ofSize(int size) {
+        return new ComplexArray(new double[size], new double[size]);
+    }
+
+    /**
+     * Create an array given the real and imaginary parts. The arrays are copied.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @return the array
+     * @throws IllegalArgumentException if the arrays are different lengths.
+     */
+    public static ComplexArray ofCartesian(double[] real, double[] imaginary) {
+        ArrayUtils.checkLength(real.length, imaginary.length);
+        return new ComplexArray(real.clone(), imaginary.clone());
+    }
+
+    /**
+     * Create an array given the complex numbers.
+     *
+     * @param values Complex numbers.
+     * @return the array
+     */
+    public static ComplexArray of(Complex... values) {
+        final ComplexArray array = ofSize(values.length);
+        for (int i = 0; i < values.length; i++) {
+            array.real[i] = values[i].getReal();
+            array.imaginary[i] = values[i].getImaginary();
+        }
+        return array;
+    }
+
+    /**
+     * Gets the number of complex numbers in the array.
+     *
+     * @return the size
+     */
+    public int size() {
+        return real.length;
+    }
+
+    /**
+     * Gets the complex number at the specified index.
+     *
+     * @param index Index.
+     * @return the complex number
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public Complex get(int index) {
+        return Complex.ofCartesian(real[index], imaginary[index]);
+    }
+
+    /**
+     * Gets the real part of the complex number at the specified index.
+     *
+     * @param index Index.
+     * @return the real part
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public double getReal(int index) {
+        return real[index];
+    }
+
+    /**
+     * Gets the imaginary part of the complex number at the specified index.
+     *
+     * @param index Index.
+     * @return the imaginary part
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public double getImaginary(int index) {
+        return imaginary[index];
+    }
+
+    /**
+     * Sets the complex number at the specified index.
+     *
+     * @param index Index.
+     * @param value Complex number.
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public void set(int index, Complex value) {
+        set(index, value.getReal(), value.getImaginary());
+    }
+
+    /**
+     * Sets the complex number at the specified index.
+     *
+     * @param index Index.
+     * @param re Real part.
+     * @param im Imaginary part.
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public void set(int index, double re, double im) {
+        real[index] = re;
+        imaginary[index] = im;
+    }
+
+    /**
+     * Gets a copy of the real parts.
+     *
+     * @return the real parts
+     */
+    public double[] getReal() {
+        return real.clone();
+    }
+
+    /**
+     * Gets a copy of the imaginary parts.
+     *
+     * @return the imaginary parts
+     */
+    public double[] getImaginary() {
+        return imaginary.clone();
+    }
+
+    /**
+     * Gets the real parts. No copy is made.
+     *
+     * @return the real parts
+     */
+    double[] real() {
+        return real;
+    }
+
+    /**
+     * Gets the imaginary parts. No copy is made.
+     *
+     * @return the imaginary parts
+     */
+    double[] imaginary() {
+        return imaginary;
+    }
+
+    /**
+     * Gets the complex numbers in the array.
+     *
+     * @return the complex numbers
+     */
+    public Complex[] toArray() {
+        final Complex[] values = new Complex[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = get(i);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the absolute value of each complex number.
+     *
+     * @return the absolute values
+     * @see Complex#abs()
+     */
+    public double[] abs() {
+        final double[] result = new double[size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Complex.abs(real[i], imaginary[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the argument of each complex number.
+     *
+     * @return the arguments
+     * @see Complex#arg()
+     */
+    public double[] arg() {
+        final double[] result = new double[size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Math.atan2(imaginary[i], real[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the element-wise sum {@code (this + addend)}.
+     *
+     * @param addend Values to be added to this array.
+     * @return {@code this + addend}.
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see Complex#add(Complex)
+     */
+    public ComplexArray add(ComplexArray addend) {
+        ArrayUtils.checkLength(size(), addend.size());
+        final ComplexArray result = ofSize(size());
+        for (int i = 0; i < real.length; i++) {
+            result.real[i] = real[i] + addend.real[i];
+            result.imaginary[i] = imaginary[i] + addend.imaginary[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the element-wise product {@code (this * factor)}.
+     *
+     * @param factor Values to be multiplied by this array.
+     * @return {@code this * factor}.
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see Complex#multiply(Complex)
+     */
+    public ComplexArray multiply(ComplexArray factor) {
+        ArrayUtils.checkLength(size(), factor.size());
+        final ComplexArray result = ofSize(size());
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        final double[] c = factor.real;
+        final double[] d = factor.imaginary;
+        final ArrayWriter writer = new ArrayWriter(result);
+        // Process in blocks so the fix-up pass reads the results from the cache
+        final int n = re.length;
+        int to;
+        for (int from = 0; from < n; from = to) {
+            to = from + Math.min(BLOCK_SIZE, n - from);
+            // Compute the product without branches. This loop is a candidate for
+            // auto-vectorization by the JIT compiler.
+            for (int i = from; i < to; i++) {
+                final double a = real[i];
+                final double b = imaginary[i];
+                re[i] = a * c[i] - b * d[i];
+                im[i] = a * d[i] + b * c[i];
+            }
+            // The result is identical to Complex.multiply unless both parts are NaN.
+            // In this case recompute using the scalar method to recover infinities.
+            for (int i = from; i < to; i++) {
+                if (Double.isNaN(re[i]) && Double.isNaN(im[i])) {
+                    writer.index = i;
+                    Complex.multiply(real[i], imaginary[i], c[i], d[i], writer);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the element-wise quotient {@code (this / divisor)}.
+     *
+     * @param divisor Values by which this array is to be divided.
+     * @return {@code this / divisor}.
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see Complex#divide(Complex)
+     */
+    public ComplexArray divide(ComplexArray divisor) {
+        ArrayUtils.checkLength(size(), divisor.size());
+        final ComplexArray result = ofSize(size());
+        final ArrayWriter writer = new ArrayWriter(result);
+        for (int i = 0; i < real.length; i++) {
+            writer.index = i;
+            Complex.divide(real[i], imaginary[i], divisor.real[i], divisor.imaginary[i], writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the exponential function of each complex number.
+     *
+     * @return the exponential of this array.
+     * @see Complex#exp()
+     */
+    public ComplexArray exp() {
+        final ComplexArray result = ofSize(size());
+        final ArrayWriter writer = new ArrayWriter(result);
+        for (int i = 0; i < real.length; i++) {
+            writer.index = i;
+            Complex.exp(real[i], imaginary[i], writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the natural logarithm of each complex number.
+     *
+     * @return the natural logarithm of this array.
+     * @see Complex#log()
+     */
+    public ComplexArray log() {
+        final ComplexArray result = ofSize(size());
+        final ArrayWriter writer = new ArrayWriter(result);
+        for (int i = 0; i < real.length; i++) {
+            writer.index = i;
+            Complex.log(real[i], imaginary[i], writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the square root of each complex number.
+     *
+     * @return the square root of this array.
+     * @see Complex#sqrt()
+     */
+    public ComplexArray sqrt() {
+        final ComplexArray result = ofSize(size());
+        final ArrayWriter writer = new ArrayWriter(result);
+        for (int i = 0; i < real.length; i++) {
+            writer.index = i;
+            Complex.sqrt(real[i], imaginary[i], writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns each complex number raised to the power of {@code x}.
+     *
+     * <p>The result is the same as {@link Complex#pow(Complex)} applied to each element.
+     * Tests on the exponent are performed once for the array and no intermediate
+     * {@code Complex} is created for the logarithm and product of each element.
+     *
+     * @param x The exponent to which each complex number is to be raised.
+     * @return this array raised to the power of {@code x}.
+     * @see Complex#pow(Complex)
+     */
+    public ComplexArray pow(Complex x) {
+        final ComplexKernels.ComplexPower power = new ComplexKernels.ComplexPower(x);
+        final ComplexArray result = ofSize(size());
+        final ArrayWriter writer = new ArrayWriter(result);
+        for (int i = 0; i < real.length; i++) {
+            writer.index = i;
+            power.apply(real[i], imaginary[i], writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns each complex number raised to the power of {@code x}, with {@code x}
+     * interpreted as a real number.
+     *
+     * <p>The result is the same as {@link Complex#pow(double)} applied to each element.
+     *
+     * @param x The exponent to which each complex number is to be raised.
+     * @return this array raised to the power of {@code x}.
+     * @see Complex#pow(double)
+     */
+    public ComplexArray pow(double x) {
+        final ComplexKernels.RealPower power = new ComplexKernels.RealPower(x);
+        final ComplexArray result = ofSize(size());
+        final ArrayWriter writer = new ArrayWriter(result);
+        for (int i = 0; i < real.length; i++) {
+            writer.index = i;
+            power.apply(real[i], imaginary[i], writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns each complex number raised to the integer power {@code n}.
+     *
+     * <p>The power is computed by repeated squaring using at most
+     * \( 2 \lfloor \log_2 |n| \rfloor + 1 \) multiplications with the special case handling
+     * of {@link Complex#multiply(Complex)}. This is faster than the computation using
+     * the logarithm and exponential functions by {@link Complex#pow(double)}. If {@code n}
+     * is negative the result is the reciprocal of the positive power computed using
+     * {@link Complex#divide(Complex)}. If {@code n} is zero the result is one for all
+     * numbers.
+     *
+     * <p>The rounding error of each multiplication accumulates and the result can differ
+     * from {@link Complex#pow(double)} for large powers. Intermediate overflow or underflow
+     * can occur when the true result is finite and non-zero.
+     *
+     * @param n The exponent to which each complex number is to be raised.
+     * @return this array raised to the power of {@code n}.
+     * @see Complex#pow(double)
+     */
+    public ComplexArray pow(int n) {
+        final ComplexArray result = ofSize(size());
+        if (n == 0) {
+            Arrays.fill(result.real, 1);
+            return result;
+        }
+        final ArrayWriter writer = new ArrayWriter(result);
+        final ComplexKernels.IntegerPower power = new ComplexKernels.IntegerPower(n);
+        for (int i = 0; i < real.length; i++) {
+            writer.index = i;
+            power.apply(real[i], imaginary[i], writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the complex number {@code base} raised to the power of each complex number
+     * in the array {@code exponents}.
+     *
+     * <p>The result is the same as {@link Complex#pow(Complex)} applied to the base with
+     * each exponent. The logarithm of the base is computed once.
+     *
+     * @param base The base.
+     * @param exponents The exponents to which the base is to be raised.
+     * @return the base raised to the power of each exponent.
+     * @see Complex#pow(Complex)
+     */
+    public static ComplexArray pow(Complex base, ComplexArray exponents) {
+        final double[] c = exponents.real;
+        final double[] d = exponents.imaginary;
+        final ComplexArray result = ofSize(c.length);
+        final ArrayWriter writer = new ArrayWriter(result);
+        final ComplexKernels.BasePower power = new ComplexKernels.BasePower(base);
+        for (int i = 0; i < c.length; i++) {
+            writer.index = i;
+            power.apply(c[i], d[i], writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the complex number {@code base} raised to the power of each real number
+     * in the array {@code exponents}.
+     *
+     * <p>The result is the same as {@link Complex#pow(double)} applied to the base with
+     * each exponent. The logarithm of the base is computed once.
+     *
+     * @param base The base.
+     * @param exponents The exponents to which the base is to be raised.
+     * @return the base raised to the power of each exponent.
+     * @see Complex#pow(double)
+     */
+    public static ComplexArray pow(Complex base, double[] exponents) {
+        final ComplexArray result = ofSize(exponents.length);
+        final ArrayWriter writer = new ArrayWriter(result);
+        final ComplexKernels.BasePower power = new ComplexKernels.BasePower(base);
+        for (int i = 0; i < exponents.length; i++) {
+            writer.index = i;
+            power.apply(exponents[i], writer);
+        }
+        return result;
+    }
+
+    /**
+     * Test for equality with another object. If the other object is a {@code ComplexArray}
+     * then a comparison is made of the real and imaginary parts using the semantics
+     * of {@link Arrays#equals(double[], double[])}.
+     *
+     * @param other Object to test for equality with this instance.
+     * @return {@code true} if the objects are equal.
+     * @see Complex#equals(Object)
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof ComplexArray) {
+            final ComplexArray c = (ComplexArray) other;
+            return Arrays.equals(real, c.real) &&
+                Arrays.equals(imaginary, c.imaginary);
+        }
+        return false;
+    }
+
+    /**
+     * Gets a hash code for the array.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(real) + Arrays.hashCode(imaginary);
+    }
+}
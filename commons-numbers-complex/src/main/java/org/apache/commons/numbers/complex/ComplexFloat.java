@@ -0,0 +1,376 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.io.Serializable;
+
+/**
+ * Cartesian representation of a complex number using single precision
+ * {@code float} values for the real and imaginary parts.
+ * The complex number is expressed in the form \( a + ib \).
+ *
+ * <p>This class is intended for the storage and bulk processing of single
+ * precision data. Arithmetic is performed using {@code double} precision and the
+ * result is rounded to {@code float}. Special cases follow the ISO C99 semantics of
+ * the equivalent method of {@link Complex}.
+ *
+ * <p>Static methods are provided to process interleaved complex data stored in
+ * {@code float[]} arrays, where the complex number at index {@code k} has the real
+ * part at {@code 2k} and the imaginary part at {@code 2k + 1}. These compute the same
+ * result as the corresponding instance method.
+ *
+ * <p>Instances of this class are immutable.
+ *
+ * @see Complex
+ */
+public final class ComplexFloat implements Serializable {
+    /** A complex number representing zero. */
+    public static final ComplexFloat ZERO = new ComplexFloat(0, 0);
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20201018L;
+    /** Size of the buffer for {@link #toString()}. */
+    private static final int TO_STRING_SIZE = 32;
+
+    /** The real part. */
+    private final float real;
+    /** The imaginary part. */
+    private final float imaginary;
+
+    /**
+     * Private default constructor.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     */
+    private ComplexFloat(float real, float imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Create a complex number given the real and imaginary parts.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return {@code ComplexFloat} number.
+     */
+    public static ComplexFloat ofCartesian(float real, float imaginary) {
+        return new ComplexFloat(real, imaginary);
+    }
+
+    /**
+     * Create a complex number from a double precision complex number.
+     * The parts are rounded to {@code float}.
+     *
+     * @param c Complex number.
+     * @return {@code ComplexFloat} number.
+     */
+    public static ComplexFloat of(Complex c) {
+        return new ComplexFloat((float) c.getReal(), (float) c.getImaginary());
+    }
+
+    /**
+     * Gets the real part \( a \) of this complex number \( (a + i b) \).
+     *
+     * @return The real part.
+     */
+    public float getReal() {
+        return real;
+    }
+
+    /**
+     * Gets the imaginary part \( b \) of this complex number \( (a + i b) \).
+     *
+     * @return The imaginary part.
+     */
+    public float getImaginary() {
+        return imaginary;
+    }
+
+    /**
+     * Converts this complex number to double precision.
+     *
+     * @return {@code Complex} number.
+     */
+    public Complex toComplex() {
+        return Complex.ofCartesian(real, imaginary);
+    }
+
+    /**
+     * Returns the absolute value of this complex number.
+     *
+     * @return The absolute value.
+     * @see Complex#abs()
+     */
+    public float abs() {
+        return abs(real, imaginary);
+    }
+
+    /**
+     * Returns the argument of this complex number.
+     *
+     * @return The argument of this complex number.
+     * @see Complex#arg()
+     */
+    public float arg() {
+        return (float) Math.atan2(imaginary, real);
+    }
+
+    /**
+     * Returns the conjugate \( \overline{z} \) of this complex number \( z \).
+     *
+     * @return The conjugate (\( \overline{z} \)) of this complex number.
+     */
+    public ComplexFloat conj() {
+        return new ComplexFloat(real, -imaginary);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this + addend)}.
+     *
+     * @param addend Value to be added to this complex number.
+     * @return {@code this + addend}.
+     */
+    public ComplexFloat add(ComplexFloat addend) {
+        return new ComplexFloat(real + addend.real, imaginary + addend.imaginary);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this - subtrahend)}.
+     *
+     * @param subtrahend Value to be subtracted from this complex number.
+     * @return {@code this - subtrahend}.
+     */
+    public ComplexFloat subtract(ComplexFloat subtrahend) {
+        return new ComplexFloat(real - subtrahend.real, imaginary - subtrahend.imaginary);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code this * factor}.
+     *
+     * @param factor Value to be multiplied by this complex number.
+     * @return {@code this * factor}.
+     * @see Complex#multiply(Complex)
+     */
+    public ComplexFloat multiply(ComplexFloat factor) {
+        return Complex.multiply(real, imaginary, factor.real, factor.imaginary, ComplexFloat::narrow);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code this * conj(factor)}.
+     *
+     * @param factor Value whose conjugate is to be multiplied by this complex number.
+     * @return {@code this * conj(factor)}.
+     * @see #conj()
+     */
+    public ComplexFloat multiplyConjugate(ComplexFloat factor) {
+        return Complex.multiply(real, imaginary, factor.real, -factor.imaginary, ComplexFloat::narrow);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this / divisor)}.
+     *
+     * @param divisor Value by which this complex number is to be divided.
+     * @return {@code this / divisor}.
+     * @see Complex#divide(Complex)
+     */
+    public ComplexFloat divide(ComplexFloat divisor) {
+        return Complex.divide(real, imaginary, divisor.real, divisor.imaginary, ComplexFloat::narrow);
+    }
+
+    /**
+     * Computes the product of each complex number in the interleaved arrays.
+     * The result array may be the same as either input array.
+     *
+     * @param x First factors.
+     * @param y Second factors.
+     * @param result Products {@code x * y}.
+     * @throws IllegalArgumentException if the arrays are different lengths or are not
+     * an even length.
+     * @see #multiply(ComplexFloat)
+     */
+    public static void multiply(float[] x, float[] y, float[] result) {
+        multiply(x, y, result, 1);
+    }
+
+    /**
+     * Computes the product of each complex number in the first interleaved array with
+     * the conjugate of the complex number in the second array.
+     * The result array may be the same as either input array.
+     *
+     * @param x First factors.
+     * @param y Second factors (conjugated).
+     * @param result Products {@code x * conj(y)}.
+     * @throws IllegalArgumentException if the arrays are different lengths or are not
+     * an even length.
+     * @see #multiplyConjugate(ComplexFloat)
+     */
+    public static void multiplyConjugate(float[] x, float[] y, float[] result) {
+        multiply(x, y, result, -1);
+    }
+
+    /**
+     * Computes the absolute value of each complex number in the interleaved array.
+     *
+     * @param x Complex numbers.
+     * @param result Absolute values (half the length of the input).
+     * @throws IllegalArgumentException if the result is not half the length of the input.
+     * @see #abs()
+     */
+    public static void abs(float[] x, float[] result) {
+        ArrayUtils.checkLength(x.length, result.length * 2);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = abs(x[2 * i], x[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Computes the argument of each complex number in the interleaved array.
+     *
+     * @param x Complex numbers.
+     * @param result Arguments (half the length of the input).
+     * @throws IllegalArgumentException if the result is not half the length of the input.
+     * @see #arg()
+     */
+    public static void arg(float[] x, float[] result) {
+        ArrayUtils.checkLength(x.length, result.length * 2);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (float) Math.atan2(x[2 * i + 1], x[2 * i]);
+        }
+    }
+
+    /**
+     * Computes the product of each complex number in the interleaved arrays.
+     *
+     * @param x First factors.
+     * @param y Second factors.
+     * @param result Products.
+     * @param sign Sign applied to the imaginary part of the second factor.
+     */
+    private static void multiply(float[] x, float[] y, float[] result, int sign) {
+        ArrayUtils.checkLength(x.length, y.length);
+        ArrayUtils.checkLength(x.length, result.length);
+        if ((x.length & 1) != 0) {
+            throw new IllegalArgumentException("Odd length: " + x.length);
+        }
+        for (int i = 0; i < x.length; i += 2) {
+            final double a = x[i];
+            final double b = x[i + 1];
+            final double c = y[i];
+            final double d = sign * y[i + 1];
+            // The products of float values are exact in double precision so the
+            // result matches Complex.multiply unless both parts are NaN.
+            final double re = a * c - b * d;
+            final double im = a * d + b * c;
+            if (Double.isNaN(re) && Double.isNaN(im)) {
+                // Recover infinities
+                final ComplexFloat z = Complex.multiply(a, b, c, d, ComplexFloat::narrow);
+                result[i] = z.real;
+                result[i + 1] = z.imaginary;
+            } else {
+                result[i] = (float) re;
+                result[i + 1] = (float) im;
+            }
+        }
+    }
+
+    /**
+     * Returns the absolute value of the complex number.
+     *
+     * <p>The sum of squares of {@code float} values is computed without overflow or
+     * significant rounding error using {@code double} precision.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return The absolute value.
+     */
+    private static float abs(float real, float imaginary) {
+        final double x = real;
+        final double y = imaginary;
+        if (Float.isInfinite(real) || Float.isInfinite(imaginary)) {
+            // hypot(inf, y) is +inf, even if y is NaN
+            return Float.POSITIVE_INFINITY;
+        }
+        return (float) Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * Create a complex number rounding the parts to {@code float}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return {@code ComplexFloat} number.
+     */
+    private static ComplexFloat narrow(double real, double imaginary) {
+        return new ComplexFloat((float) real, (float) imaginary);
+    }
+
+    /**
+     * Test for equality with another object. If the other object is a
+     * {@code ComplexFloat} then a comparison is made of the real and imaginary parts
+     * using the semantics of {@link Float#equals(Object)}.
+     *
+     * @param other Object to test for equality with this instance.
+     * @return {@code true} if the objects are equal.
+     * @see Complex#equals(Object)
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof ComplexFloat) {
+            final ComplexFloat c = (ComplexFloat) other;
+            return Float.floatToIntBits(real) == Float.floatToIntBits(c.real) &&
+                Float.floatToIntBits(imaginary) == Float.floatToIntBits(c.imaginary);
+        }
+        return false;
+    }
+
+    /**
+     * Gets a hash code for the complex number.
+     *
+     * <p>The behavior is the same as if the components of the complex number were passed
+     * to {@link java.util.Arrays#hashCode(float[]) Arrays.hashCode(float[])}.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Float.hashCode(real)) + Float.hashCode(imaginary);
+    }
+
+    /**
+     * Returns a string representation of the complex number.
+     *
+     * <p>The format for complex number \( x + i y \) is {@code "(x,y)"}, with \( x \) and
+     * \( y \) converted as if using {@link Float#toString(float)}.
+     *
+     * @return A string representation of the complex number.
+     */
+    @Override
+    public String toString() {
+        return new StringBuilder(TO_STRING_SIZE)
+            .append('(')
+            .append(real).append(',')
+            .append(imaginary)
+            .append(')')
+            .toString();
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.complex;
+
+/**
+ * Static functions of a complex number that operate on the real and imaginary
+ * parts and pass the result to a {@link ComplexSink}.
+ *
+ * <p>Each function computes the same result as the equivalent method of
+ * {@link Complex}, including the special cases defined by ISO C99, without
+ * the creation of an intermediate {@link Complex} object. This allows the
+ * result to be written directly into another storage, for example primitive
+ * arrays.
+ *
+ * <pre>
+ * double[] re = ...;
+ * double[] im = ...;
+ * for (int i = 0; i &lt; re.length; i++) {
+ *     final int j = i;
+ *     ComplexFunctions.exp(re[i], im[i], (x, y) -&gt; {
+ *         re[j] = x;
+ *         im[j] = y;
+ *         return null;
+ *     });
+ * }
+ * </pre>
+ *
+ * @see Complex
+ * @see ComplexSink
+ */
+public final class ComplexFunctions {
+    /** No instances. */
+    private ComplexFunctions() {}
+
+    /**
+     * Returns the absolute value of the complex number {@code abs(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return The absolute value.
+     * @see Complex#abs()
+     */
+    public static double abs(double real, double imaginary) {
+        return Complex.abs(real, imaginary);
+    }
+
+    /**
+     * Returns the product of two complex numbers {@code (a + i b)(c + i d)}.
+     *
+     * @param re1 Real part of the first number.
+     * @param im1 Imaginary part of the first number.
+     * @param re2 Real part of the second number.
+     * @param im2 Imaginary part of the second number.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#multiply(Complex)
+     */
+    public static <R> R multiply(double re1, double im1, double re2, double im2,
+                                 ComplexSink<R> sink) {
+        return Complex.multiply(re1, im1, re2, im2, sink);
+    }
+
+    /**
+     * Returns the quotient of two complex numbers {@code (a + i b) / (c + i d)}.
+     *
+     * @param re1 Real part of the dividend.
+     * @param im1 Imaginary part of the dividend.
+     * @param re2 Real part of the divisor.
+     * @param im2 Imaginary part of the divisor.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#divide(Complex)
+     */
+    public static <R> R divide(double re1, double im1, double re2, double im2,
+                               ComplexSink<R> sink) {
+        return Complex.divide(re1, im1, re2, im2, sink);
+    }
+
+    /**
+     * Returns the exponential of the complex number {@code exp(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#exp()
+     */
+    public static <R> R exp(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.exp(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the natural logarithm of the complex number {@code log(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#log()
+     */
+    public static <R> R log(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.log(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the base 10 common logarithm of the complex number {@code log10(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#log10()
+     */
+    public static <R> R log10(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.log10(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the square root of the complex number {@code sqrt(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#sqrt()
+     */
+    public static <R> R sqrt(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.sqrt(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the hyperbolic sine of the complex number {@code sinh(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#sinh()
+     */
+    public static <R> R sinh(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.sinh(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the hyperbolic cosine of the complex number {@code cosh(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#cosh()
+     */
+    public static <R> R cosh(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.cosh(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the hyperbolic tangent of the complex number {@code tanh(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#tanh()
+     */
+    public static <R> R tanh(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.tanh(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the inverse sine of the complex number {@code asin(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#asin()
+     */
+    public static <R> R asin(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.asin(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the inverse cosine of the complex number {@code acos(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#acos()
+     */
+    public static <R> R acos(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.acos(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the inverse hyperbolic tangent of the complex number {@code atanh(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#atanh()
+     */
+    public static <R> R atanh(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.atanh(real, imaginary, sink);
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * Per-element kernels shared by the arrays of complex numbers.
+ *
+ * <p>Each kernel computes the same result as the equivalent method of {@link Complex}
+ * and writes it to a {@link ComplexSink}. The tests on the argument shared by all
+ * elements are performed once when the kernel is created. Intermediate results are
+ * held by the kernel so no objects are created for each element. Kernels are not
+ * thread-safe.
+ */
+final class ComplexKernels {
+    /** No instances. */
+    private ComplexKernels() {}
+
+    /**
+     * Holds the result of a complex function.
+     */
+    private static final class Register implements ComplexSink<Void> {
+        /** The real part. */
+        private double re;
+        /** The imaginary part. */
+        private double im;
+
+        @Override
+        public Void apply(double r, double i) {
+            re = r;
+            im = i;
+            return null;
+        }
+    }
+
+    /**
+     * Raises complex numbers to a complex power.
+     *
+     * @see Complex#pow(Complex)
+     */
+    static final class ComplexPower {
+        /** Real part of the exponent. */
+        private final double c;
+        /** Imaginary part of the exponent. */
+        private final double d;
+        /** Set to true if zero raised to the power is zero. */
+        private final boolean zeroIsZero;
+        /** The logarithm of the base. */
+        private final Register log = new Register();
+        /** The product of the logarithm and the exponent. */
+        private final Register product = new Register();
+
+        /**
+         * @param x Exponent.
+         */
+        ComplexPower(Complex x) {
+            c = x.getReal();
+            d = x.getImaginary();
+            zeroIsZero = isZeroPowerZero(c, d);
+        }
+
+        /**
+         * Raises the complex number {@code (a + i b)} to the power.
+         *
+         * @param a Real part of the base.
+         * @param b Imaginary part of the base.
+         * @param sink Sink for the result.
+         * @param <R> Type of the result.
+         * @return the result of the sink
+         */
+        <R> R apply(double a, double b, ComplexSink<R> sink) {
+            if (a == 0 && b == 0) {
+                return zeroPower(zeroIsZero, sink);
+            }
+            Complex.log(a, b, log);
+            Complex.multiply(log.re, log.im, c, d, product);
+            return Complex.exp(product.re, product.im, sink);
+        }
+    }
+
+    /**
+     * Raises complex numbers to a real power.
+     *
+     * @see Complex#pow(double)
+     */
+    static final class RealPower {
+        /** The exponent. */
+        private final double x;
+        /** Set to true if zero raised to the power is zero. */
+        private final boolean zeroIsZero;
+        /** The logarithm of the base. */
+        private final Register log = new Register();
+
+        /**
+         * @param x Exponent.
+         */
+        RealPower(double x) {
+            this.x = x;
+            zeroIsZero = isZeroPowerZero(x);
+        }
+
+        /**
+         * Raises the complex number {@code (a + i b)} to the power.
+         *
+         * @param a Real part of the base.
+         * @param b Imaginary part of the base.
+         * @param sink Sink for the result.
+         * @param <R> Type of the result.
+         * @return the result of the sink
+         */
+        <R> R apply(double a, double b, ComplexSink<R> sink) {
+            if (a == 0 && b == 0) {
+                return zeroPower(zeroIsZero, sink);
+            }
+            Complex.log(a, b, log);
+            return Complex.exp(log.re * x, log.im * x, sink);
+        }
+    }
+
+    /**
+     * Raises complex numbers to a non-zero integer power using repeated squaring.
+     *
+     * @see ComplexArray#pow(int)
+     */
+    static final class IntegerPower {
+        /** The exponent. */
+        private final int n;
+        /** The power. */
+        private final Register power = new Register();
+        /** The repeated square of the base. */
+        private final Register square = new Register();
+
+        /**
+         * @param n Exponent (must not be zero).
+         */
+        IntegerPower(int n) {
+            this.n = n;
+        }
+
+        /**
+         * Raises the complex number {@code (a + i b)} to the power.
+         *
+         * @param a Real part of the base.
+         * @param b Imaginary part of the base.
+         * @param sink Sink for the result.
+         * @param <R> Type of the result.
+         * @return the result of the sink
+         */
+        <R> R apply(double a, double b, ComplexSink<R> sink) {
+            square.re = a;
+            square.im = b;
+            // Binary powering from the lowest bit of the unsigned magnitude of n.
+            // Note: -Integer.MIN_VALUE is 2^31 when interpreted as unsigned.
+            int m = n < 0 ? -n : n;
+            boolean first = true;
+            while (true) {
+                if ((m & 1) != 0) {
+                    if (first) {
+                        power.re = square.re;
+                        power.im = square.im;
+                        first = false;
+                    } else {
+                        Complex.multiply(power.re, power.im, square.re, square.im, power);
+                    }
+                }
+                m >>>= 1;
+                if (m == 0) {
+                    break;
+                }
+                Complex.multiply(square.re, square.im, square.re, square.im, square);
+            }
+            if (n < 0) {
+                return Complex.divide(1, 0, power.re, power.im, sink);
+            }
+            return sink.apply(power.re, power.im);
+        }
+    }
+
+    /**
+     * Raises a complex base to complex or real powers. The logarithm of the base
+     * is computed once.
+     *
+     * @see Complex#pow(Complex)
+     * @see Complex#pow(double)
+     */
+    static final class BasePower {
+        /** Set to true if the base is zero. */
+        private final boolean zero;
+        /** The logarithm of the base. */
+        private final Register log = new Register();
+        /** The product of the logarithm and the exponent. */
+        private final Register product = new Register();
+
+        /**
+         * @param base Base.
+         */
+        BasePower(Complex base) {
+            zero = base.getReal() == 0 && base.getImaginary() == 0;
+            if (!zero) {
+                Complex.log(base.getReal(), base.getImaginary(), log);
+            }
+        }
+
+        /**
+         * Raises the base to the power {@code (c + i d)}.
+         *
+         * @param c Real part of the exponent.
+         * @param d Imaginary part of the exponent.
+         * @param sink Sink for the result.
+         * @param <R> Type of the result.
+         * @return the result of the sink
+         */
+        <R> R apply(double c, double d, ComplexSink<R> sink) {
+            if (zero) {
+                return zeroPower(isZeroPowerZero(c, d), sink);
+            }
+            Complex.multiply(log.re, log.im, c, d, product);
+            return Complex.exp(product.re, product.im, sink);
+        }
+
+        /**
+         * Raises the base to the power {@code x}.
+         *
+         * @param x Exponent.
+         * @param sink Sink for the result.
+         * @param <R> Type of the result.
+         * @return the result of the sink
+         */
+        <R> R apply(double x, ComplexSink<R> sink) {
+            if (zero) {
+                return zeroPower(isZeroPowerZero(x), sink);
+            }
+            return Complex.exp(log.re * x, log.im * x, sink);
+        }
+    }
+
+    /**
+     * Test if zero raised to the power of {@code (c + i d)} is zero. This is true for
+     * a positive real number; otherwise the result is NaN.
+     *
+     * @param c Real part of the exponent.
+     * @param d Imaginary part of the exponent.
+     * @return true if zero raised to the power is zero
+     */
+    private static boolean isZeroPowerZero(double c, double d) {
+        return c > 0 && d == 0;
+    }
+
+    /**
+     * Test if zero raised to the power of {@code x} is zero. This is true for
+     * a positive number; otherwise the result is NaN.
+     *
+     * @param x Exponent.
+     * @return true if zero raised to the power is zero
+     */
+    private static boolean isZeroPowerZero(double x) {
+        return x > 0;
+    }
+
+    /**
+     * Returns zero raised to a power.
+     *
+     * @param zeroIsZero true if the result is zero; otherwise it is NaN.
+     * @param sink Sink for the result.
+     * @param <R> Type of the result.
+     * @return the result of the sink
+     */
+    private static <R> R zeroPower(boolean zeroIsZero, ComplexSink<R> sink) {
+        return zeroIsZero ?
+            sink.apply(0, 0) :
+            sink.apply(Double.NaN, Double.NaN);
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A dense matrix of complex numbers. The real and imaginary parts are stored
+ * in separate {@code double[]} arrays in row-major order.
+ *
+ * <p>Matrix products are computed by accumulating sums of products of the parts
+ * of the elements. The special case handling of {@link Complex#multiply(Complex)}
+ * to recover infinite results is not performed. The matrix multiplication is
+ * partitioned into square blocks that fit in the processor cache, and the rows of
+ * the result may be computed in parallel using {@link #parallelMultiply(ComplexMatrix)}.
+ *
+ * <p>The element values are mutable using {@link #set(int, int, double, double)}.
+ * Functions of the matrix create a new instance for the result.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @see ComplexArray
+ */
+public final class ComplexMatrix {
+    /**
+     * Size of the blocks used for matrix multiplication. A block of the real and
+     * imaginary parts uses 64 KiB.
+     */
+    private static final int BLOCK_SIZE = 64;
+
+    /** The number of rows. */
+    private final int rows;
+    /** The number of columns. */
+    private final int columns;
+    /** The real parts. */
+    private final double[] real;
+    /** The imaginary parts. */
+    private final double[] imaginary;
+
+    /**
+     * Create an instance.
+     *
+     * @param rows Number of rows.
+     * @param columns Number of columns.
+     */
+    private ComplexMatrix(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        final int size = Math.multiplyExact(rows, columns);
+        real = new double[size];
+        imaginary = new double[size];
+    }
+
+    /**
+     * Create a matrix of the given size. All elements are initialised to zero.
+     *
+     * @param rows Number of rows.
+     * @param columns Number of columns.
+     * @return the matrix
+     * @throws IllegalArgumentException if either dimension is not strictly positive.
+     * @throws ArithmeticException if the number of elements overflows an {@code int}.
+     */
+    public static ComplexMatrix ofSize(int rows, int columns) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("Invalid dimensions: " + rows + " x " + columns);
+        }
+        return new ComplexMatrix(rows, columns);
+    }
+
+    /**
+     * Create an identity matrix.
+     *
+     * @param size Number of rows and columns.
+     * @return the matrix
+     * @throws IllegalArgumentException if the size is not strictly positive.
+     */
+    public static ComplexMatrix identity(int size) {
+        final ComplexMatrix m = ofSize(size, size);
+        for (int i = 0; i < size; i++) {
+            m.real[i * size + i] = 1;
+        }
+        return m;
+    }
+
+    /**
+     * Create a matrix given the complex numbers. The first index is the row.
+     *
+     * @param values Complex numbers.
+     * @return the matrix
+     * @throws IllegalArgumentException if the array is empty or not rectangular.
+     */
+    public static ComplexMatrix of(Complex[][] values) {
+        final int n = values.length;
+        final int m = n == 0 ? 0 : values[0].length;
+        final ComplexMatrix matrix = ofSize(n, m);
+        for (int i = 0; i < n; i++) {
+            final Complex[] row = values[i];
+            ArrayUtils.checkLength(m, row.length);
+            for (int j = 0; j < m; j++) {
+                matrix.real[i * m + j] = row[j].getReal();
+                matrix.imaginary[i * m + j] = row[j].getImaginary();
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the complex number at the specified position.
+     *
+     * @param row Row index.
+     * @param column Column index.
+     * @return the complex number
+     * @throws IndexOutOfBoundsException if the position is not within the matrix.
+     */
+    public Complex get(int row, int column) {
+        final int index = index(row, column);
+        return Complex.ofCartesian(real[index], imaginary[index]);
+    }
+
+    /**
+     * Gets the real part of the complex number at the specified position.
+     *
+     * @param row Row index.
+     * @param column Column index.
+     * @return the real part
+     * @throws IndexOutOfBoundsException if the position is not within the matrix.
+     */
+    public double getReal(int row, int column) {
+        return real[index(row, column)];
+    }
+
+    /**
+     * Gets the imaginary part of the complex number at the specified position.
+     *
+     * @param row Row index.
+     * @param column Column index.
+     * @return the imaginary part
+     * @throws IndexOutOfBoundsException if the position is not within the matrix.
+     */
+    public double getImaginary(int row, int column) {
+        return imaginary[index(row, column)];
+    }
+
+    /**
+     * Sets the complex number at the specified position.
+     *
+     * @param row Row index.
+     * @param column Column index.
+     * @param value Complex number.
+     * @throws IndexOutOfBoundsException if the position is not within the matrix.
+     */
+    public void set(int row, int column, Complex value) {
+        set(row, column, value.getReal(), value.getImaginary());
+    }
+
+    /**
+     * Sets the complex number at the specified position.
+     *
+     * @param row Row index.
+     * @param column Column index.
+     * @param re Real part.
+     * @param im Imaginary part.
+     * @throws IndexOutOfBoundsException if the position is not within the matrix.
+     */
+    public void set(int row, int column, double re, double im) {
+        final int index = index(row, column);
+        real[index] = re;
+        imaginary[index] = im;
+    }
+
+    /**
+     * Gets the complex numbers in the matrix. The first index is the row.
+     *
+     * @return the complex numbers
+     */
+    public Complex[][] toArray() {
+        final Complex[][] values = new Complex[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                values[i][j] = Complex.ofCartesian(real[i * columns + j], imaginary[i * columns + j]);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns the transpose of this matrix.
+     *
+     * @return the transpose
+     */
+    public ComplexMatrix transpose() {
+        return transpose(1);
+    }
+
+    /**
+     * Returns the conjugate (Hermitian) transpose of this matrix.
+     *
+     * @return the conjugate transpose
+     */
+    public ComplexMatrix conjugateTranspose() {
+        return transpose(-1);
+    }
+
+    /**
+     * Returns the matrix product {@code this * m}.
+     *
+     * @param m Matrix to be multiplied by this matrix.
+     * @return {@code this * m}
+     * @throws IllegalArgumentException if the number of columns of this matrix is
+     * not the number of rows of {@code m}.
+     */
+    public ComplexMatrix multiply(ComplexMatrix m) {
+        final ComplexMatrix result = createProduct(m);
+        multiply(m, result, 0, rows);
+        return result;
+    }
+
+    /**
+     * Returns the matrix product {@code this * m}. Blocks of rows of the result
+     * are computed in parallel using the common fork-join pool. The result is
+     * identical to {@link #multiply(ComplexMatrix)}.
+     *
+     * @param m Matrix to be multiplied by this matrix.
+     * @return {@code this * m}
+     * @throws IllegalArgumentException if the number of columns of this matrix is
+     * not the number of rows of {@code m}.
+     * @see java.util.concurrent.ForkJoinPool#commonPool()
+     */
+    public ComplexMatrix parallelMultiply(ComplexMatrix m) {
+        final ComplexMatrix result = createProduct(m);
+        final int blocks = (rows + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            final int from = b * BLOCK_SIZE;
+            multiply(m, result, from, Math.min(rows, from + BLOCK_SIZE));
+        });
+        return result;
+    }
+
+    /**
+     * Returns the product of this matrix with the column vector {@code x}.
+     *
+     * @param x Vector to be multiplied by this matrix.
+     * @return {@code this * x}
+     * @throws IllegalArgumentException if the size of the vector is not the number of
+     * columns of this matrix.
+     */
+    public ComplexArray operate(ComplexArray x) {
+        ArrayUtils.checkLength(columns, x.size());
+        final double[] xre = x.real();
+        final double[] xim = x.imaginary();
+        final double[] yre = new double[rows];
+        final double[] yim = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            final int offset = i * columns;
+            double sre = 0;
+            double sim = 0;
+            for (int j = 0; j < columns; j++) {
+                final double a = real[offset + j];
+                final double b = imaginary[offset + j];
+                sre += a * xre[j] - b * xim[j];
+                sim += a * xim[j] + b * xre[j];
+            }
+            yre[i] = sre;
+            yim[i] = sim;
+        }
+        return new ComplexArray(yre, yim);
+    }
+
+    /**
+     * Create the matrix for the product {@code this * m}.
+     *
+     * @param m Matrix to be multiplied by this matrix.
+     * @return the result matrix
+     * @throws IllegalArgumentException if the number of columns of this matrix is
+     * not the number of rows of {@code m}.
+     */
+    private ComplexMatrix createProduct(ComplexMatrix m) {
+        ArrayUtils.checkLength(columns, m.rows);
+        return new ComplexMatrix(rows, m.columns);
+    }
+
+    /**
+     * Compute the matrix product {@code this * m} for the specified rows.
+     *
+     * <p>The computation is partitioned into blocks. For each block the rows
+     * of the result are accumulated as the sum of rows of {@code m} scaled by an
+     * element of this matrix. The innermost loop is over contiguous elements.
+     *
+     * @param m Matrix to be multiplied by this matrix.
+     * @param result Result (initialised to zero).
+     * @param from Start row (inclusive).
+     * @param to End row (exclusive).
+     */
+    private void multiply(ComplexMatrix m, ComplexMatrix result, int from, int to) {
+        final int n = columns;
+        final int p = m.columns;
+        final double[] bre = m.real;
+        final double[] bim = m.imaginary;
+        final double[] cre = result.real;
+        final double[] cim = result.imaginary;
+        for (int i0 = from; i0 < to; i0 += BLOCK_SIZE) {
+            final int i1 = Math.min(to, i0 + BLOCK_SIZE);
+            for (int k0 = 0; k0 < n; k0 += BLOCK_SIZE) {
+                final int k1 = Math.min(n, k0 + BLOCK_SIZE);
+                for (int j0 = 0; j0 < p; j0 += BLOCK_SIZE) {
+                    final int j1 = Math.min(p, j0 + BLOCK_SIZE);
+                    for (int i = i0; i < i1; i++) {
+                        final int ci = i * p;
+                        for (int k = k0; k < k1; k++) {
+                            final double a = real[i * n + k];
+                            final double b = imaginary[i * n + k];
+                            final int bk = k * p;
+                            for (int j = j0; j < j1; j++) {
+                                final double c = bre[bk + j];
+                                final double d = bim[bk + j];
+                                cre[ci + j] += a * c - b * d;
+                                cim[ci + j] += a * d + b * c;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the transpose of this matrix. The imaginary parts are multiplied by the
+     * sign.
+     *
+     * @param sign Sign for the imaginary parts.
+     * @return the transpose
+     */
+    private ComplexMatrix transpose(int sign) {
+        final ComplexMatrix t = new ComplexMatrix(columns, rows);
+        final double[] tre = t.real;
+        final double[] tim = t.imaginary;
+        // Transpose by blocks to limit cache misses on the strided writes
+        for (int i0 = 0; i0 < rows; i0 += BLOCK_SIZE) {
+            final int i1 = Math.min(rows, i0 + BLOCK_SIZE);
+            for (int j0 = 0; j0 < columns; j0 += BLOCK_SIZE) {
+                final int j1 = Math.min(columns, j0 + BLOCK_SIZE);
+                for (int i = i0; i < i1; i++) {
+                    for (int j = j0; j < j1; j++) {
+                        tre[j * rows + i] = real[i * columns + j];
+                        tim[j * rows + i] = sign * imaginary[i * columns + j];
+                    }
+                }
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Gets the index of the specified position in the arrays of parts.
+     *
+     * @param row Row index.
+     * @param column Column index.
+     * @return the index
+     * @throws IndexOutOfBoundsException if the position is not within the matrix.
+     */
+    private int index(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException("Position out of range: (" + row + ", " + column + ")");
+        }
+        return row * columns + column;
+    }
+
+    /**
+     * Test for equality with another object. If the other object is a {@code ComplexMatrix}
+     * then a comparison is made of the dimensions and the real and imaginary parts using
+     * the semantics of {@link Arrays#equals(double[], double[])}.
+     *
+     * @param other Object to test for equality with this instance.
+     * @return {@code true} if the objects are equal.
+     * @see Complex#equals(Object)
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof ComplexMatrix) {
+            final ComplexMatrix c = (ComplexMatrix) other;
+            return rows == c.rows &&
+                Arrays.equals(real, c.real) &&
+                Arrays.equals(imaginary, c.imaginary);
+        }
+        return false;
+    }
+
+    /**
+     * Gets a hash code for the matrix.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * rows + Arrays.hashCode(real)) + Arrays.hashCode(imaginary);
+    }
+}
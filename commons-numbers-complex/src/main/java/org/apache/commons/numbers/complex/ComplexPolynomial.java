@@ -0,0 +1,421 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Polynomial with {@link Complex} coefficients.
+ *
+ * <p>\[ p(z) = a_0 + a_1 z + a_2 z^2 + \cdots + a_n z^n \]
+ *
+ * <p>Evaluation uses Horner's method. The complex arithmetic is computed directly
+ * on the parts of the coefficients; the special case handling of
+ * {@link Complex#multiply(Complex)} to recover infinite results is not performed.
+ * Methods are provided to evaluate the polynomial at each point in interleaved or split
+ * arrays of complex numbers without creating any objects.
+ *
+ * <p>Instances of this class are immutable.
+ *
+ * @see <a href="http://mathworld.wolfram.com/HornersMethod.html">Horner&#39;s method</a>
+ */
+public final class ComplexPolynomial {
+    /** Maximum number of iterations for the root finder. */
+    private static final int MAX_ITERATIONS = 500;
+    /** Relative tolerance for the change in a root: 2^-52. */
+    private static final double EPSILON = 0x1.0p-52;
+    /**
+     * Rotation (in radians) applied to the initial estimates of the roots. This avoids
+     * estimates on the real axis which cannot leave the axis when the coefficients
+     * are real.
+     */
+    private static final double SEED_ROTATION = 0.7;
+
+    /** Real parts of the coefficients. */
+    private final double[] re;
+    /** Imaginary parts of the coefficients. */
+    private final double[] im;
+
+    /**
+     * Create an instance.
+     *
+     * @param re Real parts of the coefficients.
+     * @param im Imaginary parts of the coefficients.
+     */
+    private ComplexPolynomial(double[] re, double[] im) {
+        this.re = re;
+        this.im = im;
+    }
+
+    /**
+     * Create a polynomial from the coefficients. The coefficient at index {@code k}
+     * is for the term \( z^k \), i.e. the constant term is first.
+     *
+     * <p>Zero coefficients for the highest powers are removed. The polynomial
+     * has at least one (possibly zero) coefficient.
+     *
+     * @param coefficients Coefficients.
+     * @return the polynomial
+     * @throws IllegalArgumentException if there are no coefficients.
+     */
+    public static ComplexPolynomial of(Complex... coefficients) {
+        if (coefficients.length == 0) {
+            throw new IllegalArgumentException("Empty coefficients");
+        }
+        int n = coefficients.length;
+        while (n > 1 && isZero(coefficients[n - 1].getReal(), coefficients[n - 1].getImaginary())) {
+            n--;
+        }
+        final double[] re = new double[n];
+        final double[] im = new double[n];
+        for (int i = 0; i < n; i++) {
+            re[i] = coefficients[i].getReal();
+            im[i] = coefficients[i].getImaginary();
+        }
+        return new ComplexPolynomial(re, im);
+    }
+
+    /**
+     * Create a polynomial with the given roots and a leading coefficient of one.
+     *
+     * <p>\[ p(z) = (z - r_1)(z - r_2) \cdots (z - r_n) \]
+     *
+     * @param roots Roots.
+     * @return the polynomial
+     */
+    public static ComplexPolynomial ofRoots(Complex... roots) {
+        final int n = roots.length;
+        final double[] re = new double[n + 1];
+        final double[] im = new double[n + 1];
+        re[0] = 1;
+        // Multiply by (z - r) for each root
+        for (int k = 0; k < n; k++) {
+            final double a = -roots[k].getReal();
+            final double b = -roots[k].getImaginary();
+            for (int i = k + 1; i > 0; i--) {
+                final double x = re[i - 1];
+                final double y = im[i - 1];
+                re[i] += x * a - y * b;
+                im[i] += x * b + y * a;
+            }
+        }
+        // Coefficients were computed highest power first
+        reverse(re);
+        reverse(im);
+        return of(toComplex(re, im));
+    }
+
+    /**
+     * Gets the degree of the polynomial.
+     *
+     * @return the degree
+     */
+    public int degree() {
+        return re.length - 1;
+    }
+
+    /**
+     * Gets the coefficients. The coefficient at index {@code k} is for the term \( z^k \).
+     *
+     * @return the coefficients
+     */
+    public Complex[] getCoefficients() {
+        return toComplex(re, im);
+    }
+
+    /**
+     * Computes the derivative of the polynomial.
+     *
+     * @return the derivative
+     */
+    public ComplexPolynomial derivative() {
+        final int n = re.length - 1;
+        if (n == 0) {
+            return new ComplexPolynomial(new double[1], new double[1]);
+        }
+        final double[] dre = new double[n];
+        final double[] dim = new double[n];
+        for (int i = 0; i < n; i++) {
+            dre[i] = re[i + 1] * (i + 1);
+            dim[i] = im[i + 1] * (i + 1);
+        }
+        return new ComplexPolynomial(dre, dim);
+    }
+
+    /**
+     * Evaluates the polynomial at the complex number.
+     *
+     * @param z Complex number.
+     * @return the value \( p(z) \)
+     */
+    public Complex value(Complex z) {
+        return value(z.getReal(), z.getImaginary(), Complex::ofCartesian);
+    }
+
+    /**
+     * Evaluates the polynomial at the complex number \( x + iy \).
+     * The result is passed to the constructor.
+     *
+     * @param x Real part \( x \) of the complex number.
+     * @param y Imaginary part \( y \) of the complex number.
+     * @param constructor Constructor.
+     * @param <R> Generic return type.
+     * @return the value \( p(x + iy) \)
+     */
+    public <R> R value(double x, double y, ComplexSink<R> constructor) {
+        int i = re.length - 1;
+        double a = re[i];
+        double b = im[i];
+        while (--i >= 0) {
+            final double t = a * x - b * y + re[i];
+            b = a * y + b * x + im[i];
+            a = t;
+        }
+        return constructor.apply(a, b);
+    }
+
+    /**
+     * Evaluates the polynomial at each complex number in the interleaved array.
+     * The complex number at index {@code k} has the real part at {@code 2k} and the
+     * imaginary part at {@code 2k + 1}. The result array may be the same as the
+     * input array.
+     *
+     * @param points Complex numbers.
+     * @param result Values of the polynomial.
+     * @throws IllegalArgumentException if the arrays are different lengths or are not
+     * an even length.
+     */
+    public void value(double[] points, double[] result) {
+        ArrayUtils.checkLength(points.length, result.length);
+        if ((points.length & 1) != 0) {
+            throw new IllegalArgumentException("Odd length: " + points.length);
+        }
+        final int n = re.length - 1;
+        final double cre = re[n];
+        final double cim = im[n];
+        for (int j = 0; j < points.length; j += 2) {
+            final double x = points[j];
+            final double y = points[j + 1];
+            double a = cre;
+            double b = cim;
+            for (int i = n - 1; i >= 0; i--) {
+                final double t = a * x - b * y + re[i];
+                b = a * y + b * x + im[i];
+                a = t;
+            }
+            result[j] = a;
+            result[j + 1] = b;
+        }
+    }
+
+    /**
+     * Evaluates the polynomial at each complex number in the split arrays of real and
+     * imaginary parts. The result arrays may be the same as the input arrays.
+     *
+     * @param real Real parts of the complex numbers.
+     * @param imaginary Imaginary parts of the complex numbers.
+     * @param resultReal Real parts of the values of the polynomial.
+     * @param resultImaginary Imaginary parts of the values of the polynomial.
+     * @throws IllegalArgumentException if the arrays are different lengths.
+     */
+    public void value(double[] real, double[] imaginary, double[] resultReal, double[] resultImaginary) {
+        ArrayUtils.checkLength(real.length, imaginary.length);
+        ArrayUtils.checkLength(real.length, resultReal.length);
+        ArrayUtils.checkLength(real.length, resultImaginary.length);
+        final int n = re.length - 1;
+        final double cre = re[n];
+        final double cim = im[n];
+        for (int j = 0; j < real.length; j++) {
+            final double x = real[j];
+            final double y = imaginary[j];
+            double a = cre;
+            double b = cim;
+            for (int i = n - 1; i >= 0; i--) {
+                final double t = a * x - b * y + re[i];
+                b = a * y + b * x + im[i];
+                a = t;
+            }
+            resultReal[j] = a;
+            resultImaginary[j] = b;
+        }
+    }
+
+    /**
+     * Finds all the roots of the polynomial. The number of roots is equal to the
+     * degree; roots of multiplicity {@code m} are repeated {@code m} times.
+     *
+     * <p>The roots are computed simultaneously using the Aberth-Ehrlich method. The
+     * initial estimates are the {@link Complex#nthRoot(int) n-th roots} of
+     * \( -a_0 / a_n \), which are distributed on a circle with radius equal to the
+     * geometric mean of the magnitude of the roots, rotated to avoid the real axis.
+     *
+     * <p>Convergence is cubic for simple roots and linear for multiple roots. A root of
+     * multiplicity \( m \) is typically accurate to approximately
+     * \( \epsilon^{1/m} \) relative to its magnitude, where \( \epsilon \) is the
+     * machine precision. If the iteration does not converge within a fixed limit the
+     * current estimates are returned.
+     *
+     * <p>The order of the roots is not specified.
+     *
+     * @return the roots
+     * @throws IllegalArgumentException if the polynomial is a constant zero or any
+     * coefficient is not finite.
+     */
+    public Complex[] roots() {
+        final int degree = re.length - 1;
+        for (int i = 0; i <= degree; i++) {
+            if (!Double.isFinite(re[i]) || !Double.isFinite(im[i])) {
+                throw new IllegalArgumentException("Non-finite coefficient: " + i);
+            }
+        }
+        if (degree == 0) {
+            if (isZero(re[0], im[0])) {
+                throw new IllegalArgumentException("Zero polynomial");
+            }
+            return new Complex[0];
+        }
+        // Remove roots at zero
+        int zeros = 0;
+        while (isZero(re[zeros], im[zeros])) {
+            zeros++;
+        }
+        final Complex[] roots = new Complex[degree];
+        Arrays.fill(roots, 0, zeros, Complex.ZERO);
+        final int n = degree - zeros;
+        if (n == 0) {
+            return roots;
+        }
+        final double[] pre = Arrays.copyOfRange(re, zeros, re.length);
+        final double[] pim = Arrays.copyOfRange(im, zeros, im.length);
+        final ComplexPolynomial p = new ComplexPolynomial(pre, pim);
+        final ComplexPolynomial dp = p.derivative();
+
+        // Initial estimates
+        final Complex a0 = Complex.ofCartesian(pre[0], pim[0]);
+        final Complex an = Complex.ofCartesian(pre[n], pim[n]);
+        final Complex rotation = Complex.ofPolar(1, SEED_ROTATION);
+        final List<Complex> seeds = a0.divide(an).negate().nthRoot(n);
+        final Complex[] z = new Complex[n];
+        for (int k = 0; k < n; k++) {
+            z[k] = seeds.get(k).multiply(rotation);
+        }
+
+        aberth(p, dp, z);
+        System.arraycopy(z, 0, roots, zeros, n);
+        return roots;
+    }
+
+    /**
+     * Refine the estimates of the roots of the polynomial using the Aberth-Ehrlich
+     * method. Each estimate is updated in turn using the latest values of the
+     * other estimates (Gauss-Seidel style):
+     *
+     * <p>\[ z_k \leftarrow z_k - \frac{1}{ \frac{p'(z_k)}{p(z_k)} - \sum_{j \ne k} \frac{1}{z_k - z_j} } \]
+     *
+     * @param p Polynomial.
+     * @param dp Derivative of the polynomial.
+     * @param z Estimates of the roots (updated in place).
+     */
+    private static void aberth(ComplexPolynomial p, ComplexPolynomial dp, Complex[] z) {
+        final int n = z.length;
+        final boolean[] converged = new boolean[n];
+        int remaining = n;
+        for (int iteration = 0; iteration < MAX_ITERATIONS && remaining != 0; iteration++) {
+            for (int k = 0; k < n; k++) {
+                if (converged[k]) {
+                    continue;
+                }
+                final Complex zk = z[k];
+                final Complex pk = p.value(zk);
+                if (pk.getReal() == 0 && pk.getImaginary() == 0) {
+                    // Exact root
+                    converged[k] = true;
+                    remaining--;
+                    continue;
+                }
+                Complex sum = Complex.ZERO;
+                for (int j = 0; j < n; j++) {
+                    if (j != k) {
+                        sum = sum.add(Complex.ONE.divide(zk.subtract(z[j])));
+                    }
+                }
+                final Complex offset = Complex.ONE.divide(dp.value(zk).divide(pk).subtract(sum));
+                if (!offset.isFinite()) {
+                    // Coincident estimates; leave for the next iteration
+                    continue;
+                }
+                z[k] = zk.subtract(offset);
+                if (offset.abs() <= EPSILON * z[k].abs()) {
+                    converged[k] = true;
+                    remaining--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if the complex number is zero.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return true if zero
+     */
+    private static boolean isZero(double real, double imaginary) {
+        return real == 0 && imaginary == 0;
+    }
+
+    /**
+     * Reverse the array.
+     *
+     * @param x Array.
+     */
+    private static void reverse(double[] x) {
+        for (int i = 0, j = x.length - 1; i < j; i++, j--) {
+            final double t = x[i];
+            x[i] = x[j];
+            x[j] = t;
+        }
+    }
+
+    /**
+     * Create complex numbers from the split parts.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @return the complex numbers
+     */
+    private static Complex[] toComplex(double[] real, double[] imaginary) {
+        final Complex[] c = new Complex[real.length];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = Complex.ofCartesian(real[i], imaginary[i]);
+        }
+        return c;
+    }
+
+    /**
+     * Returns a string representation of the polynomial using the coefficients
+     * formatted as by {@link Complex#toString()}, constant term first.
+     *
+     * @return a string representation of the polynomial
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(getCoefficients());
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * Represents a data sink for the real and imaginary parts of a complex number.
+ *
+ * <p>This is used to output the result of a complex function without
+ * the creation of an intermediate {@link Complex} object, for example to
+ * write the result into primitive arrays.
+ *
+ * <pre>
+ * double[] result = new double[2];
+ * ComplexFunctions.multiply(a, b, c, d, (x, y) -&gt; {
+ *     result[0] = x;
+ *     result[1] = y;
+ *     return null;
+ * });
+ * </pre>
+ *
+ * @param <R> The type of the result of the sink.
+ * @see ComplexFunctions
+ */
+@FunctionalInterface
+public interface ComplexSink<R> {
+    /**
+     * Accept the real and imaginary parts of a complex number \( (a + i b) \).
+     *
+     * @param real Real part \( a \).
+     * @param imaginary Imaginary part \( b \).
+     * @return The result.
+     */
+    R apply(double real, double imaginary);
+}
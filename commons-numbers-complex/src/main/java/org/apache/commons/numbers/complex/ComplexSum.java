@@ -0,0 +1,639 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes sums of complex numbers accurately.
+ *
+ * <p>Each part of the sum is accumulated with a compensation term that holds the
+ * round-off error of the additions. Products for the dot product are split into
+ * a high and low part so that the error of each product is also accumulated. The
+ * result is as accurate as if computed in twice the working precision and then
+ * rounded to the working precision.
+ *
+ * <p>If the compensated result is NaN due to infinite values, the result of the
+ * standard floating-point summation is returned.
+ *
+ * <p>Static methods are provided to process complex data stored in interleaved or
+ * split arrays without creating any objects. Parallel versions partition the data
+ * into a fixed set of ranges; the result does not depend on the number of threads.
+ *
+ * <p>This class is not thread-safe. Instances for separate parts of the data can be
+ * merged using {@link #combine(ComplexSum)}.
+ *
+ * <p>Based on the 2005 paper
+ * <a href="http://citeseerx.ist.psu.edu/viewdoc/summary?doi=10.1.1.2.1547">
+ * Accurate Sum and Dot Product</a> by Takeshi Ogita, Siegfried M. Rump,
+ * and Shin'ichi Oishi published in <em>SIAM J. Sci. Comput</em>.
+ */
+public final class ComplexSum {
+    /** Number of complex values below which a parallel computation is not split. */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+    /** Threshold for the sum of squares above which it is rescaled: 2^900. */
+    private static final double NORM_UPPER = 0x1.0p900;
+    /** Threshold for the sum of squares below which it is rescaled: 2^-900. */
+    private static final double NORM_LOWER = 0x1.0p-900;
+
+    /** The sum of the real parts. */
+    private double real;
+    /** The compensation for the sum of the real parts. */
+    private double realC;
+    /** The sum of the imaginary parts. */
+    private double imaginary;
+    /** The compensation for the sum of the imaginary parts. */
+    private double imaginaryC;
+
+    /**
+     * Accumulates a range of the data into the sum.
+     */
+    @FunctionalInterface
+    private interface RangeFunction {
+        /**
+         * Accumulates the data in the range into the sum.
+         *
+         * @param sum Sum.
+         * @param from Start index (inclusive) of the complex numbers.
+         * @param to End index (exclusive) of the complex numbers.
+         */
+        void accept(ComplexSum sum, int from, int to);
+    }
+
+    /**
+     * Computes the sum of a range of the data by splitting it into two halves.
+     */
+    private static final class SumTask extends RecursiveTask<ComplexSum> {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20201018L;
+
+        /** The function. */
+        private final RangeFunction function;
+        /** Start index (inclusive). */
+        private final int from;
+        /** End index (exclusive). */
+        private final int to;
+
+        /**
+         * @param function Function.
+         * @param from Start index (inclusive).
+         * @param to End index (exclusive).
+         */
+        SumTask(RangeFunction function, int from, int to) {
+            this.function = function;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ComplexSum compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                final ComplexSum sum = new ComplexSum();
+                function.accept(sum, from, to);
+                return sum;
+            }
+            final int mid = (from + to) >>> 1;
+            final SumTask left = new SumTask(function, from, mid);
+            left.fork();
+            final ComplexSum right = new SumTask(function, mid, to).compute();
+            return left.join().combine(right);
+        }
+    }
+
+    /** Create an instance. */
+    private ComplexSum() {}
+
+    /**
+     * Create an instance with a sum of zero.
+     *
+     * @return the sum
+     */
+    public static ComplexSum create() {
+        return new ComplexSum();
+    }
+
+    /**
+     * Adds the complex number to the sum.
+     *
+     * @param z Complex number.
+     * @return this instance
+     */
+    public ComplexSum add(Complex z) {
+        return add(z.getReal(), z.getImaginary());
+    }
+
+    /**
+     * Adds the complex number \( x + iy \) to the sum.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return this instance
+     */
+    public ComplexSum add(double x, double y) {
+        // Inline two-sum
+        double s = real + x;
+        double bp = s - real;
+        realC += (real - (s - bp)) + (x - bp);
+        real = s;
+        s = imaginary + y;
+        bp = s - imaginary;
+        imaginaryC += (imaginary - (s - bp)) + (y - bp);
+        imaginary = s;
+        return this;
+    }
+
+    /**
+     * Adds the product of the conjugate of the first complex number and the second
+     * complex number to the sum:
+     *
+     * <p>\[ \overline{(a + ib)} (c + id) = (ac + bd) + i (ad - bc) \]
+     *
+     * <p>The special case handling of {@link Complex#multiply(Complex)} to recover
+     * infinite results is not performed.
+     *
+     * @param a Real part of the first number.
+     * @param b Imaginary part of the first number.
+     * @param c Real part of the second number.
+     * @param d Imaginary part of the second number.
+     * @return this instance
+     */
+    public ComplexSum addConjugateProduct(double a, double b, double c, double d) {
+        final double aHigh = highPart(a);
+        final double aLow = a - aHigh;
+        final double bHigh = highPart(b);
+        final double bLow = b - bHigh;
+        final double cHigh = highPart(c);
+        final double cLow = c - cHigh;
+        final double dHigh = highPart(d);
+        final double dLow = d - dHigh;
+
+        // Real: ac + bd
+        final double ac = a * c;
+        final double bd = b * d;
+        double s = real + ac;
+        double bp = s - real;
+        double t = s + bd;
+        double tp = t - s;
+        realC += (real - (s - bp)) + (ac - bp) +
+                 (s - (t - tp)) + (bd - tp) +
+                 prodLow(aLow, cLow, ac, aHigh, cHigh) +
+                 prodLow(bLow, dLow, bd, bHigh, dHigh);
+        real = t;
+
+        // Imaginary: ad - bc
+        final double ad = a * d;
+        final double bc = -b * c;
+        s = imaginary + ad;
+        bp = s - imaginary;
+        t = s + bc;
+        tp = t - s;
+        imaginaryC += (imaginary - (s - bp)) + (ad - bp) +
+                      (s - (t - tp)) + (bc - tp) +
+                      prodLow(aLow, dLow, ad, aHigh, dHigh) -
+                      prodLow(bLow, cLow, -bc, bHigh, cHigh);
+        imaginary = t;
+        return this;
+    }
+
+    /**
+     * Adds the square of the value to the real part of the sum.
+     *
+     * @param x Value.
+     */
+    private void addSquare(double x) {
+        final double xHigh = highPart(x);
+        final double xLow = x - xHigh;
+        final double xx = x * x;
+        final double s = real + xx;
+        final double bp = s - real;
+        realC += (real - (s - bp)) + (xx - bp) + prodLow(xLow, xLow, xx, xHigh, xHigh);
+        real = s;
+    }
+
+    /**
+     * Adds the sum of the other instance to this sum.
+     *
+     * @param other Other sum.
+     * @return this instance
+     */
+    public ComplexSum combine(ComplexSum other) {
+        add(other.real, other.imaginary);
+        realC += other.realC;
+        imaginaryC += other.imaginaryC;
+        return this;
+    }
+
+    /**
+     * Gets the real part of the sum.
+     *
+     * @return the real part
+     */
+    public double getReal() {
+        return value(real, realC);
+    }
+
+    /**
+     * Gets the imaginary part of the sum.
+     *
+     * @return the imaginary part
+     */
+    public double getImaginary() {
+        return value(imaginary, imaginaryC);
+    }
+
+    /**
+     * Gets the sum.
+     *
+     * @return the sum
+     */
+    public Complex get() {
+        return Complex.ofCartesian(getReal(), getImaginary());
+    }
+
+    /**
+     * Computes the sum of the complex numbers in the interleaved array.
+     * The complex number at index {@code k} has the real part at {@code 2k} and the
+     * imaginary part at {@code 2k + 1}.
+     *
+     * @param x Complex numbers.
+     * @return the sum
+     * @throws IllegalArgumentException if the array is not an even length.
+     */
+    public static Complex sum(double[] x) {
+        checkEven(x.length);
+        final ComplexSum sum = new ComplexSum();
+        sumInterleaved(x, sum, 0, x.length >> 1);
+        return sum.get();
+    }
+
+    /**
+     * Computes the sum of the complex numbers in the split arrays of real and
+     * imaginary parts.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @return the sum
+     * @throws IllegalArgumentException if the arrays are different lengths.
+     */
+    public static Complex sum(double[] re, double[] im) {
+        ArrayUtils.checkLength(re.length, im.length);
+        final ComplexSum sum = new ComplexSum();
+        sumSplit(re, im, sum, 0, re.length);
+        return sum.get();
+    }
+
+    /**
+     * Computes the Hermitian dot product of the complex numbers in the interleaved arrays.
+     *
+     * <p>\[ x \cdot y = \sum_k \overline{x_k} y_k \]
+     *
+     * @param x First complex numbers (conjugated).
+     * @param y Second complex numbers.
+     * @return the dot product
+     * @throws IllegalArgumentException if the arrays are different lengths or are not
+     * an even length.
+     * @see #addConjugateProduct(double, double, double, double)
+     */
+    public static Complex dot(double[] x, double[] y) {
+        ArrayUtils.checkLength(x.length, y.length);
+        checkEven(x.length);
+        final ComplexSum sum = new ComplexSum();
+        dotInterleaved(x, y, sum, 0, x.length >> 1);
+        return sum.get();
+    }
+
+    /**
+     * Computes the Hermitian dot product of the complex numbers in the split arrays of
+     * real and imaginary parts.
+     *
+     * <p>\[ x \cdot y = \sum_k \overline{x_k} y_k \]
+     *
+     * @param re1 Real parts of the first complex numbers (conjugated).
+     * @param im1 Imaginary parts of the first complex numbers (conjugated).
+     * @param re2 Real parts of the second complex numbers.
+     * @param im2 Imaginary parts of the second complex numbers.
+     * @return the dot product
+     * @throws IllegalArgumentException if the arrays are different lengths.
+     * @see #addConjugateProduct(double, double, double, double)
+     */
+    public static Complex dot(double[] re1, double[] im1, double[] re2, double[] im2) {
+        checkSplitLengths(re1, im1, re2, im2);
+        final ComplexSum sum = new ComplexSum();
+        dotSplit(re1, im1, re2, im2, sum, 0, re1.length);
+        return sum.get();
+    }
+
+    /**
+     * Computes the Euclidean norm of the complex numbers in the interleaved array:
+     *
+     * <p>\[ \|x\| = \sqrt{ \sum_k |x_k|^2 } \]
+     *
+     * <p>The sum of squares is rescaled to avoid overflow and underflow.
+     *
+     * @param x Complex numbers.
+     * @return the norm
+     * @throws IllegalArgumentException if the array is not an even length.
+     */
+    public static double norm(double[] x) {
+        checkEven(x.length);
+        return norm(x, 0, x.length);
+    }
+
+    /**
+     * Computes the Euclidean norm of the complex numbers in the split arrays of real and
+     * imaginary parts:
+     *
+     * <p>\[ \|x\| = \sqrt{ \sum_k |x_k|^2 } \]
+     *
+     * <p>The sum of squares is rescaled to avoid overflow and underflow.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @return the norm
+     * @throws IllegalArgumentException if the arrays are different lengths.
+     */
+    public static double norm(double[] re, double[] im) {
+        ArrayUtils.checkLength(re.length, im.length);
+        // The norm of the split data is the norm of the concatenation of the parts
+        final double ss = sumOfSquares(re, 1).combine(sumOfSquares(im, 1)).getReal();
+        if (ss < NORM_UPPER && ss > NORM_LOWER) {
+            return Math.sqrt(ss);
+        }
+        return Math.hypot(norm(re, 0, re.length), norm(im, 0, im.length));
+    }
+
+    /**
+     * Computes the sum of the complex numbers in the interleaved array. Ranges of the
+     * data are summed in parallel using the common fork-join pool.
+     *
+     * @param x Complex numbers.
+     * @return the sum
+     * @throws IllegalArgumentException if the array is not an even length.
+     * @see #sum(double[])
+     */
+    public static Complex parallelSum(double[] x) {
+        checkEven(x.length);
+        return compute((s, from, to) -> sumInterleaved(x, s, from, to), x.length >> 1);
+    }
+
+    /**
+     * Computes the sum of the complex numbers in the split arrays of real and
+     * imaginary parts. Ranges of the data are summed in parallel using the common
+     * fork-join pool.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @return the sum
+     * @throws IllegalArgumentException if the arrays are different lengths.
+     * @see #sum(double[], double[])
+     */
+    public static Complex parallelSum(double[] re, double[] im) {
+        ArrayUtils.checkLength(re.length, im.length);
+        return compute((s, from, to) -> sumSplit(re, im, s, from, to), re.length);
+    }
+
+    /**
+     * Computes the Hermitian dot product of the complex numbers in the interleaved arrays.
+     * Ranges of the data are summed in parallel using the common fork-join pool.
+     *
+     * @param x First complex numbers (conjugated).
+     * @param y Second complex numbers.
+     * @return the dot product
+     * @throws IllegalArgumentException if the arrays are different lengths or are not
+     * an even length.
+     * @see #dot(double[], double[])
+     */
+    public static Complex parallelDot(double[] x, double[] y) {
+        ArrayUtils.checkLength(x.length, y.length);
+        checkEven(x.length);
+        return compute((s, from, to) -> dotInterleaved(x, y, s, from, to), x.length >> 1);
+    }
+
+    /**
+     * Computes the Hermitian dot product of the complex numbers in the split arrays of
+     * real and imaginary parts. Ranges of the data are summed in parallel using the
+     * common fork-join pool.
+     *
+     * @param re1 Real parts of the first complex numbers (conjugated).
+     * @param im1 Imaginary parts of the first complex numbers (conjugated).
+     * @param re2 Real parts of the second complex numbers.
+     * @param im2 Imaginary parts of the second complex numbers.
+     * @return the dot product
+     * @throws IllegalArgumentException if the arrays are different lengths.
+     * @see #dot(double[], double[], double[], double[])
+     */
+    public static Complex parallelDot(double[] re1, double[] im1, double[] re2, double[] im2) {
+        checkSplitLengths(re1, im1, re2, im2);
+        return compute((s, from, to) -> dotSplit(re1, im1, re2, im2, s, from, to), re1.length);
+    }
+
+    /**
+     * Compute the sum using the function over the range {@code [0, n)} of complex numbers.
+     * If the range is large it is split and the parts are computed in parallel.
+     *
+     * @param function Function.
+     * @param n Number of complex numbers.
+     * @return the sum
+     */
+    private static Complex compute(RangeFunction function, int n) {
+        return ForkJoinPool.commonPool().invoke(new SumTask(function, 0, n)).get();
+    }
+
+    /**
+     * Adds the complex numbers in the range of the interleaved array to the sum.
+     *
+     * @param x Complex numbers.
+     * @param sum Sum.
+     * @param from Start index (inclusive) of the complex numbers.
+     * @param to End index (exclusive) of the complex numbers.
+     */
+    private static void sumInterleaved(double[] x, ComplexSum sum, int from, int to) {
+        for (int i = from; i < to; i++) {
+            sum.add(x[2 * i], x[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Adds the complex numbers in the range of the split arrays to the sum.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param sum Sum.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     */
+    private static void sumSplit(double[] re, double[] im, ComplexSum sum, int from, int to) {
+        for (int i = from; i < to; i++) {
+            sum.add(re[i], im[i]);
+        }
+    }
+
+    /**
+     * Adds the conjugate products of the complex numbers in the range of the interleaved
+     * arrays to the sum.
+     *
+     * @param x First complex numbers (conjugated).
+     * @param y Second complex numbers.
+     * @param sum Sum.
+     * @param from Start index (inclusive) of the complex numbers.
+     * @param to End index (exclusive) of the complex numbers.
+     */
+    private static void dotInterleaved(double[] x, double[] y, ComplexSum sum, int from, int to) {
+        for (int i = from; i < to; i++) {
+            sum.addConjugateProduct(x[2 * i], x[2 * i + 1], y[2 * i], y[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Adds the conjugate products of the complex numbers in the range of the split
+     * arrays to the sum.
+     *
+     * @param re1 Real parts of the first complex numbers (conjugated).
+     * @param im1 Imaginary parts of the first complex numbers (conjugated).
+     * @param re2 Real parts of the second complex numbers.
+     * @param im2 Imaginary parts of the second complex numbers.
+     * @param sum Sum.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     */
+    private static void dotSplit(double[] re1, double[] im1, double[] re2, double[] im2,
+                                 ComplexSum sum, int from, int to) {
+        for (int i = from; i < to; i++) {
+            sum.addConjugateProduct(re1[i], im1[i], re2[i], im2[i]);
+        }
+    }
+
+    /**
+     * Computes the Euclidean norm of the range of the array of parts.
+     *
+     * @param x Parts.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     * @return the norm
+     */
+    private static double norm(double[] x, int from, int to) {
+        final double ss = sumOfSquares(x, 1, from, to).getReal();
+        if (ss < NORM_UPPER && ss > NORM_LOWER) {
+            return Math.sqrt(ss);
+        }
+        if (Double.isNaN(ss)) {
+            return ss;
+        }
+        // Rescale using the largest magnitude
+        double max = 0;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, Math.abs(x[i]));
+        }
+        if (max == 0 || max == Double.POSITIVE_INFINITY) {
+            return max;
+        }
+        final int exp = Math.getExponent(max);
+        final double scale = Math.scalb(1.0, -exp);
+        return Math.scalb(Math.sqrt(sumOfSquares(x, scale, from, to).getReal()), exp);
+    }
+
+    /**
+     * Computes the sum of squares of the array of parts multiplied by the scale.
+     *
+     * @param x Parts.
+     * @param scale Scale.
+     * @return the sum of squares (in the real part)
+     */
+    private static ComplexSum sumOfSquares(double[] x, double scale) {
+        return sumOfSquares(x, scale, 0, x.length);
+    }
+
+    /**
+     * Computes the sum of squares of the range of the array of parts multiplied by the scale.
+     *
+     * @param x Parts.
+     * @param scale Scale.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     * @return the sum of squares (in the real part)
+     */
+    private static ComplexSum sumOfSquares(double[] x, double scale, int from, int to) {
+        final ComplexSum sum = new ComplexSum();
+        for (int i = from; i < to; i++) {
+            sum.addSquare(x[i] * scale);
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the value of the compensated sum. If the compensated sum is NaN
+     * then the standard sum is returned.
+     *
+     * @param s Sum.
+     * @param c Compensation.
+     * @return the value
+     */
+    private static double value(double s, double c) {
+        final double v = s + c;
+        // Infinite values create a NaN compensation
+        return Double.isNaN(v) ? s : v;
+    }
+
+    /**
+     * @param value Value.
+     * @return the high part of the value.
+     */
+    private static double highPart(double value) {
+        return Double.longBitsToDouble(Double.doubleToRawLongBits(value) & ((-1L) << 27));
+    }
+
+    /**
+     * @param aLow Low part of first factor.
+     * @param bLow Low part of second factor.
+     * @param prodHigh Product of the factors.
+     * @param aHigh High part of first factor.
+     * @param bHigh High part of second factor.
+     * @return <code>aLow * bLow - (((prodHigh - aHigh * bHigh) - aLow * bHigh) - aHigh * bLow)</code>
+     */
+    private static double prodLow(double aLow, double bLow, double prodHigh, double aHigh, double bHigh) {
+        return aLow * bLow - (((prodHigh - aHigh * bHigh) - aLow * bHigh) - aHigh * bLow);
+    }
+
+    /**
+     * Check the length is even.
+     *
+     * @param length Length.
+     * @throws IllegalArgumentException if the length is odd.
+     */
+    private static void checkEven(int length) {
+        if ((length & 1) != 0) {
+            throw new IllegalArgumentException("Odd length: " + length);
+        }
+    }
+
+    /**
+     * Check the lengths of the split arrays are equal.
+     *
+     * @param re1 Real parts of the first complex numbers.
+     * @param im1 Imaginary parts of the first complex numbers.
+     * @param re2 Real parts of the second complex numbers.
+     * @param im2 Imaginary parts of the second complex numbers.
+     * @throws IllegalArgumentException if the lengths are different.
+     */
+    private static void checkSplitLengths(double[] re1, double[] im1, double[] re2, double[] im2) {
+        ArrayUtils.checkLength(re1.length, im1.length);
+        ArrayUtils.checkLength(re1.length, re2.length);
+        ArrayUtils.checkLength(re1.length, im2.length);
+    }
+}
@@ -0,0 +1,795 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+/**
+ * A fixed-size array of complex numbers stored outside of the Java heap. The real
+ * and imaginary parts are interleaved in a direct buffer allocated using
+ * {@link ByteBuffer#allocateDirect(int)} with the native byte order.
+ *
+ * <p>The content of the array is not copied or scanned by the garbage collector.
+ * This allows large data sets to be held without increasing the heap size or the
+ * garbage collection pause times. The memory is released when the array is no longer
+ * reachable and the buffer is reclaimed by the garbage collector. Since the data is
+ * stored in a single buffer the maximum size is {@value #MAX_SIZE}.
+ *
+ * <p>Element-wise functions compute the same result as the equivalent method of
+ * {@link ComplexArray} and {@link Complex}, including the handling of special cases
+ * defined in ISO C99, without the creation of an intermediate {@code Complex} for
+ * each element.
+ *
+ * <p>Functions of the array create a new off-heap instance for the result, or write the
+ * result to a destination array of the same size. The memory of a direct buffer is only
+ * released when the buffer is collected, and a full garbage collection is requested
+ * when the limit on direct memory is reached. Repeated processing of large arrays
+ * should reuse a destination, which can be an operand to compute the result in-place.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @see ComplexArray
+ */
+public final class DirectComplexArray {
+    /** Maximum number of complex numbers: the limit of a direct buffer of doubles. */
+    public static final int MAX_SIZE = Integer.MAX_VALUE / (2 * Double.BYTES);
+
+    /** The interleaved real and imaginary parts. */
+    private final DoubleBuffer data;
+    /** The number of complex numbers. */
+    private final int size;
+
+    /**
+     * Writes the result of a complex function to the buffer at the current index.
+     */
+    private static final class BufferWriter implements ComplexSink<Void> {
+        /** The interleaved parts. */
+        private final DoubleBuffer buffer;
+        /** The current index of the real part. */
+        private int index;
+
+        /**
+         * @param array Destination array.
+         */
+        BufferWriter(DirectComplexArray array) {
+            buffer = array.data;
+        }
+
+        /**
+         * Sets the index of the complex number.
+         *
+         * @param i Index.
+         */
+        void setIndex(int i) {
+            index = i << 1;
+        }
+
+        @Override
+        public Void apply(double r, double i) {
+            buffer.put(index, r);
+            buffer.put(index + 1, i);
+            return null;
+        }
+    }
+
+    /**
+     * Create an array of the given size. All elements are initialised to zero.
+     *
+     * @param size Size.
+     */
+    private DirectComplexArray(int size) {
+        this.size = size;
+        data = allocate(2 * size);
+    }
+
+    /**
+     * Create an array of the given size. All elements are initialised to zero.
+     *
+     * @param size Size.
+     * @return the array
+     * @throws IllegalArgumentException if {@code size} is negative or above {@link #MAX_SIZE}.
+     */
+    public static DirectComplexArray ofSize(int size) {
+        if (size < 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Invalid size: " + size);
+        }
+        return new DirectComplexArray(size);
+    }
+
+    /**
+     * Create an array given the real and imaginary parts.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @return the array
+     * @throws IllegalArgumentException if the arrays are different lengths.
+     */
+    public static DirectComplexArray ofCartesian(double[] real, double[] imaginary) {
+        ArrayUtils.checkLength(real.length, imaginary.length);
+        final DirectComplexArray array = ofSize(real.length);
+        for (int i = 0; i < real.length; i++) {
+            array.set(i, real[i], imaginary[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Create an array given the complex numbers.
+     *
+     * @param values Complex numbers.
+     * @return the array
+     */
+    public static DirectComplexArray of(Complex... values) {
+        final DirectComplexArray array = ofSize(values.length);
+        for (int i = 0; i < values.length; i++) {
+            array.set(i, values[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Create an array given the complex numbers in the on-heap array.
+     *
+     * @param values Complex numbers.
+     * @return the array
+     */
+    public static DirectComplexArray of(ComplexArray values) {
+        final DirectComplexArray array = ofSize(values.size());
+        for (int i = 0; i < array.size; i++) {
+            array.set(i, values.getReal(i), values.getImaginary(i));
+        }
+        return array;
+    }
+
+    /**
+     * Gets the number of complex numbers in the array.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the complex number at the specified index.
+     *
+     * @param index Index.
+     * @return the complex number
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public Complex get(int index) {
+        return Complex.ofCartesian(getReal(index), getImaginary(index));
+    }
+
+    /**
+     * Gets the real part of the complex number at the specified index.
+     *
+     * @param index Index.
+     * @return the real part
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public double getReal(int index) {
+        return data.get(checkIndex(index) << 1);
+    }
+
+    /**
+     * Gets the imaginary part of the complex number at the specified index.
+     *
+     * @param index Index.
+     * @return the imaginary part
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public double getImaginary(int index) {
+        return data.get((checkIndex(index) << 1) + 1);
+    }
+
+    /**
+     * Sets the complex number at the specified index.
+     *
+     * @param index Index.
+     * @param value Complex number.
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public void set(int index, Complex value) {
+        set(index, value.getReal(), value.getImaginary());
+    }
+
+    /**
+     * Sets the complex number at the specified index.
+     *
+     * @param index Index.
+     * @param re Real part.
+     * @param im Imaginary part.
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public void set(int index, double re, double im) {
+        final int j = checkIndex(index) << 1;
+        data.put(j, re);
+        data.put(j + 1, im);
+    }
+
+    /**
+     * Gets a view of the interleaved real and imaginary parts. The real part of the
+     * complex number at index {@code i} is at index {@code 2i} of the buffer and the
+     * imaginary part at index {@code 2i + 1}.
+     *
+     * <p>The view is a direct buffer that shares the content of this array. Changes to
+     * the content of the buffer are visible in this array. The position, limit and mark
+     * of the view are independent of this array.
+     *
+     * @return the buffer
+     */
+    public DoubleBuffer asDoubleBuffer() {
+        return data.duplicate();
+    }
+
+    /**
+     * Create a copy of this array on the Java heap.
+     *
+     * @return the array
+     */
+    public ComplexArray toComplexArray() {
+        final ComplexArray array = ComplexArray.ofSize(size);
+        for (int i = 0; i < size; i++) {
+            final int j = i << 1;
+            array.set(i, data.get(j), data.get(j + 1));
+        }
+        return array;
+    }
+
+    /**
+     * Gets the complex numbers in the array.
+     *
+     * @return the complex numbers
+     */
+    public Complex[] toArray() {
+        final Complex[] values = new Complex[size];
+        for (int i = 0; i < size; i++) {
+            final int j = i << 1;
+            values[i] = Complex.ofCartesian(data.get(j), data.get(j + 1));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the absolute value of each complex number. The result is stored in a
+     * direct buffer with the native byte order.
+     *
+     * @return the absolute values
+     * @see Complex#abs()
+     */
+    public DoubleBuffer abs() {
+        return abs(allocate(size));
+    }
+
+    /**
+     * Computes the absolute value of each complex number. The value for the complex
+     * number at index {@code i} is written to index {@code i} of the result. The position
+     * of the result is not changed.
+     *
+     * @param result Destination for the absolute values.
+     * @return the result
+     * @throws IllegalArgumentException if the limit of the result is less than the size
+     * of this array.
+     * @see Complex#abs()
+     */
+    public DoubleBuffer abs(DoubleBuffer result) {
+        checkLimit(result);
+        for (int i = 0; i < size; i++) {
+            final int j = i << 1;
+            result.put(i, Complex.abs(data.get(j), data.get(j + 1)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the argument of each complex number. The result is stored in a
+     * direct buffer with the native byte order.
+     *
+     * @return the arguments
+     * @see Complex#arg()
+     */
+    public DoubleBuffer arg() {
+        return arg(allocate(size));
+    }
+
+    /**
+     * Computes the argument of each complex number. The value for the complex
+     * number at index {@code i} is written to index {@code i} of the result. The position
+     * of the result is not changed.
+     *
+     * @param result Destination for the arguments.
+     * @return the result
+     * @throws IllegalArgumentException if the limit of the result is less than the size
+     * of this array.
+     * @see Complex#arg()
+     */
+    public DoubleBuffer arg(DoubleBuffer result) {
+        checkLimit(result);
+        for (int i = 0; i < size; i++) {
+            final int j = i << 1;
+            result.put(i, Math.atan2(data.get(j + 1), data.get(j)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the element-wise sum {@code (this + addend)}.
+     *
+     * @param addend Values to be added to this array.
+     * @return {@code this + addend}.
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see Complex#add(Complex)
+     */
+    public DirectComplexArray add(DirectComplexArray addend) {
+        return add(addend, new DirectComplexArray(size));
+    }
+
+    /**
+     * Computes the element-wise sum {@code (this + addend)}. The result can be this
+     * array or the addend.
+     *
+     * @param addend Values to be added to this array.
+     * @param result Destination for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see Complex#add(Complex)
+     */
+    public DirectComplexArray add(DirectComplexArray addend, DirectComplexArray result) {
+        ArrayUtils.checkLength(size, addend.size);
+        ArrayUtils.checkLength(size, result.size);
+        final DoubleBuffer x = addend.data;
+        final DoubleBuffer r = result.data;
+        // Both parts use the same operation
+        for (int j = 0; j < 2 * size; j++) {
+            r.put(j, data.get(j) + x.get(j));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the element-wise product {@code (this * factor)}.
+     *
+     * @param factor Values to be multiplied by this array.
+     * @return {@code this * factor}.
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see Complex#multiply(Complex)
+     */
+    public DirectComplexArray multiply(DirectComplexArray factor) {
+        return multiply(factor, new DirectComplexArray(size));
+    }
+
+    /**
+     * Computes the element-wise product {@code (this * factor)}. The result can be this
+     * array or the factor.
+     *
+     * @param factor Values to be multiplied by this array.
+     * @param result Destination for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see Complex#multiply(Complex)
+     */
+    public DirectComplexArray multiply(DirectComplexArray factor, DirectComplexArray result) {
+        ArrayUtils.checkLength(size, factor.size);
+        ArrayUtils.checkLength(size, result.size);
+        final BufferWriter writer = new BufferWriter(result);
+        final DoubleBuffer x = factor.data;
+        final DoubleBuffer r = result.data;
+        for (int i = 0; i < size; i++) {
+            final int j = i << 1;
+            final double a = data.get(j);
+            final double b = data.get(j + 1);
+            final double c = x.get(j);
+            final double d = x.get(j + 1);
+            final double re = a * c - b * d;
+            final double im = a * d + b * c;
+            // The result is identical to Complex.multiply unless both parts are NaN.
+            // In this case recompute using the scalar method to recover infinities.
+            if (Double.isNaN(re) && Double.isNaN(im)) {
+                writer.setIndex(i);
+                Complex.multiply(a, b, c, d, writer);
+            } else {
+                r.put(j, re);
+                r.put(j + 1, im);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the element-wise quotient {@code (this / divisor)}.
+     *
+     * @param divisor Values by which this array is to be divided.
+     * @return {@code this / divisor}.
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see Complex#divide(Complex)
+     */
+    public DirectComplexArray divide(DirectComplexArray divisor) {
+        return divide(divisor, new DirectComplexArray(size));
+    }
+
+    /**
+     * Computes the element-wise quotient {@code (this / divisor)}. The result can be this
+     * array or the divisor.
+     *
+     * @param divisor Values by which this array is to be divided.
+     * @param result Destination for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see Complex#divide(Complex)
+     */
+    public DirectComplexArray divide(DirectComplexArray divisor, DirectComplexArray result) {
+        ArrayUtils.checkLength(size, divisor.size);
+        ArrayUtils.checkLength(size, result.size);
+        final BufferWriter writer = new BufferWriter(result);
+        final DoubleBuffer x = divisor.data;
+        for (int i = 0; i < size; i++) {
+            final int j = i << 1;
+            writer.setIndex(i);
+            Complex.divide(data.get(j), data.get(j + 1), x.get(j), x.get(j + 1), writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the exponential function of each complex number.
+     *
+     * @return the exponential of this array.
+     * @see Complex#exp()
+     */
+    public DirectComplexArray exp() {
+        return exp(new DirectComplexArray(size));
+    }
+
+    /**
+     * Computes the exponential function of each complex number. The result can be
+     * this array.
+     *
+     * @param result Destination for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see Complex#exp()
+     */
+    public DirectComplexArray exp(DirectComplexArray result) {
+        ArrayUtils.checkLength(size, result.size);
+        final BufferWriter writer = new BufferWriter(result);
+        for (int i = 0; i < size; i++) {
+            final int j = i << 1;
+            writer.setIndex(i);
+            Complex.exp(data.get(j), data.get(j + 1), writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the natural logarithm of each complex number.
+     *
+     * @return the natural logarithm of this array.
+     * @see Complex#log()
+     */
+    public DirectComplexArray log() {
+        return log(new DirectComplexArray(size));
+    }
+
+    /**
+     * Computes the natural logarithm of each complex number. The result can be
+     * this array.
+     *
+     * @param result Destination for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see Complex#log()
+     */
+    public DirectComplexArray log(DirectComplexArray result) {
+        ArrayUtils.checkLength(size, result.size);
+        final BufferWriter writer = new BufferWriter(result);
+        for (int i = 0; i < size; i++) {
+            final int j = i << 1;
+            writer.setIndex(i);
+            Complex.log(data.get(j), data.get(j + 1), writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the square root of each complex number.
+     *
+     * @return the square root of this array.
+     * @see Complex#sqrt()
+     */
+    public DirectComplexArray sqrt() {
+        return sqrt(new DirectComplexArray(size));
+    }
+
+    /**
+     * Computes the square root of each complex number. The result can be
+     * this array.
+     *
+     * @param result Destination for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see Complex#sqrt()
+     */
+    public DirectComplexArray sqrt(DirectComplexArray result) {
+        ArrayUtils.checkLength(size, result.size);
+        final BufferWriter writer = new BufferWriter(result);
+        for (int i = 0; i < size; i++) {
+            final int j = i << 1;
+            writer.setIndex(i);
+            Complex.sqrt(data.get(j), data.get(j + 1), writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns each complex number raised to the power of {@code x}.
+     *
+     * @param x The exponent to which each complex number is to be raised.
+     * @return this array raised to the power of {@code x}.
+     * @see ComplexArray#pow(Complex)
+     */
+    public DirectComplexArray pow(Complex x) {
+        return pow(x, new DirectComplexArray(size));
+    }
+
+    /**
+     * Computes each complex number raised to the power of {@code x}. The result can be
+     * this array.
+     *
+     * @param x The exponent to which each complex number is to be raised.
+     * @param result Destination for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see ComplexArray#pow(Complex)
+     */
+    public DirectComplexArray pow(Complex x, DirectComplexArray result) {
+        ArrayUtils.checkLength(size, result.size);
+        final ComplexKernels.ComplexPower power = new ComplexKernels.ComplexPower(x);
+        final BufferWriter writer = new BufferWriter(result);
+        for (int i = 0; i < size; i++) {
+            final int j = i << 1;
+            writer.setIndex(i);
+            power.apply(data.get(j), data.get(j + 1), writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns each complex number raised to the power of {@code x}, with {@code x}
+     * interpreted as a real number.
+     *
+     * @param x The exponent to which each complex number is to be raised.
+     * @return this array raised to the power of {@code x}.
+     * @see ComplexArray#pow(double)
+     */
+    public DirectComplexArray pow(double x) {
+        return pow(x, new DirectComplexArray(size));
+    }
+
+    /**
+     * Computes each complex number raised to the power of {@code x}, with {@code x}
+     * interpreted as a real number. The result can be this array.
+     *
+     * @param x The exponent to which each complex number is to be raised.
+     * @param result Destination for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see ComplexArray#pow(double)
+     */
+    public DirectComplexArray pow(double x, DirectComplexArray result) {
+        ArrayUtils.checkLength(size, result.size);
+        final ComplexKernels.RealPower power = new ComplexKernels.RealPower(x);
+        final BufferWriter writer = new BufferWriter(result);
+        for (int i = 0; i < size; i++) {
+            final int j = i << 1;
+            writer.setIndex(i);
+            power.apply(data.get(j), data.get(j + 1), writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns each complex number raised to the integer power {@code n}.
+     *
+     * @param n The exponent to which each complex number is to be raised.
+     * @return this array raised to the power of {@code n}.
+     * @see ComplexArray#pow(int)
+     */
+    public DirectComplexArray pow(int n) {
+        return pow(n, new DirectComplexArray(size));
+    }
+
+    /**
+     * Computes each complex number raised to the integer power {@code n}. The result
+     * can be this array.
+     *
+     * @param n The exponent to which each complex number is to be raised.
+     * @param result Destination for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see ComplexArray#pow(int)
+     */
+    public DirectComplexArray pow(int n, DirectComplexArray result) {
+        ArrayUtils.checkLength(size, result.size);
+        final DoubleBuffer r = result.data;
+        if (n == 0) {
+            for (int j = 0; j < 2 * size; j += 2) {
+                r.put(j, 1);
+                r.put(j + 1, 0);
+            }
+            return result;
+        }
+        final BufferWriter writer = new BufferWriter(result);
+        final ComplexKernels.IntegerPower power = new ComplexKernels.IntegerPower(n);
+        for (int i = 0; i < size; i++) {
+            final int j = i << 1;
+            writer.setIndex(i);
+            power.apply(data.get(j), data.get(j + 1), writer);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the complex number {@code base} raised to the power of each complex number
+     * in the array {@code exponents}. The result can be the exponents.
+     *
+     * <p>There is no form of this function that creates the result as it would have the
+     * same signature as {@link #pow(Complex, DirectComplexArray)}.
+     *
+     * @param base The base.
+     * @param exponents The exponents to which the base is to be raised.
+     * @param result Destination for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the arrays are different sizes.
+     * @see ComplexArray#pow(Complex, ComplexArray)
+     */
+    public static DirectComplexArray pow(Complex base, DirectComplexArray exponents,
+                                         DirectComplexArray result) {
+        ArrayUtils.checkLength(exponents.size, result.size);
+        final DoubleBuffer x = exponents.data;
+        final BufferWriter writer = new BufferWriter(result);
+        final ComplexKernels.BasePower power = new ComplexKernels.BasePower(base);
+        for (int i = 0; i < exponents.size; i++) {
+            final int j = i << 1;
+            writer.setIndex(i);
+            power.apply(x.get(j), x.get(j + 1), writer);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the complex number {@code base} raised to the power of each real number
+     * in the array {@code exponents}.
+     *
+     * @param base The base.
+     * @param exponents The exponents to which the base is to be raised.
+     * @return the base raised to the power of each exponent.
+     * @throws IllegalArgumentException if the number of exponents is above {@link #MAX_SIZE}.
+     * @see ComplexArray#pow(Complex, double[])
+     */
+    public static DirectComplexArray pow(Complex base, double[] exponents) {
+        return pow(base, exponents, ofSize(exponents.length));
+    }
+
+    /**
+     * Computes the complex number {@code base} raised to the power of each real number
+     * in the array {@code exponents}.
+     *
+     * @param base The base.
+     * @param exponents The exponents to which the base is to be raised.
+     * @param result Destination for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the number of exponents is not the size of
+     * the result.
+     * @see ComplexArray#pow(Complex, double[])
+     */
+    public static DirectComplexArray pow(Complex base, double[] exponents, DirectComplexArray result) {
+        ArrayUtils.checkLength(exponents.length, result.size);
+        final BufferWriter writer = new BufferWriter(result);
+        final ComplexKernels.BasePower power = new ComplexKernels.BasePower(base);
+        for (int i = 0; i < exponents.length; i++) {
+            writer.setIndex(i);
+            power.apply(exponents[i], writer);
+        }
+        return result;
+    }
+
+    /**
+     * Test for equality with another object. If the other object is a
+     * {@code DirectComplexArray} then a comparison is made of the real and imaginary
+     * parts using the semantics of {@link Double#equals(Object)}.
+     *
+     * @param other Object to test for equality with this instance.
+     * @return {@code true} if the objects are equal.
+     * @see ComplexArray#equals(Object)
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof DirectComplexArray) {
+            final DirectComplexArray c = (DirectComplexArray) other;
+            if (size != c.size) {
+                return false;
+            }
+            final DoubleBuffer x = c.data;
+            for (int j = 0; j < 2 * size; j++) {
+                if (Double.doubleToLongBits(data.get(j)) != Double.doubleToLongBits(x.get(j))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets a hash code for the array.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int j = 0; j < 2 * size; j++) {
+            h = 31 * h + Double.hashCode(data.get(j));
+        }
+        return h;
+    }
+
+    /**
+     * Allocate a direct buffer of doubles with the native byte order.
+     *
+     * @param length Length.
+     * @return the buffer
+     */
+    private static DoubleBuffer allocate(int length) {
+        return ByteBuffer.allocateDirect(length * Double.BYTES)
+            .order(ByteOrder.nativeOrder())
+            .asDoubleBuffer();
+    }
+
+    /**
+     * Check the limit of the buffer can hold a value for each complex number.
+     *
+     * @param buffer Buffer.
+     * @throws IllegalArgumentException if the limit is less than the size.
+     */
+    private void checkLimit(DoubleBuffer buffer) {
+        if (buffer.limit() < size) {
+            throw new IllegalArgumentException("Buffer limit: " + buffer.limit() + " < " + size);
+        }
+    }
+
+    /**
+     * Check the index is within the array.
+     *
+     * @param index Index.
+     * @return the index
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * Parses a {@code double} from a region of a {@link CharSequence} without creating
+ * intermediate objects.
+ *
+ * <p>Only simple decimal input is supported: an optional sign, decimal digits with an
+ * optional decimal point, and an optional exponent. Leading and trailing whitespace is
+ * ignored as per {@link Double#parseDouble(String)}. The value is computed exactly when
+ * the significand has at most 17 digits and is at most 2<sup>53</sup>, and the decimal
+ * exponent is at most 22 in magnitude; the significand and power of ten are then exact
+ * {@code double} values and a single multiplication or division is correctly rounded
+ * (Clinger's fast path).
+ *
+ * <p>All other input, including {@code "NaN"}, {@code "Infinity"}, hexadecimal
+ * and invalid input, is not parsed and the caller should use
+ * {@link Double#parseDouble(String)}.
+ *
+ * <p>This class is internal. An identical copy is in the quaternion module; any change
+ * must be made to both.
+ */
+final class DoubleParser {
+    /** Value returned when the input is not parsed. This is never the result of parsing. */
+    static final double NOT_PARSED = Double.NaN;
+
+    /** Maximum number of significant digits. */
+    private static final int MAX_DIGITS = 17;
+    /** Maximum significand that is an exact double: 2^53. */
+    private static final long MAX_SIGNIFICAND = 1L << 53;
+    /** Limit on the accumulated exponent to avoid overflow. */
+    private static final int MAX_EXPONENT = 10000;
+    /** Exact powers of ten. */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+    };
+    /** Maximum exponent of an exact power of ten. */
+    private static final int MAX_POWER = POWERS_OF_TEN.length - 1;
+
+    /** No instances. */
+    private DoubleParser() {}
+
+    /**
+     * Parses the region of the sequence.
+     *
+     * @param s Characters.
+     * @param start Start index (inclusive).
+     * @param end End index (exclusive).
+     * @return the value, or {@link #NOT_PARSED}
+     */
+    static double parse(CharSequence s, int start, int end) {
+        int i = start;
+        int to = end;
+        while (i < to && s.charAt(i) <= ' ') {
+            i++;
+        }
+        while (to > i && s.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (i >= to) {
+            return NOT_PARSED;
+        }
+
+        final char first = s.charAt(i);
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            i++;
+        }
+
+        // Significand
+        long m = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean anyDigit = false;
+        boolean point = false;
+        for (; i < to; i++) {
+            final char ch = s.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                anyDigit = true;
+                if (point) {
+                    scale--;
+                }
+                if (m == 0 && ch == '0') {
+                    // Leading zero
+                    continue;
+                }
+                if (digits == MAX_DIGITS) {
+                    return NOT_PARSED;
+                }
+                m = m * 10 + (ch - '0');
+                digits++;
+            } else if (ch == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (!anyDigit) {
+            return NOT_PARSED;
+        }
+
+        // Exponent
+        if (i < to) {
+            final char ch = s.charAt(i++);
+            if ((ch != 'e' && ch != 'E') || i == to) {
+                return NOT_PARSED;
+            }
+            final char sign = s.charAt(i);
+            final boolean negativeExponent = sign == '-';
+            if (negativeExponent || sign == '+') {
+                i++;
+                if (i == to) {
+                    return NOT_PARSED;
+                }
+            }
+            int exponent = 0;
+            for (; i < to; i++) {
+                final int digit = s.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return NOT_PARSED;
+                }
+                if (exponent < MAX_EXPONENT) {
+                    exponent = exponent * 10 + digit;
+                }
+            }
+            scale += negativeExponent ? -exponent : exponent;
+        }
+
+        if (m == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (m > MAX_SIGNIFICAND || scale < -MAX_POWER || scale > MAX_POWER) {
+            return NOT_PARSED;
+        }
+        final double v = scale < 0 ?
+            m / POWERS_OF_TEN[-scale] :
+            m * POWERS_OF_TEN[scale];
+        return negative ? -v : v;
+    }
+}
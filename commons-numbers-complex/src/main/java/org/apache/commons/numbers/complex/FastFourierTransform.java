@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * Computes the discrete Fourier transform (DFT) of complex data using a
+ * fast Fourier transform (FFT).
+ *
+ * <p>The data is stored in an interleaved {@code double[]} array of length {@code 2n}
+ * where the complex number at index {@code k} has the real part at {@code 2k}
+ * and the imaginary part at {@code 2k + 1}. The transform is performed in place.
+ *
+ * <p>The forward transform is defined as:
+ *
+ * <p>\[ X_k = \sum_{j=0}^{n-1} x_j e^{-2 \pi i j k / n} \]
+ *
+ * <p>The inverse transform is defined as:
+ *
+ * <p>\[ x_j = \frac{1}{n} \sum_{k=0}^{n-1} X_k e^{2 \pi i j k / n} \]
+ *
+ * <p>Lengths that are a power of 2 use an iterative radix-2 algorithm that requires
+ * no additional storage. Other lengths use a recursive mixed-radix algorithm that
+ * decomposes the length into its prime factors; this requires a work array of the same
+ * size as the data. The run-time is proportional to {@code n} multiplied by the sum
+ * of the prime factors of {@code n}; lengths with large prime factors are slow.
+ *
+ * <p>The table of the roots of unity (twiddle factors) for each length is obtained
+ * from {@link RootsOfUnity}. Transforms are held in a cache of the same fixed capacity;
+ * when full, the least recently used transform is evicted. Instances are immutable
+ * and thread-safe.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Fast_Fourier_transform">Fast Fourier transform</a>
+ */
+public final class FastFourierTransform {
+    /** Cache of transforms by length. */
+    private static final LruCache<Integer, FastFourierTransform> CACHE = new LruCache<>(RootsOfUnity.CACHE_SIZE);
+
+    /** The length of the transform. */
+    private final int length;
+    /** The cosine of the roots of unity: {@code cos(2 pi k / n)}. */
+    private final double[] cos;
+    /** The sine of the roots of unity: {@code sin(2 pi k / n)}. */
+    private final double[] sin;
+    /** The prime factors of the length. Null if the length is a power of 2. */
+    private final int[] factors;
+
+    /**
+     * @param length Length of the transform.
+     */
+    private FastFourierTransform(int length) {
+        this.length = length;
+        final RootsOfUnity roots = RootsOfUnity.of(length);
+        cos = roots.cosTable();
+        sin = roots.sinTable();
+        factors = isPowerOfTwo(length) ? null : factor(length);
+    }
+
+    /**
+     * Gets a transform for complex data of the specified length.
+     *
+     * @param length Number of complex values.
+     * @return the transform
+     * @throws IllegalArgumentException if {@code length < 1}.
+     */
+    public static FastFourierTransform of(int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException("Invalid length: " + length);
+        }
+        return CACHE.computeIfAbsent(length, FastFourierTransform::new);
+    }
+
+    /**
+     * Gets the number of complex values in the transform.
+     *
+     * @return the length
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Computes the forward transform of the interleaved complex data in place.
+     *
+     * @param data Interleaved complex data.
+     * @throws IllegalArgumentException if the data is not of length {@code 2n}.
+     */
+    public void forward(double[] data) {
+        transform(data, -1);
+    }
+
+    /**
+     * Computes the inverse transform of the interleaved complex data in place.
+     * The result is scaled by {@code 1/n}.
+     *
+     * @param data Interleaved complex data.
+     * @throws IllegalArgumentException if the data is not of length {@code 2n}.
+     */
+    public void inverse(double[] data) {
+        transform(data, 1);
+        final double scale = 1.0 / length;
+        for (int i = 0; i < data.length; i++) {
+            data[i] *= scale;
+        }
+    }
+
+    /**
+     * Computes the unscaled transform of the interleaved complex data in place.
+     *
+     * @param data Interleaved complex data.
+     * @param sign Sign of the exponent: -1 for forward; 1 for inverse.
+     * @throws IllegalArgumentException if the data is not of length {@code 2n}.
+     */
+    private void transform(double[] data, int sign) {
+        if (data.length != 2 * length) {
+            throw new IllegalArgumentException("Invalid data length: " + data.length + " != " + 2 * length);
+        }
+        if (length == 1) {
+            return;
+        }
+        if (factors == null) {
+            radix2(data, sign);
+        } else {
+            final double[] work = new double[data.length];
+            final double[] t = new double[2 * factors[factors.length - 1]];
+            mixedRadix(data, 0, 1, work, 0, sign, t);
+            System.arraycopy(work, 0, data, 0, data.length);
+        }
+    }
+
+    /**
+     * Computes the transform using an iterative in-place radix-2 algorithm.
+     *
+     * @param data Interleaved complex data.
+     * @param sign Sign of the exponent.
+     */
+    private void radix2(double[] data, int sign) {
+        final int n = length;
+        // Bit-reversal permutation
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >>> 1;
+            while ((j & bit) != 0) {
+                j ^= bit;
+                bit >>>= 1;
+            }
+            j |= bit;
+            if (i < j) {
+                swap(data, 2 * i, 2 * j);
+                swap(data, 2 * i + 1, 2 * j + 1);
+            }
+        }
+        // Butterflies
+        for (int size = 2; size <= n; size <<= 1) {
+            final int half = size >>> 1;
+            final int step = n / size;
+            for (int start = 0; start < n; start += size) {
+                for (int k = 0; k < half; k++) {
+                    final double wr = cos[k * step];
+                    final double wi = sign * sin[k * step];
+                    final int i = 2 * (start + k);
+                    final int j = i + 2 * half;
+                    final double tr = wr * data[j] - wi * data[j + 1];
+                    final double ti = wr * data[j + 1] + wi * data[j];
+                    data[j] = data[i] - tr;
+                    data[j + 1] = data[i + 1] - ti;
+                    data[i] += tr;
+                    data[i + 1] += ti;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the transform of the sub-sequence {@code x[offset + stride * j]} for
+     * {@code j} in {@code [0, n)}, where {@code n = length / stride}, using a recursive
+     * decimation-in-time mixed-radix algorithm.
+     * The result is written contiguously to the output starting from {@code outOffset}.
+     * Offsets are specified as the index of the complex value.
+     *
+     * @param in Interleaved input data.
+     * @param offset Offset of the first input value.
+     * @param stride Stride between input values.
+     * @param out Interleaved output data.
+     * @param outOffset Offset of the first output value.
+     * @param sign Sign of the exponent.
+     * @param t Work array for a butterfly (length at least twice the largest factor).
+     */
+    private void mixedRadix(double[] in, int offset, int stride,
+                            double[] out, int outOffset, int sign, double[] t) {
+        final int n = length / stride;
+        if (n == 1) {
+            out[2 * outOffset] = in[2 * offset];
+            out[2 * outOffset + 1] = in[2 * offset + 1];
+            return;
+        }
+        // The factors are consumed in ascending order so the next factor
+        // is the smallest that divides the sub-sequence length.
+        int p = 0;
+        for (final int f : factors) {
+            if (n % f == 0) {
+                p = f;
+                break;
+            }
+        }
+        final int m = n / p;
+        // Transform each of the p decimated sub-sequences of length m
+        for (int q = 0; q < p; q++) {
+            mixedRadix(in, offset + q * stride, stride * p, out, outOffset + q * m, sign, t);
+        }
+        // Combine using butterflies of size p:
+        // X[k + r m] = sum_q W_n^(q (k + r m)) F_q[k]
+        //            = sum_q W_p^(q r) (W_n^(q k) F_q[k])
+        // W_n^j = W_N^(j N / n) where N is the full length.
+        final int twiddleStep = stride;
+        final int rootStep = length / p;
+        for (int k = 0; k < m; k++) {
+            // Apply twiddle factors
+            for (int q = 0; q < p; q++) {
+                final int i = 2 * (outOffset + q * m + k);
+                final int w = q * k * twiddleStep;
+                final double wr = cos[w];
+                final double wi = sign * sin[w];
+                final double re = out[i];
+                final double im = out[i + 1];
+                t[2 * q] = wr * re - wi * im;
+                t[2 * q + 1] = wr * im + wi * re;
+            }
+            // DFT of size p
+            for (int r = 0; r < p; r++) {
+                double sr = t[0];
+                double si = t[1];
+                for (int q = 1; q < p; q++) {
+                    final int w = ((q * r) % p) * rootStep;
+                    final double wr = cos[w];
+                    final double wi = sign * sin[w];
+                    sr += wr * t[2 * q] - wi * t[2 * q + 1];
+                    si += wr * t[2 * q + 1] + wi * t[2 * q];
+                }
+                final int i = 2 * (outOffset + r * m + k);
+                out[i] = sr;
+                out[i + 1] = si;
+            }
+        }
+    }
+
+    /**
+     * Swap the values at the specified indices.
+     *
+     * @param data Data.
+     * @param i First index.
+     * @param j Second index.
+     */
+    private static void swap(double[] data, int i, int j) {
+        final double tmp = data[i];
+        data[i] = data[j];
+        data[j] = tmp;
+    }
+
+    /**
+     * Checks if the value is a power of 2.
+     *
+     * @param n Value (must be positive).
+     * @return true if a power of 2
+     */
+    private static boolean isPowerOfTwo(int n) {
+        return (n & (n - 1)) == 0;
+    }
+
+    /**
+     * Computes the prime factors of the value in ascending order.
+     *
+     * @param n Value (must be above 1).
+     * @return the factors
+     */
+    static int[] factor(int n) {
+        final int[] f = new int[32];
+        int size = 0;
+        int remaining = n;
+        // Avoid p * p which overflows for a prime factor above sqrt(2^31)
+        for (int p = 2; p <= remaining / p; p++) {
+            while (remaining % p == 0) {
+                f[size++] = p;
+                remaining /= p;
+            }
+        }
+        if (remaining > 1) {
+            f[size++] = remaining;
+        }
+        final int[] result = new int[size];
+        System.arraycopy(f, 0, result, 0, size);
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache with a maximum size. When full, the least recently used
+ * entry is evicted.
+ *
+ * @param <K> Type of the key.
+ * @param <V> Type of the value.
+ */
+final class LruCache<K, V> {
+    /** The map, ordered by access. Access must be synchronized on the map. */
+    private final Map<K, V> map;
+
+    /**
+     * @param capacity Maximum size.
+     */
+    LruCache(int capacity) {
+        map = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            /** Serializable version identifier. */
+            private static final long serialVersionUID = 20201018L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the value for the key. If absent the value is computed and added to the cache.
+     *
+     * <p>The value is computed without holding the lock on the cache. Concurrent
+     * callers may compute a value for the same key; the first to be cached is returned.
+     *
+     * @param key Key.
+     * @param function Function to compute the value.
+     * @return the value
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        V value;
+        synchronized (map) {
+            value = map.get(key);
+        }
+        if (value == null) {
+            value = function.apply(key);
+            synchronized (map) {
+                final V previous = map.putIfAbsent(key, value);
+                if (previous != null) {
+                    value = previous;
+                }
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,726 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * A mutable complex number. Operations update the value of this instance and return
+ * {@code this} to allow chaining.
+ *
+ * <p>Each operation computes the same result as the equivalent method of
+ * {@link Complex}, including the handling of special cases defined in ISO C99.
+ * This class is intended for iterative algorithms where the creation of an immutable
+ * {@code Complex} for each step is a significant overhead, for example:
+ *
+ * <pre>
+ * // z = z^2 + c
+ * MutableComplex z = MutableComplex.ofCartesian(0, 0);
+ * for (int i = 0; i &lt; n &amp;&amp; z.norm() &lt;= 4; i++) {
+ *     z.multiply(z).add(c);
+ * }</pre>
+ *
+ * <p>The instance is a {@link ComplexSink} and can be used as the destination of the
+ * static functions of {@link ComplexFunctions}, for example
+ * {@link ComplexFunctions#exp(double, double, ComplexSink)}.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @see Complex
+ */
+public final class MutableComplex implements ComplexSink<MutableComplex> {
+    /** Bits of {@code -0.0}. */
+    private static final long NEGATIVE_ZERO_LONG_BITS = Double.doubleToLongBits(-0.0);
+
+    /** The real part. */
+    private double real;
+    /** The imaginary part. */
+    private double imaginary;
+
+    /**
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     */
+    private MutableComplex(double real, double imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Create a complex number given the real and imaginary parts.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return {@code MutableComplex} number.
+     */
+    public static MutableComplex ofCartesian(double real, double imaginary) {
+        return new MutableComplex(real, imaginary);
+    }
+
+    /**
+     * Create a complex number with the value of the {@code Complex} number.
+     *
+     * @param z Complex number.
+     * @return {@code MutableComplex} number.
+     */
+    public static MutableComplex of(Complex z) {
+        return new MutableComplex(z.getReal(), z.getImaginary());
+    }
+
+    /**
+     * Sets the real and imaginary parts.
+     *
+     * @param re Real part.
+     * @param im Imaginary part.
+     * @return {@code this}
+     */
+    @Override
+    public MutableComplex apply(double re, double im) {
+        real = re;
+        imaginary = im;
+        return this;
+    }
+
+    /**
+     * Sets the real and imaginary parts.
+     *
+     * @param re Real part.
+     * @param im Imaginary part.
+     * @return {@code this}
+     */
+    public MutableComplex set(double re, double im) {
+        return apply(re, im);
+    }
+
+    /**
+     * Sets the value of this number to the value of the {@code Complex} number.
+     *
+     * @param z Complex number.
+     * @return {@code this}
+     */
+    public MutableComplex set(Complex z) {
+        return apply(z.getReal(), z.getImaginary());
+    }
+
+    /**
+     * Sets the value of this number to the value of the other number.
+     *
+     * @param z Complex number.
+     * @return {@code this}
+     */
+    public MutableComplex set(MutableComplex z) {
+        return apply(z.real, z.imaginary);
+    }
+
+    /**
+     * Gets the real part.
+     *
+     * @return the real part
+     */
+    public double getReal() {
+        return real;
+    }
+
+    /**
+     * Gets the imaginary part.
+     *
+     * @return the imaginary part
+     */
+    public double getImaginary() {
+        return imaginary;
+    }
+
+    /**
+     * Create an immutable {@code Complex} with the current value of this number.
+     *
+     * @return the complex number
+     */
+    public Complex toComplex() {
+        return Complex.ofCartesian(real, imaginary);
+    }
+
+    /**
+     * Returns the absolute value.
+     *
+     * @return the absolute value
+     * @see Complex#abs()
+     */
+    public double abs() {
+        return Complex.abs(real, imaginary);
+    }
+
+    /**
+     * Returns the argument.
+     *
+     * @return the argument
+     * @see Complex#arg()
+     */
+    public double arg() {
+        return Math.atan2(imaginary, real);
+    }
+
+    /**
+     * Returns the squared modulus.
+     *
+     * @return the squared modulus
+     * @see Complex#norm()
+     */
+    public double norm() {
+        if (isInfinite()) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return real * real + imaginary * imaginary;
+    }
+
+    /**
+     * Returns {@code true} if either the real or imaginary component is NaN
+     * and the number is not infinite.
+     *
+     * @return {@code true} if this instance contains NaN and no infinite parts.
+     * @see Complex#isNaN()
+     */
+    public boolean isNaN() {
+        if (Double.isNaN(real) || Double.isNaN(imaginary)) {
+            return !isInfinite();
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if either real or imaginary component of the complex number
+     * is infinite.
+     *
+     * @return {@code true} if this instance contains an infinite value.
+     * @see Complex#isInfinite()
+     */
+    public boolean isInfinite() {
+        return Double.isInfinite(real) || Double.isInfinite(imaginary);
+    }
+
+    /**
+     * Returns {@code true} if both real and imaginary component of the complex number
+     * are finite.
+     *
+     * @return {@code true} if this instance contains finite values.
+     * @see Complex#isFinite()
+     */
+    public boolean isFinite() {
+        return Double.isFinite(real) && Double.isFinite(imaginary);
+    }
+
+    /**
+     * Sets this number to its conjugate.
+     *
+     * @return {@code this}
+     * @see Complex#conj()
+     */
+    public MutableComplex conj() {
+        imaginary = -imaginary;
+        return this;
+    }
+
+    /**
+     * Sets this number to its negation.
+     *
+     * @return {@code this}
+     * @see Complex#negate()
+     */
+    public MutableComplex negate() {
+        real = -real;
+        imaginary = -imaginary;
+        return this;
+    }
+
+    /**
+     * Sets this number to its projection onto the Riemann sphere.
+     *
+     * @return {@code this}
+     * @see Complex#proj()
+     */
+    public MutableComplex proj() {
+        if (isInfinite()) {
+            return apply(Double.POSITIVE_INFINITY, Math.copySign(0.0, imaginary));
+        }
+        return this;
+    }
+
+    /**
+     * Adds the value: {@code this + addend}.
+     *
+     * @param addend Value to be added to this number.
+     * @return {@code this}
+     * @see Complex#add(Complex)
+     */
+    public MutableComplex add(Complex addend) {
+        return apply(real + addend.getReal(), imaginary + addend.getImaginary());
+    }
+
+    /**
+     * Adds the value: {@code this + addend}.
+     *
+     * @param addend Value to be added to this number.
+     * @return {@code this}
+     * @see Complex#add(Complex)
+     */
+    public MutableComplex add(MutableComplex addend) {
+        return apply(real + addend.real, imaginary + addend.imaginary);
+    }
+
+    /**
+     * Adds the value: {@code this + addend}, with {@code addend} interpreted as a real number.
+     *
+     * @param addend Value to be added to this number.
+     * @return {@code this}
+     * @see Complex#add(double)
+     */
+    public MutableComplex add(double addend) {
+        real += addend;
+        return this;
+    }
+
+    /**
+     * Adds the value: {@code this + addend}, with {@code addend} interpreted as an
+     * imaginary number.
+     *
+     * @param addend Value to be added to this number.
+     * @return {@code this}
+     * @see Complex#addImaginary(double)
+     */
+    public MutableComplex addImaginary(double addend) {
+        imaginary += addend;
+        return this;
+    }
+
+    /**
+     * Subtracts the value: {@code this - subtrahend}.
+     *
+     * @param subtrahend Value to be subtracted from this number.
+     * @return {@code this}
+     * @see Complex#subtract(Complex)
+     */
+    public MutableComplex subtract(Complex subtrahend) {
+        return apply(real - subtrahend.getReal(), imaginary - subtrahend.getImaginary());
+    }
+
+    /**
+     * Subtracts the value: {@code this - subtrahend}.
+     *
+     * @param subtrahend Value to be subtracted from this number.
+     * @return {@code this}
+     * @see Complex#subtract(Complex)
+     */
+    public MutableComplex subtract(MutableComplex subtrahend) {
+        return apply(real - subtrahend.real, imaginary - subtrahend.imaginary);
+    }
+
+    /**
+     * Subtracts the value: {@code this - subtrahend}, with {@code subtrahend} interpreted
+     * as a real number.
+     *
+     * @param subtrahend Value to be subtracted from this number.
+     * @return {@code this}
+     * @see Complex#subtract(double)
+     */
+    public MutableComplex subtract(double subtrahend) {
+        real -= subtrahend;
+        return this;
+    }
+
+    /**
+     * Subtracts the value: {@code this - subtrahend}, with {@code subtrahend} interpreted
+     * as an imaginary number.
+     *
+     * @param subtrahend Value to be subtracted from this number.
+     * @return {@code this}
+     * @see Complex#subtractImaginary(double)
+     */
+    public MutableComplex subtractImaginary(double subtrahend) {
+        imaginary -= subtrahend;
+        return this;
+    }
+
+    /**
+     * Subtracts this number from the value: {@code minuend - this}, with {@code minuend}
+     * interpreted as a real number.
+     *
+     * @param minuend Value this number is to be subtracted from.
+     * @return {@code this}
+     * @see Complex#subtractFrom(double)
+     */
+    public MutableComplex subtractFrom(double minuend) {
+        return apply(minuend - real, -imaginary);
+    }
+
+    /**
+     * Subtracts this number from the value: {@code minuend - this}, with {@code minuend}
+     * interpreted as an imaginary number.
+     *
+     * @param minuend Value this number is to be subtracted from.
+     * @return {@code this}
+     * @see Complex#subtractFromImaginary(double)
+     */
+    public MutableComplex subtractFromImaginary(double minuend) {
+        return apply(-real, minuend - imaginary);
+    }
+
+    /**
+     * Multiplies by the value: {@code this * factor}.
+     *
+     * @param factor Value to be multiplied by this number.
+     * @return {@code this}
+     * @see Complex#multiply(Complex)
+     */
+    public MutableComplex multiply(Complex factor) {
+        return Complex.multiply(real, imaginary, factor.getReal(), factor.getImaginary(), this);
+    }
+
+    /**
+     * Multiplies by the value: {@code this * factor}. The factor can be this instance.
+     *
+     * @param factor Value to be multiplied by this number.
+     * @return {@code this}
+     * @see Complex#multiply(Complex)
+     */
+    public MutableComplex multiply(MutableComplex factor) {
+        return Complex.multiply(real, imaginary, factor.real, factor.imaginary, this);
+    }
+
+    /**
+     * Multiplies by the value: {@code this * factor}, with {@code factor} interpreted
+     * as a real number.
+     *
+     * @param factor Value to be multiplied by this number.
+     * @return {@code this}
+     * @see Complex#multiply(double)
+     */
+    public MutableComplex multiply(double factor) {
+        real *= factor;
+        imaginary *= factor;
+        return this;
+    }
+
+    /**
+     * Multiplies by the value: {@code this * factor}, with {@code factor} interpreted
+     * as an imaginary number.
+     *
+     * @param factor Value to be multiplied by this number.
+     * @return {@code this}
+     * @see Complex#multiplyImaginary(double)
+     */
+    public MutableComplex multiplyImaginary(double factor) {
+        return apply(-imaginary * factor, real * factor);
+    }
+
+    /**
+     * Divides by the value: {@code this / divisor}.
+     *
+     * @param divisor Value by which this number is to be divided.
+     * @return {@code this}
+     * @see Complex#divide(Complex)
+     */
+    public MutableComplex divide(Complex divisor) {
+        return Complex.divide(real, imaginary, divisor.getReal(), divisor.getImaginary(), this);
+    }
+
+    /**
+     * Divides by the value: {@code this / divisor}. The divisor can be this instance.
+     *
+     * @param divisor Value by which this number is to be divided.
+     * @return {@code this}
+     * @see Complex#divide(Complex)
+     */
+    public MutableComplex divide(MutableComplex divisor) {
+        return Complex.divide(real, imaginary, divisor.real, divisor.imaginary, this);
+    }
+
+    /**
+     * Divides by the value: {@code this / divisor}, with {@code divisor} interpreted
+     * as a real number.
+     *
+     * @param divisor Value by which this number is to be divided.
+     * @return {@code this}
+     * @see Complex#divide(double)
+     */
+    public MutableComplex divide(double divisor) {
+        real /= divisor;
+        imaginary /= divisor;
+        return this;
+    }
+
+    /**
+     * Divides by the value: {@code this / divisor}, with {@code divisor} interpreted
+     * as an imaginary number.
+     *
+     * @param divisor Value by which this number is to be divided.
+     * @return {@code this}
+     * @see Complex#divideImaginary(double)
+     */
+    public MutableComplex divideImaginary(double divisor) {
+        return apply(imaginary / divisor, -real / divisor);
+    }
+
+    /**
+     * Sets this number to its exponential.
+     *
+     * @return {@code this}
+     * @see Complex#exp()
+     */
+    public MutableComplex exp() {
+        return Complex.exp(real, imaginary, this);
+    }
+
+    /**
+     * Sets this number to its natural logarithm.
+     *
+     * @return {@code this}
+     * @see Complex#log()
+     */
+    public MutableComplex log() {
+        return Complex.log(real, imaginary, this);
+    }
+
+    /**
+     * Sets this number to its base 10 common logarithm.
+     *
+     * @return {@code this}
+     * @see Complex#log10()
+     */
+    public MutableComplex log10() {
+        return Complex.log10(real, imaginary, this);
+    }
+
+    /**
+     * Raises this number to the power of {@code x}.
+     *
+     * @param x The exponent to which this number is to be raised.
+     * @return {@code this}
+     * @see Complex#pow(Complex)
+     */
+    public MutableComplex pow(Complex x) {
+        if (real == 0 &&
+            imaginary == 0) {
+            // 0 raised to positive real number is 0; otherwise it is NaN
+            if (x.getReal() > 0 &&
+                x.getImaginary() == 0) {
+                return apply(0, 0);
+            }
+            return apply(Double.NaN, Double.NaN);
+        }
+        return log().multiply(x).exp();
+    }
+
+    /**
+     * Raises this number to the power of {@code x}, with {@code x} interpreted as a
+     * real number.
+     *
+     * @param x The exponent to which this number is to be raised.
+     * @return {@code this}
+     * @see Complex#pow(double)
+     */
+    public MutableComplex pow(double x) {
+        if (real == 0 &&
+            imaginary == 0) {
+            // 0 raised to positive number is 0; otherwise it is NaN
+            if (x > 0) {
+                return apply(0, 0);
+            }
+            return apply(Double.NaN, Double.NaN);
+        }
+        return log().multiply(x).exp();
+    }
+
+    /**
+     * Sets this number to its square root.
+     *
+     * @return {@code this}
+     * @see Complex#sqrt()
+     */
+    public MutableComplex sqrt() {
+        return Complex.sqrt(real, imaginary, this);
+    }
+
+    /**
+     * Sets this number to its sine.
+     *
+     * @return {@code this}
+     * @see Complex#sin()
+     */
+    public MutableComplex sin() {
+        // sin(z) = -i sinh(iz)
+        Complex.sinh(-imaginary, real, this);
+        return multiplyNegativeI();
+    }
+
+    /**
+     * Sets this number to its cosine.
+     *
+     * @return {@code this}
+     * @see Complex#cos()
+     */
+    public MutableComplex cos() {
+        // cos(z) = cosh(iz)
+        return Complex.cosh(-imaginary, real, this);
+    }
+
+    /**
+     * Sets this number to its tangent.
+     *
+     * @return {@code this}
+     * @see Complex#tan()
+     */
+    public MutableComplex tan() {
+        // tan(z) = -i tanh(iz)
+        Complex.tanh(-imaginary, real, this);
+        return multiplyNegativeI();
+    }
+
+    /**
+     * Sets this number to its inverse sine.
+     *
+     * @return {@code this}
+     * @see Complex#asin()
+     */
+    public MutableComplex asin() {
+        return Complex.asin(real, imaginary, this);
+    }
+
+    /**
+     * Sets this number to its inverse cosine.
+     *
+     * @return {@code this}
+     * @see Complex#acos()
+     */
+    public MutableComplex acos() {
+        return Complex.acos(real, imaginary, this);
+    }
+
+    /**
+     * Sets this number to its inverse tangent.
+     *
+     * @return {@code this}
+     * @see Complex#atan()
+     */
+    public MutableComplex atan() {
+        // atan(z) = -i atanh(iz)
+        Complex.atanh(-imaginary, real, this);
+        return multiplyNegativeI();
+    }
+
+    /**
+     * Sets this number to its hyperbolic sine.
+     *
+     * @return {@code this}
+     * @see Complex#sinh()
+     */
+    public MutableComplex sinh() {
+        return Complex.sinh(real, imaginary, this);
+    }
+
+    /**
+     * Sets this number to its hyperbolic cosine.
+     *
+     * @return {@code this}
+     * @see Complex#cosh()
+     */
+    public MutableComplex cosh() {
+        return Complex.cosh(real, imaginary, this);
+    }
+
+    /**
+     * Sets this number to its hyperbolic tangent.
+     *
+     * @return {@code this}
+     * @see Complex#tanh()
+     */
+    public MutableComplex tanh() {
+        return Complex.tanh(real, imaginary, this);
+    }
+
+    /**
+     * Sets this number to its inverse hyperbolic sine.
+     *
+     * @return {@code this}
+     * @see Complex#asinh()
+     */
+    public MutableComplex asinh() {
+        // asinh(z) = -i asin(iz)
+        Complex.asin(-imaginary, real, this);
+        return multiplyNegativeI();
+    }
+
+    /**
+     * Sets this number to its inverse hyperbolic cosine.
+     *
+     * @return {@code this}
+     * @see Complex#acosh()
+     */
+    public MutableComplex acosh() {
+        // acosh(z) = +-i acos(z)
+        // The special case acosh(0 + iNaN) = NaN + iπ/2 is handled explicitly
+        // as acos(0 + iNaN) has a NaN imaginary part which does not define the sign.
+        if (Double.isNaN(imaginary) && real == 0) {
+            return apply(Double.NaN, 0.5 * Math.PI);
+        }
+        Complex.acos(real, imaginary, this);
+        // Set the sign appropriately for real >= 0
+        if (negative(imaginary)) {
+            // Multiply by I
+            return apply(-imaginary, real);
+        }
+        return multiplyNegativeI();
+    }
+
+    /**
+     * Sets this number to its inverse hyperbolic tangent.
+     *
+     * @return {@code this}
+     * @see Complex#atanh()
+     */
+    public MutableComplex atanh() {
+        return Complex.atanh(real, imaginary, this);
+    }
+
+    /**
+     * Returns a string representation of the complex number. This is the same as
+     * the string representation of the equivalent {@code Complex}.
+     *
+     * @return A string representation of the complex number.
+     * @see Complex#toString()
+     */
+    @Override
+    public String toString() {
+        return toComplex().toString();
+    }
+
+    /**
+     * Multiply this number by -I.
+     *
+     * @return {@code this}
+     */
+    private MutableComplex multiplyNegativeI() {
+        return apply(imaginary, -real);
+    }
+
+    /**
+     * Check that a value is negative. It must be real numerical value, not NaN.
+     *
+     * @param d Value.
+     * @return {@code true} if {@code d} is negative.
+     */
+    private static boolean negative(double d) {
+        return d < 0 || Double.doubleToLongBits(d) == NEGATIVE_ZERO_LONG_BITS;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Table of the {@code n}-th roots of unity.
+ *
+ * <p>\[ \omega_k = e^{2 \pi i k / n} = \cos(2 \pi k / n) + i \sin(2 \pi k / n), \quad k = 0, 1, \ldots, n-1 \]
+ *
+ * <p>The roots are equal, up to rounding, to the values returned by
+ * {@link Complex#nthRoot(int) Complex.ONE.nthRoot(n)}. The parts are stored in
+ * primitive arrays and can be accessed without creating a {@code Complex} for each root.
+ * The read-only buffer views of the parts avoid copying the table for each request.
+ *
+ * <p>Tables are cached. The cache has a fixed capacity; when full, the least recently
+ * used table is evicted. Instances are immutable and thread-safe.
+ */
+public final class RootsOfUnity {
+    /** Maximum number of tables in the cache. */
+    static final int CACHE_SIZE = 32;
+
+    /** Cache of tables by size. */
+    private static final LruCache<Integer, RootsOfUnity> CACHE = new LruCache<>(CACHE_SIZE);
+
+    /** The cosine of the roots of unity: {@code cos(2 pi k / n)}. */
+    private final double[] cos;
+    /** The sine of the roots of unity: {@code sin(2 pi k / n)}. */
+    private final double[] sin;
+
+    /**
+     * @param n Number of roots.
+     */
+    private RootsOfUnity(int n) {
+        cos = new double[n];
+        sin = new double[n];
+        for (int k = 0; k < n; k++) {
+            final double theta = 2 * Math.PI * k / n;
+            cos[k] = Math.cos(theta);
+            sin[k] = Math.sin(theta);
+        }
+    }
+
+    /**
+     * Gets the table of the {@code n}-th roots of unity. The table is created
+     * if it is not in the cache.
+     *
+     * @param n Number of roots.
+     * @return the table
+     * @throws IllegalArgumentException if {@code n < 1}.
+     */
+    public static RootsOfUnity of(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Invalid number of roots: " + n);
+        }
+        return CACHE.computeIfAbsent(n, RootsOfUnity::new);
+    }
+
+    /**
+     * Gets the number of roots {@code n}.
+     *
+     * @return the number of roots
+     */
+    public int size() {
+        return cos.length;
+    }
+
+    /**
+     * Gets the root \( \omega_k \).
+     *
+     * @param k Index of the root.
+     * @return the root
+     * @throws IndexOutOfBoundsException if {@code k} is not in {@code [0, n)}.
+     */
+    public Complex get(int k) {
+        return Complex.ofCartesian(cos[k], sin[k]);
+    }
+
+    /**
+     * Gets the real part of the root \( \omega_k \): \( \cos(2 \pi k / n) \).
+     *
+     * @param k Index of the root.
+     * @return the real part
+     * @throws IndexOutOfBoundsException if {@code k} is not in {@code [0, n)}.
+     */
+    public double getCos(int k) {
+        return cos[k];
+    }
+
+    /**
+     * Gets the imaginary part of the root \( \omega_k \): \( \sin(2 \pi k / n) \).
+     *
+     * @param k Index of the root.
+     * @return the imaginary part
+     * @throws IndexOutOfBoundsException if {@code k} is not in {@code [0, n)}.
+     */
+    public double getSin(int k) {
+        return sin[k];
+    }
+
+    /**
+     * Gets a copy of the real parts of the roots.
+     *
+     * @return the real parts
+     */
+    public double[] getCos() {
+        return cos.clone();
+    }
+
+    /**
+     * Gets a copy of the imaginary parts of the roots.
+     *
+     * @return the imaginary parts
+     */
+    public double[] getSin() {
+        return sin.clone();
+    }
+
+    /**
+     * Gets a read-only view of the real parts of the roots. No copy is made.
+     * Each call returns a new view with a position of zero and a limit of {@code n}.
+     *
+     * @return the real parts
+     */
+    public DoubleBuffer getCosBuffer() {
+        return DoubleBuffer.wrap(cos).asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets a read-only view of the imaginary parts of the roots. No copy is made.
+     * Each call returns a new view with a position of zero and a limit of {@code n}.
+     *
+     * @return the imaginary parts
+     */
+    public DoubleBuffer getSinBuffer() {
+        return DoubleBuffer.wrap(sin).asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets the real parts of the roots. No copy is made.
+     *
+     * @return the real parts
+     */
+    double[] cosTable() {
+        return cos;
+    }
+
+    /**
+     * Gets the imaginary parts of the roots. No copy is made.
+     *
+     * @return the imaginary parts
+     */
+    double[] sinTable() {
+        return sin;
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexArray}.
+ */
+class ComplexArrayTest {
+    private static final double inf = Double.POSITIVE_INFINITY;
+    private static final double nan = Double.NaN;
+
+    /** Special values for the parts of a complex number. */
+    private static final double[] PARTS = {0.0, -0.0, 1.0, -1.5, 1e300, -1e-310, inf, -inf, nan};
+
+    /**
+     * Create an array containing all combinations of the special parts followed by
+     * random finite values.
+     *
+     * @return the array
+     */
+    private static Complex[] createValues() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 2387462L);
+        final int n = PARTS.length * PARTS.length;
+        final Complex[] values = new Complex[n + 50];
+        int i = 0;
+        for (final double re : PARTS) {
+            for (final double im : PARTS) {
+                values[i++] = Complex.ofCartesian(re, im);
+            }
+        }
+        while (i < values.length) {
+            values[i++] = Complex.ofCartesian(rng.nextDouble() * 20 - 10, rng.nextDouble() * 20 - 10);
+        }
+        return values;
+    }
+
+    @Test
+    void testOfSize() {
+        final ComplexArray a = ComplexArray.ofSize(3);
+        Assertions.assertEquals(3, a.size());
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(Complex.ZERO, a.get(i));
+        }
+        Assertions.assertThrows(NegativeArraySizeException.class, () -> ComplexArray.ofSize(-1));
+    }
+
+    @Test
+    void testOfCartesian() {
+        final double[] re = {1, 2, 3};
+        final double[] im = {4, 5, 6};
+        final ComplexArray a = ComplexArray.ofCartesian(re, im);
+        Assertions.assertEquals(3, a.size());
+        // Copied
+        re[0] = 42;
+        im[0] = 42;
+        Assertions.assertEquals(Complex.ofCartesian(1, 4), a.get(0));
+        Assertions.assertEquals(2, a.getReal(1));
+        Assertions.assertEquals(5, a.getImaginary(1));
+        Assertions.assertArrayEquals(new double[] {1, 2, 3}, a.getReal());
+        Assertions.assertArrayEquals(new double[] {4, 5, 6}, a.getImaginary());
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexArray.ofCartesian(new double[2], new double[3]));
+    }
+
+    @Test
+    void testOfAndToArray() {
+        final Complex[] values = createValues();
+        final ComplexArray a = ComplexArray.of(values);
+        Assertions.assertArrayEquals(values, a.toArray());
+    }
+
+    @Test
+    void testSet() {
+        final ComplexArray a = ComplexArray.ofSize(2);
+        a.set(0, Complex.ofCartesian(1, 2));
+        a.set(1, 3, 4);
+        Assertions.assertEquals(Complex.ofCartesian(1, 2), a.get(0));
+        Assertions.assertEquals(Complex.ofCartesian(3, 4), a.get(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.set(2, 0, 0));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        final Complex[] values = createValues();
+        final ComplexArray a = ComplexArray.of(values);
+        final ComplexArray b = ComplexArray.of(values);
+        Assertions.assertEquals(a, a);
+        Assertions.assertEquals(a, b);
+        Assertions.assertEquals(a.hashCode(), b.hashCode());
+        Assertions.assertNotEquals(a, ComplexArray.ofSize(values.length));
+        Assertions.assertNotEquals(a, null);
+        Assertions.assertNotEquals(a, new Object());
+    }
+
+    @Test
+    void testAbs() {
+        assertFunction(Complex::abs, ComplexArray::abs);
+    }
+
+    @Test
+    void testArg() {
+        assertFunction(Complex::arg, ComplexArray::arg);
+    }
+
+    @Test
+    void testExp() {
+        assertFunction(Complex::exp, ComplexArray::exp);
+    }
+
+    @Test
+    void testLog() {
+        assertFunction(Complex::log, ComplexArray::log);
+    }
+
+    @Test
+    void testSqrt() {
+        assertFunction(Complex::sqrt, ComplexArray::sqrt);
+    }
+
+    @Test
+    void testAdd() {
+        assertFunction(Complex::add, ComplexArray::add);
+    }
+
+    @Test
+    void testMultiply() {
+        assertFunction(Complex::multiply, ComplexArray::multiply);
+    }
+
+    @Test
+    void testDivide() {
+        assertFunction(Complex::divide, ComplexArray::divide);
+    }
+
+    /**
+     * Test the multiplication recomputes the elements where the direct formula
+     * creates NaN in both parts from infinite input.
+     */
+    @Test
+    void testMultiplyRecomputeNaN() {
+        final ComplexArray a = ComplexArray.of(
+            Complex.ofCartesian(inf, inf),
+            Complex.ofCartesian(inf, 0),
+            Complex.ofCartesian(1, 2),
+            Complex.ofCartesian(2, nan),
+            Complex.ofCartesian(nan, nan),
+            Complex.ofCartesian(1e300, 1e300));
+        final ComplexArray b = ComplexArray.of(
+            Complex.ofCartesian(1, 0),
+            Complex.ofCartesian(0, 0),
+            Complex.ofCartesian(3, 4),
+            Complex.ofCartesian(inf, 1),
+            Complex.ofCartesian(1, 2),
+            Complex.ofCartesian(1e300, -1e300));
+        final ComplexArray result = a.multiply(b);
+        // (inf + i inf) * (1 + i0): direct formula is inf - NaN + i(NaN + inf)
+        Assertions.assertEquals(Complex.ofCartesian(inf, inf), result.get(0));
+        Assertions.assertTrue(result.get(1).isNaN());
+        Assertions.assertEquals(Complex.ofCartesian(-5, 10), result.get(2));
+        // (2 + i NaN) * (inf + i): recovered infinity from the infinite second argument
+        Assertions.assertTrue(result.get(3).isInfinite());
+        // NaN propagates
+        Assertions.assertTrue(result.get(4).isNaN());
+        // Overflow is not a recomputed case
+        Assertions.assertEquals(Complex.ofCartesian(inf, nan), result.get(5));
+        for (int i = 0; i < a.size(); i++) {
+            Assertions.assertEquals(a.get(i).multiply(b.get(i)), result.get(i));
+        }
+    }
+
+    /**
+     * Test the division of elements that require special case handling:
+     * infinite or NaN parts, zero divisor, and parts that overflow or underflow
+     * in the direct formula.
+     */
+    @Test
+    void testDivideSpecialCases() {
+        final ComplexArray a = ComplexArray.of(
+            Complex.ofCartesian(1, 2),
+            Complex.ofCartesian(1, 1),
+            Complex.ofCartesian(inf, 1),
+            Complex.ofCartesian(1, 1),
+            Complex.ofCartesian(1e300, 1e300),
+            Complex.ofCartesian(1e-300, 1e-300),
+            Complex.ofCartesian(1, 1),
+            Complex.ofCartesian(0x1.0p100, -0x1.0p-100));
+        final ComplexArray b = ComplexArray.of(
+            Complex.ofCartesian(3, 4),
+            Complex.ofCartesian(0, 0),
+            Complex.ofCartesian(1, 1),
+            Complex.ofCartesian(inf, nan),
+            Complex.ofCartesian(1e300, 1e300),
+            Complex.ofCartesian(1e-300, 1e-300),
+            Complex.ofCartesian(1e-310, 0),
+            Complex.ofCartesian(0x1.0p100, 0));
+        final ComplexArray result = a.divide(b);
+        Assertions.assertEquals(Complex.ofCartesian(0.44, 0.08), result.get(0));
+        // Zero divisor
+        Assertions.assertEquals(Complex.ofCartesian(inf, inf), result.get(1));
+        // Infinite dividend and finite divisor
+        Assertions.assertTrue(result.get(2).isInfinite());
+        // Finite dividend and infinite divisor
+        Assertions.assertEquals(Complex.ZERO, result.get(3));
+        // Direct formula overflows the denominator
+        Assertions.assertEquals(Complex.ONE, result.get(4));
+        // Direct formula underflows the denominator
+        Assertions.assertEquals(Complex.ONE, result.get(5));
+        // Sub-normal divisor
+        Assertions.assertEquals(Complex.ofCartesian(1 / 1e-310, 1 / 1e-310), result.get(6));
+        // Limits of the safe range
+        Assertions.assertEquals(Complex.ofCartesian(1, -0x1.0p-200), result.get(7));
+        for (int i = 0; i < a.size(); i++) {
+            Assertions.assertEquals(a.get(i).divide(b.get(i)), result.get(i));
+        }
+    }
+
+    @Test
+    void testDivideScaled() {
+        // Values across the boundary of the range for the direct formula
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 8726343L);
+        final int n = 500;
+        final Complex[] x = new Complex[n];
+        final Complex[] y = new Complex[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = Complex.ofCartesian(Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(241) - 120),
+                                       Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(241) - 120));
+            y[i] = Complex.ofCartesian(Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(241) - 120),
+                                       Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(241) - 120));
+        }
+        final ComplexArray result = ComplexArray.of(x).divide(ComplexArray.of(y));
+        for (int i = 0; i < n; i++) {
+            final Complex z1 = x[i];
+            final Complex z2 = y[i];
+            Assertions.assertEquals(z1.divide(z2), result.get(i), () -> z1 + " / " + z2);
+        }
+    }
+
+    @Test
+    void testPowComplex() {
+        for (final Complex x : createValues()) {
+            assertFunction((UnaryOperator<Complex>) z -> z.pow(x), a -> a.pow(x));
+        }
+    }
+
+    @Test
+    void testPowDouble() {
+        for (final double x : new double[] {0, -0.0, 1, -1, 2, 0.5, -2.75, 1e300, inf, -inf, nan}) {
+            assertFunction((UnaryOperator<Complex>) z -> z.pow(x), a -> a.pow(x));
+        }
+    }
+
+    @Test
+    void testPowBaseComplex() {
+        final Complex[] exponents = createValues();
+        final ComplexArray array = ComplexArray.of(exponents);
+        for (final Complex base : createValues()) {
+            final ComplexArray result = ComplexArray.pow(base, array);
+            for (int i = 0; i < exponents.length; i++) {
+                final Complex x = exponents[i];
+                Assertions.assertEquals(base.pow(x), result.get(i), () -> base + " " + x);
+            }
+        }
+    }
+
+    @Test
+    void testPowBaseDouble() {
+        final double[] exponents = {0, -0.0, 1, -1, 2, 0.5, -2.75, 1e300, inf, -inf, nan};
+        for (final Complex base : createValues()) {
+            final ComplexArray result = ComplexArray.pow(base, exponents);
+            for (int i = 0; i < exponents.length; i++) {
+                final double x = exponents[i];
+                Assertions.assertEquals(base.pow(x), result.get(i), () -> base + " " + x);
+            }
+        }
+    }
+
+    @Test
+    void testPowInt() {
+        final ComplexArray a = ComplexArray.of(Complex.ofCartesian(1, 1), Complex.ofCartesian(0, -1),
+            Complex.ofCartesian(-2, 0), Complex.ONE.negate(), Complex.ZERO);
+        Assertions.assertEquals(ComplexArray.of(Complex.ONE, Complex.ONE, Complex.ONE, Complex.ONE, Complex.ONE),
+            a.pow(0));
+        Assertions.assertEquals(a, a.pow(1));
+        final ComplexArray p2 = a.pow(2);
+        Assertions.assertEquals(Complex.ofCartesian(0, 2), p2.get(0));
+        Assertions.assertEquals(Complex.ofCartesian(-1, -0.0), p2.get(1));
+        Assertions.assertEquals(Complex.ofCartesian(4, -0.0), p2.get(2));
+        Assertions.assertEquals(Complex.ONE, p2.get(3));
+        Assertions.assertEquals(Complex.ZERO, p2.get(4));
+        final ComplexArray p5 = a.pow(5);
+        Assertions.assertEquals(Complex.ofCartesian(-4, -4), p5.get(0));
+        Assertions.assertEquals(Complex.ofCartesian(0, -1), p5.get(1));
+        Assertions.assertEquals(Complex.ofCartesian(-32, 0), p5.get(2));
+        final ComplexArray pm2 = a.pow(-2);
+        Assertions.assertEquals(Complex.ofCartesian(0, -0.5), pm2.get(0));
+        Assertions.assertEquals(Complex.ofCartesian(0.25, 0), pm2.get(2));
+        Assertions.assertEquals(Complex.ONE.divide(Complex.ZERO), pm2.get(4));
+        // Unsigned magnitude of the minimum power
+        Assertions.assertEquals(Complex.ONE, a.pow(Integer.MIN_VALUE).get(3));
+        Assertions.assertEquals(Complex.ONE, a.pow(Integer.MIN_VALUE).get(1));
+        Assertions.assertEquals(Complex.ONE.negate(), a.pow(Integer.MAX_VALUE).get(3));
+    }
+
+    @Test
+    void testPowIntAccuracy() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 987234L);
+        final Complex[] values = new Complex[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Complex.ofPolar(0.5 + rng.nextDouble(), rng.nextDouble() * 2 * Math.PI);
+        }
+        final ComplexArray a = ComplexArray.of(values);
+        for (final int n : new int[] {-17, -3, -1, 2, 3, 7, 10, 31, 64}) {
+            final ComplexArray result = a.pow(n);
+            for (int i = 0; i < values.length; i++) {
+                final Complex z = values[i];
+                final Complex expected = z.pow((double) n);
+                final Complex actual = result.get(i);
+                final double tol = 1e-13 * expected.abs();
+                Assertions.assertEquals(expected.getReal(), actual.getReal(), tol, () -> z + "^" + n);
+                Assertions.assertEquals(expected.getImaginary(), actual.getImaginary(), tol, () -> z + "^" + n);
+            }
+        }
+    }
+
+    @Test
+    void testSizeMismatch() {
+        final ComplexArray a = ComplexArray.ofSize(2);
+        final ComplexArray b = ComplexArray.ofSize(3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.add(b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiply(b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.divide(b));
+    }
+
+    private static void assertFunction(ToDoubleFunction<Complex> expected,
+                                       Function<ComplexArray, double[]> actual) {
+        final Complex[] values = createValues();
+        final double[] result = actual.apply(ComplexArray.of(values));
+        Assertions.assertEquals(values.length, result.length);
+        for (int i = 0; i < values.length; i++) {
+            final Complex z = values[i];
+            Assertions.assertEquals(expected.applyAsDouble(z), result[i], () -> z.toString());
+        }
+    }
+
+    private static void assertFunction(UnaryOperator<Complex> expected,
+                                       UnaryOperator<ComplexArray> actual) {
+        final Complex[] values = createValues();
+        final ComplexArray result = actual.apply(ComplexArray.of(values));
+        Assertions.assertEquals(values.length, result.size());
+        for (int i = 0; i < values.length; i++) {
+            final Complex z = values[i];
+            Assertions.assertEquals(expected.apply(z), result.get(i), () -> z.toString());
+        }
+    }
+
+    private static void assertFunction(BinaryOperator<Complex> expected,
+                                       BinaryOperator<ComplexArray> actual) {
+        final Complex[] values = createValues();
+        // Pair each value with all others using rotation of the array
+        for (int shift = 0; shift < values.length; shift += 7) {
+            final Complex[] other = new Complex[values.length];
+            for (int i = 0; i < values.length; i++) {
+                other[i] = values[(i + shift) % values.length];
+            }
+            final ComplexArray result = actual.apply(ComplexArray.of(values), ComplexArray.of(other));
+            Assertions.assertEquals(values.length, result.size());
+            for (int i = 0; i < values.length; i++) {
+                final Complex z1 = values[i];
+                final Complex z2 = other[i];
+                Assertions.assertEquals(expected.apply(z1, z2), result.get(i), () -> z1 + " " + z2);
+            }
+        }
+    }
+}
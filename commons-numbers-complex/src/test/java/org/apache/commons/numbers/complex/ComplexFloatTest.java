@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.Arrays;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexFloat}.
+ */
+class ComplexFloatTest {
+    private static final float inf = Float.POSITIVE_INFINITY;
+    private static final float nan = Float.NaN;
+
+    /** Special values for the parts of a complex number. */
+    private static final float[] PARTS = {0f, -0f, 1f, -1.5f, 3e38f, -1e-40f, inf, -inf, nan};
+
+    /**
+     * Create interleaved data containing all combinations of the special parts followed by
+     * random finite values.
+     */
+    private static float[] createValues() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 347652L);
+        final int n = PARTS.length * PARTS.length;
+        final float[] values = new float[2 * (n + 50)];
+        int i = 0;
+        for (final float re : PARTS) {
+            for (final float im : PARTS) {
+                values[i++] = re;
+                values[i++] = im;
+            }
+        }
+        while (i < values.length) {
+            values[i++] = rng.nextFloat() * 20 - 10;
+        }
+        return values;
+    }
+
+    private static ComplexFloat get(float[] x, int i) {
+        return ComplexFloat.ofCartesian(x[2 * i], x[2 * i + 1]);
+    }
+
+    @Test
+    void testAccessors() {
+        final ComplexFloat z = ComplexFloat.ofCartesian(1.5f, -2.5f);
+        Assertions.assertEquals(1.5f, z.getReal());
+        Assertions.assertEquals(-2.5f, z.getImaginary());
+        Assertions.assertEquals(Complex.ofCartesian(1.5, -2.5), z.toComplex());
+        Assertions.assertEquals(z, ComplexFloat.of(Complex.ofCartesian(1.5, -2.5)));
+        Assertions.assertEquals(ComplexFloat.ofCartesian(0.1f, 0), ComplexFloat.of(Complex.ofCartesian(0.1, 0)));
+        Assertions.assertEquals(ComplexFloat.ofCartesian(1.5f, 2.5f), z.conj());
+        Assertions.assertEquals("(1.5,-2.5)", z.toString());
+        Assertions.assertEquals(ComplexFloat.ofCartesian(0, 0), ComplexFloat.ZERO);
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        final ComplexFloat z = ComplexFloat.ofCartesian(1, 2);
+        Assertions.assertEquals(z, z);
+        Assertions.assertEquals(z, ComplexFloat.ofCartesian(1, 2));
+        Assertions.assertEquals(z.hashCode(), ComplexFloat.ofCartesian(1, 2).hashCode());
+        Assertions.assertEquals(Arrays.hashCode(new float[] {1, 2}), z.hashCode());
+        Assertions.assertNotEquals(z, ComplexFloat.ofCartesian(1, 3));
+        Assertions.assertNotEquals(z, ComplexFloat.ofCartesian(3, 2));
+        Assertions.assertNotEquals(ComplexFloat.ZERO, ComplexFloat.ofCartesian(-0f, 0));
+        Assertions.assertEquals(ComplexFloat.ofCartesian(nan, 0), ComplexFloat.ofCartesian(nan, 0));
+        Assertions.assertNotEquals(z, null);
+        Assertions.assertNotEquals(z, Complex.ofCartesian(1, 2));
+    }
+
+    @Test
+    void testArithmetic() {
+        final float[] x = createValues();
+        final int n = x.length / 2;
+        for (int i = 0; i < n; i++) {
+            final ComplexFloat z1 = get(x, i);
+            final Complex c1 = z1.toComplex();
+            Assertions.assertEquals((float) c1.abs(), z1.abs(), () -> z1.toString());
+            Assertions.assertEquals((float) c1.arg(), z1.arg(), () -> z1.toString());
+            for (int j = 0; j < n; j += 3) {
+                final ComplexFloat z2 = get(x, j);
+                final Complex c2 = z2.toComplex();
+                Assertions.assertEquals(ComplexFloat.of(c1.add(c2)), z1.add(z2));
+                Assertions.assertEquals(ComplexFloat.of(c1.subtract(c2)), z1.subtract(z2));
+                Assertions.assertEquals(ComplexFloat.of(c1.multiply(c2)), z1.multiply(z2), () -> z1 + " " + z2);
+                Assertions.assertEquals(ComplexFloat.of(c1.multiply(c2.conj())), z1.multiplyConjugate(z2));
+                Assertions.assertEquals(ComplexFloat.of(c1.divide(c2)), z1.divide(z2), () -> z1 + " " + z2);
+            }
+        }
+    }
+
+    @Test
+    void testBulkMultiply() {
+        final float[] x = createValues();
+        final int n = x.length / 2;
+        for (int shift = 0; shift < n; shift += 7) {
+            final float[] y = new float[x.length];
+            for (int i = 0; i < n; i++) {
+                final int j = (i + shift) % n;
+                y[2 * i] = x[2 * j];
+                y[2 * i + 1] = x[2 * j + 1];
+            }
+            final float[] r1 = new float[x.length];
+            final float[] r2 = new float[x.length];
+            ComplexFloat.multiply(x, y, r1);
+            ComplexFloat.multiplyConjugate(x, y, r2);
+            for (int i = 0; i < n; i++) {
+                final ComplexFloat z1 = get(x, i);
+                final ComplexFloat z2 = get(y, i);
+                Assertions.assertEquals(z1.multiply(z2), get(r1, i), () -> z1 + " " + z2);
+                Assertions.assertEquals(z1.multiplyConjugate(z2), get(r2, i), () -> z1 + " " + z2);
+            }
+        }
+        // In-place
+        final float[] y = x.clone();
+        final float[] expected = new float[x.length];
+        ComplexFloat.multiply(x, y, expected);
+        ComplexFloat.multiply(y, y, y);
+        Assertions.assertArrayEquals(expected, y);
+    }
+
+    @Test
+    void testBulkAbsArg() {
+        final float[] x = createValues();
+        final int n = x.length / 2;
+        final float[] abs = new float[n];
+        final float[] arg = new float[n];
+        ComplexFloat.abs(x, abs);
+        ComplexFloat.arg(x, arg);
+        for (int i = 0; i < n; i++) {
+            Assertions.assertEquals(get(x, i).abs(), abs[i]);
+            Assertions.assertEquals(get(x, i).arg(), arg[i]);
+        }
+    }
+
+    @Test
+    void testBulkInvalidLengths() {
+        final float[] a = new float[4];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexFloat.multiply(a, new float[6], a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexFloat.multiply(a, a, new float[2]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexFloat.multiplyConjugate(new float[3], new float[3], new float[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexFloat.abs(a, new float[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexFloat.arg(a, new float[1]));
+    }
+}
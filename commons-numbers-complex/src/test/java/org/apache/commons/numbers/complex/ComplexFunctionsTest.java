@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexFunctions}.
+ */
+class ComplexFunctionsTest {
+    @Test
+    void testStaticFunctions() {
+        final double[] parts = {0.0, -0.0, 1.0, -1.5, 1e300, -1e-310,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN};
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 9374628L);
+        final List<Complex> values = new ArrayList<>();
+        for (final double x : parts) {
+            for (final double y : parts) {
+                values.add(Complex.ofCartesian(x, y));
+            }
+        }
+        for (int i = 0; i < 20; i++) {
+            values.add(Complex.ofCartesian(rng.nextDouble() * 4 - 2, rng.nextDouble() * 4 - 2));
+        }
+        for (final Complex z : values) {
+            final double x = z.getReal();
+            final double y = z.getImaginary();
+            Assertions.assertEquals(z.abs(), ComplexFunctions.abs(x, y));
+            Assertions.assertEquals(z.exp(), ComplexFunctions.exp(x, y, Complex::ofCartesian));
+            Assertions.assertEquals(z.log(), ComplexFunctions.log(x, y, Complex::ofCartesian));
+            Assertions.assertEquals(z.log10(), ComplexFunctions.log10(x, y, Complex::ofCartesian));
+            Assertions.assertEquals(z.sqrt(), ComplexFunctions.sqrt(x, y, Complex::ofCartesian));
+            Assertions.assertEquals(z.asin(), ComplexFunctions.asin(x, y, Complex::ofCartesian));
+            Assertions.assertEquals(z.acos(), ComplexFunctions.acos(x, y, Complex::ofCartesian));
+            Assertions.assertEquals(z.sinh(), ComplexFunctions.sinh(x, y, Complex::ofCartesian));
+            Assertions.assertEquals(z.cosh(), ComplexFunctions.cosh(x, y, Complex::ofCartesian));
+            Assertions.assertEquals(z.tanh(), ComplexFunctions.tanh(x, y, Complex::ofCartesian));
+            Assertions.assertEquals(z.atanh(), ComplexFunctions.atanh(x, y, Complex::ofCartesian));
+            for (final Complex w : values) {
+                final double u = w.getReal();
+                final double v = w.getImaginary();
+                Assertions.assertEquals(z.multiply(w), ComplexFunctions.multiply(x, y, u, v, Complex::ofCartesian));
+                Assertions.assertEquals(z.divide(w), ComplexFunctions.divide(x, y, u, v, Complex::ofCartesian));
+            }
+        }
+    }
+
+    @Test
+    void testStaticFunctionWithArraySink() {
+        final double[] re = new double[2];
+        final double[] im = new double[2];
+        final int[] index = {0};
+        final ComplexSink<double[]> sink = (x, y) -> {
+            re[index[0]] = x;
+            im[index[0]] = y;
+            return re;
+        };
+        Assertions.assertSame(re, ComplexFunctions.multiply(1, 2, 3, 4, sink));
+        index[0] = 1;
+        Assertions.assertSame(re, ComplexFunctions.sqrt(-4, 0, sink));
+        Assertions.assertArrayEquals(new double[] {-5, 0}, re);
+        Assertions.assertArrayEquals(new double[] {10, 2}, im);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for {@link ComplexMatrix}.
+ */
+class ComplexMatrixTest {
+    private static ComplexMatrix createMatrix(UniformRandomProvider rng, int rows, int columns) {
+        final ComplexMatrix m = ComplexMatrix.ofSize(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                m.set(i, j, rng.nextDouble() * 2 - 1, rng.nextDouble() * 2 - 1);
+            }
+        }
+        return m;
+    }
+
+    /**
+     * Compute the matrix product using Complex arithmetic.
+     */
+    private static Complex[][] multiply(Complex[][] a, Complex[][] b) {
+        final Complex[][] c = new Complex[a.length][b[0].length];
+        for (int i = 0; i < c.length; i++) {
+            for (int j = 0; j < c[0].length; j++) {
+                Complex sum = Complex.ZERO;
+                for (int k = 0; k < b.length; k++) {
+                    sum = sum.add(a[i][k].multiply(b[k][j]));
+                }
+                c[i][j] = sum;
+            }
+        }
+        return c;
+    }
+
+    private static void assertEquals(Complex[][] expected, ComplexMatrix actual, double tol) {
+        Assertions.assertEquals(expected.length, actual.getRows());
+        Assertions.assertEquals(expected[0].length, actual.getColumns());
+        for (int i = 0; i < expected.length; i++) {
+            for (int j = 0; j < expected[0].length; j++) {
+                Assertions.assertEquals(expected[i][j].getReal(), actual.getReal(i, j), tol);
+                Assertions.assertEquals(expected[i][j].getImaginary(), actual.getImaginary(i, j), tol);
+            }
+        }
+    }
+
+    @Test
+    void testAccessors() {
+        final ComplexMatrix m = ComplexMatrix.ofSize(2, 3);
+        Assertions.assertEquals(2, m.getRows());
+        Assertions.assertEquals(3, m.getColumns());
+        Assertions.assertEquals(Complex.ZERO, m.get(1, 2));
+        m.set(1, 2, Complex.ofCartesian(1.5, -2.5));
+        Assertions.assertEquals(Complex.ofCartesian(1.5, -2.5), m.get(1, 2));
+        Assertions.assertEquals(1.5, m.getReal(1, 2));
+        Assertions.assertEquals(-2.5, m.getImaginary(1, 2));
+        final Complex[][] values = m.toArray();
+        Assertions.assertEquals(Complex.ofCartesian(1.5, -2.5), values[1][2]);
+        Assertions.assertEquals(m, ComplexMatrix.of(values));
+        Assertions.assertEquals(m.hashCode(), ComplexMatrix.of(values).hashCode());
+        Assertions.assertNotEquals(m, ComplexMatrix.ofSize(3, 2));
+        Assertions.assertNotEquals(m, ComplexMatrix.ofSize(2, 3));
+        Assertions.assertNotEquals(m, null);
+        Assertions.assertEquals(m, m);
+        Assertions.assertEquals(Complex.ONE, ComplexMatrix.identity(3).get(2, 2));
+        Assertions.assertEquals(Complex.ZERO, ComplexMatrix.identity(3).get(2, 1));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexMatrix.ofSize(0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexMatrix.ofSize(1, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexMatrix.of(new Complex[0][0]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexMatrix.of(new Complex[][] {{Complex.ONE}, {Complex.ONE, Complex.I}}));
+        final ComplexMatrix m = ComplexMatrix.ofSize(2, 3);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.get(2, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.get(0, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.set(-1, 0, 1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.multiply(m));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.parallelMultiply(m));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.operate(ComplexArray.ofSize(2)));
+    }
+
+    @Test
+    void testTranspose() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 72364L);
+        final ComplexMatrix m = createMatrix(rng, 70, 131);
+        final ComplexMatrix t = m.transpose();
+        final ComplexMatrix h = m.conjugateTranspose();
+        Assertions.assertEquals(131, t.getRows());
+        Assertions.assertEquals(70, t.getColumns());
+        for (int i = 0; i < m.getRows(); i++) {
+            for (int j = 0; j < m.getColumns(); j++) {
+                Assertions.assertEquals(m.get(i, j), t.get(j, i));
+                Assertions.assertEquals(m.get(i, j).conj(), h.get(j, i));
+            }
+        }
+        Assertions.assertEquals(m, t.transpose());
+        Assertions.assertEquals(m, h.conjugateTranspose());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1, 1, 1",
+        "3, 4, 5",
+        "64, 64, 64",
+        "65, 130, 17",
+        "150, 70, 129",
+    })
+    void testMultiply(int n, int m, int p) {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 9823749L + n);
+        final ComplexMatrix a = createMatrix(rng, n, m);
+        final ComplexMatrix b = createMatrix(rng, m, p);
+        final Complex[][] expected = multiply(a.toArray(), b.toArray());
+        final ComplexMatrix c = a.multiply(b);
+        assertEquals(expected, c, 1e-12);
+        Assertions.assertEquals(c, a.parallelMultiply(b));
+        Assertions.assertEquals(a, a.multiply(ComplexMatrix.identity(m)));
+        Assertions.assertEquals(a, ComplexMatrix.identity(n).parallelMultiply(a));
+    }
+
+    @Test
+    void testOperate() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 2346L);
+        final ComplexMatrix a = createMatrix(rng, 13, 7);
+        final ComplexMatrix x = createMatrix(rng, 7, 1);
+        final ComplexArray v = ComplexArray.ofSize(7);
+        for (int i = 0; i < 7; i++) {
+            v.set(i, x.get(i, 0));
+        }
+        final ComplexArray y = a.operate(v);
+        final ComplexMatrix expected = a.multiply(x);
+        Assertions.assertEquals(13, y.size());
+        for (int i = 0; i < 13; i++) {
+            Assertions.assertEquals(expected.get(i, 0), y.get(i));
+        }
+    }
+
+    @Test
+    void testHermitianProduct() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 2346L);
+        final ComplexMatrix a = createMatrix(rng, 20, 9);
+        // A^H A is Hermitian with a real diagonal
+        final ComplexMatrix g = a.conjugateTranspose().multiply(a);
+        for (int i = 0; i < g.getRows(); i++) {
+            Assertions.assertEquals(0, g.getImaginary(i, i), 1e-14);
+            for (int j = 0; j < g.getColumns(); j++) {
+                Assertions.assertEquals(g.getReal(i, j), g.getReal(j, i), 1e-14);
+                Assertions.assertEquals(g.getImaginary(i, j), -g.getImaginary(j, i), 1e-14);
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexPolynomial}.
+ */
+class ComplexPolynomialTest {
+    /** Order roots by real then imaginary part. */
+    private static final Comparator<Complex> ORDER =
+        Comparator.comparingDouble(Complex::getReal).thenComparingDouble(Complex::getImaginary);
+
+    private static Complex[] createNumbers(UniformRandomProvider rng, int n) {
+        final Complex[] z = new Complex[n];
+        for (int i = 0; i < n; i++) {
+            z[i] = Complex.ofCartesian(rng.nextDouble() * 4 - 2, rng.nextDouble() * 4 - 2);
+        }
+        return z;
+    }
+
+    /**
+     * Evaluate the polynomial using Complex arithmetic.
+     */
+    private static Complex horner(Complex[] c, Complex z) {
+        Complex result = c[c.length - 1];
+        for (int i = c.length - 2; i >= 0; i--) {
+            result = result.multiply(z).add(c[i]);
+        }
+        return result;
+    }
+
+    @Test
+    void testOf() {
+        final Complex[] c = {Complex.ofCartesian(1, 2), Complex.ofCartesian(3, -4), Complex.ZERO, Complex.ZERO};
+        final ComplexPolynomial p = ComplexPolynomial.of(c);
+        Assertions.assertEquals(1, p.degree());
+        Assertions.assertArrayEquals(Arrays.copyOf(c, 2), p.getCoefficients());
+        Assertions.assertEquals("[(1.0,2.0), (3.0,-4.0)]", p.toString());
+        Assertions.assertEquals(0, ComplexPolynomial.of(Complex.ZERO, Complex.ZERO).degree());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexPolynomial.of());
+    }
+
+    @Test
+    void testOfRoots() {
+        // (z - 1)(z - 2) = z^2 - 3z + 2
+        final ComplexPolynomial p = ComplexPolynomial.ofRoots(Complex.ONE, Complex.ofCartesian(2, 0));
+        Assertions.assertArrayEquals(new Complex[] {Complex.ofCartesian(2, 0), Complex.ofCartesian(-3, 0),
+            Complex.ONE}, p.getCoefficients());
+        // (z - i)(z + i) = z^2 + 1
+        final ComplexPolynomial q = ComplexPolynomial.ofRoots(Complex.I, Complex.I.negate());
+        Assertions.assertEquals(Complex.ONE, q.getCoefficients()[0]);
+        Assertions.assertEquals(0, q.getCoefficients()[1].abs());
+        Assertions.assertEquals(0, ComplexPolynomial.ofRoots().degree());
+    }
+
+    @Test
+    void testDerivative() {
+        final ComplexPolynomial p = ComplexPolynomial.of(Complex.ofCartesian(5, 1), Complex.ofCartesian(1, 2),
+            Complex.ofCartesian(3, -1), Complex.ofCartesian(-2, 0.5));
+        Assertions.assertArrayEquals(new Complex[] {Complex.ofCartesian(1, 2), Complex.ofCartesian(6, -2),
+            Complex.ofCartesian(-6, 1.5)}, p.derivative().getCoefficients());
+        Assertions.assertArrayEquals(new Complex[] {Complex.ZERO},
+            ComplexPolynomial.of(Complex.I).derivative().getCoefficients());
+    }
+
+    @Test
+    void testValue() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 98672321L);
+        for (int degree = 0; degree < 8; degree++) {
+            final Complex[] c = createNumbers(rng, degree + 1);
+            final ComplexPolynomial p = ComplexPolynomial.of(c);
+            final Complex[] z = createNumbers(rng, 50);
+            final double[] interleaved = new double[z.length * 2];
+            final double[] re = new double[z.length];
+            final double[] im = new double[z.length];
+            for (int i = 0; i < z.length; i++) {
+                interleaved[2 * i] = re[i] = z[i].getReal();
+                interleaved[2 * i + 1] = im[i] = z[i].getImaginary();
+            }
+            final double[] r1 = new double[interleaved.length];
+            p.value(interleaved, r1);
+            // In-place
+            p.value(interleaved, interleaved);
+            Assertions.assertArrayEquals(r1, interleaved);
+            p.value(re, im, re, im);
+            for (int i = 0; i < z.length; i++) {
+                final Complex expected = horner(c, z[i]);
+                final Complex actual = p.value(z[i]);
+                final double tol = 1e-14 * Math.max(1, expected.abs());
+                Assertions.assertEquals(expected.getReal(), actual.getReal(), tol);
+                Assertions.assertEquals(expected.getImaginary(), actual.getImaginary(), tol);
+                Assertions.assertEquals(actual.getReal(), r1[2 * i]);
+                Assertions.assertEquals(actual.getImaginary(), r1[2 * i + 1]);
+                Assertions.assertEquals(actual.getReal(), re[i]);
+                Assertions.assertEquals(actual.getImaginary(), im[i]);
+            }
+        }
+    }
+
+    @Test
+    void testValueInvalidLengths() {
+        final ComplexPolynomial p = ComplexPolynomial.of(Complex.ONE, Complex.I);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> p.value(new double[4], new double[2]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> p.value(new double[3], new double[3]));
+        final double[] a = new double[3];
+        final double[] b = new double[2];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> p.value(a, b, a, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> p.value(a, a, b, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> p.value(a, a, a, b));
+    }
+
+    @Test
+    void testRootsOfUnity() {
+        for (int n = 1; n <= 12; n++) {
+            final Complex[] c = new Complex[n + 1];
+            Arrays.fill(c, Complex.ZERO);
+            c[0] = Complex.ONE.negate();
+            c[n] = Complex.ONE;
+            final Complex[] roots = ComplexPolynomial.of(c).roots();
+            Assertions.assertEquals(n, roots.length);
+            final Complex[] expected = Complex.ONE.nthRoot(n).toArray(new Complex[0]);
+            assertRoots(expected, roots, 1e-14);
+        }
+    }
+
+    @Test
+    void testRealRoots() {
+        final Complex[] expected = {Complex.ofCartesian(-3, 0), Complex.ofCartesian(-1.5, 0),
+            Complex.ofCartesian(0.25, 0), Complex.ofCartesian(1, 0), Complex.ofCartesian(2, 0)};
+        assertRoots(expected, ComplexPolynomial.ofRoots(expected).roots(), 1e-13);
+    }
+
+    @Test
+    void testRandomRoots() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 2365788L);
+        for (int n = 1; n < 15; n++) {
+            final Complex[] expected = createNumbers(rng, n);
+            // Scale the polynomial
+            final Complex[] c = ComplexPolynomial.ofRoots(expected).getCoefficients();
+            final Complex scale = Complex.ofCartesian(-3, 1.5);
+            for (int i = 0; i < c.length; i++) {
+                c[i] = c[i].multiply(scale);
+            }
+            assertRoots(expected, ComplexPolynomial.of(c).roots(), 1e-9);
+        }
+    }
+
+    @Test
+    void testZeroRoots() {
+        // z^2 (z - 2) (z - i)
+        final Complex[] expected = {Complex.ZERO, Complex.ZERO, Complex.ofCartesian(2, 0), Complex.I};
+        final Complex[] roots = ComplexPolynomial.ofRoots(expected).roots();
+        assertRoots(expected, roots, 1e-14);
+        Assertions.assertEquals(Complex.ZERO, roots[0]);
+        Assertions.assertEquals(Complex.ZERO, roots[1]);
+        // z^3
+        Assertions.assertArrayEquals(new Complex[] {Complex.ZERO, Complex.ZERO, Complex.ZERO},
+            ComplexPolynomial.of(Complex.ZERO, Complex.ZERO, Complex.ZERO, Complex.ofCartesian(2, 1)).roots());
+    }
+
+    @Test
+    void testMultipleRoots() {
+        // (z - 1)^2 (z + i)^3: accuracy is reduced for multiple roots
+        final Complex[] expected = {Complex.ONE, Complex.ONE, Complex.I.negate(), Complex.I.negate(),
+            Complex.I.negate()};
+        assertRoots(expected, ComplexPolynomial.ofRoots(expected).roots(), 1e-4);
+    }
+
+    @Test
+    void testRootsConstant() {
+        Assertions.assertEquals(0, ComplexPolynomial.of(Complex.I).roots().length);
+        final ComplexPolynomial zero = ComplexPolynomial.of(Complex.ZERO);
+        Assertions.assertThrows(IllegalArgumentException.class, zero::roots);
+        final ComplexPolynomial p = ComplexPolynomial.of(Complex.ONE, Complex.ofCartesian(Double.NaN, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, p::roots);
+    }
+
+    /**
+     * Assert the roots match the expected roots. The roots are matched by sorting.
+     */
+    private static void assertRoots(Complex[] expected, Complex[] actual, double tol) {
+        Assertions.assertEquals(expected.length, actual.length);
+        final Complex[] e = expected.clone();
+        final Complex[] a = actual.clone();
+        // Match each expected root with the closest actual root
+        Arrays.sort(e, ORDER);
+        for (int i = 0; i < e.length; i++) {
+            int closest = i;
+            for (int j = i + 1; j < a.length; j++) {
+                if (a[j].subtract(e[i]).abs() < a[closest].subtract(e[i]).abs()) {
+                    closest = j;
+                }
+            }
+            final Complex t = a[closest];
+            a[closest] = a[i];
+            a[i] = t;
+            final Complex root = e[i];
+            Assertions.assertEquals(0, t.subtract(root).abs(), tol * Math.max(1, root.abs()),
+                () -> "Expected " + root + " in " + Arrays.toString(actual));
+        }
+    }
+}
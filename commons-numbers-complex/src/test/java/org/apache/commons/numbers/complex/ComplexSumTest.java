@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link ComplexSum}.
+ */
+class ComplexSumTest {
+    /**
+     * Create data with a large dynamic range and cancellation. The data is returned
+     * interleaved.
+     */
+    private static double[] createData(int n, long seed) {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, seed);
+        final double[] x = new double[2 * n];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(60) - 30);
+        }
+        return x;
+    }
+
+    private static double[] part(double[] x, int offset) {
+        final double[] p = new double[x.length / 2];
+        for (int i = 0; i < p.length; i++) {
+            p[i] = x[2 * i + offset];
+        }
+        return p;
+    }
+
+    private static BigDecimal exactSum(double[] x, int offset) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = offset; i < x.length; i += 2) {
+            sum = sum.add(new BigDecimal(x[i]));
+        }
+        return sum;
+    }
+
+    /**
+     * Assert the actual value is within 1 ULP of the exact value.
+     */
+    private static void assertClose(BigDecimal exact, double actual) {
+        final double expected = exact.doubleValue();
+        Assertions.assertEquals(expected, actual, Math.ulp(expected));
+    }
+
+    @Test
+    void testAccumulator() {
+        final ComplexSum sum = ComplexSum.create();
+        Assertions.assertEquals(Complex.ZERO, sum.get());
+        Assertions.assertSame(sum, sum.add(Complex.ofCartesian(1e16, -1e16)));
+        sum.add(1, 2).add(Complex.ofCartesian(-1e16, 1e16));
+        // Naive summation would be (0, 0)
+        Assertions.assertEquals(Complex.ofCartesian(1, 2), sum.get());
+        Assertions.assertEquals(1, sum.getReal());
+        Assertions.assertEquals(2, sum.getImaginary());
+
+        final ComplexSum other = ComplexSum.create().add(1e-16, 1e-16);
+        Assertions.assertSame(sum, sum.combine(other));
+        Assertions.assertEquals(Complex.ofCartesian(1 + 1e-16, 2 + 1e-16), sum.get());
+    }
+
+    @Test
+    void testAddConjugateProduct() {
+        final ComplexSum sum = ComplexSum.create();
+        sum.addConjugateProduct(3, 4, 5, 6);
+        // (3 - 4i)(5 + 6i) = 15 + 24 + i (18 - 20)
+        Assertions.assertEquals(Complex.ofCartesian(39, -2), sum.get());
+        // Exact products cancel
+        final double a = 1 + 0x1.0p-30;
+        sum.addConjugateProduct(a, 0, a, a);
+        sum.addConjugateProduct(-1, 0, 1 + 0x1.0p-29, 1 + 0x1.0p-29);
+        Assertions.assertEquals(Complex.ofCartesian(39 + 0x1.0p-60, -2 + 0x1.0p-60), sum.get());
+    }
+
+    @Test
+    void testNonFinite() {
+        final double inf = Double.POSITIVE_INFINITY;
+        Assertions.assertEquals(Complex.ofCartesian(inf, 1), ComplexSum.sum(new double[] {inf, 0.5, 1, 0.5}));
+        Assertions.assertEquals(Complex.ofCartesian(inf, inf),
+            ComplexSum.dot(new double[] {inf, 0.5, 1, 0.5}, new double[] {1, 1, 1, 0}));
+        Assertions.assertTrue(ComplexSum.sum(new double[] {inf, 0, -inf, 0}).isNaN());
+        Assertions.assertTrue(ComplexSum.sum(new double[] {Double.NaN, 0}).isNaN());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 10, 1000, 50000})
+    void testSum(int n) {
+        final double[] x = createData(n, 2387468L + n);
+        final double[] re = part(x, 0);
+        final double[] im = part(x, 1);
+        final Complex s = ComplexSum.sum(x);
+        assertClose(exactSum(x, 0), s.getReal());
+        assertClose(exactSum(x, 1), s.getImaginary());
+        Assertions.assertEquals(s, ComplexSum.sum(re, im));
+        final Complex p = ComplexSum.parallelSum(x);
+        assertClose(exactSum(x, 0), p.getReal());
+        assertClose(exactSum(x, 1), p.getImaginary());
+        Assertions.assertEquals(p, ComplexSum.parallelSum(re, im));
+        // Deterministic
+        Assertions.assertEquals(p, ComplexSum.parallelSum(x));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 10, 1000, 50000})
+    void testDot(int n) {
+        final double[] x = createData(n, 2638746L + n);
+        final double[] y = createData(n, 9872346L + n);
+        BigDecimal re = BigDecimal.ZERO;
+        BigDecimal im = BigDecimal.ZERO;
+        for (int i = 0; i < n; i++) {
+            final BigDecimal a = new BigDecimal(x[2 * i]);
+            final BigDecimal b = new BigDecimal(x[2 * i + 1]);
+            final BigDecimal c = new BigDecimal(y[2 * i]);
+            final BigDecimal d = new BigDecimal(y[2 * i + 1]);
+            re = re.add(a.multiply(c)).add(b.multiply(d));
+            im = im.add(a.multiply(d)).subtract(b.multiply(c));
+        }
+        final Complex s = ComplexSum.dot(x, y);
+        assertClose(re, s.getReal());
+        assertClose(im, s.getImaginary());
+        final double[] re1 = part(x, 0);
+        final double[] im1 = part(x, 1);
+        final double[] re2 = part(y, 0);
+        final double[] im2 = part(y, 1);
+        Assertions.assertEquals(s, ComplexSum.dot(re1, im1, re2, im2));
+        final Complex p = ComplexSum.parallelDot(x, y);
+        assertClose(re, p.getReal());
+        assertClose(im, p.getImaginary());
+        Assertions.assertEquals(p, ComplexSum.parallelDot(re1, im1, re2, im2));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1, 1e-300, 1e280, Double.MIN_VALUE * 1000, 0x1.0p-32 * Double.MAX_VALUE})
+    void testNorm(double scale) {
+        final double[] x = createData(100, 123L);
+        BigDecimal ss = BigDecimal.ZERO;
+        for (int i = 0; i < x.length; i++) {
+            x[i] *= scale;
+            final BigDecimal v = new BigDecimal(x[i]);
+            ss = ss.add(v.multiply(v));
+        }
+        final double expected = ss.sqrt(MathContext.DECIMAL128).doubleValue();
+        // Sub-normal scaled values have reduced precision
+        final double tol = scale < Double.MIN_NORMAL ? 1e-3 : 1e-15;
+        Assertions.assertEquals(expected, ComplexSum.norm(x), expected * tol);
+        Assertions.assertEquals(expected, ComplexSum.norm(part(x, 0), part(x, 1)), expected * tol);
+    }
+
+    @Test
+    void testNormEdgeCases() {
+        Assertions.assertEquals(0.0, ComplexSum.norm(new double[0]));
+        Assertions.assertEquals(0.0, ComplexSum.norm(new double[2]));
+        Assertions.assertEquals(5.0, ComplexSum.norm(new double[] {3, 4}));
+        Assertions.assertEquals(5.0, ComplexSum.norm(new double[] {3}, new double[] {-4}));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY,
+            ComplexSum.norm(new double[] {1, Double.NEGATIVE_INFINITY}));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY,
+            ComplexSum.norm(new double[] {Double.POSITIVE_INFINITY}, new double[] {1}));
+        Assertions.assertEquals(Double.NaN, ComplexSum.norm(new double[] {1, Double.NaN}));
+    }
+
+    @Test
+    void testInvalidLengths() {
+        final double[] a = new double[3];
+        final double[] b = new double[2];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexSum.sum(a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexSum.sum(a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexSum.parallelSum(a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexSum.parallelSum(a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexSum.dot(a, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexSum.dot(b, new double[4]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexSum.parallelDot(a, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexSum.dot(a, a, a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexSum.parallelDot(a, b, a, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexSum.norm(a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexSum.norm(a, b));
+    }
+}
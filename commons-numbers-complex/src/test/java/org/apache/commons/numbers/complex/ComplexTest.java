@@ -17,6 +17,7 @@
 
 package org.apache.commons.numbers.complex;
 
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -282,6 +283,56 @@ class ComplexTest {
         Assertions.assertEquals(z, Complex.parse("(  " + re + "  , " + im + "     )"));
     }
 
+    @Test
+    void testParseRegion() {
+        final String text = "x,(1.5,-2.25e-3),(1e300, 0x1.0p-3),(NaN,Infinity),(1,2";
+        Assertions.assertEquals(Complex.ofCartesian(1.5, -2.25e-3), Complex.parse(text, 2, 16));
+        Assertions.assertEquals(Complex.ofCartesian(1e300, 0.125), Complex.parse(text, 17, 34));
+        Assertions.assertEquals(Complex.ofCartesian(Double.NaN, Double.POSITIVE_INFINITY),
+            Complex.parse(text, 35, 49));
+        Assertions.assertEquals(Complex.ofCartesian(1, 2), Complex.parse(new StringBuilder("(1,2)"), 0, 5));
+        Assertions.assertEquals(Complex.ofCartesian(1, 2),
+            Complex.parse(CharBuffer.wrap("..(1,2)".toCharArray()), 2, 7));
+        Assertions.assertThrows(NumberFormatException.class, () -> Complex.parse(text, 0, 16));
+        Assertions.assertThrows(NumberFormatException.class, () -> Complex.parse(text, 50, text.length()));
+        Assertions.assertThrows(NumberFormatException.class, () -> Complex.parse(text, 2, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Complex.parse(text, 2, 100));
+    }
+
+    @Test
+    void testParseRegionMatchesParse() {
+        final String[] parts = {"0", "-0.0", "1", "+1.5", "1.", ".5", "1e3", "1E-3", "-1.5e+22", "1e23",
+            "123456789012345678", "0.1", "9007199254740993", "1.7976931348623157E308", "4.9E-324",
+            "1d", "NaN", "-Infinity", "0x1p3", " 2 ", "", "-", "1e", "1e+", "1.2.3", "e5", "1x"};
+        for (final String x : parts) {
+            for (final String y : parts) {
+                final String s = "(" + x + "," + y + ")";
+                final String text = "ab" + s + "cd";
+                Complex expected;
+                try {
+                    expected = Complex.parse(s);
+                } catch (NumberFormatException ex) {
+                    final String msg = ex.getMessage();
+                    final NumberFormatException ex2 = Assertions.assertThrows(NumberFormatException.class,
+                        () -> Complex.parse(text, 2, text.length() - 2), s);
+                    Assertions.assertEquals(msg, ex2.getMessage());
+                    continue;
+                }
+                Assertions.assertEquals(expected, Complex.parse(text, 2, text.length() - 2), s);
+            }
+        }
+    }
+
+    @Test
+    void testAppendTo() {
+        final StringBuilder sb = new StringBuilder("z=");
+        final Complex z = Complex.ofCartesian(1.5, -0.0);
+        Assertions.assertSame(sb, z.appendTo(sb));
+        Assertions.assertEquals("z=" + z.toString(), sb.toString());
+        Complex.ofCartesian(Double.NaN, 1e300).appendTo(sb.append(';'));
+        Assertions.assertEquals("z=(1.5,-0.0);(NaN,1.0E300)", sb.toString());
+    }
+
     @Test
     void testCGrammar() {
         final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
@@ -1116,6 +1167,47 @@ class ComplexTest {
         Assertions.assertTrue(Double.isInfinite(z.getImaginary()));
     }
 
+    /**
+     * Test the direct formula used for divide when the parts are in a safe range
+     * computes the same result as the scaled computation used outside the range.
+     * Scaling by a power of 2 moves the parts out of the safe range.
+     */
+    @Test
+    void testDivideFastPath() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 7238476L);
+        final double[] parts = new double[4];
+        for (int i = 0; i < 2000; i++) {
+            for (int j = 0; j < parts.length; j++) {
+                // Include zeros and the limits of the range 2^-100 to 2^100
+                final int k = rng.nextInt(10);
+                if (k == 0) {
+                    parts[j] = 0.0;
+                } else if (k == 1) {
+                    parts[j] = Math.scalb(1.0, rng.nextBoolean() ? 100 : -100);
+                } else {
+                    parts[j] = Math.scalb(rng.nextDouble() + 1, rng.nextInt(201) - 100);
+                }
+                if (rng.nextBoolean()) {
+                    parts[j] = -parts[j];
+                }
+            }
+            final Complex x = Complex.ofCartesian(parts[0], parts[1]);
+            final Complex y = Complex.ofCartesian(parts[2], parts[3]);
+            if (y.equals(Complex.ZERO)) {
+                continue;
+            }
+            final Complex z = x.divide(y);
+            // Scale both
+            final Complex x1 = Complex.ofCartesian(Math.scalb(parts[0], 400), Math.scalb(parts[1], 400));
+            final Complex y1 = Complex.ofCartesian(Math.scalb(parts[2], 400), Math.scalb(parts[3], 400));
+            Assertions.assertEquals(z, x1.divide(y1), () -> x + " / " + y);
+            // Scale the dividend
+            final Complex z2 = x1.divide(y);
+            Assertions.assertEquals(z, Complex.ofCartesian(Math.scalb(z2.getReal(), -400),
+                Math.scalb(z2.getImaginary(), -400)), () -> x1 + " / " + y);
+        }
+    }
+
     @Test
     void testDivideReal() {
         final Complex x = Complex.ofCartesian(3.0, 4.0);
@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.nio.DoubleBuffer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DirectComplexArray}.
+ */
+class DirectComplexArrayTest {
+    private static final double inf = Double.POSITIVE_INFINITY;
+    private static final double nan = Double.NaN;
+
+    /** Special values for the parts of a complex number. */
+    private static final double[] PARTS = {0.0, -0.0, 1.0, -1.5, 1e300, -1e-310, inf, -inf, nan};
+
+    /**
+     * Create an array containing all combinations of the special parts followed by
+     * random finite values.
+     *
+     * @return the array
+     */
+    private static Complex[] createValues() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 623846L);
+        final int n = PARTS.length * PARTS.length;
+        final Complex[] values = new Complex[n + 50];
+        int i = 0;
+        for (final double re : PARTS) {
+            for (final double im : PARTS) {
+                values[i++] = Complex.ofCartesian(re, im);
+            }
+        }
+        while (i < values.length) {
+            values[i++] = Complex.ofCartesian(rng.nextDouble() * 20 - 10, rng.nextDouble() * 20 - 10);
+        }
+        return values;
+    }
+
+    @Test
+    void testConstruction() {
+        final DirectComplexArray array = DirectComplexArray.ofSize(3);
+        Assertions.assertEquals(3, array.size());
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(Complex.ZERO, array.get(i));
+        }
+        array.set(1, 2, 3);
+        array.set(2, Complex.ofCartesian(-4, 5));
+        Assertions.assertEquals(2, array.getReal(1));
+        Assertions.assertEquals(3, array.getImaginary(1));
+        Assertions.assertEquals(Complex.ofCartesian(-4, 5), array.get(2));
+        Assertions.assertArrayEquals(new Complex[] {Complex.ZERO, Complex.ofCartesian(2, 3),
+            Complex.ofCartesian(-4, 5)}, array.toArray());
+
+        Assertions.assertEquals(array, DirectComplexArray.ofCartesian(new double[] {0, 2, -4},
+            new double[] {0, 3, 5}));
+        Assertions.assertEquals(array, DirectComplexArray.of(array.toArray()));
+        Assertions.assertEquals(array, DirectComplexArray.of(array.toComplexArray()));
+        Assertions.assertEquals(ComplexArray.of(array.toArray()), array.toComplexArray());
+        Assertions.assertEquals(0, DirectComplexArray.ofSize(0).size());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DirectComplexArray.ofSize(-1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DirectComplexArray.ofSize(DirectComplexArray.MAX_SIZE + 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DirectComplexArray.ofCartesian(new double[2], new double[3]));
+        final DirectComplexArray a = DirectComplexArray.ofSize(2);
+        final DirectComplexArray b = DirectComplexArray.ofSize(3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.add(b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiply(b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.divide(b));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.get(2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.get(-1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.set(2, 0, 0));
+        final DirectComplexArray c = DirectComplexArray.ofSize(2);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.add(c, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiply(c, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.divide(c, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.exp(b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.pow(2, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DirectComplexArray.pow(Complex.I, a, b));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DirectComplexArray.pow(Complex.I, new double[3], a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.abs(DoubleBuffer.allocate(1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.arg(DoubleBuffer.allocate(1)));
+    }
+
+    @Test
+    void testAsDoubleBuffer() {
+        final DirectComplexArray array = DirectComplexArray.of(Complex.ofCartesian(1, 2),
+            Complex.ofCartesian(3, 4));
+        final DoubleBuffer buffer = array.asDoubleBuffer();
+        Assertions.assertTrue(buffer.isDirect());
+        Assertions.assertEquals(4, buffer.remaining());
+        Assertions.assertEquals(1, buffer.get(0));
+        Assertions.assertEquals(2, buffer.get(1));
+        Assertions.assertEquals(3, buffer.get(2));
+        Assertions.assertEquals(4, buffer.get(3));
+        // Shared content
+        buffer.put(3, -4);
+        Assertions.assertEquals(Complex.ofCartesian(3, -4), array.get(1));
+        array.set(0, 5, 6);
+        Assertions.assertEquals(5, buffer.get(0));
+        // Independent position
+        buffer.position(2);
+        Assertions.assertEquals(4, array.asDoubleBuffer().remaining());
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        final DirectComplexArray a = DirectComplexArray.of(Complex.ofCartesian(1, nan));
+        final DirectComplexArray b = DirectComplexArray.of(Complex.ofCartesian(1, nan));
+        Assertions.assertEquals(a, a);
+        Assertions.assertEquals(a, b);
+        Assertions.assertEquals(a.hashCode(), b.hashCode());
+        Assertions.assertNotEquals(a, DirectComplexArray.of(Complex.ofCartesian(-1, nan)));
+        Assertions.assertNotEquals(a, DirectComplexArray.ofSize(2));
+        Assertions.assertNotEquals(DirectComplexArray.of(Complex.ZERO),
+            DirectComplexArray.of(Complex.ofCartesian(-0.0, 0)));
+        Assertions.assertNotEquals(a, a.toComplexArray());
+        Assertions.assertNotEquals(a, null);
+    }
+
+    @Test
+    void testAbsAndArg() {
+        final Complex[] values = createValues();
+        final DirectComplexArray array = DirectComplexArray.of(values);
+        final DoubleBuffer abs = array.abs();
+        final DoubleBuffer arg = array.arg();
+        Assertions.assertTrue(abs.isDirect());
+        Assertions.assertTrue(arg.isDirect());
+        Assertions.assertEquals(values.length, abs.remaining());
+        Assertions.assertEquals(values.length, arg.remaining());
+        for (int i = 0; i < values.length; i++) {
+            Assertions.assertEquals(values[i].abs(), abs.get(i));
+            Assertions.assertEquals(values[i].arg(), arg.get(i));
+        }
+        // Destination buffer
+        final DoubleBuffer result = DoubleBuffer.allocate(values.length + 1);
+        result.position(1);
+        Assertions.assertSame(result, array.abs(result));
+        Assertions.assertEquals(1, result.position());
+        Assertions.assertEquals(abs, ((DoubleBuffer) result.rewind()).limit(values.length));
+        result.clear();
+        Assertions.assertSame(result, array.arg(result));
+        Assertions.assertEquals(arg, result.limit(values.length));
+    }
+
+    @Test
+    void testFunctions() {
+        assertFunction(ComplexArray::exp, DirectComplexArray::exp);
+        assertFunction(ComplexArray::log, DirectComplexArray::log);
+        assertFunction(ComplexArray::sqrt, DirectComplexArray::sqrt);
+        assertFunction(a -> a.pow(Complex.ofCartesian(1.5, -0.5)), a -> a.pow(Complex.ofCartesian(1.5, -0.5)));
+        assertFunction(a -> a.pow(Complex.ofCartesian(2, 0)), a -> a.pow(Complex.ofCartesian(2, 0)));
+        assertFunction(a -> a.pow(Complex.ofCartesian(-1, 0)), a -> a.pow(Complex.ofCartesian(-1, 0)));
+        for (final double x : new double[] {-2.5, 0, 0.5, 3}) {
+            assertFunction(a -> a.pow(x), a -> a.pow(x));
+        }
+        for (final int n : new int[] {Integer.MIN_VALUE, -3, -1, 0, 1, 2, 7, Integer.MAX_VALUE}) {
+            assertFunction(a -> a.pow(n), a -> a.pow(n));
+        }
+    }
+
+    @Test
+    void testBinaryFunctions() {
+        assertFunction(ComplexArray::add, DirectComplexArray::add);
+        assertFunction(ComplexArray::multiply, DirectComplexArray::multiply);
+        assertFunction(ComplexArray::divide, DirectComplexArray::divide);
+    }
+
+    @Test
+    void testFunctionsWithDestination() {
+        assertFunctionWithDestination(ComplexArray::exp, DirectComplexArray::exp);
+        assertFunctionWithDestination(ComplexArray::log, DirectComplexArray::log);
+        assertFunctionWithDestination(ComplexArray::sqrt, DirectComplexArray::sqrt);
+        final Complex x = Complex.ofCartesian(1.5, -0.5);
+        assertFunctionWithDestination(a -> a.pow(x), (a, r) -> a.pow(x, r));
+        assertFunctionWithDestination(a -> a.pow(-2.5), (a, r) -> a.pow(-2.5, r));
+        for (final int n : new int[] {-3, 0, 7}) {
+            assertFunctionWithDestination(a -> a.pow(n), (a, r) -> a.pow(n, r));
+        }
+        final Complex base = Complex.ofCartesian(0.75, 2);
+        assertFunctionWithDestination(a -> ComplexArray.pow(base, a), (a, r) -> DirectComplexArray.pow(base, a, r));
+    }
+
+    @Test
+    void testBinaryFunctionsWithDestination() {
+        assertFunctionWithDestination(ComplexArray::add, DirectComplexArray::add);
+        assertFunctionWithDestination(ComplexArray::multiply, DirectComplexArray::multiply);
+        assertFunctionWithDestination(ComplexArray::divide, DirectComplexArray::divide);
+    }
+
+    @Test
+    void testPowBase() {
+        final Complex[] values = createValues();
+        final double[] exponents = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            exponents[i] = values[i].getReal();
+        }
+        final DirectComplexArray array = DirectComplexArray.of(values);
+        for (final Complex base : new Complex[] {Complex.ZERO, Complex.ONE, Complex.ofCartesian(-1.5, 0.25),
+                                                 Complex.ofCartesian(0, inf), Complex.ofCartesian(nan, 1)}) {
+            Assertions.assertEquals(ComplexArray.pow(base, ComplexArray.of(values)),
+                DirectComplexArray.pow(base, array, DirectComplexArray.ofSize(values.length)).toComplexArray());
+            Assertions.assertEquals(ComplexArray.pow(base, exponents),
+                DirectComplexArray.pow(base, exponents).toComplexArray());
+            final DirectComplexArray result = DirectComplexArray.of(values);
+            Assertions.assertSame(result, DirectComplexArray.pow(base, exponents, result));
+            Assertions.assertEquals(ComplexArray.pow(base, exponents), result.toComplexArray());
+        }
+        Assertions.assertEquals(DirectComplexArray.of(values), array);
+    }
+
+    private static void assertFunction(Function<ComplexArray, ComplexArray> expected,
+                                       UnaryOperator<DirectComplexArray> actual) {
+        final Complex[] values = createValues();
+        final DirectComplexArray array = DirectComplexArray.of(values);
+        final DirectComplexArray result = actual.apply(array);
+        Assertions.assertNotSame(array, result);
+        Assertions.assertEquals(expected.apply(ComplexArray.of(values)), result.toComplexArray());
+        // Input is unchanged
+        Assertions.assertEquals(DirectComplexArray.of(values), array);
+    }
+
+    private static void assertFunctionWithDestination(Function<ComplexArray, ComplexArray> expected,
+            BiFunction<DirectComplexArray, DirectComplexArray, DirectComplexArray> actual) {
+        final Complex[] values = createValues();
+        final ComplexArray e = expected.apply(ComplexArray.of(values));
+        // Destination containing other values
+        final DirectComplexArray array = DirectComplexArray.of(values);
+        final DirectComplexArray result = DirectComplexArray.of(values).exp();
+        Assertions.assertSame(result, actual.apply(array, result));
+        Assertions.assertEquals(e, result.toComplexArray());
+        Assertions.assertEquals(DirectComplexArray.of(values), array);
+        // In-place
+        Assertions.assertSame(array, actual.apply(array, array));
+        Assertions.assertEquals(e, array.toComplexArray());
+    }
+
+    private static void assertFunction(BinaryOperator<ComplexArray> expected,
+                                       BinaryOperator<DirectComplexArray> actual) {
+        final Complex[] values = createValues();
+        final Complex[] other = values.clone();
+        // Pair each value with a different value
+        for (int shift = 1; shift < values.length; shift += 17) {
+            for (int i = 0; i < values.length; i++) {
+                other[i] = values[(i + shift) % values.length];
+            }
+            Assertions.assertEquals(expected.apply(ComplexArray.of(values), ComplexArray.of(other)),
+                actual.apply(DirectComplexArray.of(values), DirectComplexArray.of(other)).toComplexArray());
+        }
+    }
+
+    /**
+     * Function of two arrays that writes to a destination array.
+     */
+    private interface DestinationOperator {
+        DirectComplexArray apply(DirectComplexArray a, DirectComplexArray b, DirectComplexArray result);
+    }
+
+    private static void assertFunctionWithDestination(BinaryOperator<ComplexArray> expected,
+                                                      DestinationOperator actual) {
+        final Complex[] values = createValues();
+        final Complex[] other = values.clone();
+        for (int i = 0; i < values.length; i++) {
+            other[i] = values[(i + 5) % values.length];
+        }
+        final ComplexArray e = expected.apply(ComplexArray.of(values), ComplexArray.of(other));
+        // Destination containing other values
+        DirectComplexArray a = DirectComplexArray.of(values);
+        DirectComplexArray b = DirectComplexArray.of(other);
+        final DirectComplexArray result = DirectComplexArray.of(other);
+        Assertions.assertSame(result, actual.apply(a, b, result));
+        Assertions.assertEquals(e, result.toComplexArray());
+        Assertions.assertEquals(DirectComplexArray.of(values), a);
+        Assertions.assertEquals(DirectComplexArray.of(other), b);
+        // In-place to either operand
+        Assertions.assertSame(a, actual.apply(a, b, a));
+        Assertions.assertEquals(e, a.toComplexArray());
+        a = DirectComplexArray.of(values);
+        Assertions.assertSame(b, actual.apply(a, b, b));
+        Assertions.assertEquals(e, b.toComplexArray());
+    }
+}
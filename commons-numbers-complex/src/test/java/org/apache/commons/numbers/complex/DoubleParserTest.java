@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link DoubleParser}.
+ */
+class DoubleParserTest {
+    private static double parse(String s) {
+        final String text = "[" + s + "]";
+        return DoubleParser.parse(text, 1, text.length() - 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "+0", "0.0", "-0.0", "00012", "1", "-1", "+1", "1.", ".5", "-.5",
+        "0.1", "0.3", "123.456", " 42 ", "\t-7\n", "1e0", "1e22", "1e-22", "1.5E+10", "-2.5e-7", "0e999999",
+        "1234567890123456", "0.0000000000000000000001", "9007199254740992", "4.35", "2.2250738585072E-8",
+        "1000000000000000e-2", "1.7976931348623"})
+    void testParsed(String s) {
+        final double v = parse(s);
+        Assertions.assertFalse(Double.isNaN(v), s);
+        Assertions.assertEquals(Double.parseDouble(s), v, s);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "-", "+", ".", "-.", "e5", "1e", "1e-", "1e+", "1.2.3", "1..", "1x",
+        "1d", "1f", "--1", "+-1", "1e5.0", "1 2", "NaN", "Infinity", "-Infinity", "0x1p3",
+        // Too many digits
+        "123456789012345678", "1.00000000000000000",
+        // Significand too large
+        "9007199254740993", "1.7976931348623157",
+        // Exponent too large
+        "1e23", "1e-23", "0.00000000000000000000001", "1e300", "4.9E-324"})
+    void testNotParsed(String s) {
+        Assertions.assertTrue(Double.isNaN(parse(s)), s);
+    }
+
+    @Test
+    void testRandomValues() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 7438762L);
+        int parsed = 0;
+        for (int i = 0; i < 2000; i++) {
+            final double x = Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(100) - 50);
+            final String s = Double.toString(x);
+            final double v = parse(s);
+            if (!Double.isNaN(v)) {
+                Assertions.assertEquals(x, v, s);
+                parsed++;
+            }
+            // Short decimal representations
+            final String s2 = String.format("%.6e", x);
+            final double v2 = parse(s2);
+            if (!Double.isNaN(v2)) {
+                Assertions.assertEquals(Double.parseDouble(s2), v2, s2);
+                parsed++;
+            }
+        }
+        Assertions.assertTrue(parsed > 2000, "Most values should be parsed");
+    }
+}
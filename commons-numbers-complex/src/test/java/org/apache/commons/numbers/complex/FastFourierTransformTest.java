@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link FastFourierTransform}.
+ */
+class FastFourierTransformTest {
+    @Test
+    void testInvalidLength() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FastFourierTransform.of(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FastFourierTransform.of(-1));
+        final FastFourierTransform fft = FastFourierTransform.of(4);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.forward(new double[4]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.inverse(new double[10]));
+    }
+
+    @Test
+    void testFactor() {
+        Assertions.assertArrayEquals(new int[] {2}, FastFourierTransform.factor(2));
+        Assertions.assertArrayEquals(new int[] {2, 2, 3}, FastFourierTransform.factor(12));
+        Assertions.assertArrayEquals(new int[] {3, 5, 7}, FastFourierTransform.factor(105));
+        Assertions.assertArrayEquals(new int[] {46337, 46337}, FastFourierTransform.factor(46337 * 46337));
+        // Prime factors above sqrt(2^31) where p * p overflows
+        Assertions.assertArrayEquals(new int[] {46349}, FastFourierTransform.factor(46349));
+        Assertions.assertArrayEquals(new int[] {2, 46351}, FastFourierTransform.factor(2 * 46351));
+        Assertions.assertArrayEquals(new int[] {Integer.MAX_VALUE},
+            FastFourierTransform.factor(Integer.MAX_VALUE));
+        Assertions.assertArrayEquals(new int[] {2, 1073741789},
+            FastFourierTransform.factor(2 * 1073741789));
+    }
+
+    @Test
+    void testCache() {
+        final FastFourierTransform fft = FastFourierTransform.of(12);
+        Assertions.assertEquals(12, fft.getLength());
+        Assertions.assertSame(fft, FastFourierTransform.of(12));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 15, 16, 17, 30, 32, 45, 49, 64, 97, 100, 128, 210, 256})
+    void testForward(int n) {
+        final double[] data = createData(n, 8934578L + n);
+        final double[] expected = dft(data, -1);
+        FastFourierTransform.of(n).forward(data);
+        assertEquals(expected, data, n);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 6, 8, 11, 16, 24, 35, 64, 81, 96})
+    void testInverse(int n) {
+        final double[] data = createData(n, 2394786L + n);
+        final double[] expected = dft(data, 1);
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] /= n;
+        }
+        FastFourierTransform.of(n).inverse(data);
+        assertEquals(expected, data, n);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 7, 18, 64, 120, 1024})
+    void testRoundTrip(int n) {
+        final double[] original = createData(n, 123472L + n);
+        final double[] data = original.clone();
+        final FastFourierTransform fft = FastFourierTransform.of(n);
+        fft.forward(data);
+        fft.inverse(data);
+        assertEquals(original, data, n);
+    }
+
+    @Test
+    void testImpulse() {
+        // The transform of a unit impulse at zero is constant
+        final int n = 12;
+        final double[] data = new double[2 * n];
+        data[0] = 1;
+        FastFourierTransform.of(n).forward(data);
+        for (int k = 0; k < n; k++) {
+            Assertions.assertEquals(1, data[2 * k]);
+            Assertions.assertEquals(0, data[2 * k + 1]);
+        }
+    }
+
+    private static double[] createData(int n, long seed) {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, seed);
+        final double[] data = new double[2 * n];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = rng.nextDouble() * 2 - 1;
+        }
+        return data;
+    }
+
+    /**
+     * Compute the unscaled discrete Fourier transform using the definition.
+     */
+    private static double[] dft(double[] data, int sign) {
+        final int n = data.length / 2;
+        final double[] result = new double[data.length];
+        for (int k = 0; k < n; k++) {
+            double re = 0;
+            double im = 0;
+            for (int j = 0; j < n; j++) {
+                // Reduce the index to preserve accuracy of the angle
+                final double theta = sign * 2 * Math.PI * (((long) j * k) % n) / n;
+                final double c = Math.cos(theta);
+                final double s = Math.sin(theta);
+                re += data[2 * j] * c - data[2 * j + 1] * s;
+                im += data[2 * j] * s + data[2 * j + 1] * c;
+            }
+            result[2 * k] = re;
+            result[2 * k + 1] = im;
+        }
+        return result;
+    }
+
+    private static void assertEquals(double[] expected, double[] actual, int n) {
+        final double tol = 1e-14 * n * Math.max(1, Math.log(n));
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i], actual[i], tol, "index " + i);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MutableComplex}.
+ */
+class MutableComplexTest {
+    private static final double inf = Double.POSITIVE_INFINITY;
+    private static final double nan = Double.NaN;
+
+    /** Special values for the parts of a complex number. */
+    private static final double[] PARTS = {0.0, -0.0, 0.5, 1.0, -1.5, 1e300, -1e-310, inf, -inf, nan};
+
+    /**
+     * Create an array containing all combinations of the special parts followed by
+     * random finite values.
+     *
+     * @return the array
+     */
+    private static Complex[] createValues() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 92837423L);
+        final int n = PARTS.length * PARTS.length;
+        final Complex[] values = new Complex[n + 50];
+        int i = 0;
+        for (final double re : PARTS) {
+            for (final double im : PARTS) {
+                values[i++] = Complex.ofCartesian(re, im);
+            }
+        }
+        while (i < values.length) {
+            values[i++] = Complex.ofCartesian(rng.nextDouble() * 20 - 10, rng.nextDouble() * 20 - 10);
+        }
+        return values;
+    }
+
+    @Test
+    void testConstruction() {
+        final MutableComplex z = MutableComplex.ofCartesian(1.5, -2.5);
+        Assertions.assertEquals(1.5, z.getReal());
+        Assertions.assertEquals(-2.5, z.getImaginary());
+        Assertions.assertEquals(Complex.ofCartesian(1.5, -2.5), z.toComplex());
+        Assertions.assertEquals("(1.5,-2.5)", z.toString());
+        final Complex c = Complex.ofCartesian(3, 4);
+        Assertions.assertEquals(c, MutableComplex.of(c).toComplex());
+        Assertions.assertSame(z, z.set(c));
+        Assertions.assertEquals(c, z.toComplex());
+        Assertions.assertSame(z, z.set(-1, -2));
+        Assertions.assertEquals(Complex.ofCartesian(-1, -2), z.toComplex());
+        Assertions.assertSame(z, z.set(MutableComplex.ofCartesian(5, 6)));
+        Assertions.assertEquals(Complex.ofCartesian(5, 6), z.toComplex());
+    }
+
+    @Test
+    void testSink() {
+        final MutableComplex z = MutableComplex.ofCartesian(0, 0);
+        Assertions.assertSame(z, ComplexFunctions.exp(1, 2, z));
+        Assertions.assertEquals(Complex.ofCartesian(1, 2).exp(), z.toComplex());
+    }
+
+    @Test
+    void testMandelbrotIteration() {
+        final Complex c = Complex.ofCartesian(-0.5, 0.5);
+        final MutableComplex z = MutableComplex.ofCartesian(0, 0);
+        Complex expected = Complex.ZERO;
+        for (int i = 0; i < 20; i++) {
+            z.multiply(z).add(c);
+            expected = expected.multiply(expected).add(c);
+            Assertions.assertEquals(expected, z.toComplex());
+        }
+    }
+
+    @Test
+    void testProperties() {
+        assertProperty(Complex::abs, MutableComplex::abs);
+        assertProperty(Complex::arg, MutableComplex::arg);
+        assertProperty(Complex::norm, MutableComplex::norm);
+        assertPredicate(Complex::isNaN, MutableComplex::isNaN);
+        assertPredicate(Complex::isInfinite, MutableComplex::isInfinite);
+        assertPredicate(Complex::isFinite, MutableComplex::isFinite);
+    }
+
+    @Test
+    void testUnaryFunctions() {
+        assertFunction(Complex::conj, MutableComplex::conj);
+        assertFunction(Complex::negate, MutableComplex::negate);
+        assertFunction(Complex::proj, MutableComplex::proj);
+        assertFunction(Complex::exp, MutableComplex::exp);
+        assertFunction(Complex::log, MutableComplex::log);
+        assertFunction(Complex::log10, MutableComplex::log10);
+        assertFunction(Complex::sqrt, MutableComplex::sqrt);
+        assertFunction(Complex::sin, MutableComplex::sin);
+        assertFunction(Complex::cos, MutableComplex::cos);
+        assertFunction(Complex::tan, MutableComplex::tan);
+        assertFunction(Complex::asin, MutableComplex::asin);
+        assertFunction(Complex::acos, MutableComplex::acos);
+        assertFunction(Complex::atan, MutableComplex::atan);
+        assertFunction(Complex::sinh, MutableComplex::sinh);
+        assertFunction(Complex::cosh, MutableComplex::cosh);
+        assertFunction(Complex::tanh, MutableComplex::tanh);
+        assertFunction(Complex::asinh, MutableComplex::asinh);
+        assertFunction(Complex::acosh, MutableComplex::acosh);
+        assertFunction(Complex::atanh, MutableComplex::atanh);
+    }
+
+    @Test
+    void testBinaryFunctions() {
+        assertFunction(Complex::add, MutableComplex::add);
+        assertFunction(Complex::subtract, MutableComplex::subtract);
+        assertFunction(Complex::multiply, MutableComplex::multiply);
+        assertFunction(Complex::divide, MutableComplex::divide);
+        assertFunction(Complex::pow, MutableComplex::pow);
+        // Use the mutable argument
+        assertFunction(Complex::add, (z, x) -> z.add(MutableComplex.of(x)));
+        assertFunction(Complex::subtract, (z, x) -> z.subtract(MutableComplex.of(x)));
+        assertFunction(Complex::multiply, (z, x) -> z.multiply(MutableComplex.of(x)));
+        assertFunction(Complex::divide, (z, x) -> z.divide(MutableComplex.of(x)));
+    }
+
+    @Test
+    void testRealFunctions() {
+        for (final double x : PARTS) {
+            assertFunction(z -> z.add(x), z -> z.add(x));
+            assertFunction(z -> z.addImaginary(x), z -> z.addImaginary(x));
+            assertFunction(z -> z.subtract(x), z -> z.subtract(x));
+            assertFunction(z -> z.subtractImaginary(x), z -> z.subtractImaginary(x));
+            assertFunction(z -> z.subtractFrom(x), z -> z.subtractFrom(x));
+            assertFunction(z -> z.subtractFromImaginary(x), z -> z.subtractFromImaginary(x));
+            assertFunction(z -> z.multiply(x), z -> z.multiply(x));
+            assertFunction(z -> z.multiplyImaginary(x), z -> z.multiplyImaginary(x));
+            assertFunction(z -> z.divide(x), z -> z.divide(x));
+            assertFunction(z -> z.divideImaginary(x), z -> z.divideImaginary(x));
+            assertFunction(z -> z.pow(x), z -> z.pow(x));
+        }
+    }
+
+    @Test
+    void testSelfArgument() {
+        for (final Complex c : createValues()) {
+            final MutableComplex z = MutableComplex.of(c);
+            Assertions.assertEquals(c.multiply(c), z.multiply(z).toComplex(), () -> c.toString());
+            z.set(c);
+            Assertions.assertEquals(c.divide(c), z.divide(z).toComplex(), () -> c.toString());
+            z.set(c);
+            Assertions.assertEquals(c.add(c), z.add(z).toComplex(), () -> c.toString());
+            z.set(c);
+            Assertions.assertEquals(c.subtract(c), z.subtract(z).toComplex(), () -> c.toString());
+        }
+    }
+
+    private static void assertProperty(ToDoubleFunction<Complex> expected,
+                                       ToDoubleFunction<MutableComplex> actual) {
+        for (final Complex c : createValues()) {
+            Assertions.assertEquals(expected.applyAsDouble(c), actual.applyAsDouble(MutableComplex.of(c)),
+                () -> c.toString());
+        }
+    }
+
+    private static void assertPredicate(Predicate<Complex> expected,
+                                        Predicate<MutableComplex> actual) {
+        for (final Complex c : createValues()) {
+            Assertions.assertEquals(expected.test(c), actual.test(MutableComplex.of(c)), () -> c.toString());
+        }
+    }
+
+    private static void assertFunction(UnaryOperator<Complex> expected,
+                                       UnaryOperator<MutableComplex> actual) {
+        for (final Complex c : createValues()) {
+            final MutableComplex z = MutableComplex.of(c);
+            Assertions.assertSame(z, actual.apply(z));
+            Assertions.assertEquals(expected.apply(c), z.toComplex(), () -> c.toString());
+        }
+    }
+
+    private static void assertFunction(BinaryOperator<Complex> expected,
+                                       BiFunction<MutableComplex, Complex, MutableComplex> actual) {
+        final Complex[] values = createValues();
+        // Pair each value with all others using rotation of the array
+        for (int shift = 0; shift < values.length; shift += 7) {
+            for (int i = 0; i < values.length; i++) {
+                final Complex c1 = values[i];
+                final Complex c2 = values[(i + shift) % values.length];
+                final MutableComplex z = MutableComplex.of(c1);
+                Assertions.assertSame(z, actual.apply(z, c2));
+                Assertions.assertEquals(expected.apply(c1, c2), z.toComplex(), () -> c1 + " " + c2);
+            }
+        }
+    }
+}
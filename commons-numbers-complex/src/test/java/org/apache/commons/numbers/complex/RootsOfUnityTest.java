@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link RootsOfUnity}.
+ */
+class RootsOfUnityTest {
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 7, 8, 12, 100})
+    void testValues(int n) {
+        final RootsOfUnity roots = RootsOfUnity.of(n);
+        Assertions.assertEquals(n, roots.size());
+        final List<Complex> expected = Complex.ONE.nthRoot(n);
+        final double[] cos = roots.getCos();
+        final double[] sin = roots.getSin();
+        Assertions.assertEquals(n, cos.length);
+        Assertions.assertEquals(n, sin.length);
+        for (int k = 0; k < n; k++) {
+            final Complex z = expected.get(k);
+            Assertions.assertEquals(z.getReal(), roots.getCos(k), 1e-14);
+            Assertions.assertEquals(z.getImaginary(), roots.getSin(k), 1e-14);
+            Assertions.assertEquals(Complex.ofCartesian(cos[k], sin[k]), roots.get(k));
+        }
+        Assertions.assertEquals(Complex.ONE, roots.get(0));
+    }
+
+    @Test
+    void testCopies() {
+        final RootsOfUnity roots = RootsOfUnity.of(6);
+        roots.getCos()[1] = 42;
+        roots.getSin()[1] = 42;
+        Assertions.assertEquals(0.5, roots.getCos(1), 1e-15);
+        Assertions.assertEquals(Math.sqrt(3) / 2, roots.getSin(1), 1e-15);
+    }
+
+    @Test
+    void testBuffers() {
+        final RootsOfUnity roots = RootsOfUnity.of(6);
+        final DoubleBuffer cos = roots.getCosBuffer();
+        final DoubleBuffer sin = roots.getSinBuffer();
+        Assertions.assertTrue(cos.isReadOnly());
+        Assertions.assertTrue(sin.isReadOnly());
+        Assertions.assertEquals(0, cos.position());
+        Assertions.assertEquals(6, cos.limit());
+        Assertions.assertEquals(6, sin.remaining());
+        for (int k = 0; k < 6; k++) {
+            Assertions.assertEquals(roots.getCos(k), cos.get());
+            Assertions.assertEquals(roots.getSin(k), sin.get(k));
+        }
+        Assertions.assertThrows(ReadOnlyBufferException.class, () -> cos.put(1, 42));
+        Assertions.assertThrows(ReadOnlyBufferException.class, () -> sin.put(1, 42));
+        // Each view is independent
+        Assertions.assertEquals(0, roots.getCosBuffer().position());
+        final double[] dest = new double[8];
+        roots.getSinBuffer().get(dest, 2, 6);
+        Assertions.assertEquals(roots.getSin(1), dest[3]);
+    }
+
+    @Test
+    void testInvalidSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RootsOfUnity.of(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RootsOfUnity.of(-1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> RootsOfUnity.of(3).get(3));
+    }
+
+    @Test
+    void testCache() {
+        // Use sizes not used by other tests
+        final int base = 12345;
+        final RootsOfUnity first = RootsOfUnity.of(base);
+        final RootsOfUnity second = RootsOfUnity.of(base + 1);
+        Assertions.assertSame(first, RootsOfUnity.of(base));
+        // Fill the cache. The first table is the most recently used and is retained;
+        // the second table is evicted.
+        for (int i = 2; i < RootsOfUnity.CACHE_SIZE; i++) {
+            RootsOfUnity.of(base + i);
+        }
+        Assertions.assertSame(first, RootsOfUnity.of(base));
+        RootsOfUnity.of(base + RootsOfUnity.CACHE_SIZE);
+        Assertions.assertSame(first, RootsOfUnity.of(base));
+        Assertions.assertNotSame(second, RootsOfUnity.of(base + 1));
+    }
+
+    @Test
+    void testConcurrentAccess() {
+        final int n = 54321;
+        final RootsOfUnity[] tables = IntStream.range(0, 64).parallel()
+            .mapToObj(i -> RootsOfUnity.of(n)).toArray(RootsOfUnity[]::new);
+        for (final RootsOfUnity t : tables) {
+            Assertions.assertSame(tables[0], t);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.examples.jmh.complex;
+
+import org.apache.commons.numbers.complex.ComplexArray;
+import org.apache.commons.numbers.complex.ComplexFunctions;
+import org.apache.commons.numbers.complex.ComplexSink;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a benchmark to compare the element-wise multiplication and division of
+ * {@link ComplexArray} to a loop over the arrays using the scalar functions in
+ * {@link ComplexFunctions}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class ComplexArrayPerformance {
+    /**
+     * Contains the arrays of complex numbers.
+     */
+    @State(Scope.Benchmark)
+    public static class Numbers {
+        /**
+         * The size of the data.
+         */
+        @Param({"1000", "100000"})
+        private int size;
+
+        /**
+         * The type of the data. Finite values are in the range where the direct
+         * formulas are used. Edge values contain infinite and NaN parts in
+         * approximately 1 in 8 elements.
+         */
+        @Param({"finite", "edge"})
+        private String type;
+
+        /** The first array. */
+        private ComplexArray x;
+        /** The second array. */
+        private ComplexArray y;
+        /** The parts of the arrays: {re1, im1, re2, im2}. */
+        private double[][] parts;
+
+        /**
+         * Gets the first array.
+         *
+         * @return the array
+         */
+        public ComplexArray getX() {
+            return x;
+        }
+
+        /**
+         * Gets the second array.
+         *
+         * @return the array
+         */
+        public ComplexArray getY() {
+            return y;
+        }
+
+        /**
+         * Gets the parts of the arrays: {re1, im1, re2, im2}.
+         *
+         * @return the parts
+         */
+        public double[][] getParts() {
+            return parts;
+        }
+
+        /**
+         * Create the complex numbers.
+         */
+        @Setup
+        public void setup() {
+            final SplittableRandom rng = new SplittableRandom();
+            parts = new double[4][];
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = createPart(rng);
+            }
+            x = ComplexArray.ofCartesian(parts[0], parts[1]);
+            y = ComplexArray.ofCartesian(parts[2], parts[3]);
+        }
+
+        /**
+         * Creates the part of a complex array.
+         *
+         * @param rng Random number generator.
+         * @return the part
+         */
+        private double[] createPart(SplittableRandom rng) {
+            final double[] part = new double[size];
+            final boolean edge = "edge".equals(type);
+            for (int i = 0; i < size; i++) {
+                part[i] = rng.nextDouble(-10, 10);
+                if (edge && rng.nextInt(32) == 0) {
+                    part[i] = rng.nextBoolean() ? Double.POSITIVE_INFINITY : Double.NaN;
+                }
+            }
+            return part;
+        }
+    }
+
+    /**
+     * Write the result of a complex function to an index of arrays.
+     */
+    private static final class ArrayWriter implements ComplexSink<Void> {
+        /** The real parts. */
+        private final double[] re;
+        /** The imaginary parts. */
+        private final double[] im;
+        /** The current index. */
+        private int index;
+
+        /**
+         * @param size Size of the arrays.
+         */
+        ArrayWriter(int size) {
+            re = new double[size];
+            im = new double[size];
+        }
+
+        @Override
+        public Void apply(double real, double imaginary) {
+            re[index] = real;
+            im[index] = imaginary;
+            return null;
+        }
+    }
+
+    /**
+     * Multiply each element using the scalar function.
+     *
+     * @param numbers Numbers.
+     * @return the result
+     */
+    @Benchmark
+    public double[] multiplyScalar(Numbers numbers) {
+        final double[][] parts = numbers.getParts();
+        final double[] a = parts[0];
+        final double[] b = parts[1];
+        final double[] c = parts[2];
+        final double[] d = parts[3];
+        final ArrayWriter writer = new ArrayWriter(a.length);
+        for (int i = 0; i < a.length; i++) {
+            writer.index = i;
+            ComplexFunctions.multiply(a[i], b[i], c[i], d[i], writer);
+        }
+        return writer.re;
+    }
+
+    /**
+     * Multiply using the array.
+     *
+     * @param numbers Numbers.
+     * @return the result
+     */
+    @Benchmark
+    public ComplexArray multiplyArray(Numbers numbers) {
+        return numbers.getX().multiply(numbers.getY());
+    }
+
+    /**
+     * Divide each element using the scalar function.
+     *
+     * @param numbers Numbers.
+     * @return the result
+     */
+    @Benchmark
+    public double[] divideScalar(Numbers numbers) {
+        final double[][] parts = numbers.getParts();
+        final double[] a = parts[0];
+        final double[] b = parts[1];
+        final double[] c = parts[2];
+        final double[] d = parts[3];
+        final ArrayWriter writer = new ArrayWriter(a.length);
+        for (int i = 0; i < a.length; i++) {
+            writer.index = i;
+            ComplexFunctions.divide(a[i], b[i], c[i], d[i], writer);
+        }
+        return writer.re;
+    }
+
+    /**
+     * Divide using the array.
+     *
+     * @param numbers Numbers.
+     * @return the result
+     */
+    @Benchmark
+    public ComplexArray divideArray(Numbers numbers) {
+        return numbers.getX().divide(numbers.getY());
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.commons.numbers.examples.jmh.complex;
 
 import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexArray;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.distribution.ZigguratNormalizedGaussianSampler;
 import org.apache.commons.rng.simple.RandomSource;
@@ -34,6 +35,7 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -60,8 +62,22 @@ public class ComplexPerformance {
         Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MAX_VALUE,
         -Double.MAX_VALUE, Double.MIN_VALUE, -Double.MIN_VALUE, 0.0, -0.0, Double.NaN};
 
+    /** An array of non-finite numbers: {@code +/-inf, nan}. */
+    private static final double[] NON_FINITE_NUMBERS = {
+        Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN};
+
     /** The range to use for uniform random numbers. */
     private static final double RANGE = 3.456789;
+    /** The minimum exponent of huge numbers. */
+    private static final int HUGE_EXPONENT = 500;
+    /** The maximum exponent of tiny numbers. */
+    private static final int TINY_EXPONENT = -500;
+    /** The root to compute for the nthRoot benchmark. */
+    private static final int ROOT = 3;
+    /** The exponent for the array power benchmarks. */
+    private static final Complex POWER = Complex.ofCartesian(1.2345, -0.5);
+    /** The integer exponent for the array power benchmark. */
+    private static final int INTEGER_POWER = 13;
 
     /**
      * Contains the size of numbers.
@@ -95,7 +111,8 @@ public class ComplexPerformance {
         /**
          * The type of the data.
          */
-        @Param({"cis", "vector", "log-uniform", "uniform", "edge"})
+        @Param({"cis", "vector", "log-uniform", "uniform", "edge", "mixed",
+                "branch-cut", "huge", "tiny", "non-finite"})
         private String type;
 
         /**
@@ -139,6 +156,18 @@ public class ComplexPerformance {
                 generator = () -> Complex.ofCartesian(createUniformNumber(rng), createUniformNumber(rng));
             } else if ("edge".equals(type)) {
                 generator = () -> Complex.ofCartesian(createEdgeNumber(rng), createEdgeNumber(rng));
+            } else if ("mixed".equals(type)) {
+                generator = () -> Complex.ofCartesian(createMixedNumber(rng), createMixedNumber(rng));
+            } else if ("branch-cut".equals(type)) {
+                generator = () -> createBranchCutNumber(rng);
+            } else if ("huge".equals(type)) {
+                generator = () -> Complex.ofCartesian(createScaledNumber(rng, HUGE_EXPONENT, Double.MAX_EXPONENT),
+                                                      createScaledNumber(rng, HUGE_EXPONENT, Double.MAX_EXPONENT));
+            } else if ("tiny".equals(type)) {
+                generator = () -> Complex.ofCartesian(createScaledNumber(rng, Double.MIN_EXPONENT - 52, TINY_EXPONENT),
+                                                      createScaledNumber(rng, Double.MIN_EXPONENT - 52, TINY_EXPONENT));
+            } else if ("non-finite".equals(type)) {
+                generator = () -> createNonFiniteNumber(rng);
             } else {
                 throw new IllegalStateException("Unknown number type: " + type);
             }
@@ -206,6 +235,46 @@ public class ComplexPerformance {
         }
     }
 
+    /**
+     * Contains two arrays of complex numbers stored as {@link ComplexArray}.
+     */
+    @State(Scope.Benchmark)
+    public static class TwoComplexArrays extends TwoComplexNumbers {
+        /** The numbers. */
+        private ComplexArray array;
+        /** The numbers. */
+        private ComplexArray array2;
+
+        /**
+         * Gets the numbers.
+         *
+         * @return the numbers
+         */
+        public ComplexArray getArray() {
+            return array;
+        }
+
+        /**
+         * Gets the second set of numbers.
+         *
+         * @return the numbers
+         */
+        public ComplexArray getArray2() {
+            return array2;
+        }
+
+        /**
+         * Create the complex numbers.
+         */
+        @Override
+        @Setup
+        public void setup() {
+            super.setup();
+            array = ComplexArray.of(getNumbers());
+            array2 = ComplexArray.of(getNumbers2());
+        }
+    }
+
     /**
      * Define a function between a complex and real number.
      */
@@ -267,6 +336,75 @@ public class ComplexPerformance {
         return EDGE_NUMBERS[rng.nextInt(EDGE_NUMBERS.length)];
     }
 
+    /**
+     * Creates a random double number that is uniform with a 1 in 16 chance of an edge case:
+     * {@code +/-inf, +/-max, +/-min, +/-0, nan}.
+     *
+     * @param rng Random number generator.
+     * @return the random number
+     */
+    private static double createMixedNumber(UniformRandomProvider rng) {
+        return rng.nextInt(16) == 0 ? createEdgeNumber(rng) : createUniformNumber(rng);
+    }
+
+    /**
+     * Creates a random double number with a random sign and a magnitude in
+     * {@code [2^min, 2^(max+1))}. Sub-normal numbers are created if the minimum exponent
+     * is below {@link Double#MIN_EXPONENT}.
+     *
+     * @param rng Random number generator.
+     * @param min Minimum exponent.
+     * @param max Maximum exponent.
+     * @return the random number
+     */
+    private static double createScaledNumber(UniformRandomProvider rng, int min, int max) {
+        final double x = 1 + rng.nextDouble();
+        final int exp = min + rng.nextInt(max - min + 1);
+        return Math.scalb(rng.nextBoolean() ? x : -x, exp);
+    }
+
+    /**
+     * Creates a random complex number on or next to the branch cuts of the
+     * ISO C99 functions. One part is uniform and the other is zero or very close to zero.
+     * The branch cuts are on the real or imaginary axis outside the interval
+     * {@code [-1, 1]}, or on the negative real axis.
+     *
+     * @param rng Random number generator.
+     * @return the random complex number
+     */
+    private static Complex createBranchCutNumber(UniformRandomProvider rng) {
+        final double x = createUniformNumber(rng);
+        final double small;
+        switch (rng.nextInt(3)) {
+        case 0:
+            small = 0.0;
+            break;
+        case 1:
+            small = Double.MIN_VALUE;
+            break;
+        default:
+            small = Math.ulp(1.0) * rng.nextDouble();
+            break;
+        }
+        final double y = rng.nextBoolean() ? small : -small;
+        return rng.nextBoolean() ? Complex.ofCartesian(x, y) : Complex.ofCartesian(y, x);
+    }
+
+    /**
+     * Creates a random complex number with at least one non-finite part:
+     * {@code +/-inf, nan}. The other part is uniform.
+     *
+     * @param rng Random number generator.
+     * @return the random complex number
+     */
+    private static Complex createNonFiniteNumber(UniformRandomProvider rng) {
+        final double x = NON_FINITE_NUMBERS[rng.nextInt(NON_FINITE_NUMBERS.length)];
+        final double y = rng.nextBoolean() ?
+            NON_FINITE_NUMBERS[rng.nextInt(NON_FINITE_NUMBERS.length)] :
+            createUniformNumber(rng);
+        return rng.nextBoolean() ? Complex.ofCartesian(x, y) : Complex.ofCartesian(y, x);
+    }
+
     /**
      * Apply the function to all the numbers.
      *
@@ -590,6 +728,35 @@ public class ComplexPerformance {
         apply(numbers.getNumbers(), Complex::atanh, bh);
     }
 
+    @Benchmark
+    public void nthRoot(ComplexNumbers numbers, Blackhole bh) {
+        final Complex[] z = numbers.getNumbers();
+        for (int i = 0; i < z.length; i++) {
+            final List<Complex> roots = z[i].nthRoot(ROOT);
+            bh.consume(roots);
+        }
+    }
+
+    // Text conversion.
+
+    @Benchmark
+    public void formatToString(ComplexNumbers numbers, Blackhole bh) {
+        final Complex[] z = numbers.getNumbers();
+        for (int i = 0; i < z.length; i++) {
+            bh.consume(z[i].toString());
+        }
+    }
+
+    @Benchmark
+    public void formatAppendTo(ComplexNumbers numbers, Blackhole bh) {
+        final Complex[] z = numbers.getNumbers();
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < z.length; i++) {
+            sb.setLength(0);
+            bh.consume(z[i].appendTo(sb).length());
+        }
+    }
+
     // Binary operations on two complex numbers.
 
     @Benchmark
@@ -607,6 +774,38 @@ public class ComplexPerformance {
         apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::divide, bh);
     }
 
+    /**
+     * Multiplication using the direct formula without the recovery of infinite results.
+     * This is a lower bound on the run-time of {@link #multiply(TwoComplexNumbers, Blackhole)}.
+     */
+    @Benchmark
+    public void multiplyNoRecovery(TwoComplexNumbers numbers, Blackhole bh) {
+        apply(numbers.getNumbers(), numbers.getNumbers2(), (x, y) -> {
+            final double a = x.getReal();
+            final double b = x.getImaginary();
+            final double c = y.getReal();
+            final double d = y.getImaginary();
+            return Complex.ofCartesian(a * c - b * d, a * d + b * c);
+        }, bh);
+    }
+
+    /**
+     * Division using the direct formula without scaling and without the recovery of
+     * infinite results. This is a lower bound on the run-time of
+     * {@link #divide(TwoComplexNumbers, Blackhole)}.
+     */
+    @Benchmark
+    public void divideNoRecovery(TwoComplexNumbers numbers, Blackhole bh) {
+        apply(numbers.getNumbers(), numbers.getNumbers2(), (x, y) -> {
+            final double a = x.getReal();
+            final double b = x.getImaginary();
+            final double c = y.getReal();
+            final double d = y.getImaginary();
+            final double denom = c * c + d * d;
+            return Complex.ofCartesian((a * c + b * d) / denom, (b * c - a * d) / denom);
+        }, bh);
+    }
+
     @Benchmark
     public void add(TwoComplexNumbers numbers, Blackhole bh) {
         apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::add, bh);
@@ -618,15 +817,6 @@ public class ComplexPerformance {
     }
 
     // Binary operations on a complex and a real number.
-    // These only benchmark methods on the real component as the
-    // following are expected to be the same speed as the real-only operations
-    // given the equivalent primitive operations:
-    // - multiplyImaginary
-    // - divideImaginary
-    // - addImaginary
-    // - subtractImaginary
-    // - subtractFrom
-    // - subtractFromImaginary
 
     @Benchmark
     public void powReal(ComplexAndRealNumbers numbers, Blackhole bh) {
@@ -652,4 +842,111 @@ public class ComplexPerformance {
     public void subtractReal(ComplexAndRealNumbers numbers, Blackhole bh) {
         apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::subtract, bh);
     }
+
+    @Benchmark
+    public void subtractFromReal(ComplexAndRealNumbers numbers, Blackhole bh) {
+        apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::subtractFrom, bh);
+    }
+
+    @Benchmark
+    public void multiplyImaginary(ComplexAndRealNumbers numbers, Blackhole bh) {
+        apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::multiplyImaginary, bh);
+    }
+
+    @Benchmark
+    public void divideImaginary(ComplexAndRealNumbers numbers, Blackhole bh) {
+        apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::divideImaginary, bh);
+    }
+
+    @Benchmark
+    public void addImaginary(ComplexAndRealNumbers numbers, Blackhole bh) {
+        apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::addImaginary, bh);
+    }
+
+    @Benchmark
+    public void subtractImaginary(ComplexAndRealNumbers numbers, Blackhole bh) {
+        apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::subtractImaginary, bh);
+    }
+
+    @Benchmark
+    public void subtractFromImaginary(ComplexAndRealNumbers numbers, Blackhole bh) {
+        apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::subtractFromImaginary, bh);
+    }
+
+    // Bulk operations on arrays of complex numbers. The time can be compared with the
+    // equivalent operation applied to each number to measure the per-call overhead.
+
+    @Benchmark
+    public double[] absArray(TwoComplexArrays numbers) {
+        return numbers.getArray().abs();
+    }
+
+    @Benchmark
+    public double[] argArray(TwoComplexArrays numbers) {
+        return numbers.getArray().arg();
+    }
+
+    @Benchmark
+    public ComplexArray expArray(TwoComplexArrays numbers) {
+        return numbers.getArray().exp();
+    }
+
+    @Benchmark
+    public ComplexArray logArray(TwoComplexArrays numbers) {
+        return numbers.getArray().log();
+    }
+
+    @Benchmark
+    public ComplexArray sqrtArray(TwoComplexArrays numbers) {
+        return numbers.getArray().sqrt();
+    }
+
+    @Benchmark
+    public ComplexArray addArray(TwoComplexArrays numbers) {
+        return numbers.getArray().add(numbers.getArray2());
+    }
+
+    @Benchmark
+    public ComplexArray multiplyArray(TwoComplexArrays numbers) {
+        return numbers.getArray().multiply(numbers.getArray2());
+    }
+
+    @Benchmark
+    public ComplexArray divideArray(TwoComplexArrays numbers) {
+        return numbers.getArray().divide(numbers.getArray2());
+    }
+
+    /**
+     * Raise each number to the same complex exponent.
+     * This can be compared with {@link #pow(TwoComplexNumbers, Blackhole)}.
+     */
+    @Benchmark
+    public ComplexArray powArray(TwoComplexArrays numbers) {
+        return numbers.getArray().pow(POWER);
+    }
+
+    /**
+     * Raise each number to the same real exponent.
+     * This can be compared with {@link #powReal(ComplexAndRealNumbers, Blackhole)}.
+     */
+    @Benchmark
+    public ComplexArray powRealArray(TwoComplexArrays numbers) {
+        return numbers.getArray().pow(POWER.getReal());
+    }
+
+    /**
+     * Raise each number to the same integer exponent.
+     */
+    @Benchmark
+    public ComplexArray powIntArray(TwoComplexArrays numbers) {
+        return numbers.getArray().pow(INTEGER_POWER);
+    }
+
+    /**
+     * Raise the same base to each complex exponent.
+     */
+    @Benchmark
+    public ComplexArray powBaseArray(TwoComplexArrays numbers) {
+        return ComplexArray.pow(POWER, numbers.getArray());
+    }
 }
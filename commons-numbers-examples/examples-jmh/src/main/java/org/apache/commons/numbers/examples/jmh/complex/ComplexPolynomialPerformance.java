@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.examples.jmh.complex;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexPolynomial;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a benchmark to estimate the speed of evaluation of a polynomial with
+ * complex coefficients, and of finding the roots of the polynomial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class ComplexPolynomialPerformance {
+    /**
+     * Contains a polynomial and the points at which to evaluate it.
+     */
+    @State(Scope.Benchmark)
+    public static class PolynomialData {
+        /** The degree of the polynomial. */
+        @Param({"4", "16"})
+        private int degree;
+
+        /** The number of points. */
+        @Param({"1000"})
+        private int size;
+
+        /** The coefficients. */
+        private Complex[] coefficients;
+        /** The polynomial. */
+        private ComplexPolynomial polynomial;
+        /** The points. */
+        private Complex[] points;
+        /** The points as interleaved real and imaginary parts. */
+        private double[] interleaved;
+        /** The result for interleaved data. */
+        private double[] result;
+
+        /**
+         * Gets the coefficients.
+         *
+         * @return the coefficients
+         */
+        public Complex[] getCoefficients() {
+            return coefficients;
+        }
+
+        /**
+         * Gets the polynomial.
+         *
+         * @return the polynomial
+         */
+        public ComplexPolynomial getPolynomial() {
+            return polynomial;
+        }
+
+        /**
+         * Gets the points.
+         *
+         * @return the points
+         */
+        public Complex[] getPoints() {
+            return points;
+        }
+
+        /**
+         * Gets the points as interleaved real and imaginary parts.
+         *
+         * @return the points
+         */
+        public double[] getInterleaved() {
+            return interleaved;
+        }
+
+        /**
+         * Gets the result array for interleaved data.
+         *
+         * @return the result
+         */
+        public double[] getResult() {
+            return result;
+        }
+
+        /**
+         * Create the polynomial and the points.
+         */
+        @Setup
+        public void setup() {
+            final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP);
+            coefficients = new Complex[degree + 1];
+            for (int i = 0; i < coefficients.length; i++) {
+                coefficients[i] = Complex.ofCartesian(rng.nextDouble() * 2 - 1, rng.nextDouble() * 2 - 1);
+            }
+            polynomial = ComplexPolynomial.of(coefficients);
+            points = new Complex[size];
+            interleaved = new double[size * 2];
+            for (int i = 0; i < size; i++) {
+                final double re = rng.nextDouble() * 2 - 1;
+                final double im = rng.nextDouble() * 2 - 1;
+                points[i] = Complex.ofCartesian(re, im);
+                interleaved[2 * i] = re;
+                interleaved[2 * i + 1] = im;
+            }
+            result = new double[size * 2];
+        }
+    }
+
+    /**
+     * Evaluate the polynomial using Horner's method with {@link Complex} arithmetic.
+     * This creates two objects per term.
+     *
+     * @param data Data.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void valueComplex(PolynomialData data, Blackhole bh) {
+        final Complex[] c = data.getCoefficients();
+        for (final Complex z : data.getPoints()) {
+            Complex r = c[c.length - 1];
+            for (int i = c.length - 2; i >= 0; i--) {
+                r = r.multiply(z).add(c[i]);
+            }
+            bh.consume(r);
+        }
+    }
+
+    /**
+     * Evaluate the polynomial at each {@link Complex} point.
+     *
+     * @param data Data.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void value(PolynomialData data, Blackhole bh) {
+        final ComplexPolynomial p = data.getPolynomial();
+        for (final Complex z : data.getPoints()) {
+            bh.consume(p.value(z));
+        }
+    }
+
+    /**
+     * Evaluate the polynomial at each point of interleaved data.
+     *
+     * @param data Data.
+     * @return the result
+     */
+    @Benchmark
+    public double[] valueInterleaved(PolynomialData data) {
+        final double[] result = data.getResult();
+        data.getPolynomial().value(data.getInterleaved(), result);
+        return result;
+    }
+
+    /**
+     * Find the roots of the polynomial.
+     *
+     * @param data Data.
+     * @return the roots
+     */
+    @Benchmark
+    public Complex[] roots(PolynomialData data) {
+        return data.getPolynomial().roots();
+    }
+}
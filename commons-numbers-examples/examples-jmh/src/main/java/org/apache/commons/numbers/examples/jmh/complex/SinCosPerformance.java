@@ -18,6 +18,8 @@
 package org.apache.commons.numbers.examples.jmh.complex;
 
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.numbers.complex.streams.ComplexUtils;
+import org.apache.commons.numbers.complex.streams.SplitComplexArrays;
 import org.apache.commons.numbers.core.Precision;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -43,6 +45,9 @@ import java.util.stream.DoubleStream;
  * This compares the Math implementation to FastMath. It would be possible
  * to adapt FastMath to compute sin/cos together as they both use a common
  * initial stage to map the value to the domain [0, pi/2).
+ *
+ * <p>The bulk conversion of polar coordinates to the split complex representation
+ * is compared to the conversion that creates a {@code Complex} for each element.
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -170,6 +175,32 @@ public class SinCosPerformance {
         }
     }
 
+    /**
+     * Contains an array of arguments and moduli of complex numbers in polar coordinates.
+     */
+    @State(Scope.Benchmark)
+    public static class PolarNumbers extends Numbers {
+        /** The moduli. */
+        private double[] moduli;
+
+        /**
+         * Gets the moduli.
+         *
+         * @return the moduli
+         */
+        public double[] getModuli() {
+            return moduli;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected double[] createNumbers(SplittableRandom rng) {
+            final double[] theta = super.createNumbers(rng);
+            moduli = rng.doubles(theta.length, 0, 10).toArray();
+            return theta;
+        }
+    }
+
     /**
      * Assert the values are equal to the given ulps, else throw an AssertionError.
      *
@@ -328,4 +359,53 @@ public class SinCosPerformance {
     public void rangeFastMathSin(UniformNumbers numbers, Blackhole bh) {
         apply(numbers.getNumbers(), FastMath::sin, bh);
     }
+
+    /**
+     * Benchmark the conversion of polar coordinates to split complex arrays using
+     * {@link Math#sin(double)} and {@link Math#cos(double)}.
+     *
+     * @param numbers Numbers.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void polarMath(PolarNumbers numbers, Blackhole bh) {
+        final double[] r = numbers.getModuli();
+        final double[] theta = numbers.getNumbers();
+        final double[] real = new double[r.length];
+        final double[] imag = new double[r.length];
+        for (int i = 0; i < r.length; i++) {
+            real[i] = r[i] * Math.cos(theta[i]);
+            imag[i] = r[i] * Math.sin(theta[i]);
+        }
+        bh.consume(real);
+        bh.consume(imag);
+    }
+
+    /**
+     * Benchmark {@link SplitComplexArrays#polar2Split(double[], double[], double[], double[])}.
+     *
+     * @param numbers Numbers.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void polar2Split(PolarNumbers numbers, Blackhole bh) {
+        final double[] r = numbers.getModuli();
+        final double[] real = new double[r.length];
+        final double[] imag = new double[r.length];
+        SplitComplexArrays.polar2Split(r, numbers.getNumbers(), real, imag);
+        bh.consume(real);
+        bh.consume(imag);
+    }
+
+    /**
+     * Benchmark {@link ComplexUtils#polar2Complex(double[], double[])} which creates
+     * a {@code Complex} for each element.
+     *
+     * @param numbers Numbers.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void polar2Complex(PolarNumbers numbers, Blackhole bh) {
+        bh.consume(ComplexUtils.polar2Complex(numbers.getModuli(), numbers.getNumbers()));
+    }
 }
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.examples.jmh.fraction;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a benchmark to measure the speed of the conversion of a {@link BigFraction}
+ * to a {@code double} or {@code BigDecimal}.
+ *
+ * <p>The baseline methods compute the exact quotient of the numerator and denominator.
+ * This is compared to the {@link BigFraction} methods which compute the quotient using
+ * the most significant bits of each part.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class BigFractionConversionPerformance {
+    /** The scale of the {@code BigDecimal} result. */
+    private static final int SCALE = 10;
+    /** The rounding mode of the {@code BigDecimal} result. */
+    private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_EVEN;
+
+    /**
+     * The fractions to convert.
+     */
+    @State(Scope.Benchmark)
+    public static class Fractions {
+        /**
+         * The number of fractions.
+         */
+        @Param({"1000"})
+        private int size;
+
+        /**
+         * The number of bits in the numerator and denominator.
+         */
+        @Param({"32", "64", "128", "256", "1024", "4096"})
+        private int bits;
+
+        /** Fractions. */
+        private BigFraction[] fractions;
+
+        /**
+         * Gets the fractions.
+         *
+         * @return the fractions
+         */
+        public BigFraction[] getFractions() {
+            return fractions;
+        }
+
+        /**
+         * Create the fractions.
+         */
+        @Setup
+        public void setup() {
+            final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_1024_PP);
+            fractions = new BigFraction[size];
+            for (int i = 0; i < size; i++) {
+                final BigInteger n = nextBigInteger(rng, bits);
+                final BigInteger d = nextBigInteger(rng, bits);
+                final BigFraction f = BigFraction.of(rng.nextBoolean() ? n : n.negate(), d);
+                // Validate methods
+                if (Double.compare(doubleValue(f), f.doubleValue()) != 0) {
+                    throw new IllegalStateException("doubleValue does not match: " + f);
+                }
+                if (!bigDecimalValue(f).equals(f.bigDecimalValue(SCALE, ROUNDING_MODE))) {
+                    throw new IllegalStateException("bigDecimalValue does not match: " + f);
+                }
+                fractions[i] = f;
+            }
+        }
+
+        /**
+         * Create a positive random BigInteger with the specified number of bits.
+         * The most significant bit is set.
+         *
+         * @param rng Generator of random numbers.
+         * @param bits Number of bits.
+         * @return the value
+         */
+        private static BigInteger nextBigInteger(UniformRandomProvider rng, int bits) {
+            final byte[] bytes = new byte[(bits + 7) / 8];
+            rng.nextBytes(bytes);
+            return new BigInteger(1, bytes).setBit(bits - 1);
+        }
+    }
+
+    /**
+     * Compute the {@code double} value of the fraction using the exact quotient.
+     * This is the method implemented in {@link BigFraction} before the conversion
+     * using the most significant bits.
+     *
+     * @param f Fraction.
+     * @return the value
+     */
+    static double doubleValue(BigFraction f) {
+        return Double.longBitsToDouble(toFloatingPointBits(f.getNumerator(), f.getDenominator(), 11, 52));
+    }
+
+    /**
+     * Compute the {@code BigDecimal} value of the fraction using the exact quotient.
+     *
+     * @param f Fraction.
+     * @return the value
+     */
+    static BigDecimal bigDecimalValue(BigFraction f) {
+        return new BigDecimal(f.getNumerator()).divide(new BigDecimal(f.getDenominator()), SCALE, ROUNDING_MODE);
+    }
+
+    /**
+     * Calculates the sign bit, the biased exponent and the significand for a
+     * binary floating-point representation of the fraction.
+     *
+     * @param numerator Numerator.
+     * @param denominator Denominator.
+     * @param exponentLength the number of bits allowed for the exponent
+     * @param significandLength the number of bits allowed for the significand
+     * @return the bits of an IEEE 754 binary floating-point representation
+     */
+    private static long toFloatingPointBits(BigInteger numerator, BigInteger denominator,
+                                            int exponentLength, int significandLength) {
+        if (numerator.signum() == 0) {
+            return 0L;
+        }
+
+        final long sign = numerator.signum() * denominator.signum() == -1 ? 1L : 0L;
+        final BigInteger positiveNumerator = numerator.abs();
+        final BigInteger positiveDenominator = denominator.abs();
+
+        final int denRightShift = positiveDenominator.getLowestSetBit();
+        final BigInteger divisor = positiveDenominator.shiftRight(denRightShift);
+
+        int numRightShift = positiveNumerator.bitLength() - divisor.bitLength() - (significandLength + 2);
+        if (numRightShift > 0 &&
+            divisor.equals(BigInteger.ONE)) {
+            numRightShift = Math.min(numRightShift, positiveNumerator.getLowestSetBit());
+        }
+        final BigInteger dividend = positiveNumerator.shiftRight(numRightShift);
+
+        final BigInteger quotient = dividend.divide(divisor);
+
+        int quotRightShift = quotient.bitLength() - (significandLength + 1);
+        long significand = roundAndRightShift(
+                quotient,
+                quotRightShift,
+                !divisor.equals(BigInteger.ONE)
+        ).longValue();
+
+        if ((significand & (1L << (significandLength + 1))) != 0) {
+            significand >>= 1;
+            quotRightShift++;
+        }
+
+        final int exponentBias = (1 << (exponentLength - 1)) - 1;
+        long exponent = (long) numRightShift - denRightShift + quotRightShift + significandLength + exponentBias;
+        final long maxExponent = (1L << exponentLength) - 1L;
+
+        if (exponent >= maxExponent) {
+            exponent = maxExponent;
+            significand = 0L;
+        } else if (exponent > 0) {
+            significand &= -1L >>> (64 - significandLength);
+        } else {
+            significand = roundAndRightShift(quotient,
+                                             (1 - exponentBias - significandLength) - (numRightShift - denRightShift),
+                                             !divisor.equals(BigInteger.ONE)).longValue();
+            exponent = 0L;
+        }
+
+        return (sign << (significandLength + exponentLength)) |
+            (exponent << significandLength) |
+            significand;
+    }
+
+    /**
+     * Rounds an integer to the specified power of two and performs a right-shift
+     * by this amount. The rounding mode applied is round to nearest, with ties
+     * rounding to even.
+     *
+     * @param value the number to round and right-shift
+     * @param bits the power of two to which to round; must be positive
+     * @param hasFractionalBits whether the number should be treated as though
+     *                          it contained a non-zero fractional part
+     * @return a {@code BigInteger} as described above
+     */
+    private static BigInteger roundAndRightShift(BigInteger value, int bits, boolean hasFractionalBits) {
+        BigInteger result = value.shiftRight(bits);
+        if (value.testBit(bits - 1) &&
+            (hasFractionalBits ||
+             (value.getLowestSetBit() < bits - 1) ||
+             value.testBit(bits))) {
+            result = result.add(BigInteger.ONE);
+        }
+        return result;
+    }
+
+    /**
+     * Baseline for the {@code double} conversion using the exact quotient.
+     *
+     * @param fractions Fractions.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void doubleValueBaseline(Fractions fractions, Blackhole bh) {
+        for (final BigFraction f : fractions.getFractions()) {
+            bh.consume(doubleValue(f));
+        }
+    }
+
+    /**
+     * The {@code double} conversion using {@link BigFraction#doubleValue()}.
+     *
+     * @param fractions Fractions.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void doubleValue(Fractions fractions, Blackhole bh) {
+        for (final BigFraction f : fractions.getFractions()) {
+            bh.consume(f.doubleValue());
+        }
+    }
+
+    /**
+     * Baseline for the {@code BigDecimal} conversion using the exact quotient.
+     *
+     * @param fractions Fractions.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void bigDecimalValueBaseline(Fractions fractions, Blackhole bh) {
+        for (final BigFraction f : fractions.getFractions()) {
+            bh.consume(bigDecimalValue(f));
+        }
+    }
+
+    /**
+     * The {@code BigDecimal} conversion using {@link BigFraction#bigDecimalValue(int, RoundingMode)}.
+     *
+     * @param fractions Fractions.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void bigDecimalValue(Fractions fractions, Blackhole bh) {
+        for (final BigFraction f : fractions.getFractions()) {
+            bh.consume(f.bigDecimalValue(SCALE, ROUNDING_MODE));
+        }
+    }
+}
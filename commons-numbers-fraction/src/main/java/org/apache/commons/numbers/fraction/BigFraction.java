@@ -16,11 +16,14 @@
  */
 package org.apache.commons.numbers.fraction;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Objects;
+import org.apache.commons.numbers.core.ArithmeticUtils;
 import org.apache.commons.numbers.core.NativeOperators;
 
 /**
@@ -29,6 +32,10 @@ import org.apache.commons.numbers.core.NativeOperators;
  * <p>The number is expressed as the quotient {@code p/q} of two {@link BigInteger}s,
  * a numerator {@code p} and a non-zero denominator {@code q}.
  *
+ * <p>Fractions where both parts are in the range of a {@code long} are stored using
+ * primitive values and arithmetic between them uses {@code long} arithmetic. The
+ * {@link BigInteger} representation is only used when an operation overflows.
+ *
  * <p>This class is immutable.
  *
  * <a href="https://en.wikipedia.org/wiki/Rational_number">Rational number</a>
@@ -47,6 +54,9 @@ public final class BigFraction
     /** Serializable version identifier. */
     private static final long serialVersionUID = 20190701L;
 
+    /** The separator of the numerator and denominator in the {@link #toString() String representation}. */
+    private static final String FORMAT_SEP = " / ";
+
     /** The default iterations used for convergence. */
     private static final int DEFAULT_MAX_ITERATIONS = 100;
 
@@ -56,11 +66,36 @@ public final class BigFraction
     /** The overflow limit for conversion from a double (2^31). */
     private static final long OVERFLOW = 1L << 31;
 
-    /** The numerator of this fraction reduced to lowest terms. */
-    private final BigInteger numerator;
+    /**
+     * The maximum error in the quotient of the 64 most significant bits of the
+     * numerator and denominator. This is used to detect results that cannot be
+     * rounded without the exact quotient.
+     */
+    private static final long QUOTIENT_ERROR = 4;
+
+    /**
+     * The numerator of this fraction reduced to lowest terms.
+     * This is created on demand when using the primitive representation.
+     */
+    private BigInteger numerator;
+
+    /**
+     * The denominator of this fraction reduced to lowest terms.
+     * This is created on demand when using the primitive representation.
+     */
+    private BigInteger denominator;
 
-    /** The denominator of this fraction reduced to lowest terms. */
-    private final BigInteger denominator;
+    /**
+     * The numerator of this fraction reduced to lowest terms when using the
+     * primitive representation.
+     */
+    private final transient long longNumerator;
+
+    /**
+     * The denominator of this fraction reduced to lowest terms when using the
+     * primitive representation; otherwise zero.
+     */
+    private final transient long longDenominator;
 
     /**
      * Private constructor: Instances are created using factory methods.
@@ -87,6 +122,13 @@ public final class BigFraction
             numerator = num;
             denominator = den;
         }
+        if (isPrimitive(numerator) && isPrimitive(denominator)) {
+            longNumerator = numerator.longValue();
+            longDenominator = denominator.longValue();
+        } else {
+            longNumerator = 0;
+            longDenominator = 0;
+        }
     }
 
     /**
@@ -99,6 +141,28 @@ public final class BigFraction
     private BigFraction(BigInteger num) {
         numerator = num;
         denominator = BigInteger.ONE;
+        if (isPrimitive(num)) {
+            longNumerator = num.longValue();
+            longDenominator = 1;
+        } else {
+            longNumerator = 0;
+            longDenominator = 0;
+        }
+    }
+
+    /**
+     * Private constructor: Instances are created using factory methods.
+     *
+     * <p>This creates the primitive representation. The fraction must be in lowest
+     * terms, the denominator must be non-zero and neither argument can be
+     * {@link Long#MIN_VALUE}.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     */
+    private BigFraction(long num, long den) {
+        longNumerator = num;
+        longDenominator = den;
     }
 
     /**
@@ -373,7 +437,7 @@ public final class BigFraction
         if (num == 0) {
             return ZERO;
         }
-        return new BigFraction(BigInteger.valueOf(num));
+        return new BigFraction(num, 1);
     }
 
     /**
@@ -386,7 +450,7 @@ public final class BigFraction
         if (num == 0) {
             return ZERO;
         }
-        return new BigFraction(BigInteger.valueOf(num));
+        return ofReduced(num, 1);
     }
 
     /**
@@ -414,10 +478,7 @@ public final class BigFraction
      * @throws ArithmeticException if {@code den} is zero.
      */
     public static BigFraction of(final int num, final int den) {
-        if (num == 0) {
-            return ZERO;
-        }
-        return new BigFraction(BigInteger.valueOf(num), BigInteger.valueOf(den));
+        return of((long) num, (long) den);
     }
 
     /**
@@ -433,7 +494,15 @@ public final class BigFraction
         if (num == 0) {
             return ZERO;
         }
-        return new BigFraction(BigInteger.valueOf(num), BigInteger.valueOf(den));
+        if (den == 0) {
+            throw new FractionException(FractionException.ERROR_ZERO_DENOMINATOR);
+        }
+        if (num == Long.MIN_VALUE || den == Long.MIN_VALUE) {
+            // Outside the primitive representation
+            return new BigFraction(BigInteger.valueOf(num), BigInteger.valueOf(den));
+        }
+        final long gcd = ArithmeticUtils.gcd(num, den);
+        return new BigFraction(num / gcd, den / gcd);
     }
 
     /**
@@ -450,6 +519,24 @@ public final class BigFraction
         if (num.signum() == 0) {
             return ZERO;
         }
+        if (isPrimitive(num) && isPrimitive(den)) {
+            return of(num.longValue(), den.longValue());
+        }
+        return new BigFraction(num, den);
+    }
+
+    /**
+     * Create a fraction given the numerator and denominator in lowest terms.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     * @return a new instance.
+     */
+    private static BigFraction ofReduced(long num, long den) {
+        if (num == Long.MIN_VALUE || den == Long.MIN_VALUE) {
+            // Outside the primitive representation
+            return new BigFraction(BigInteger.valueOf(num), BigInteger.valueOf(den));
+        }
         return new BigFraction(num, den);
     }
 
@@ -485,8 +572,59 @@ public final class BigFraction
      * @throws NumberFormatException if the string does not contain a parsable fraction.
      * @see BigInteger#BigInteger(String)
      * @see #toString()
+     * @see #parse(CharSequence, int, int)
      */
     public static BigFraction parse(String s) {
+        return parse(s, 0, s.length());
+    }
+
+    /**
+     * Returns a {@code BigFraction} instance representing the region of the
+     * character sequence {@code s} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * <p>The region must be in the format accepted by {@link #parse(String)} and the result
+     * is the same as {@code parse(s.subSequence(start, end).toString())}.
+     *
+     * <p>This method is intended for high-volume parsing of text records. When the numeric
+     * parts contain at most 18 significant ASCII digits, the parts are parsed directly
+     * from the sequence and no intermediate strings are created. Other input is parsed
+     * using the method for strings.
+     *
+     * @param s Character sequence.
+     * @param start Start index (inclusive).
+     * @param end End index (exclusive).
+     * @return an instance.
+     * @throws NullPointerException if the sequence is null.
+     * @throws IndexOutOfBoundsException if the region is not within the sequence.
+     * @throws NumberFormatException if the region does not contain a parsable fraction.
+     * @see #parse(String)
+     */
+    public static BigFraction parse(CharSequence s, int start, int end) {
+        final int slash = IntegerParser.indexOf(s, '/', start, end);
+        if (slash < 0) {
+            final long num = IntegerParser.parse(s, start, end);
+            if (num != IntegerParser.NOT_PARSED) {
+                return of(num);
+            }
+        } else {
+            final long num = IntegerParser.parse(s, start, slash);
+            final long den = IntegerParser.parse(s, slash + 1, end);
+            if (num != IntegerParser.NOT_PARSED && den != IntegerParser.NOT_PARSED) {
+                return of(num, den);
+            }
+        }
+        return parseString(s.subSequence(start, end).toString());
+    }
+
+    /**
+     * Returns a {@code BigFraction} instance representing the specified string {@code s}.
+     *
+     * @param s String representation.
+     * @return an instance.
+     * @throws NumberFormatException if the string does not contain a parsable fraction.
+     * @see #parse(String)
+     */
+    private static BigFraction parseString(String s) {
         final String stripped = s.replace(",", "");
         final int slashLoc = stripped.indexOf('/');
         // if no slash, parse as single number
@@ -514,7 +652,12 @@ public final class BigFraction
      * @return the numerator as a {@code BigInteger}.
      */
     public BigInteger getNumerator() {
-        return numerator;
+        BigInteger n = numerator;
+        if (n == null) {
+            n = BigInteger.valueOf(longNumerator);
+            numerator = n;
+        }
+        return n;
     }
 
     /**
@@ -523,7 +666,7 @@ public final class BigFraction
      * @return the numerator as an {@code int}.
      */
     public int getNumeratorAsInt() {
-        return numerator.intValue();
+        return isPrimitive() ? (int) longNumerator : numerator.intValue();
     }
 
     /**
@@ -532,7 +675,7 @@ public final class BigFraction
      * @return the numerator as a {@code long}.
      */
     public long getNumeratorAsLong() {
-        return numerator.longValue();
+        return isPrimitive() ? longNumerator : numerator.longValue();
     }
 
     /**
@@ -541,7 +684,12 @@ public final class BigFraction
      * @return the denominator as a {@code BigInteger}.
      */
     public BigInteger getDenominator() {
-        return denominator;
+        BigInteger d = denominator;
+        if (d == null) {
+            d = BigInteger.valueOf(longDenominator);
+            denominator = d;
+        }
+        return d;
     }
 
     /**
@@ -550,7 +698,7 @@ public final class BigFraction
      * @return the denominator as an {@code int}.
      */
     public int getDenominatorAsInt() {
-        return denominator.intValue();
+        return isPrimitive() ? (int) longDenominator : denominator.intValue();
     }
 
     /**
@@ -559,7 +707,7 @@ public final class BigFraction
      * @return the denominator as a {@code long}.
      */
     public long getDenominatorAsLong() {
-        return denominator.longValue();
+        return isPrimitive() ? longDenominator : denominator.longValue();
     }
 
     /**
@@ -569,6 +717,9 @@ public final class BigFraction
      * positive, 0 if it is 0.
      */
     public int signum() {
+        if (isPrimitive()) {
+            return Long.signum(longNumerator) * Long.signum(longDenominator);
+        }
         return numerator.signum() * denominator.signum();
     }
 
@@ -585,6 +736,9 @@ public final class BigFraction
 
     @Override
     public BigFraction negate() {
+        if (isPrimitive()) {
+            return new BigFraction(-longNumerator, longDenominator);
+        }
         return new BigFraction(numerator.negate(), denominator);
     }
 
@@ -597,6 +751,12 @@ public final class BigFraction
      */
     @Override
     public BigFraction reciprocal() {
+        if (isPrimitive()) {
+            if (longNumerator == 0) {
+                throw new FractionException(FractionException.ERROR_ZERO_DENOMINATOR);
+            }
+            return new BigFraction(longDenominator, longNumerator);
+        }
         return new BigFraction(denominator, numerator);
     }
 
@@ -607,6 +767,10 @@ public final class BigFraction
      */
     @Override
     public double doubleValue() {
+        // The quotient is correctly rounded if both parts are exact doubles
+        if (isPrimitive() && isExact(longNumerator, longDenominator, 53)) {
+            return (double) longNumerator / (double) longDenominator;
+        }
         return Double.longBitsToDouble(toFloatingPointBits(11, 52));
     }
 
@@ -617,6 +781,10 @@ public final class BigFraction
      */
     @Override
     public float floatValue() {
+        // The quotient is correctly rounded if both parts are exact floats
+        if (isPrimitive() && isExact(longNumerator, longDenominator, 24)) {
+            return (float) longNumerator / (float) longDenominator;
+        }
         return Float.intBitsToFloat((int) toFloatingPointBits(8, 23));
     }
 
@@ -627,6 +795,9 @@ public final class BigFraction
      */
     @Override
     public int intValue() {
+        if (isPrimitive()) {
+            return (int) (longNumerator / longDenominator);
+        }
         return numerator.divide(denominator).intValue();
     }
 
@@ -637,6 +808,9 @@ public final class BigFraction
      */
     @Override
     public long longValue() {
+        if (isPrimitive()) {
+            return longNumerator / longDenominator;
+        }
         return numerator.divide(denominator).longValue();
     }
 
@@ -651,7 +825,7 @@ public final class BigFraction
      * @see BigDecimal
      */
     public BigDecimal bigDecimalValue() {
-        return new BigDecimal(numerator).divide(new BigDecimal(denominator));
+        return new BigDecimal(getNumerator()).divide(new BigDecimal(getDenominator()));
     }
 
     /**
@@ -664,7 +838,7 @@ public final class BigFraction
      * @see BigDecimal
      */
     public BigDecimal bigDecimalValue(RoundingMode roundingMode) {
-        return new BigDecimal(numerator).divide(new BigDecimal(denominator), roundingMode);
+        return new BigDecimal(getNumerator()).divide(new BigDecimal(getDenominator()), roundingMode);
     }
 
     /**
@@ -682,7 +856,15 @@ public final class BigFraction
      * @see BigDecimal
      */
     public BigDecimal bigDecimalValue(final int scale, RoundingMode roundingMode) {
-        return new BigDecimal(numerator).divide(new BigDecimal(denominator), scale, roundingMode);
+        if (isZero()) {
+            return BigDecimal.valueOf(0, scale);
+        }
+        // Attempt a conversion using the most significant bits of each part
+        final long unscaled = toUnscaledValue(scale, roundingMode);
+        if (unscaled != Long.MIN_VALUE) {
+            return BigDecimal.valueOf(unscaled, scale);
+        }
+        return new BigDecimal(getNumerator()).divide(new BigDecimal(getDenominator()), scale, roundingMode);
     }
 
     /**
@@ -693,7 +875,7 @@ public final class BigFraction
      * @return {@code this + value}.
      */
     public BigFraction add(final int value) {
-        return add(BigInteger.valueOf(value));
+        return add((long) value);
     }
 
     /**
@@ -704,6 +886,12 @@ public final class BigFraction
      * @return {@code this + value}.
      */
     public BigFraction add(final long value) {
+        if (isPrimitive()) {
+            final BigFraction result = addSub(value, 1, true /* add */);
+            if (result != null) {
+                return result;
+            }
+        }
         return add(BigInteger.valueOf(value));
     }
 
@@ -722,7 +910,7 @@ public final class BigFraction
             return of(value);
         }
 
-        return of(numerator.add(denominator.multiply(value)), denominator);
+        return of(getNumerator().add(getDenominator().multiply(value)), getDenominator());
     }
 
     /**
@@ -740,16 +928,26 @@ public final class BigFraction
         if (isZero()) {
             return value;
         }
+        if (isPrimitive() && value.isPrimitive()) {
+            final BigFraction result = addSub(value.longNumerator, value.longDenominator, true /* add */);
+            if (result != null) {
+                return result;
+            }
+        }
 
         final BigInteger num;
         final BigInteger den;
-
-        if (denominator.equals(value.denominator)) {
-            num = numerator.add(value.numerator);
-            den = denominator;
+        final BigInteger n1 = getNumerator();
+        final BigInteger d1 = getDenominator();
+        final BigInteger n2 = value.getNumerator();
+        final BigInteger d2 = value.getDenominator();
+
+        if (d1.equals(d2)) {
+            num = n1.add(n2);
+            den = d1;
         } else {
-            num = (numerator.multiply(value.denominator)).add((value.numerator).multiply(denominator));
-            den = denominator.multiply(value.denominator);
+            num = (n1.multiply(d2)).add(n2.multiply(d1));
+            den = d1.multiply(d2);
         }
 
         if (num.signum() == 0) {
@@ -767,7 +965,7 @@ public final class BigFraction
      * @return {@code this - value}.
      */
     public BigFraction subtract(final int value) {
-        return subtract(BigInteger.valueOf(value));
+        return subtract((long) value);
     }
 
     /**
@@ -778,6 +976,12 @@ public final class BigFraction
      * @return {@code this - value}.
      */
     public BigFraction subtract(final long value) {
+        if (isPrimitive()) {
+            final BigFraction result = addSub(value, 1, false /* subtract */);
+            if (result != null) {
+                return result;
+            }
+        }
         return subtract(BigInteger.valueOf(value));
     }
 
@@ -796,7 +1000,7 @@ public final class BigFraction
             return of(value.negate());
         }
 
-        return of(numerator.subtract(denominator.multiply(value)), denominator);
+        return of(getNumerator().subtract(getDenominator().multiply(value)), getDenominator());
     }
 
     /**
@@ -814,15 +1018,26 @@ public final class BigFraction
         if (isZero()) {
             return value.negate();
         }
+        if (isPrimitive() && value.isPrimitive()) {
+            final BigFraction result = addSub(value.longNumerator, value.longDenominator, false /* subtract */);
+            if (result != null) {
+                return result;
+            }
+        }
 
         final BigInteger num;
         final BigInteger den;
-        if (denominator.equals(value.denominator)) {
-            num = numerator.subtract(value.numerator);
-            den = denominator;
+        final BigInteger n1 = getNumerator();
+        final BigInteger d1 = getDenominator();
+        final BigInteger n2 = value.getNumerator();
+        final BigInteger d2 = value.getDenominator();
+
+        if (d1.equals(d2)) {
+            num = n1.subtract(n2);
+            den = d1;
         } else {
-            num = (numerator.multiply(value.denominator)).subtract((value.numerator).multiply(denominator));
-            den = denominator.multiply(value.denominator);
+            num = (n1.multiply(d2)).subtract(n2.multiply(d1));
+            den = d1.multiply(d2);
         }
 
         if (num.signum() == 0) {
@@ -841,11 +1056,7 @@ public final class BigFraction
      */
     @Override
     public BigFraction multiply(final int value) {
-        if (value == 0 || isZero()) {
-            return ZERO;
-        }
-
-        return multiply(BigInteger.valueOf(value));
+        return multiply((long) value);
     }
 
     /**
@@ -859,6 +1070,12 @@ public final class BigFraction
         if (value == 0 || isZero()) {
             return ZERO;
         }
+        if (isPrimitive()) {
+            final BigFraction result = multiply(value, 1);
+            if (result != null) {
+                return result;
+            }
+        }
 
         return multiply(BigInteger.valueOf(value));
     }
@@ -874,7 +1091,7 @@ public final class BigFraction
         if (value.signum() == 0 || isZero()) {
             return ZERO;
         }
-        return new BigFraction(value.multiply(numerator), denominator);
+        return new BigFraction(value.multiply(getNumerator()), getDenominator());
     }
 
     /**
@@ -889,8 +1106,14 @@ public final class BigFraction
         if (value.isZero() || isZero()) {
             return ZERO;
         }
-        return new BigFraction(numerator.multiply(value.numerator),
-                               denominator.multiply(value.denominator));
+        if (isPrimitive() && value.isPrimitive()) {
+            final BigFraction result = multiply(value.longNumerator, value.longDenominator);
+            if (result != null) {
+                return result;
+            }
+        }
+        return new BigFraction(getNumerator().multiply(value.getNumerator()),
+                               getDenominator().multiply(value.getDenominator()));
     }
 
     /**
@@ -902,7 +1125,7 @@ public final class BigFraction
      * @throws ArithmeticException if the value to divide by is zero
      */
     public BigFraction divide(final int value) {
-        return divide(BigInteger.valueOf(value));
+        return divide((long) value);
     }
 
     /**
@@ -914,6 +1137,13 @@ public final class BigFraction
      * @throws ArithmeticException if the value to divide by is zero
      */
     public BigFraction divide(final long value) {
+        if (value != 0 && isPrimitive() && !isZero()) {
+            // Multiply by reciprocal
+            final BigFraction result = multiply(1, value);
+            if (result != null) {
+                return result;
+            }
+        }
         return divide(BigInteger.valueOf(value));
     }
 
@@ -932,7 +1162,7 @@ public final class BigFraction
         if (isZero()) {
             return ZERO;
         }
-        return new BigFraction(numerator, denominator.multiply(value));
+        return new BigFraction(getNumerator(), getDenominator().multiply(value));
     }
 
     /**
@@ -952,8 +1182,14 @@ public final class BigFraction
             return ZERO;
         }
         // Multiply by reciprocal
-        return new BigFraction(numerator.multiply(value.denominator),
-                               denominator.multiply(value.numerator));
+        if (isPrimitive() && value.isPrimitive()) {
+            final BigFraction result = multiply(value.longDenominator, value.longNumerator);
+            if (result != null) {
+                return result;
+            }
+        }
+        return new BigFraction(getNumerator().multiply(value.getDenominator()),
+                               getDenominator().multiply(value.getNumerator()));
     }
 
     /**
@@ -978,24 +1214,26 @@ public final class BigFraction
             }
             return ZERO;
         }
+        final BigInteger num = getNumerator();
+        final BigInteger den = getDenominator();
         if (exponent > 0) {
-            return new BigFraction(numerator.pow(exponent),
-                                   denominator.pow(exponent));
+            return new BigFraction(num.pow(exponent),
+                                   den.pow(exponent));
         }
         if (exponent == -1) {
             return this.reciprocal();
         }
         if (exponent == Integer.MIN_VALUE) {
             // MIN_VALUE can't be negated
-            return new BigFraction(denominator.pow(Integer.MAX_VALUE).multiply(denominator),
-                                   numerator.pow(Integer.MAX_VALUE).multiply(numerator));
+            return new BigFraction(den.pow(Integer.MAX_VALUE).multiply(den),
+                                   num.pow(Integer.MAX_VALUE).multiply(num));
         }
         // Note: Raise the BigIntegers to the power and then reduce.
         // The supported range for BigInteger is currently
         // +/-2^(Integer.MAX_VALUE) exclusive thus larger
         // exponents (long, BigInteger) are currently not supported.
-        return new BigFraction(denominator.pow(-exponent),
-                               numerator.pow(-exponent));
+        return new BigFraction(den.pow(-exponent),
+                               num.pow(-exponent));
     }
 
     /**
@@ -1014,14 +1252,44 @@ public final class BigFraction
         final String str;
         if (isZero()) {
             str = "0";
+        } else if (isPrimitive()) {
+            str = longDenominator == 1 ?
+                Long.toString(longNumerator) :
+                longNumerator + FORMAT_SEP + longDenominator;
         } else if (BigInteger.ONE.equals(denominator)) {
             str = numerator.toString();
         } else {
-            str = numerator + " / " + denominator;
+            str = numerator + FORMAT_SEP + denominator;
         }
         return str;
     }
 
+    /**
+     * Appends the {@link #toString() string representation} of the fraction
+     * to the builder.
+     *
+     * @param sb String builder.
+     * @return the string builder
+     * @see #toString()
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        if (isZero()) {
+            return sb.append('0');
+        }
+        if (isPrimitive()) {
+            sb.append(longNumerator);
+            if (longDenominator != 1) {
+                sb.append(FORMAT_SEP).append(longDenominator);
+            }
+            return sb;
+        }
+        sb.append(numerator);
+        if (!BigInteger.ONE.equals(denominator)) {
+            sb.append(FORMAT_SEP).append(denominator);
+        }
+        return sb;
+    }
+
     /**
      * Compares this object with the specified object for order using the signed magnitude.
      *
@@ -1042,9 +1310,14 @@ public final class BigFraction
             return 0;
         }
         // Compare absolute magnitude
-        final BigInteger nOd = numerator.abs().multiply(other.denominator.abs());
-        final BigInteger dOn = denominator.abs().multiply(other.numerator.abs());
-        return nOd.compareTo(dOn);
+        if (isPrimitive() && other.isPrimitive()) {
+            return lhsSigNum * LongArithmetic.compareProducts(
+                Math.abs(longNumerator), Math.abs(other.longDenominator),
+                Math.abs(other.longNumerator), Math.abs(longDenominator));
+        }
+        final BigInteger nOd = getNumerator().abs().multiply(other.getDenominator().abs());
+        final BigInteger dOn = getDenominator().abs().multiply(other.getNumerator().abs());
+        return lhsSigNum * nOd.compareTo(dOn);
     }
 
     /**
@@ -1065,8 +1338,12 @@ public final class BigFraction
             // denominators can be compared directly for equality.
             final BigFraction rhs = (BigFraction) other;
             if (signum() == rhs.signum()) {
-                return numerator.abs().equals(rhs.numerator.abs()) &&
-                       denominator.abs().equals(rhs.denominator.abs());
+                if (isPrimitive() && rhs.isPrimitive()) {
+                    return Math.abs(longNumerator) == Math.abs(rhs.longNumerator) &&
+                           Math.abs(longDenominator) == Math.abs(rhs.longDenominator);
+                }
+                return getNumerator().abs().equals(rhs.getNumerator().abs()) &&
+                       getDenominator().abs().equals(rhs.getDenominator().abs());
             }
         }
 
@@ -1082,6 +1359,12 @@ public final class BigFraction
         // hash = 31 * hash + denominator.abs().hashCode();
         // hash = hash * signum()
         // Note: BigInteger.hashCode() * BigInteger.signum() == BigInteger.abs().hashCode().
+        if (isPrimitive()) {
+            final int numS = Long.signum(longNumerator);
+            final int denS = Long.signum(longDenominator);
+            return (31 * (31 + hashCode(Math.abs(longNumerator))) + hashCode(Math.abs(longDenominator))) *
+                numS * denS;
+        }
         final int numS = numerator.signum();
         final int denS = denominator.signum();
         return (31 * (31 + numerator.hashCode() * numS) + denominator.hashCode() * denS) * numS * denS;
@@ -1121,9 +1404,16 @@ public final class BigFraction
             return 0L;
         }
 
-        final long sign = (numerator.signum() * denominator.signum()) == -1 ? 1L : 0L;
-        final BigInteger positiveNumerator = numerator.abs();
-        final BigInteger positiveDenominator = denominator.abs();
+        final long sign = signum() == -1 ? 1L : 0L;
+
+        // Attempt a conversion using the most significant bits of each part
+        final long magnitude = toFloatingPointMagnitudeBits(exponentLength, significandLength);
+        if (magnitude >= 0) {
+            return (sign << (significandLength + exponentLength)) | magnitude;
+        }
+
+        final BigInteger positiveNumerator = getNumerator().abs();
+        final BigInteger positiveDenominator = getDenominator().abs();
 
         /*
          * The most significant 1-bit of a non-zero number is not explicitly
@@ -1250,6 +1540,180 @@ public final class BigFraction
             significand;
     }
 
+    /**
+     * Computes the magnitude of this fraction as the bits of an IEEE 754 binary
+     * floating-point representation without the sign bit. The representation is
+     * described in {@link #toFloatingPointBits(int, int)}.
+     *
+     * <p>The quotient is computed using the 64 most significant bits of the numerator
+     * and denominator. This is correctly rounded unless the parts have been truncated
+     * and the quotient is close to half-way between two representable values; or the
+     * result is sub-normal. In these cases the method returns -1 and the result must
+     * be computed using the exact quotient.
+     *
+     * <p>Warning: The fraction is assumed to be non-zero.
+     *
+     * @param exponentLength the number of bits allowed for the exponent
+     * @param significandLength the number of bits allowed for the significand
+     * @return the magnitude bits, or -1
+     */
+    private long toFloatingPointMagnitudeBits(int exponentLength, int significandLength) {
+        final long a;
+        final long b;
+        final int shift;
+        final boolean exact;
+        if (isPrimitive()) {
+            // Values are not Long.MIN_VALUE
+            final long x = Math.abs(longNumerator);
+            final long y = Math.abs(longDenominator);
+            final int zx = Long.numberOfLeadingZeros(x);
+            final int zy = Long.numberOfLeadingZeros(y);
+            a = x << zx;
+            b = y << zy;
+            shift = zy - zx;
+            exact = true;
+        } else {
+            final BigInteger x = numerator.abs();
+            final BigInteger y = denominator.abs();
+            final int sx = x.bitLength() - Long.SIZE;
+            final int sy = y.bitLength() - Long.SIZE;
+            a = mostSignificantBits(x, sx);
+            b = mostSignificantBits(y, sy);
+            shift = sx - sy;
+            exact = (sx <= 0 || x.getLowestSetBit() >= sx) &&
+                    (sy <= 0 || y.getLowestSetBit() >= sy);
+        }
+
+        // The fraction is (a / b) * 2^shift.
+        // Compute q = floor(a * 2^63 / b) in [2^62, 2^64). If the parts were truncated
+        // the exact quotient is within 2 of q.
+        final long q = LongArithmetic.divideUnsigned(a >>> 1, a << 63, b);
+        final int bits = Long.SIZE - Long.numberOfLeadingZeros(q);
+        final int discard = bits - (significandLength + 1);
+        final long low = q & (-1L >>> (Long.SIZE - discard));
+        final long half = 1L << (discard - 1);
+        long significand = q >>> discard;
+        if (exact) {
+            // Round half-even. The quotient is exact if the remainder is zero.
+            final long remainder = (a << 63) - q * b;
+            if (low > half || (low == half && (remainder != 0 || (significand & 1) != 0))) {
+                significand++;
+            }
+        } else {
+            if (Math.abs(low - half) <= QUOTIENT_ERROR) {
+                // Too close to a tie
+                return -1;
+            }
+            if (low > half) {
+                significand++;
+            }
+        }
+
+        // The fraction is significand * 2^(shift - 63 + discard).
+        // Rounding up may have increased the bit length of the significand.
+        long exponent = (long) shift - 63 + discard + significandLength + (1 << (exponentLength - 1)) - 1;
+        if ((significand >>> (significandLength + 1)) != 0) {
+            significand >>>= 1;
+            exponent++;
+        }
+        final long maxExponent = (1L << exponentLength) - 1L;
+        if (exponent >= maxExponent) {
+            // Infinity
+            return maxExponent << significandLength;
+        }
+        if (exponent <= 0) {
+            // Sub-normal numbers require rounding of the quotient to fewer bits
+            return -1;
+        }
+        return (exponent << significandLength) | (significand & (-1L >>> (Long.SIZE - significandLength)));
+    }
+
+    /**
+     * Computes the unscaled value of this fraction as a {@code BigDecimal} with the
+     * specified scale and rounding mode.
+     *
+     * <p>The quotient {@code |numerator| * 10^scale / |denominator|} is computed using
+     * the 64 most significant bits of each part. This is valid when the quotient is
+     * in the range {@code [1, 2^62)} and is not close to a boundary where the
+     * rounding mode changes the result. Otherwise the method returns
+     * {@link Long#MIN_VALUE} and the result must be computed using the exact quotient.
+     * This is also returned for primitive values as the exact {@code BigDecimal}
+     * division of small values is fast.
+     *
+     * <p>Warning: The fraction is assumed to be non-zero.
+     *
+     * @param scale Scale of the result.
+     * @param roundingMode Rounding mode to apply.
+     * @return the unscaled value, or {@link Long#MIN_VALUE}
+     */
+    private long toUnscaledValue(int scale, RoundingMode roundingMode) {
+        if (roundingMode == RoundingMode.UNNECESSARY || isPrimitive()) {
+            // Requires an exact quotient; or the parts are small and the
+            // BigDecimal division uses long arithmetic
+            return Long.MIN_VALUE;
+        }
+        BigInteger x = getNumerator().abs();
+        BigInteger y = getDenominator().abs();
+        if (scale > 0) {
+            x = x.multiply(BigInteger.TEN.pow(scale));
+        } else if (scale < 0) {
+            y = y.multiply(BigInteger.TEN.pow(-scale));
+        }
+        final int sx = x.bitLength() - Long.SIZE;
+        final int sy = y.bitLength() - Long.SIZE;
+        final long a = mostSignificantBits(x, sx);
+        final long b = mostSignificantBits(y, sy);
+
+        // The quotient is q * 2^-fractionBits where q = floor(a * 2^63 / b) is
+        // within 2 of the exact quotient.
+        final long fractionBits = 63L - sx + sy;
+        if (fractionBits < 2 || fractionBits > 63) {
+            // Integer part is too large, or the fractional part is too small
+            return Long.MIN_VALUE;
+        }
+        final long q = LongArithmetic.divideUnsigned(a >>> 1, a << 63, b);
+        final int f = (int) fractionBits;
+        final long mask = -1L >>> (Long.SIZE - f);
+        final long fraction = q & mask;
+        final long half = 1L << (f - 1);
+        final boolean negative = signum() < 0;
+        final boolean increment;
+        switch (roundingMode) {
+        case HALF_UP:
+        case HALF_DOWN:
+        case HALF_EVEN:
+            if (Math.abs(fraction - half) <= QUOTIENT_ERROR) {
+                // Too close to a tie
+                return Long.MIN_VALUE;
+            }
+            increment = fraction > half;
+            break;
+        default:
+            if (fraction <= QUOTIENT_ERROR || fraction >= mask - QUOTIENT_ERROR) {
+                // Too close to an integer
+                return Long.MIN_VALUE;
+            }
+            increment = roundingMode == RoundingMode.UP ||
+                        (roundingMode == RoundingMode.CEILING && !negative) ||
+                        (roundingMode == RoundingMode.FLOOR && negative);
+            break;
+        }
+        final long unscaled = (q >>> f) + (increment ? 1 : 0);
+        return negative ? -unscaled : unscaled;
+    }
+
+    /**
+     * Gets the 64 most significant bits of the positive value. The value is
+     * {@code x = bits * 2^shift} (rounded towards zero if the shift is positive).
+     *
+     * @param x Value.
+     * @param shift Shift. This is {@code x.bitLength() - 64}.
+     * @return the bits
+     */
+    private static long mostSignificantBits(BigInteger x, int shift) {
+        return shift > 0 ? x.shiftRight(shift).longValue() : x.longValue() << -shift;
+    }
+
     /**
      * Rounds an integer to the specified power of two (i.e. the minimum number of
      * low-order bits that must be zero) and performs a right-shift by this
@@ -1287,6 +1751,146 @@ public final class BigFraction
      * @return true if zero
      */
     private boolean isZero() {
-        return numerator.signum() == 0;
+        return isPrimitive() ? longNumerator == 0 : numerator.signum() == 0;
+    }
+
+    /**
+     * Returns true if this fraction uses the primitive representation.
+     *
+     * @return true if primitive
+     */
+    private boolean isPrimitive() {
+        return longDenominator != 0;
+    }
+
+    /**
+     * Returns true if the value can be stored in the primitive representation.
+     * This is the range of a {@code long} excluding {@link Long#MIN_VALUE} which
+     * ensures the magnitude can be computed.
+     *
+     * @param value Value.
+     * @return true if primitive
+     */
+    private static boolean isPrimitive(BigInteger value) {
+        return value.bitLength() < Long.SIZE && value.longValue() != Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns true if the magnitude of both values is less than 2<sup>bits</sup>.
+     * Values are assumed to not be {@link Long#MIN_VALUE}.
+     *
+     * @param x First value.
+     * @param y Second value.
+     * @param bits Number of bits.
+     * @return true if exact
+     */
+    private static boolean isExact(long x, long y, int bits) {
+        return ((Math.abs(x) | Math.abs(y)) >>> bits) == 0;
+    }
+
+    /**
+     * Compute the hash code of the non-negative value. This is equal to the
+     * hash code of the {@code BigInteger} of the same value.
+     *
+     * @param value Value.
+     * @return the hash code
+     */
+    private static int hashCode(long value) {
+        // BigInteger hash of the magnitude as big-endian 32-bit words
+        final int hi = (int) (value >>> 32);
+        final int lo = (int) value;
+        return hi == 0 ? lo : 31 * hi + lo;
+    }
+
+    /**
+     * Add or subtract the fraction {@code num / den} using the primitive representation.
+     * Uses the algorithm described in Knuth 4.5.1.
+     *
+     * <p>This fraction must use the primitive representation. The argument fraction must
+     * be in lowest terms and the denominator must not be {@link Long#MIN_VALUE}.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     * @param isAdd Whether the operation is "add" or "subtract".
+     * @return the result, or null if the computation overflows
+     */
+    private BigFraction addSub(long num, long den, boolean isAdd) {
+        // t = u(v'/d1) +/- v(u'/d1)
+        final long d1 = ArithmeticUtils.gcd(longDenominator, den);
+        final long up = longDenominator / d1;
+        final long vp = den / d1;
+        final long uvp = longNumerator * vp;
+        final long upv = num * up;
+        if (LongArithmetic.multiplyOverflows(longNumerator, vp, uvp) ||
+            LongArithmetic.multiplyOverflows(num, up, upv)) {
+            return null;
+        }
+        final long t = isAdd ? uvp + upv : uvp - upv;
+        if (isAdd ?
+            LongArithmetic.addOverflows(uvp, upv, t) :
+            LongArithmetic.subtractOverflows(uvp, upv, t)) {
+            return null;
+        }
+        if (t == 0) {
+            return ZERO;
+        }
+        // t is coprime to both v'/d1 and u'/d1 but may have a common factor with d1.
+        // result is (t/d2) / (u'/d1)(v'/d2)
+        final long d2 = ArithmeticUtils.gcd(t, d1);
+        final long q = den / d2;
+        final long r = up * q;
+        if (LongArithmetic.multiplyOverflows(up, q, r)) {
+            return null;
+        }
+        return ofReduced(t / d2, r);
+    }
+
+    /**
+     * Multiply by the fraction {@code num / den} using the primitive representation.
+     *
+     * <p>This fraction must use the primitive representation. The argument fraction must
+     * be non-zero and in lowest terms.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     * @return the result, or null if the computation overflows
+     */
+    private BigFraction multiply(long num, long den) {
+        // knuth 4.5.1
+        final long d1 = ArithmeticUtils.gcd(longNumerator, den);
+        final long d2 = ArithmeticUtils.gcd(num, longDenominator);
+        final long a = longNumerator / d1;
+        final long b = num / d2;
+        final long c = longDenominator / d2;
+        final long d = den / d1;
+        final long n = a * b;
+        final long m = c * d;
+        if (LongArithmetic.multiplyOverflows(a, b, n) ||
+            LongArithmetic.multiplyOverflows(c, d, m)) {
+            return null;
+        }
+        return ofReduced(n, m);
+    }
+
+    /**
+     * Write the object. The {@code BigInteger} representation is created before
+     * writing to support the serialized form.
+     *
+     * @param out Output stream.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getNumerator();
+        getDenominator();
+        out.defaultWriteObject();
+    }
+
+    /**
+     * Resolve the deserialized object. This restores the primitive representation.
+     *
+     * @return the fraction
+     */
+    private Object readResolve() {
+        return of(numerator, denominator);
     }
 }
@@ -0,0 +1,498 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes the exact sum of rational numbers.
+ *
+ * <p>The sum is held as a fraction that is not reduced to lowest terms after each
+ * addition. This avoids the cost of the greatest common divisor of the large numerator
+ * and denominator that is computed for every result of {@link BigFraction#add(BigFraction)}.
+ *
+ * <p>Terms are combined as follows:
+ * <ul>
+ *  <li>If the denominator of the term is equal to the denominator of the sum the
+ *      numerators are added.
+ *  <li>If either denominator is small the sum uses the least common multiple of the
+ *      denominators. The greatest common divisor of a large and small value is cheap to compute.
+ *  <li>Otherwise the sum uses the product of the denominators.
+ * </ul>
+ *
+ * <p>The sum is reduced to lowest terms when the size of the denominator has doubled
+ * since the last reduction, and when the result is obtained using {@link #get()}.
+ *
+ * <p>Static methods are provided to compute the sum and dot product of arrays. The
+ * terms are combined using pairwise (tree) summation. Partial sums of similar size
+ * are combined which keeps the cost of the {@code BigInteger} multiplications lower
+ * than a sequential sum where a small term is added to a large sum. Parallel versions
+ * split the data and compute the partial sums in a fork-join pool.
+ *
+ * <p>This class is not thread-safe. Instances for separate parts of the data can be
+ * merged using {@link #combine(BigFractionAccumulator)}.
+ */
+public final class BigFractionAccumulator {
+    /** Size in bits of a denominator for which the least common multiple is used. */
+    private static final int SMALL_BITS = Long.SIZE;
+    /** Minimum size in bits of the denominator before the sum is reduced. */
+    private static final int MIN_REDUCTION_BITS = 1 << 10;
+    /** Number of terms that are summed sequentially in a pairwise summation. */
+    private static final int LEAF_SIZE = 16;
+    /** Number of terms below which a parallel computation is not split. */
+    private static final int PARALLEL_THRESHOLD = 1 << 10;
+
+    /** The numerator of the sum. */
+    private BigInteger numerator = BigInteger.ZERO;
+    /** The denominator of the sum. This is always positive. */
+    private BigInteger denominator = BigInteger.ONE;
+    /** Size in bits of the denominator above which the sum is reduced. */
+    private int threshold = MIN_REDUCTION_BITS;
+
+    /**
+     * Accumulates a range of the data into the sum.
+     */
+    @FunctionalInterface
+    private interface RangeFunction {
+        /**
+         * Accumulates the data in the range into the sum.
+         *
+         * @param sum Sum.
+         * @param from Start index (inclusive).
+         * @param to End index (exclusive).
+         */
+        void accept(BigFractionAccumulator sum, int from, int to);
+    }
+
+    /**
+     * Computes the sum of a range of the data by splitting it into two halves.
+     */
+    private static final class SumTask extends RecursiveTask<BigFractionAccumulator> {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261018L;
+
+        /** The function. */
+        private final RangeFunction function;
+        /** Start index (inclusive). */
+        private final int from;
+        /** End index (exclusive). */
+        private final int to;
+
+        /**
+         * @param function Function.
+         * @param from Start index (inclusive).
+         * @param to End index (exclusive).
+         */
+        SumTask(RangeFunction function, int from, int to) {
+            this.function = function;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BigFractionAccumulator compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return pairwise(function, from, to);
+            }
+            final int mid = (from + to) >>> 1;
+            final SumTask left = new SumTask(function, from, mid);
+            left.fork();
+            final BigFractionAccumulator right = new SumTask(function, mid, to).compute();
+            return left.join().combine(right);
+        }
+    }
+
+    /** Create an instance. */
+    private BigFractionAccumulator() {}
+
+    /**
+     * Create an instance with a sum of zero.
+     *
+     * @return the sum
+     */
+    public static BigFractionAccumulator create() {
+        return new BigFractionAccumulator();
+    }
+
+    /**
+     * Adds the value to the sum.
+     *
+     * @param value Value.
+     * @return this instance
+     */
+    public BigFractionAccumulator add(long value) {
+        if (value != 0) {
+            numerator = numerator.add(denominator.multiply(BigInteger.valueOf(value)));
+        }
+        return this;
+    }
+
+    /**
+     * Adds the fraction to the sum.
+     *
+     * @param value Fraction.
+     * @return this instance
+     */
+    public BigFractionAccumulator add(Fraction value) {
+        return add(BigInteger.valueOf(value.getNumerator()), BigInteger.valueOf(value.getDenominator()));
+    }
+
+    /**
+     * Adds the fraction to the sum.
+     *
+     * @param value Fraction.
+     * @return this instance
+     */
+    public BigFractionAccumulator add(BigFraction value) {
+        return add(value.getNumerator(), value.getDenominator());
+    }
+
+    /**
+     * Subtracts the fraction from the sum.
+     *
+     * @param value Fraction.
+     * @return this instance
+     */
+    public BigFractionAccumulator subtract(BigFraction value) {
+        return add(value.getNumerator().negate(), value.getDenominator());
+    }
+
+    /**
+     * Adds the product of the fractions to the sum.
+     *
+     * @param a First fraction.
+     * @param b Second fraction.
+     * @return this instance
+     */
+    public BigFractionAccumulator addProduct(BigFraction a, BigFraction b) {
+        return add(a.getNumerator().multiply(b.getNumerator()),
+                   a.getDenominator().multiply(b.getDenominator()));
+    }
+
+    /**
+     * Adds the product of the fractions to the sum.
+     *
+     * @param a First fraction.
+     * @param b Second fraction.
+     * @return this instance
+     */
+    public BigFractionAccumulator addProduct(Fraction a, Fraction b) {
+        // The product of int values cannot overflow a long
+        return add(BigInteger.valueOf((long) a.getNumerator() * b.getNumerator()),
+                   BigInteger.valueOf((long) a.getDenominator() * b.getDenominator()));
+    }
+
+    /**
+     * Adds the sum of the other instance to this sum.
+     *
+     * @param other Other sum.
+     * @return this instance
+     */
+    public BigFractionAccumulator combine(BigFractionAccumulator other) {
+        return add(other.numerator, other.denominator);
+    }
+
+    /**
+     * Gets the sum reduced to lowest terms.
+     *
+     * @return the sum
+     */
+    public BigFraction get() {
+        final BigFraction sum = BigFraction.of(numerator, denominator);
+        // Store the reduced form. The denominator remains positive.
+        numerator = sum.getNumerator();
+        denominator = sum.getDenominator();
+        updateThreshold();
+        return sum;
+    }
+
+    /**
+     * Computes the sum of the fractions.
+     *
+     * @param values Fractions.
+     * @return the sum
+     */
+    public static BigFraction sum(Fraction[] values) {
+        return pairwise((s, from, to) -> sumRange(values, s, from, to), 0, values.length).get();
+    }
+
+    /**
+     * Computes the sum of the fractions.
+     *
+     * @param values Fractions.
+     * @return the sum
+     */
+    public static BigFraction sum(BigFraction[] values) {
+        return pairwise((s, from, to) -> sumRange(values, s, from, to), 0, values.length).get();
+    }
+
+    /**
+     * Computes the dot product of the fractions.
+     *
+     * <p>\[ a \cdot b = \sum_k a_k b_k \]
+     *
+     * @param a First fractions.
+     * @param b Second fractions.
+     * @return the dot product
+     * @throws IllegalArgumentException if the arrays are different lengths.
+     */
+    public static BigFraction dot(Fraction[] a, Fraction[] b) {
+        checkLength(a.length, b.length);
+        return pairwise((s, from, to) -> dotRange(a, b, s, from, to), 0, a.length).get();
+    }
+
+    /**
+     * Computes the dot product of the fractions.
+     *
+     * <p>\[ a \cdot b = \sum_k a_k b_k \]
+     *
+     * @param a First fractions.
+     * @param b Second fractions.
+     * @return the dot product
+     * @throws IllegalArgumentException if the arrays are different lengths.
+     */
+    public static BigFraction dot(BigFraction[] a, BigFraction[] b) {
+        checkLength(a.length, b.length);
+        return pairwise((s, from, to) -> dotRange(a, b, s, from, to), 0, a.length).get();
+    }
+
+    /**
+     * Computes the sum of the fractions. Ranges of the data are summed in parallel
+     * using the common fork-join pool.
+     *
+     * @param values Fractions.
+     * @return the sum
+     * @see #sum(Fraction[])
+     */
+    public static BigFraction parallelSum(Fraction[] values) {
+        return compute((s, from, to) -> sumRange(values, s, from, to), values.length);
+    }
+
+    /**
+     * Computes the sum of the fractions. Ranges of the data are summed in parallel
+     * using the common fork-join pool.
+     *
+     * @param values Fractions.
+     * @return the sum
+     * @see #sum(BigFraction[])
+     */
+    public static BigFraction parallelSum(BigFraction[] values) {
+        return compute((s, from, to) -> sumRange(values, s, from, to), values.length);
+    }
+
+    /**
+     * Computes the dot product of the fractions. Ranges of the data are summed in
+     * parallel using the common fork-join pool.
+     *
+     * @param a First fractions.
+     * @param b Second fractions.
+     * @return the dot product
+     * @throws IllegalArgumentException if the arrays are different lengths.
+     * @see #dot(Fraction[], Fraction[])
+     */
+    public static BigFraction parallelDot(Fraction[] a, Fraction[] b) {
+        checkLength(a.length, b.length);
+        return compute((s, from, to) -> dotRange(a, b, s, from, to), a.length);
+    }
+
+    /**
+     * Computes the dot product of the fractions. Ranges of the data are summed in
+     * parallel using the common fork-join pool.
+     *
+     * @param a First fractions.
+     * @param b Second fractions.
+     * @return the dot product
+     * @throws IllegalArgumentException if the arrays are different lengths.
+     * @see #dot(BigFraction[], BigFraction[])
+     */
+    public static BigFraction parallelDot(BigFraction[] a, BigFraction[] b) {
+        checkLength(a.length, b.length);
+        return compute((s, from, to) -> dotRange(a, b, s, from, to), a.length);
+    }
+
+    /**
+     * Compute the sum using the function over the range {@code [0, n)}.
+     * If the range is large it is split and the parts are computed in parallel.
+     *
+     * @param function Function.
+     * @param n Number of terms.
+     * @return the sum
+     */
+    private static BigFraction compute(RangeFunction function, int n) {
+        return ForkJoinPool.commonPool().invoke(new SumTask(function, 0, n)).get();
+    }
+
+    /**
+     * Compute the sum using the function over the range {@code [from, to)} using
+     * pairwise summation.
+     *
+     * @param function Function.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     * @return the sum
+     */
+    private static BigFractionAccumulator pairwise(RangeFunction function, int from, int to) {
+        if (to - from <= LEAF_SIZE) {
+            final BigFractionAccumulator sum = new BigFractionAccumulator();
+            function.accept(sum, from, to);
+            return sum;
+        }
+        final int mid = (from + to) >>> 1;
+        return pairwise(function, from, mid).combine(pairwise(function, mid, to));
+    }
+
+    /**
+     * Adds the fractions in the range to the sum.
+     *
+     * @param values Fractions.
+     * @param sum Sum.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     */
+    private static void sumRange(Fraction[] values, BigFractionAccumulator sum, int from, int to) {
+        for (int i = from; i < to; i++) {
+            sum.add(values[i]);
+        }
+    }
+
+    /**
+     * Adds the fractions in the range to the sum.
+     *
+     * @param values Fractions.
+     * @param sum Sum.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     */
+    private static void sumRange(BigFraction[] values, BigFractionAccumulator sum, int from, int to) {
+        for (int i = from; i < to; i++) {
+            sum.add(values[i]);
+        }
+    }
+
+    /**
+     * Adds the products of the fractions in the range to the sum.
+     *
+     * @param a First fractions.
+     * @param b Second fractions.
+     * @param sum Sum.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     */
+    private static void dotRange(Fraction[] a, Fraction[] b, BigFractionAccumulator sum, int from, int to) {
+        for (int i = from; i < to; i++) {
+            sum.addProduct(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Adds the products of the fractions in the range to the sum.
+     *
+     * @param a First fractions.
+     * @param b Second fractions.
+     * @param sum Sum.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     */
+    private static void dotRange(BigFraction[] a, BigFraction[] b, BigFractionAccumulator sum, int from, int to) {
+        for (int i = from; i < to; i++) {
+            sum.addProduct(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Adds the fraction {@code num / den} to the sum.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     * @return this instance
+     * @throws ArithmeticException if the denominator is zero.
+     */
+    private BigFractionAccumulator add(BigInteger num, BigInteger den) {
+        BigInteger p = num;
+        BigInteger q = den;
+        if (q.signum() <= 0) {
+            if (q.signum() == 0) {
+                throw new FractionException(FractionException.ERROR_ZERO_DENOMINATOR);
+            }
+            p = p.negate();
+            q = q.negate();
+        }
+        if (p.signum() == 0) {
+            return this;
+        }
+
+        if (q.equals(denominator)) {
+            numerator = numerator.add(p);
+            return this;
+        }
+
+        if (q.bitLength() <= SMALL_BITS || denominator.bitLength() <= SMALL_BITS) {
+            // Use the least common multiple: d = lcm(u', v') = u'v' / gcd(u', v')
+            // u/u' + v/v' = (u(v'/g) + v(u'/g)) / d
+            final BigInteger g = denominator.gcd(q);
+            if (!BigInteger.ONE.equals(g)) {
+                final BigInteger vp = q.divide(g);
+                numerator = numerator.multiply(vp).add(p.multiply(denominator.divide(g)));
+                denominator = denominator.multiply(vp);
+                return reduceIfRequired();
+            }
+        }
+        numerator = numerator.multiply(q).add(p.multiply(denominator));
+        denominator = denominator.multiply(q);
+        return reduceIfRequired();
+    }
+
+    /**
+     * Reduce the sum to lowest terms if the size of the denominator is above the threshold.
+     *
+     * @return this instance
+     */
+    private BigFractionAccumulator reduceIfRequired() {
+        if (denominator.bitLength() > threshold) {
+            final BigInteger g = numerator.gcd(denominator);
+            if (!BigInteger.ONE.equals(g)) {
+                numerator = numerator.divide(g);
+                denominator = denominator.divide(g);
+            }
+            updateThreshold();
+        }
+        return this;
+    }
+
+    /**
+     * Update the threshold for reduction to twice the current size of the denominator.
+     */
+    private void updateThreshold() {
+        threshold = (int) Math.max(MIN_REDUCTION_BITS,
+                                   Math.min(Integer.MAX_VALUE, 2L * denominator.bitLength()));
+    }
+
+    /**
+     * Check the lengths are equal.
+     *
+     * @param length1 First length.
+     * @param length2 Second length.
+     * @throws IllegalArgumentException if the lengths are different.
+     */
+    private static void checkLength(int length1, int length2) {
+        if (length1 != length2) {
+            throw new IllegalArgumentException("Size mismatch: " + length1 + " != " + length2);
+        }
+    }
+}
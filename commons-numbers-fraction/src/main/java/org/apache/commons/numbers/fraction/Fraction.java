@@ -44,6 +44,9 @@ public final class Fraction
     /** Serializable version identifier. */
     private static final long serialVersionUID = 20190701L;
 
+    /** The separator of the numerator and denominator in the {@link #toString() String representation}. */
+    private static final String FORMAT_SEP = " / ";
+
     /** The default epsilon used for convergence. */
     private static final double DEFAULT_EPSILON = 1e-5;
 
@@ -405,8 +408,59 @@ public final class Fraction
      * @throws NumberFormatException if the string does not contain a parsable fraction.
      * @see Integer#parseInt(String)
      * @see #toString()
+     * @see #parse(CharSequence, int, int)
      */
     public static Fraction parse(String s) {
+        return parse(s, 0, s.length());
+    }
+
+    /**
+     * Returns a {@code Fraction} instance representing the region of the
+     * character sequence {@code s} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * <p>The region must be in the format accepted by {@link #parse(String)} and the result
+     * is the same as {@code parse(s.subSequence(start, end).toString())}.
+     *
+     * <p>This method is intended for high-volume parsing of text records. When the numeric
+     * parts contain only ASCII digits, the parts are parsed directly from the sequence
+     * and no intermediate strings are created. Other input is parsed using the method
+     * for strings.
+     *
+     * @param s Character sequence.
+     * @param start Start index (inclusive).
+     * @param end End index (exclusive).
+     * @return an instance.
+     * @throws NullPointerException if the sequence is null.
+     * @throws IndexOutOfBoundsException if the region is not within the sequence.
+     * @throws NumberFormatException if the region does not contain a parsable fraction.
+     * @see #parse(String)
+     */
+    public static Fraction parse(CharSequence s, int start, int end) {
+        final int slash = IntegerParser.indexOf(s, '/', start, end);
+        if (slash < 0) {
+            final long num = IntegerParser.parse(s, start, end);
+            if (num == (int) num) {
+                return of((int) num);
+            }
+        } else {
+            final long num = IntegerParser.parse(s, start, slash);
+            final long den = IntegerParser.parse(s, slash + 1, end);
+            if (num == (int) num && den == (int) den) {
+                return of((int) num, (int) den);
+            }
+        }
+        return parseString(s.subSequence(start, end).toString());
+    }
+
+    /**
+     * Returns a {@code Fraction} instance representing the specified string {@code s}.
+     *
+     * @param s String representation.
+     * @return an instance.
+     * @throws NumberFormatException if the string does not contain a parsable fraction.
+     * @see #parse(String)
+     */
+    private static Fraction parseString(String s) {
         final String stripped = s.replace(",", "");
         final int slashLoc = stripped.indexOf('/');
         // if no slash, parse as single number
@@ -822,11 +876,30 @@ public final class Fraction
         } else if (denominator == 1) {
             str = Integer.toString(numerator);
         } else {
-            str = numerator + " / " + denominator;
+            str = numerator + FORMAT_SEP + denominator;
         }
         return str;
     }
 
+    /**
+     * Appends the {@link #toString() string representation} of the fraction
+     * to the builder.
+     *
+     * @param sb String builder.
+     * @return the string builder
+     * @see #toString()
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        if (isZero()) {
+            return sb.append('0');
+        }
+        sb.append(numerator);
+        if (denominator != 1) {
+            sb.append(FORMAT_SEP).append(denominator);
+        }
+        return sb;
+    }
+
     /**
      * Compares this object with the specified object for order using the signed magnitude.
      *
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.fraction;
+
+/**
+ * Parses an integer from a region of a {@link CharSequence} without creating
+ * intermediate objects.
+ *
+ * <p>The input format is that of the fraction parse methods: an optional sign followed
+ * by ASCII decimal digits. Comma characters are ignored, and leading and trailing
+ * whitespace is ignored as per {@link String#trim()}. At most 18 significant digits
+ * are supported so the value cannot overflow a {@code long}.
+ *
+ * <p>All other input is not parsed and the caller should use the parse method
+ * for a {@code String}.
+ */
+final class IntegerParser {
+    /** Value returned when the input is not parsed. This is never the result of parsing. */
+    static final long NOT_PARSED = Long.MIN_VALUE;
+
+    /** Maximum number of significant digits. */
+    private static final int MAX_DIGITS = 18;
+    /** Character ignored in the input. */
+    private static final char IGNORED = ',';
+
+    /** No instances. */
+    private IntegerParser() {}
+
+    /**
+     * Find the index of the character in the region of the sequence.
+     *
+     * @param s Characters.
+     * @param ch Character.
+     * @param start Start index (inclusive).
+     * @param end End index (exclusive).
+     * @return the index, or -1 if absent
+     */
+    static int indexOf(CharSequence s, char ch, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (s.charAt(i) == ch) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses the region of the sequence.
+     *
+     * @param s Characters.
+     * @param start Start index (inclusive).
+     * @param end End index (exclusive).
+     * @return the value, or {@link #NOT_PARSED}
+     */
+    static long parse(CharSequence s, int start, int end) {
+        int i = start;
+        int to = end;
+        while (i < to && isIgnoredAtEnds(s.charAt(i))) {
+            i++;
+        }
+        while (to > i && isIgnoredAtEnds(s.charAt(to - 1))) {
+            to--;
+        }
+        if (i >= to) {
+            return NOT_PARSED;
+        }
+
+        final char first = s.charAt(i);
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            i++;
+        }
+
+        long value = 0;
+        int digits = 0;
+        boolean anyDigit = false;
+        for (; i < to; i++) {
+            final char ch = s.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                anyDigit = true;
+                if (value == 0 && ch == '0') {
+                    // Leading zero
+                    continue;
+                }
+                if (digits == MAX_DIGITS) {
+                    return NOT_PARSED;
+                }
+                value = value * 10 + (ch - '0');
+                digits++;
+            } else if (ch != IGNORED) {
+                return NOT_PARSED;
+            }
+        }
+        if (!anyDigit) {
+            return NOT_PARSED;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Checks if the character is ignored at the ends of the input. This is whitespace
+     * or the ignored character.
+     *
+     * @param ch Character.
+     * @return true if ignored
+     */
+    private static boolean isIgnoredAtEnds(char ch) {
+        return ch <= ' ' || ch == IGNORED;
+    }
+}
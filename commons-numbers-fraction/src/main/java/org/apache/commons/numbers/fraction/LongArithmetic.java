@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+/**
+ * Support for fraction arithmetic using {@code long} values.
+ *
+ * <p>The overflow tests allow the caller to detect overflow of a computed result
+ * and select an alternative computation without the cost of an exception.
+ */
+final class LongArithmetic {
+    /** Mask for the low 32-bits of a long. */
+    private static final long MASK_32 = 0xffffffffL;
+
+    /** No instances. */
+    private LongArithmetic() {}
+
+    /**
+     * Returns the absolute value as an unsigned long. This is valid for
+     * {@link Long#MIN_VALUE} which has an unsigned magnitude of 2<sup>63</sup>.
+     *
+     * @param x Value.
+     * @return the unsigned absolute value
+     */
+    static long unsignedAbs(long x) {
+        return x < 0 ? -x : x;
+    }
+
+    /**
+     * Test if the product {@code x * y} overflows a {@code long}. This is the test
+     * used by {@link Math#multiplyExact(long, long)}.
+     *
+     * @param x First value.
+     * @param y Second value.
+     * @param r Product {@code x * y} (which may have overflowed).
+     * @return true if the product overflows
+     */
+    static boolean multiplyOverflows(long x, long y, long r) {
+        final long ax = Math.abs(x);
+        final long ay = Math.abs(y);
+        if (((ax | ay) >>> 31) != 0) {
+            // Some bits greater than 2^31 that might cause overflow
+            return (y != 0 && r / y != x) ||
+                   (x == Long.MIN_VALUE && y == -1);
+        }
+        return false;
+    }
+
+    /**
+     * Test if the sum {@code x + y} overflows a {@code long}.
+     *
+     * @param x First value.
+     * @param y Second value.
+     * @param r Sum {@code x + y} (which may have overflowed).
+     * @return true if the sum overflows
+     */
+    static boolean addOverflows(long x, long y, long r) {
+        // Overflow if both arguments have the opposite sign of the result
+        return ((x ^ r) & (y ^ r)) < 0;
+    }
+
+    /**
+     * Test if the difference {@code x - y} overflows a {@code long}.
+     *
+     * @param x First value.
+     * @param y Second value.
+     * @param r Difference {@code x - y} (which may have overflowed).
+     * @return true if the difference overflows
+     */
+    static boolean subtractOverflows(long x, long y, long r) {
+        // Overflow if the arguments have different signs and
+        // the sign of the result is different from the sign of x
+        return ((x ^ y) & (x ^ r)) < 0;
+    }
+
+    /**
+     * Compare the unsigned 128-bit products {@code a * b} and {@code c * d}
+     * of the unsigned arguments.
+     *
+     * @param a First value.
+     * @param b Second value.
+     * @param c Third value.
+     * @param d Fourth value.
+     * @return the sign of {@code a * b - c * d}
+     */
+    static int compareProducts(long a, long b, long c, long d) {
+        final int cmp = Long.compareUnsigned(unsignedMultiplyHigh(a, b), unsignedMultiplyHigh(c, d));
+        if (cmp == 0) {
+            return Long.compareUnsigned(a * b, c * d);
+        }
+        return cmp;
+    }
+
+    /**
+     * Divide the unsigned 128-bit value {@code (hi, lo)} by the unsigned divisor
+     * {@code d} and return the unsigned 64-bit quotient. The remainder is
+     * {@code lo - q * d} computed using 64-bit arithmetic.
+     *
+     * <p>The divisor must be normalized (the most significant bit is set) and
+     * {@code hi} must be less than {@code d} so the quotient does not overflow.
+     * These conditions are not validated.
+     *
+     * <p>Adapted from {@code divlu} in Warren, H. S. (2012) Hacker's Delight,
+     * 2nd ed., section 9-4.
+     *
+     * @param hi High 64-bits of the dividend.
+     * @param lo Low 64-bits of the dividend.
+     * @param d Divisor.
+     * @return the quotient
+     */
+    static long divideUnsigned(long hi, long lo, long d) {
+        final long d1 = d >>> 32;
+        final long d0 = d & MASK_32;
+        final long l1 = lo >>> 32;
+        final long l0 = lo & MASK_32;
+
+        // Divide (hi, l1) by d to obtain the high 32-bit digit of the quotient.
+        // The estimate from the high digit of the divisor is at most 2 too large.
+        long q1 = Long.divideUnsigned(hi, d1);
+        long rhat = hi - q1 * d1;
+        while ((q1 >>> 32) != 0 || Long.compareUnsigned(q1 * d0, (rhat << 32) | l1) > 0) {
+            q1--;
+            rhat += d1;
+            if ((rhat >>> 32) != 0) {
+                break;
+            }
+        }
+
+        // Divide the remainder (r, l0) by d to obtain the low 32-bit digit
+        final long r = ((hi << 32) | l1) - q1 * d;
+        long q0 = Long.divideUnsigned(r, d1);
+        rhat = r - q0 * d1;
+        while ((q0 >>> 32) != 0 || Long.compareUnsigned(q0 * d0, (rhat << 32) | l0) > 0) {
+            q0--;
+            rhat += d1;
+            if ((rhat >>> 32) != 0) {
+                break;
+            }
+        }
+        return (q1 << 32) | q0;
+    }
+
+    /**
+     * Returns the high 64-bits of the unsigned 128-bit product of the unsigned arguments.
+     *
+     * @param x First value.
+     * @param y Second value.
+     * @return the high 64-bits of {@code x * y}
+     */
+    static long unsignedMultiplyHigh(long x, long y) {
+        final long x1 = x >>> 32;
+        final long x2 = x & MASK_32;
+        final long y1 = y >>> 32;
+        final long y2 = y & MASK_32;
+        final long z2 = x2 * y2;
+        final long t = x1 * y2 + (z2 >>> 32);
+        final long z1 = (t & MASK_32) + x2 * y1;
+        return x1 * y1 + (t >>> 32) + (z1 >>> 32);
+    }
+}
@@ -0,0 +1,847 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import org.apache.commons.numbers.core.ArithmeticUtils;
+import org.apache.commons.numbers.core.NativeOperators;
+
+/**
+ * Representation of a rational number.
+ *
+ * <p>The number is expressed as the quotient {@code p/q} of two 64-bit integers,
+ * a numerator {@code p} and a non-zero denominator {@code q}.
+ *
+ * <p>This class provides the range of a {@code long} for values that exceed the
+ * range of {@link Fraction} without the cost of the arbitrary precision arithmetic
+ * of {@link BigFraction}. Operations raise an {@link ArithmeticException} if the
+ * numerator or denominator of the result in reduced form cannot be represented
+ * in a {@code long}; the exact result can be computed using {@link #toBigFraction()}.
+ *
+ * <p>This class is immutable.
+ *
+ * <a href="https://en.wikipedia.org/wiki/Rational_number">Rational number</a>
+ */
+public final class LongFraction
+    extends Number
+    implements Comparable<LongFraction>,
+               NativeOperators<LongFraction>,
+               Serializable {
+    /** A fraction representing "0". */
+    public static final LongFraction ZERO = new LongFraction(0);
+
+    /** A fraction representing "1". */
+    public static final LongFraction ONE = new LongFraction(1);
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261018L;
+
+    /** The separator of the numerator and denominator in the {@link #toString() String representation}. */
+    private static final String FORMAT_SEP = " / ";
+
+    /** The numerator of this fraction reduced to lowest terms. */
+    private final long numerator;
+
+    /** The denominator of this fraction reduced to lowest terms. */
+    private final long denominator;
+
+    /**
+     * Private constructor: Instances are created using factory methods.
+     *
+     * <p>This constructor should only be invoked when the fraction is known
+     * to be non-zero; otherwise use {@link #ZERO}. This avoids creating
+     * the zero representation {@code 0 / -1}.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     * @throws ArithmeticException if the denominator is {@code zero}.
+     */
+    private LongFraction(long num, long den) {
+        if (den == 0) {
+            throw new FractionException(FractionException.ERROR_ZERO_DENOMINATOR);
+        }
+
+        if (num == den) {
+            numerator = 1;
+            denominator = 1;
+        } else {
+            // Reduce numerator (p) and denominator (q) by greatest common divisor.
+            long p;
+            long q;
+
+            // If num and den are both 2^-63, or if one is 0 and the other is 2^-63,
+            // the calculation of the gcd below will fail. Ensure that this does not
+            // happen by dividing both by 2 in case both are even.
+            if (((num | den) & 1) == 0) {
+                p = num >> 1;
+                q = den >> 1;
+            } else {
+                p = num;
+                q = den;
+            }
+
+            // Will not throw.
+            // Cannot return 0 as gcd(0, 0) has been eliminated.
+            final long d = ArithmeticUtils.gcd(p, q);
+            numerator = p / d;
+            denominator = q / d;
+        }
+    }
+
+    /**
+     * Private constructor: Instances are created using factory methods.
+     *
+     * <p>This sets the denominator to 1.
+     *
+     * @param num Numerator.
+     */
+    private LongFraction(long num) {
+        numerator = num;
+        denominator = 1;
+    }
+
+    /**
+     * Create a fraction given the numerator. The denominator is {@code 1}.
+     *
+     * @param num Numerator.
+     * @return a new instance.
+     */
+    public static LongFraction of(final long num) {
+        if (num == 0) {
+            return ZERO;
+        }
+        return new LongFraction(num);
+    }
+
+    /**
+     * Create a fraction given the numerator and denominator.
+     * The fraction is reduced to lowest terms.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     * @throws ArithmeticException if the denominator is {@code zero}.
+     * @return a new instance.
+     */
+    public static LongFraction of(final long num, final long den) {
+        if (num == 0) {
+            return ZERO;
+        }
+        return new LongFraction(num, den);
+    }
+
+    /**
+     * Create a fraction with the same value as the {@code Fraction}.
+     *
+     * @param value Fraction.
+     * @return a new instance.
+     */
+    public static LongFraction of(final Fraction value) {
+        return of(value.getNumerator(), value.getDenominator());
+    }
+
+    /**
+     * Returns a {@code LongFraction} instance representing the specified string {@code s}.
+     *
+     * <p>If {@code s} is {@code null}, then a {@code NullPointerException} is thrown.
+     *
+     * <p>The string must be in a format compatible with that produced by
+     * {@link #toString() LongFraction.toString()}.
+     * The format expects an integer optionally followed by a {@code '/'} character and
+     * and second integer. Leading and trailing spaces are allowed around each numeric part.
+     * Each numeric part is parsed using {@link Long#parseLong(String)}. The parts
+     * are interpreted as the numerator and optional denominator of the fraction. If absent
+     * the denominator is assumed to be "1".
+     *
+     * <p>Examples of valid strings and the equivalent {@code LongFraction} are shown below:
+     *
+     * <pre>
+     * "0"                 = LongFraction.of(0)
+     * "42"                = LongFraction.of(42)
+     * "0 / 1"             = LongFraction.of(0, 1)
+     * "1 / 3"             = LongFraction.of(1, 3)
+     * "-4 / 13"           = LongFraction.of(-4, 13)</pre>
+     *
+     * <p>Note: The fraction is returned in reduced form and the numerator and denominator
+     * may not match the values in the input string. For this reason the result of
+     * {@code LongFraction.parse(s).toString().equals(s)} may not be {@code true}.
+     *
+     * @param s String representation.
+     * @return an instance.
+     * @throws NullPointerException if the string is null.
+     * @throws NumberFormatException if the string does not contain a parsable fraction.
+     * @see Long#parseLong(String)
+     * @see #toString()
+     * @see #parse(CharSequence, int, int)
+     */
+    public static LongFraction parse(String s) {
+        return parse(s, 0, s.length());
+    }
+
+    /**
+     * Returns a {@code LongFraction} instance representing the region of the
+     * character sequence {@code s} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * <p>The region must be in the format accepted by {@link #parse(String)} and the result
+     * is the same as {@code parse(s.subSequence(start, end).toString())}.
+     *
+     * <p>This method is intended for high-volume parsing of text records. When the numeric
+     * parts contain only ASCII digits, the parts are parsed directly from the sequence
+     * and no intermediate strings are created. Other input is parsed using the method
+     * for strings.
+     *
+     * @param s Character sequence.
+     * @param start Start index (inclusive).
+     * @param end End index (exclusive).
+     * @return an instance.
+     * @throws NullPointerException if the sequence is null.
+     * @throws IndexOutOfBoundsException if the region is not within the sequence.
+     * @throws NumberFormatException if the region does not contain a parsable fraction.
+     * @see #parse(String)
+     */
+    public static LongFraction parse(CharSequence s, int start, int end) {
+        final int slash = IntegerParser.indexOf(s, '/', start, end);
+        if (slash < 0) {
+            final long num = IntegerParser.parse(s, start, end);
+            if (num != IntegerParser.NOT_PARSED) {
+                return of(num);
+            }
+        } else {
+            final long num = IntegerParser.parse(s, start, slash);
+            final long den = IntegerParser.parse(s, slash + 1, end);
+            if (num != IntegerParser.NOT_PARSED && den != IntegerParser.NOT_PARSED) {
+                return of(num, den);
+            }
+        }
+        return parseString(s.subSequence(start, end).toString());
+    }
+
+    /**
+     * Returns a {@code LongFraction} instance representing the specified string {@code s}.
+     *
+     * @param s String representation.
+     * @return an instance.
+     * @throws NumberFormatException if the string does not contain a parsable fraction.
+     * @see #parse(String)
+     */
+    private static LongFraction parseString(String s) {
+        final String stripped = s.replace(",", "");
+        final int slashLoc = stripped.indexOf('/');
+        // if no slash, parse as single number
+        if (slashLoc == -1) {
+            return of(Long.parseLong(stripped.trim()));
+        }
+        final long num = Long.parseLong(stripped.substring(0, slashLoc).trim());
+        final long denom = Long.parseLong(stripped.substring(slashLoc + 1).trim());
+        return of(num, denom);
+    }
+
+    @Override
+    public LongFraction zero() {
+        return ZERO;
+    }
+
+    @Override
+    public LongFraction one() {
+        return ONE;
+    }
+
+    /**
+     * Access the numerator as a {@code long}.
+     *
+     * @return the numerator as a {@code long}.
+     */
+    public long getNumerator() {
+        return numerator;
+    }
+
+    /**
+     * Access the denominator as a {@code long}.
+     *
+     * @return the denominator as a {@code long}.
+     */
+    public long getDenominator() {
+        return denominator;
+    }
+
+    /**
+     * Retrieves the sign of this fraction.
+     *
+     * @return -1 if the value is strictly negative, 1 if it is strictly
+     * positive, 0 if it is 0.
+     */
+    public int signum() {
+        return Long.signum(numerator) * Long.signum(denominator);
+    }
+
+    /**
+     * Returns the absolute value of this fraction.
+     *
+     * @return the absolute value.
+     */
+    public LongFraction abs() {
+        return signum() >= 0 ?
+            this :
+            negate();
+    }
+
+    @Override
+    public LongFraction negate() {
+        return numerator == Long.MIN_VALUE ?
+            new LongFraction(numerator, -denominator) :
+            new LongFraction(-numerator, denominator);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Raises an exception if the fraction is equal to zero.
+     *
+     * @throws ArithmeticException if the current numerator is {@code zero}
+     */
+    @Override
+    public LongFraction reciprocal() {
+        return new LongFraction(denominator, numerator);
+    }
+
+    /**
+     * Returns the {@code double} value closest to this fraction.
+     *
+     * @return the fraction as a {@code double}.
+     */
+    @Override
+    public double doubleValue() {
+        // The quotient is correctly rounded if both parts are exact doubles
+        if (((LongArithmetic.unsignedAbs(numerator) | LongArithmetic.unsignedAbs(denominator)) >>> 53) == 0) {
+            return (double) numerator / (double) denominator;
+        }
+        return toBigFraction().doubleValue();
+    }
+
+    /**
+     * Returns the {@code float} value closest to this fraction.
+     * This calculates the fraction as numerator divided by denominator.
+     *
+     * @return the fraction as a {@code float}.
+     */
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    /**
+     * Returns the whole number part of the fraction.
+     *
+     * @return the largest {@code int} value that is not larger than this fraction.
+     */
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    /**
+     * Returns the whole number part of the fraction.
+     *
+     * @return the largest {@code long} value that is not larger than this fraction.
+     */
+    @Override
+    public long longValue() {
+        // Note: Long.MIN_VALUE / -1 overflows to Long.MIN_VALUE.
+        // This is the same as the BigInteger conversion of 2^63 to a long.
+        return numerator / denominator;
+    }
+
+    /**
+     * Create a {@code Fraction} with the same value as this fraction.
+     *
+     * @return the fraction
+     * @throws ArithmeticException if the numerator or denominator cannot be
+     * represented in an {@code int}.
+     */
+    public Fraction toFraction() {
+        return Fraction.of(Math.toIntExact(numerator), Math.toIntExact(denominator));
+    }
+
+    /**
+     * Create a {@code BigFraction} with the same value as this fraction.
+     *
+     * @return the fraction
+     */
+    public BigFraction toBigFraction() {
+        return BigFraction.of(numerator, denominator);
+    }
+
+    /**
+     * Adds the specified {@code value} to this fraction, returning
+     * the result in reduced form.
+     *
+     * @param value Value to add.
+     * @return {@code this + value}.
+     * @throws ArithmeticException if the resulting numerator
+     * cannot be represented in a {@code long}.
+     */
+    public LongFraction add(final long value) {
+        if (value == 0) {
+            return this;
+        }
+        if (isZero()) {
+            return new LongFraction(value);
+        }
+        // Convert to numerator with same effective denominator
+        return of(multiplyAdd(value, denominator, numerator), denominator);
+    }
+
+    /**
+     * Adds the specified {@code value} to this fraction, returning
+     * the result in reduced form.
+     *
+     * @param value Value to add.
+     * @return {@code this + value}.
+     * @throws ArithmeticException if the resulting numerator or denominator
+     * cannot be represented in a {@code long}.
+     */
+    @Override
+    public LongFraction add(LongFraction value) {
+        return addSub(value, true /* add */);
+    }
+
+    /**
+     * Subtracts the specified {@code value} from this fraction, returning
+     * the result in reduced form.
+     *
+     * @param value Value to subtract.
+     * @return {@code this - value}.
+     * @throws ArithmeticException if the resulting numerator
+     * cannot be represented in a {@code long}.
+     */
+    public LongFraction subtract(final long value) {
+        if (value == 0) {
+            return this;
+        }
+        if (isZero()) {
+            // Special case for min value
+            return value == Long.MIN_VALUE ?
+                new LongFraction(Long.MIN_VALUE, -1) :
+                new LongFraction(-value);
+        }
+        // Convert to numerator with same effective denominator
+        if (value == Long.MIN_VALUE) {
+            // -value cannot be negated: numerator - value * den = numerator + 2^63 * den
+            return of(BigInteger.valueOf(numerator)
+                          .subtract(BigInteger.valueOf(value).multiply(BigInteger.valueOf(denominator)))
+                          .longValueExact(), denominator);
+        }
+        return of(multiplyAdd(-value, denominator, numerator), denominator);
+    }
+
+    /**
+     * Subtracts the specified {@code value} from this fraction, returning
+     * the result in reduced form.
+     *
+     * @param value Value to subtract.
+     * @return {@code this - value}.
+     * @throws ArithmeticException if the resulting numerator or denominator
+     * cannot be represented in a {@code long}.
+     */
+    @Override
+    public LongFraction subtract(LongFraction value) {
+        return addSub(value, false /* subtract */);
+    }
+
+    /**
+     * Implements add and subtract using algorithm described in Knuth 4.5.1.
+     *
+     * @param value Fraction to add or subtract.
+     * @param isAdd Whether the operation is "add" or "subtract".
+     * @return a new instance.
+     * @throws ArithmeticException if the resulting numerator or denominator
+     * cannot be represented in a {@code long}.
+     */
+    private LongFraction addSub(LongFraction value, boolean isAdd) {
+        if (value.isZero()) {
+            return this;
+        }
+        // Zero is identity for addition.
+        if (isZero()) {
+            return isAdd ? value : value.negate();
+        }
+
+        /*
+         * Let the two fractions be u/u' and v/v', and d1 = gcd(u', v').
+         * First, compute t, defined as:
+         *
+         * t = u(v'/d1) +/- v(u'/d1)
+         */
+        final long d1 = gcd(denominator, value.denominator);
+        final long vp = value.denominator / d1;
+        final long up = denominator / d1;
+        final long uvp = numerator * vp;
+        final long upv = value.numerator * up;
+
+        /*
+         * Unlike the int fraction the products and t can overflow a long. In this
+         * case t is computed exactly as t / d2 can be representable.
+         */
+        if (!LongArithmetic.multiplyOverflows(numerator, vp, uvp) &&
+            !LongArithmetic.multiplyOverflows(value.numerator, up, upv)) {
+            final long t = isAdd ? uvp + upv : uvp - upv;
+            final boolean overflow = isAdd ?
+                LongArithmetic.addOverflows(uvp, upv, t) :
+                LongArithmetic.subtractOverflows(uvp, upv, t);
+            if (!overflow) {
+                if (t == 0) {
+                    // gcd(0, d1) cannot be computed when d1 is Long.MIN_VALUE
+                    return ZERO;
+                }
+                /*
+                 * Because u is coprime to u' and v is coprime to v', t is necessarily
+                 * coprime to both v'/d1 and u'/d1. However, it might have a common
+                 * factor with d1.
+                 */
+                final long d2 = gcd(t, d1);
+                // result is (t/d2) / (u'/d1)(v'/d2)
+                return of(t / d2, Math.multiplyExact(up, value.denominator / d2));
+            }
+        }
+        final BigInteger a = BigInteger.valueOf(numerator).multiply(BigInteger.valueOf(vp));
+        final BigInteger b = BigInteger.valueOf(value.numerator).multiply(BigInteger.valueOf(up));
+        final BigInteger t = isAdd ? a.add(b) : a.subtract(b);
+        final long d2 = t.gcd(BigInteger.valueOf(d1)).longValue();
+        return of(t.divide(BigInteger.valueOf(d2)).longValueExact(),
+                  Math.multiplyExact(up, value.denominator / d2));
+    }
+
+    /**
+     * Multiply this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to multiply by.
+     * @return {@code this * value}.
+     * @throws ArithmeticException if the resulting numerator
+     * cannot be represented in a {@code long}.
+     */
+    @Override
+    public LongFraction multiply(final int value) {
+        return multiply((long) value);
+    }
+
+    /**
+     * Multiply this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to multiply by.
+     * @return {@code this * value}.
+     * @throws ArithmeticException if the resulting numerator
+     * cannot be represented in a {@code long}.
+     */
+    public LongFraction multiply(final long value) {
+        if (value == 0 || isZero()) {
+            return ZERO;
+        }
+
+        // knuth 4.5.1
+        // Make sure we don't overflow unless the result *must* overflow.
+        // (see multiply(LongFraction) using value / 1 as the argument).
+        final long d2 = gcd(value, denominator);
+        return new LongFraction(Math.multiplyExact(numerator, value / d2),
+                                denominator / d2);
+    }
+
+    /**
+     * Multiply this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to multiply by.
+     * @return {@code this * value}.
+     * @throws ArithmeticException if the resulting numerator or denominator
+     * cannot be represented in a {@code long}.
+     */
+    @Override
+    public LongFraction multiply(LongFraction value) {
+        if (value.isZero() || isZero()) {
+            return ZERO;
+        }
+        return multiply(value.numerator, value.denominator);
+    }
+
+    /**
+     * Multiply this fraction by the passed fraction decomposed into a numerator and
+     * denominator, returning the result in reduced form.
+     *
+     * <p>This is a utility method to be used by multiply and divide. The decomposed
+     * fraction arguments and this fraction are not checked for zero.
+     *
+     * @param num Fraction numerator.
+     * @param den Fraction denominator.
+     * @return {@code this * num / den}.
+     * @throws ArithmeticException if the resulting numerator or denominator cannot
+     * be represented in a {@code long}.
+     */
+    private LongFraction multiply(long num, long den) {
+        // knuth 4.5.1
+        // Make sure we don't overflow unless the result *must* overflow.
+        final long d1 = gcd(numerator, den);
+        final long d2 = gcd(num, denominator);
+        return new LongFraction(Math.multiplyExact(numerator / d1, num / d2),
+                                Math.multiplyExact(denominator / d2, den / d1));
+    }
+
+    /**
+     * Divide this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to divide by
+     * @return {@code this / value}.
+     * @throws ArithmeticException if the value to divide by is zero
+     * or if the resulting numerator or denominator cannot be represented
+     * by a {@code long}.
+     */
+    public LongFraction divide(final long value) {
+        if (value == 0) {
+            throw new FractionException(FractionException.ERROR_DIVIDE_BY_ZERO);
+        }
+        if (isZero()) {
+            return ZERO;
+        }
+        // Multiply by reciprocal
+
+        // knuth 4.5.1
+        // Make sure we don't overflow unless the result *must* overflow.
+        // (see multiply(LongFraction) using 1 / value as the argument).
+        final long d1 = gcd(numerator, value);
+        return new LongFraction(numerator / d1,
+                                Math.multiplyExact(denominator, value / d1));
+    }
+
+    /**
+     * Divide this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to divide by
+     * @return {@code this / value}.
+     * @throws ArithmeticException if the value to divide by is zero
+     * or if the resulting numerator or denominator cannot be represented
+     * by a {@code long}.
+     */
+    @Override
+    public LongFraction divide(LongFraction value) {
+        if (value.isZero()) {
+            throw new FractionException(FractionException.ERROR_DIVIDE_BY_ZERO);
+        }
+        if (isZero()) {
+            return ZERO;
+        }
+        // Multiply by reciprocal
+        return multiply(value.denominator, value.numerator);
+    }
+
+    /**
+     * Returns a {@code LongFraction} whose value is
+     * <code>this<sup>exponent</sup></code>, returning the result in reduced form.
+     *
+     * @param exponent exponent to which this {@code LongFraction} is to be raised.
+     * @return <code>this<sup>exponent</sup></code>.
+     * @throws ArithmeticException if the intermediate result would overflow.
+     */
+    @Override
+    public LongFraction pow(final int exponent) {
+        if (exponent == 1) {
+            return this;
+        }
+        if (exponent == 0) {
+            return ONE;
+        }
+        if (isZero()) {
+            if (exponent < 0) {
+                throw new FractionException(FractionException.ERROR_ZERO_DENOMINATOR);
+            }
+            return ZERO;
+        }
+        if (exponent > 0) {
+            return new LongFraction(ArithmeticUtils.pow(numerator, exponent),
+                                    ArithmeticUtils.pow(denominator, exponent));
+        }
+        if (exponent == -1) {
+            return this.reciprocal();
+        }
+        if (exponent == Integer.MIN_VALUE) {
+            // MIN_VALUE can't be negated
+            return new LongFraction(
+                Math.multiplyExact(ArithmeticUtils.pow(denominator, Integer.MAX_VALUE), denominator),
+                Math.multiplyExact(ArithmeticUtils.pow(numerator, Integer.MAX_VALUE), numerator));
+        }
+        return new LongFraction(ArithmeticUtils.pow(denominator, -exponent),
+                                ArithmeticUtils.pow(numerator, -exponent));
+    }
+
+    /**
+     * Returns the {@code String} representing this fraction.
+     * Uses:
+     * <ul>
+     *  <li>{@code "0"} if {@code numerator} is zero.
+     *  <li>{@code "numerator"} if {@code denominator} is one.
+     *  <li>{@code "numerator / denominator"} for all other cases.
+     * </ul>
+     *
+     * @return a string representation of the fraction.
+     */
+    @Override
+    public String toString() {
+        final String str;
+        if (isZero()) {
+            str = "0";
+        } else if (denominator == 1) {
+            str = Long.toString(numerator);
+        } else {
+            str = numerator + FORMAT_SEP + denominator;
+        }
+        return str;
+    }
+
+    /**
+     * Appends the {@link #toString() string representation} of the fraction
+     * to the builder.
+     *
+     * @param sb String builder.
+     * @return the string builder
+     * @see #toString()
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        if (isZero()) {
+            return sb.append('0');
+        }
+        sb.append(numerator);
+        if (denominator != 1) {
+            sb.append(FORMAT_SEP).append(denominator);
+        }
+        return sb;
+    }
+
+    /**
+     * Compares this object with the specified object for order using the signed magnitude.
+     *
+     * @param other {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int compareTo(LongFraction other) {
+        // Compute the sign of each part
+        final int lhsSigNum = signum();
+        final int rhsSigNum = other.signum();
+
+        if (lhsSigNum != rhsSigNum) {
+            return (lhsSigNum > rhsSigNum) ? 1 : -1;
+        }
+        // Same sign.
+        // Avoid a multiply if both fractions are zero
+        if (lhsSigNum == 0) {
+            return 0;
+        }
+        // Compare absolute magnitude using the unsigned 128-bit products.
+        final long a = LongArithmetic.unsignedAbs(numerator);
+        final long b = LongArithmetic.unsignedAbs(other.denominator);
+        final long c = LongArithmetic.unsignedAbs(other.numerator);
+        final long d = LongArithmetic.unsignedAbs(denominator);
+        return lhsSigNum * LongArithmetic.compareProducts(a, b, c, d);
+    }
+
+    /**
+     * Test for equality with another object. If the other object is a {@code LongFraction} then a
+     * comparison is made of the sign and magnitude; otherwise {@code false} is returned.
+     *
+     * @param other {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (other instanceof LongFraction) {
+            // Since fractions are always in lowest terms, numerators and
+            // denominators can be compared directly for equality.
+            final LongFraction rhs = (LongFraction) other;
+            if (signum() == rhs.signum()) {
+                return LongArithmetic.unsignedAbs(numerator) == LongArithmetic.unsignedAbs(rhs.numerator) &&
+                       LongArithmetic.unsignedAbs(denominator) == LongArithmetic.unsignedAbs(rhs.denominator);
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        // Incorporate the sign and absolute values of the numerator and denominator.
+        // Equivalent to:
+        // int hash = 1;
+        // hash = 31 * hash + Long.hashCode(Math.abs(numerator));
+        // hash = 31 * hash + Long.hashCode(Math.abs(denominator));
+        // hash = hash * signum()
+        final int numS = Long.signum(numerator);
+        final int denS = Long.signum(denominator);
+        return (31 * (31 + Long.hashCode(numerator * numS)) + Long.hashCode(denominator * denS)) * numS * denS;
+    }
+
+    /**
+     * Returns true if this fraction is zero.
+     *
+     * @return true if zero
+     */
+    private boolean isZero() {
+        return numerator == 0;
+    }
+
+    /**
+     * Compute the greatest common divisor of two non-zero values.
+     *
+     * <p>The divisor of two values of {@code Long.MIN_VALUE} is 2<sup>63</sup> which
+     * cannot be represented. In this case the result is {@code Long.MIN_VALUE} so
+     * that either value divided by the divisor is 1.
+     *
+     * @param p Value (must not be zero).
+     * @param q Value (must not be zero).
+     * @return the greatest common divisor
+     * @see ArithmeticUtils#gcd(long, long)
+     */
+    private static long gcd(long p, long q) {
+        if (p == Long.MIN_VALUE && q == Long.MIN_VALUE) {
+            return Long.MIN_VALUE;
+        }
+        return ArithmeticUtils.gcd(p, q);
+    }
+
+    /**
+     * Compute {@code x * y + z} exactly.
+     *
+     * @param x First value.
+     * @param y Second value.
+     * @param z Third value.
+     * @return {@code x * y + z}
+     * @throws ArithmeticException if the result overflows a {@code long}.
+     */
+    private static long multiplyAdd(long x, long y, long z) {
+        final long r = x * y;
+        if (LongArithmetic.multiplyOverflows(x, y, r)) {
+            // The sum may be representable
+            return BigInteger.valueOf(x).multiply(BigInteger.valueOf(y))
+                .add(BigInteger.valueOf(z)).longValueExact();
+        }
+        return Math.addExact(r, z);
+    }
+}
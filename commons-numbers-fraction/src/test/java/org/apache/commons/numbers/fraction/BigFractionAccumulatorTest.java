@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BigFractionAccumulator}.
+ */
+class BigFractionAccumulatorTest {
+    @Test
+    void testEmpty() {
+        Assertions.assertEquals(BigFraction.ZERO, BigFractionAccumulator.create().get());
+        Assertions.assertEquals(BigFraction.ZERO, BigFractionAccumulator.create().add(0).add(BigFraction.ZERO).get());
+    }
+
+    @Test
+    void testHarmonicSeries() {
+        final BigFractionAccumulator sum = BigFractionAccumulator.create();
+        BigFraction expected = BigFraction.ZERO;
+        for (int k = 1; k <= 500; k++) {
+            final BigFraction term = BigFraction.of(1, k);
+            sum.add(term);
+            expected = expected.add(term);
+            if (k % 100 == 0) {
+                assertSum(expected, sum.get());
+            }
+        }
+        assertSum(expected, sum.get());
+    }
+
+    @Test
+    void testLargeCoprimeDenominators() {
+        // Denominators that are large and share no factors force the product of denominators
+        // and periodic reduction
+        final SplittableRandom rng = new SplittableRandom(2342384L);
+        final BigFractionAccumulator sum = BigFractionAccumulator.create();
+        BigFraction expected = BigFraction.ZERO;
+        for (int i = 0; i < 300; i++) {
+            final BigInteger den = BigInteger.probablePrime(100, new Random(rng.nextLong()));
+            final BigFraction term = BigFraction.of(BigInteger.valueOf(rng.nextLong()), den);
+            sum.add(term);
+            expected = expected.add(term);
+        }
+        assertSum(expected, sum.get());
+        // Cancel the sum
+        sum.subtract(expected);
+        assertSum(BigFraction.ZERO, sum.get());
+    }
+
+    @Test
+    void testMixedTerms() {
+        final SplittableRandom rng = new SplittableRandom(97234L);
+        final BigFractionAccumulator sum = BigFractionAccumulator.create();
+        BigFraction expected = BigFraction.ZERO;
+        for (int i = 0; i < 1000; i++) {
+            final int num = rng.nextInt();
+            final int den = rng.nextInt(1, 1 << rng.nextInt(1, 31)) * (rng.nextBoolean() ? 1 : -1);
+            switch (i & 3) {
+            case 0:
+                sum.add(Fraction.of(num, den));
+                expected = expected.add(BigFraction.of(num, den));
+                break;
+            case 1:
+                sum.subtract(BigFraction.of(num, den));
+                expected = expected.subtract(BigFraction.of(num, den));
+                break;
+            case 2:
+                sum.add(num);
+                expected = expected.add(num);
+                break;
+            default:
+                final BigFraction a = BigFraction.of(num, den);
+                final BigFraction b = BigFraction.of(den, 7);
+                sum.addProduct(a, b);
+                expected = expected.add(a.multiply(b));
+                break;
+            }
+        }
+        assertSum(expected, sum.get());
+        // Repeat get
+        assertSum(expected, sum.get());
+    }
+
+    @Test
+    void testSameDenominator() {
+        final BigFraction third = BigFraction.of(1, 3);
+        final BigFractionAccumulator sum = BigFractionAccumulator.create();
+        for (int i = 0; i < 9; i++) {
+            sum.add(third);
+        }
+        assertSum(BigFraction.of(3), sum.get());
+        sum.add(Fraction.of(-1, -3)).add(BigFraction.of(-2, 3));
+        assertSum(BigFraction.of(8, 3), sum.get());
+    }
+
+    @Test
+    void testCombine() {
+        final SplittableRandom rng = new SplittableRandom(2384723L);
+        final BigFractionAccumulator sum1 = BigFractionAccumulator.create();
+        final BigFractionAccumulator sum2 = BigFractionAccumulator.create();
+        BigFraction expected1 = BigFraction.ZERO;
+        BigFraction expected2 = BigFraction.ZERO;
+        for (int i = 0; i < 200; i++) {
+            final BigFraction term = BigFraction.of(rng.nextLong(), rng.nextLong() | 1);
+            if ((i & 1) == 0) {
+                sum1.add(term);
+                expected1 = expected1.add(term);
+            } else {
+                sum2.add(term);
+                expected2 = expected2.add(term);
+            }
+        }
+        Assertions.assertSame(sum1, sum1.combine(sum2));
+        assertSum(expected1.add(expected2), sum1.get());
+        // The other sum is unchanged
+        assertSum(expected2, sum2.get());
+    }
+
+    @Test
+    void testSumArray() {
+        final SplittableRandom rng = new SplittableRandom(823472L);
+        for (final int size : new int[] {0, 1, 5, 16, 17, 100, 1100}) {
+            final Fraction[] f = new Fraction[size];
+            final BigFraction[] b = new BigFraction[size];
+            BigFraction expected = BigFraction.ZERO;
+            for (int i = 0; i < size; i++) {
+                f[i] = Fraction.of(rng.nextInt(), rng.nextInt(1, 1 << 12));
+                b[i] = BigFraction.of(rng.nextLong(), rng.nextLong(1, 1L << 12));
+                expected = expected.add(b[i]);
+            }
+            final BigFraction expectedF = Arrays.stream(f).map(BigFractionAccumulatorTest::toBigFraction)
+                .reduce(BigFraction.ZERO, BigFraction::add);
+            assertSum(expectedF, BigFractionAccumulator.sum(f));
+            assertSum(expectedF, BigFractionAccumulator.parallelSum(f));
+            assertSum(expected, BigFractionAccumulator.sum(b));
+            assertSum(expected, BigFractionAccumulator.parallelSum(b));
+        }
+    }
+
+    @Test
+    void testDotArray() {
+        final SplittableRandom rng = new SplittableRandom(-234823L);
+        for (final int size : new int[] {0, 1, 5, 16, 17, 100, 1100}) {
+            final Fraction[] fa = new Fraction[size];
+            final Fraction[] fb = new Fraction[size];
+            final BigFraction[] ba = new BigFraction[size];
+            final BigFraction[] bb = new BigFraction[size];
+            BigFraction expectedF = BigFraction.ZERO;
+            BigFraction expected = BigFraction.ZERO;
+            for (int i = 0; i < size; i++) {
+                // Include extreme values to check the product does not overflow
+                fa[i] = i == 0 ? Fraction.of(Integer.MIN_VALUE, Integer.MAX_VALUE) :
+                    Fraction.of(rng.nextInt(), rng.nextInt(1, 1 << 6));
+                fb[i] = i == 0 ? Fraction.of(Integer.MIN_VALUE, -Integer.MAX_VALUE + 2) :
+                    Fraction.of(rng.nextInt(), rng.nextInt(1, 1 << 6));
+                ba[i] = BigFraction.of(rng.nextLong(), rng.nextLong(1, 1L << 6));
+                bb[i] = BigFraction.of(rng.nextLong(), rng.nextLong(1, 1L << 6));
+                expectedF = expectedF.add(toBigFraction(fa[i]).multiply(toBigFraction(fb[i])));
+                expected = expected.add(ba[i].multiply(bb[i]));
+            }
+            assertSum(expectedF, BigFractionAccumulator.dot(fa, fb));
+            assertSum(expectedF, BigFractionAccumulator.parallelDot(fa, fb));
+            assertSum(expected, BigFractionAccumulator.dot(ba, bb));
+            assertSum(expected, BigFractionAccumulator.parallelDot(ba, bb));
+        }
+    }
+
+    @Test
+    void testDotSizeMismatch() {
+        final Fraction[] f1 = {Fraction.ONE};
+        final Fraction[] f2 = {Fraction.ONE, Fraction.ONE};
+        final BigFraction[] b1 = {BigFraction.ONE};
+        final BigFraction[] b2 = {BigFraction.ONE, BigFraction.ONE};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BigFractionAccumulator.dot(f1, f2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BigFractionAccumulator.parallelDot(f1, f2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BigFractionAccumulator.dot(b1, b2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BigFractionAccumulator.parallelDot(b1, b2));
+    }
+
+    private static BigFraction toBigFraction(Fraction f) {
+        return BigFraction.of(f.getNumerator(), f.getDenominator());
+    }
+
+    private static void assertSum(BigFraction expected, BigFraction actual) {
+        Assertions.assertEquals(expected, actual);
+        // Reduced to lowest terms
+        Assertions.assertEquals(BigInteger.ONE, actual.getNumerator().gcd(actual.getDenominator()));
+    }
+}
@@ -20,6 +20,8 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.BinaryOperator;
 import org.apache.commons.numbers.core.TestUtils;
 
 import org.junit.jupiter.api.Assertions;
@@ -487,6 +489,89 @@ class BigFractionTest {
         Assertions.assertEquals(new BigDecimal("0.333"), BigFraction.of(1, 3).bigDecimalValue(3, RoundingMode.DOWN));
     }
 
+    @Test
+    void testDoubleValueIsCorrectlyRounded() {
+        final SplittableRandom rng = new SplittableRandom(238947234L);
+        for (int i = 0; i < 2000; i++) {
+            final BigInteger n = randomBigInteger(rng, rng.nextInt(1, 400));
+            final BigInteger d = randomBigInteger(rng, rng.nextInt(1, 400));
+            assertDoubleValueIsCorrectlyRounded(BigFraction.of(n, d));
+            // Limit the magnitude to the range of a float
+            final BigInteger n2 = randomBigInteger(rng, rng.nextInt(1, 200));
+            final BigInteger d2 = randomBigInteger(rng, rng.nextInt(1, 200));
+            if (Math.abs(n2.bitLength() - d2.bitLength()) < 120) {
+                assertFloatValueIsCorrectlyRounded(BigFraction.of(n2, d2));
+            }
+        }
+        // Values close to half-way between two representable numbers
+        for (int i = 0; i < 500; i++) {
+            final BigInteger d = randomBigInteger(rng, rng.nextInt(1, 200));
+            final BigInteger t1 = BigInteger.valueOf((rng.nextLong() >>> 10) | (1L << 53) | 1);
+            final BigInteger t2 = BigInteger.valueOf((rng.nextLong() >>> 39) | (1L << 24) | 1);
+            for (int delta = -1; delta <= 1; delta++) {
+                final BigInteger dx = BigInteger.valueOf(delta);
+                assertDoubleValueIsCorrectlyRounded(BigFraction.of(t1.multiply(d).add(dx), d.shiftLeft(rng.nextInt(200))));
+                assertFloatValueIsCorrectlyRounded(BigFraction.of(t2.multiply(d).add(dx), d.shiftLeft(rng.nextInt(100))));
+            }
+        }
+    }
+
+    @Test
+    void testBigDecimalValueWithScaleMatchesDivide() {
+        final SplittableRandom rng = new SplittableRandom(-2347238947L);
+        for (int i = 0; i < 1000; i++) {
+            final BigInteger n = randomBigInteger(rng, rng.nextInt(1, 300));
+            final BigInteger d = randomBigInteger(rng, rng.nextInt(1, 300));
+            final BigFraction f = BigFraction.of(rng.nextBoolean() ? n : n.negate(), d);
+            assertBigDecimalValue(f, rng.nextInt(-10, 40));
+        }
+        // Values close to an integer or half-way between two integers
+        for (int i = 0; i < 500; i++) {
+            final BigInteger d = randomBigInteger(rng, rng.nextInt(1, 200));
+            final BigFraction x = BigFraction.of(rng.nextLong(), 2);
+            for (int delta = -1; delta <= 1; delta++) {
+                assertBigDecimalValue(x.add(BigFraction.of(BigInteger.valueOf(delta), d)), 0);
+            }
+        }
+    }
+
+    /**
+     * Creates a positive random BigInteger with the specified number of bits.
+     */
+    private static BigInteger randomBigInteger(SplittableRandom rng, int bits) {
+        BigInteger x = BigInteger.ONE;
+        for (int i = 1; i < bits; i++) {
+            x = rng.nextBoolean() ? x.shiftLeft(1).setBit(0) : x.shiftLeft(1);
+        }
+        return x;
+    }
+
+    private static void assertDoubleValueIsCorrectlyRounded(BigFraction f) {
+        final double v = f.doubleValue();
+        final int c = f.subtract(BigFraction.from(v)).abs().compareTo(BigFraction.from(Math.ulp(v) / 2));
+        Assertions.assertTrue(c < 0 || (c == 0 && (Double.doubleToRawLongBits(v) & 1) == 0),
+            () -> "Not correctly rounded: " + f + " = " + v);
+    }
+
+    private static void assertFloatValueIsCorrectlyRounded(BigFraction f) {
+        final float v = f.floatValue();
+        final int c = f.subtract(BigFraction.from(v)).abs().compareTo(BigFraction.from(Math.ulp(v) / 2.0));
+        Assertions.assertTrue(c < 0 || (c == 0 && (Float.floatToRawIntBits(v) & 1) == 0),
+            () -> "Not correctly rounded: " + f + " = " + v);
+    }
+
+    private static void assertBigDecimalValue(BigFraction f, int scale) {
+        final BigDecimal n = new BigDecimal(f.getNumerator());
+        final BigDecimal d = new BigDecimal(f.getDenominator());
+        for (final RoundingMode mode : RoundingMode.values()) {
+            if (mode == RoundingMode.UNNECESSARY) {
+                continue;
+            }
+            Assertions.assertEquals(n.divide(d, scale, mode), f.bigDecimalValue(scale, mode),
+                () -> f + " scale=" + scale + " " + mode);
+        }
+    }
+
     @Test
     void testAbs() {
         for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.absTestCases()) {
@@ -707,6 +792,112 @@ class BigFractionTest {
         }
     }
 
+    @Test
+    void testSerialLargeValues() {
+        final BigInteger big = BigInteger.ONE.shiftLeft(100).add(BigInteger.ONE);
+        final BigFraction[] fractions = {
+            BigFraction.of(Long.MAX_VALUE, 3), BigFraction.of(Long.MIN_VALUE, 3),
+            BigFraction.of(1, Long.MIN_VALUE), BigFraction.of(big, BigInteger.valueOf(7)),
+            BigFraction.of(Long.MAX_VALUE).add(1)
+        };
+        for (final BigFraction fraction : fractions) {
+            final BigFraction recovered = (BigFraction) TestUtils.serializeAndRecover(fraction);
+            Assertions.assertEquals(fraction, recovered);
+            Assertions.assertEquals(fraction.hashCode(), recovered.hashCode());
+            Assertions.assertEquals(fraction.getNumerator(), recovered.getNumerator());
+            Assertions.assertEquals(fraction.getDenominator(), recovered.getDenominator());
+            // Arithmetic with the recovered instance
+            Assertions.assertEquals(fraction.add(fraction), recovered.add(fraction));
+            Assertions.assertEquals(0, fraction.compareTo(recovered));
+        }
+    }
+
+    @Test
+    void testLongOverflow() {
+        // Results outside the range of a long
+        final BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        Assertions.assertEquals(BigFraction.of(max.add(BigInteger.ONE)), BigFraction.of(Long.MAX_VALUE).add(1));
+        Assertions.assertEquals(BigFraction.of(max.add(BigInteger.ONE).negate()),
+            BigFraction.of(-Long.MAX_VALUE).subtract(1));
+        Assertions.assertEquals(BigFraction.of(max.multiply(max)), BigFraction.of(Long.MAX_VALUE).multiply(Long.MAX_VALUE));
+        Assertions.assertEquals(BigFraction.of(BigInteger.ONE, max.multiply(BigInteger.valueOf(2))),
+            BigFraction.of(1, Long.MAX_VALUE).divide(2));
+        Assertions.assertEquals(BigFraction.of(BigInteger.ONE, max.multiply(max.subtract(BigInteger.ONE))),
+            BigFraction.of(1, Long.MAX_VALUE).subtract(BigFraction.of(1, Long.MAX_VALUE - 1)).negate());
+        // Long.MIN_VALUE
+        Assertions.assertEquals(BigInteger.valueOf(Long.MIN_VALUE), BigFraction.of(Long.MIN_VALUE).getNumerator());
+        Assertions.assertEquals(BigInteger.valueOf(Long.MIN_VALUE),
+            BigFraction.of(Long.MIN_VALUE + 1).subtract(1).getNumerator());
+        Assertions.assertEquals(BigFraction.of(max.add(BigInteger.ONE)), BigFraction.of(Long.MIN_VALUE).negate());
+        Assertions.assertEquals(BigFraction.of(Long.MIN_VALUE, 2), BigFraction.of(Long.MIN_VALUE / 2));
+        Assertions.assertEquals(-1, BigFraction.of(Long.MIN_VALUE).compareTo(BigFraction.of(-Long.MAX_VALUE)));
+        // Results return to the range of a long
+        final BigFraction x = BigFraction.of(Long.MAX_VALUE).add(2);
+        Assertions.assertEquals(BigFraction.of(Long.MAX_VALUE), x.subtract(2));
+        Assertions.assertEquals(Long.MAX_VALUE, x.subtract(2).getNumeratorAsLong());
+        Assertions.assertEquals(Long.MAX_VALUE, x.subtract(2).longValue());
+        Assertions.assertEquals(BigFraction.of(Long.MAX_VALUE).hashCode(), x.subtract(2).hashCode());
+    }
+
+    @Test
+    void testHashCodeMatchesBigInteger() {
+        final long[] values = {1, 2, -3, Integer.MAX_VALUE, 1L << 31, 1L << 32, -(1L << 32) - 1,
+            0x123456789abcdefL, Long.MAX_VALUE, -Long.MAX_VALUE, Long.MIN_VALUE};
+        for (final long n : values) {
+            for (final long d : new long[] {1, 3, -7, (1L << 35) + 1, Long.MAX_VALUE}) {
+                final BigFraction f = BigFraction.of(n, d);
+                final BigInteger num = f.getNumerator();
+                final BigInteger den = f.getDenominator();
+                final int expected = (31 * (31 + num.abs().hashCode()) + den.abs().hashCode()) * f.signum();
+                Assertions.assertEquals(expected, f.hashCode(), () -> n + " / " + d);
+            }
+        }
+    }
+
+    @Test
+    void testCompareToNegativeValues() {
+        Assertions.assertEquals(-1, BigFraction.of(-1, 2).compareTo(BigFraction.of(-1, 3)));
+        Assertions.assertEquals(1, BigFraction.of(-1, 3).compareTo(BigFraction.of(1, -2)));
+        final BigInteger big = BigInteger.ONE.shiftLeft(80);
+        Assertions.assertEquals(-1, BigFraction.of(big.negate()).compareTo(BigFraction.of(-1)));
+        Assertions.assertEquals(1, BigFraction.of(BigInteger.ONE.negate(), big).compareTo(BigFraction.of(-1)));
+    }
+
+    @Test
+    void testArithmeticMatchesBigInteger() {
+        assertArithmetic(BigFraction::add, (a, b) -> BigFraction.of(
+            a.getNumerator().multiply(b.getDenominator()).add(b.getNumerator().multiply(a.getDenominator())),
+            a.getDenominator().multiply(b.getDenominator())));
+        assertArithmetic(BigFraction::subtract, (a, b) -> BigFraction.of(
+            a.getNumerator().multiply(b.getDenominator()).subtract(b.getNumerator().multiply(a.getDenominator())),
+            a.getDenominator().multiply(b.getDenominator())));
+        assertArithmetic(BigFraction::multiply, (a, b) -> BigFraction.of(
+            a.getNumerator().multiply(b.getNumerator()),
+            a.getDenominator().multiply(b.getDenominator())));
+        assertArithmetic(BigFraction::divide, (a, b) -> BigFraction.of(
+            a.getNumerator().multiply(b.getDenominator()),
+            a.getDenominator().multiply(b.getNumerator())));
+    }
+
+    private static void assertArithmetic(BinaryOperator<BigFraction> op, BinaryOperator<BigFraction> expected) {
+        final SplittableRandom rng = new SplittableRandom(92374234L);
+        for (int i = 0; i < 500; i++) {
+            // Random bit sizes to create results inside and outside the range of a long
+            // Non-zero values to support divide
+            final BigFraction a = BigFraction.of((rng.nextLong() >> rng.nextInt(64)) | 1,
+                                                 (rng.nextLong() >> rng.nextInt(64)) | 1);
+            final BigFraction b = BigFraction.of((rng.nextLong() >> rng.nextInt(64)) | 1,
+                                                 (rng.nextLong() >> rng.nextInt(64)) | 1);
+            final BigFraction r = op.apply(a, b);
+            final BigFraction e = expected.apply(a, b);
+            Assertions.assertEquals(e, r);
+            Assertions.assertEquals(e.hashCode(), r.hashCode());
+            Assertions.assertEquals(e.doubleValue(), r.doubleValue());
+            Assertions.assertEquals(e.floatValue(), r.floatValue());
+            Assertions.assertEquals(e.longValue(), r.longValue());
+        }
+    }
+
     @Test
     void testToString() {
         Assertions.assertEquals("0", BigFraction.of(0, 3).toString());
@@ -769,6 +960,51 @@ class BigFractionTest {
         Assertions.assertThrows(NumberFormatException.class, () -> BigFraction.parse("x"));
     }
 
+    @Test
+    void testParseRegion() {
+        final String text = "a=-4 / 13;b=42;c= 1,000 /3 ;d=1 / z";
+        Assertions.assertEquals(BigFraction.of(-4, 13), BigFraction.parse(text, 2, 9));
+        Assertions.assertEquals(BigFraction.of(42), BigFraction.parse(text, 12, 14));
+        Assertions.assertEquals(BigFraction.of(1000, 3), BigFraction.parse(text, 17, 27));
+        Assertions.assertEquals(BigFraction.of(5, 7), BigFraction.parse(new StringBuilder("5/7"), 0, 3));
+        Assertions.assertThrows(NumberFormatException.class, () -> BigFraction.parse(text, 30, text.length()));
+        Assertions.assertThrows(NumberFormatException.class, () -> BigFraction.parse(text, 0, 9));
+        Assertions.assertThrows(NumberFormatException.class, () -> BigFraction.parse(text, 2, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> BigFraction.parse(text, 2, 100));
+    }
+
+    @Test
+    void testParseRegionMatchesParse() {
+        final String[] inputs = {"0", "-0", "+5", "1 / 2", " 3/ 4 ", "-1 / -2", "1,2 / 3", ",-,1, / ,2,", "- 1",
+            "1 2", "1 / 0", "0 / 0", "1 // 2", "/", "", " ", ",", "-", "1 /", "/ 2", "2147483647", "-2147483648",
+            "2147483648", "1 / -2147483648", "99999999999999999999", "9,223,372,036,854,775,807 / -9,223,372,036,854,775,808", "123456789012345678 / 3",
+            "1e3", "0x10", "\u0661"};
+        for (final String s : inputs) {
+            final String text = "ab" + s + "cd";
+            final BigFraction expected;
+            try {
+                expected = BigFraction.parse(s);
+            } catch (NumberFormatException | ArithmeticException ex) {
+                final RuntimeException ex2 = Assertions.assertThrows(ex.getClass(),
+                    () -> BigFraction.parse(text, 2, text.length() - 2), s);
+                Assertions.assertEquals(ex.getMessage(), ex2.getMessage());
+                continue;
+            }
+            Assertions.assertEquals(expected, BigFraction.parse(text, 2, text.length() - 2), s);
+        }
+    }
+
+    @Test
+    void testAppendTo() {
+        final BigFraction[] values = {BigFraction.of(0, 3), BigFraction.of(6, 2), BigFraction.of(-10, 11), BigFraction.of(10, -11)};
+        final StringBuilder sb = new StringBuilder();
+        for (final BigFraction f : values) {
+            sb.setLength(0);
+            Assertions.assertSame(sb, f.appendTo(sb));
+            Assertions.assertEquals(f.toString(), sb.toString());
+        }
+    }
+
     @Test
     void testMath340() {
         final BigFraction fractionA = BigFraction.from(0.00131);
@@ -613,6 +613,50 @@ class FractionTest {
         Assertions.assertThrows(NumberFormatException.class, () -> Fraction.parse("x"));
     }
 
+    @Test
+    void testParseRegion() {
+        final String text = "a=-4 / 13;b=42;c= 1,000 /3 ;d=1 / z";
+        Assertions.assertEquals(Fraction.of(-4, 13), Fraction.parse(text, 2, 9));
+        Assertions.assertEquals(Fraction.of(42), Fraction.parse(text, 12, 14));
+        Assertions.assertEquals(Fraction.of(1000, 3), Fraction.parse(text, 17, 27));
+        Assertions.assertEquals(Fraction.of(5, 7), Fraction.parse(new StringBuilder("5/7"), 0, 3));
+        Assertions.assertThrows(NumberFormatException.class, () -> Fraction.parse(text, 30, text.length()));
+        Assertions.assertThrows(NumberFormatException.class, () -> Fraction.parse(text, 0, 9));
+        Assertions.assertThrows(NumberFormatException.class, () -> Fraction.parse(text, 2, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Fraction.parse(text, 2, 100));
+    }
+
+    @Test
+    void testParseRegionMatchesParse() {
+        final String[] inputs = {"0", "-0", "+5", "1 / 2", " 3/ 4 ", "-1 / -2", "1,2 / 3", ",-,1, / ,2,", "- 1",
+            "1 2", "1 / 0", "0 / 0", "1 // 2", "/", "", " ", ",", "-", "1 /", "/ 2", "2147483647", "-2147483648",
+            "2147483648", "1 / -2147483648", "99999999999999999999", "1e3", "0x10", "\u0661"};
+        for (final String s : inputs) {
+            final String text = "ab" + s + "cd";
+            final Fraction expected;
+            try {
+                expected = Fraction.parse(s);
+            } catch (NumberFormatException | ArithmeticException ex) {
+                final RuntimeException ex2 = Assertions.assertThrows(ex.getClass(),
+                    () -> Fraction.parse(text, 2, text.length() - 2), s);
+                Assertions.assertEquals(ex.getMessage(), ex2.getMessage());
+                continue;
+            }
+            Assertions.assertEquals(expected, Fraction.parse(text, 2, text.length() - 2), s);
+        }
+    }
+
+    @Test
+    void testAppendTo() {
+        final Fraction[] values = {Fraction.of(0, 3), Fraction.of(6, 2), Fraction.of(-10, 11), Fraction.of(10, -11)};
+        final StringBuilder sb = new StringBuilder();
+        for (final Fraction f : values) {
+            sb.setLength(0);
+            Assertions.assertSame(sb, f.appendTo(sb));
+            Assertions.assertEquals(f.toString(), sb.toString());
+        }
+    }
+
     @Test
     void testMath1261() {
         final Fraction a = Fraction.of(Integer.MAX_VALUE, 2);
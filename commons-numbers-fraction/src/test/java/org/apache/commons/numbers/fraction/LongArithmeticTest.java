@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LongArithmetic}.
+ */
+class LongArithmeticTest {
+    @Test
+    void testDivideUnsigned() {
+        assertDivideUnsigned(0, 0, Long.MIN_VALUE);
+        assertDivideUnsigned(0, -1L, Long.MIN_VALUE);
+        assertDivideUnsigned(Long.MAX_VALUE, -1L, Long.MIN_VALUE);
+        assertDivideUnsigned(-2L, -1L, -1L);
+        assertDivideUnsigned(-2L, 0, -1L);
+        assertDivideUnsigned(1L << 62, 0, (1L << 63) | (1L << 32));
+        final SplittableRandom rng = new SplittableRandom(8326487234L);
+        for (int i = 0; i < 10000; i++) {
+            final long d = rng.nextLong() | Long.MIN_VALUE;
+            // Use a high part with a random number of bits below the divisor
+            final long hi = Long.remainderUnsigned(rng.nextLong() >>> rng.nextInt(64), d);
+            assertDivideUnsigned(hi, rng.nextLong(), d);
+        }
+    }
+
+    private static void assertDivideUnsigned(long hi, long lo, long d) {
+        final BigInteger x = toUnsigned(hi).shiftLeft(64).or(toUnsigned(lo));
+        final BigInteger[] qr = x.divideAndRemainder(toUnsigned(d));
+        final long q = LongArithmetic.divideUnsigned(hi, lo, d);
+        Assertions.assertEquals(qr[0], toUnsigned(q), "quotient");
+        Assertions.assertEquals(qr[1], toUnsigned(lo - q * d), "remainder");
+    }
+
+    private static BigInteger toUnsigned(long x) {
+        return BigInteger.valueOf(x >>> 1).shiftLeft(1).or(BigInteger.valueOf(x & 1));
+    }
+}
@@ -0,0 +1,488 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.util.SplittableRandom;
+import java.util.function.BinaryOperator;
+import org.apache.commons.numbers.core.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LongFraction}.
+ */
+class LongFractionTest {
+    /** Long.MAX_VALUE. */
+    private static final long MAX = Long.MAX_VALUE;
+    /** Long.MIN_VALUE. */
+    private static final long MIN = Long.MIN_VALUE;
+
+    private static void assertFraction(long expectedNumerator, long expectedDenominator, LongFraction actual) {
+        Assertions.assertEquals(expectedNumerator, actual.getNumerator());
+        Assertions.assertEquals(expectedDenominator, actual.getDenominator());
+        Assertions.assertEquals(
+            Long.signum(expectedNumerator) * Long.signum(expectedDenominator),
+            actual.signum());
+    }
+
+    /**
+     * Assert the fraction has the expected value. The sign of the numerator and denominator
+     * of a result computed using a {@code long} can differ from the {@code int} result
+     * when the value {@link Integer#MIN_VALUE} is involved.
+     */
+    private static void assertValue(long expectedNumerator, long expectedDenominator, LongFraction actual) {
+        Assertions.assertEquals(LongFraction.of(expectedNumerator, expectedDenominator), actual);
+    }
+
+    /**
+     * Assert the fraction is equal to the exact result.
+     */
+    private static void assertExact(BigFraction expected, LongFraction actual) {
+        Assertions.assertEquals(0, expected.compareTo(actual.toBigFraction()));
+    }
+
+    @Test
+    void testConstructor() {
+        for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.numDenConstructorTestCases()) {
+            assertValue(
+                    testCase.expectedNumerator,
+                    testCase.expectedDenominator,
+                    LongFraction.of(testCase.operandNumerator, testCase.operandDenominator)
+            );
+        }
+
+        // Special cases.
+        assertFraction(MIN, -1, LongFraction.of(MIN, -1));
+        assertFraction(1, MIN, LongFraction.of(1, MIN));
+        assertFraction(-1, MIN, LongFraction.of(-1, MIN));
+        assertFraction(1, 1, LongFraction.of(MIN, MIN));
+        assertFraction(-1, -2, LongFraction.of(MIN / 2, MIN));
+        assertFraction(MAX, 3, LongFraction.of(MAX, 3));
+        assertFraction(-1L << 61, 1, LongFraction.of(MIN, 4));
+
+        // Divide by zero
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(1, 0));
+    }
+
+    @Test
+    void testConstructorZero() {
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.of(0));
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.of(0, 1));
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.of(0, -1));
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.of(0, MIN));
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.of(Fraction.ZERO));
+    }
+
+    @Test
+    void testConversion() {
+        final Fraction[] values = {Fraction.of(3, 4), Fraction.of(-5, 2), Fraction.of(Integer.MIN_VALUE, -1),
+            Fraction.of(1, Integer.MIN_VALUE), Fraction.of(Integer.MAX_VALUE, 7)};
+        for (final Fraction f : values) {
+            final LongFraction lf = LongFraction.of(f);
+            Assertions.assertEquals(f, lf.toFraction());
+            Assertions.assertEquals(BigFraction.of(f.getNumerator(), f.getDenominator()), lf.toBigFraction());
+            Assertions.assertEquals(f.doubleValue(), lf.doubleValue());
+        }
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(1L << 31).toFraction());
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(1, 1L << 31).toFraction());
+        Assertions.assertEquals(BigFraction.of(MIN, 3), LongFraction.of(MIN, 3).toBigFraction());
+    }
+
+    @Test
+    void testCompareTo() {
+        final LongFraction a = LongFraction.of(1, 2);
+        final LongFraction b = LongFraction.of(1, 3);
+        final LongFraction d = LongFraction.of(-1, 2);
+        final LongFraction e = LongFraction.of(1, -2);
+        final LongFraction f = LongFraction.of(-1, -2);
+        final LongFraction g = LongFraction.of(-1, MIN);
+
+        Assertions.assertEquals(0, a.compareTo(a));
+        Assertions.assertEquals(0, a.compareTo(LongFraction.of(1, 2)));
+        Assertions.assertEquals(1, a.compareTo(b));
+        Assertions.assertEquals(-1, b.compareTo(a));
+        Assertions.assertEquals(-1, d.compareTo(a));
+        Assertions.assertEquals(1, a.compareTo(d));
+        Assertions.assertEquals(0, d.compareTo(e));
+        Assertions.assertEquals(0, a.compareTo(f));
+        Assertions.assertEquals(1, f.compareTo(e));
+        Assertions.assertEquals(-1, g.compareTo(a));
+        Assertions.assertEquals(-1, g.compareTo(f));
+        Assertions.assertEquals(1, a.compareTo(g));
+        Assertions.assertEquals(-1, d.compareTo(g));
+        Assertions.assertEquals(0, LongFraction.of(0, 3).compareTo(LongFraction.of(0, -2)));
+
+        // Cross products overflow a long
+        final LongFraction h = LongFraction.of(MAX - 1, MAX);
+        final LongFraction i = LongFraction.of(MAX - 2, MAX - 1);
+        Assertions.assertEquals(1, h.compareTo(i));
+        Assertions.assertEquals(-1, i.compareTo(h));
+        Assertions.assertEquals(-1, h.negate().compareTo(i.negate()));
+        Assertions.assertEquals(1, LongFraction.of(MIN, -1).compareTo(LongFraction.of(MAX)));
+        Assertions.assertEquals(-1, LongFraction.of(MIN).compareTo(LongFraction.of(-MAX)));
+        Assertions.assertEquals(1, LongFraction.of(1, MAX).compareTo(LongFraction.of(1, MIN).negate()));
+
+        final SplittableRandom rng = new SplittableRandom(8723641L);
+        for (int j = 0; j < 200; j++) {
+            final LongFraction x = LongFraction.of(rng.nextLong(), rng.nextLong() | 1);
+            final LongFraction y = LongFraction.of(rng.nextLong(), rng.nextLong() | 1);
+            Assertions.assertEquals(x.toBigFraction().subtract(y.toBigFraction()).signum(), x.compareTo(y));
+        }
+    }
+
+    @Test
+    void testDoubleValue() {
+        Assertions.assertEquals(0.5, LongFraction.of(1, 2).doubleValue());
+        Assertions.assertEquals(-0.5, LongFraction.of(1, -2).doubleValue());
+        Assertions.assertEquals(1.0 / 3.0, LongFraction.of(1, 3).doubleValue());
+        Assertions.assertEquals(0.0, LongFraction.ZERO.doubleValue());
+        Assertions.assertEquals(-0x1.0p63, LongFraction.of(MIN).doubleValue());
+        Assertions.assertEquals(0x1.0p63, LongFraction.of(MIN, -1).doubleValue());
+        Assertions.assertEquals(-0x1.0p-63, LongFraction.of(1, MIN).doubleValue());
+        // Correctly rounded when the parts are not exact doubles
+        final long[][] values = {{MAX, 3}, {MAX - 1, MAX}, {(1L << 53) + 1, 3}, {1, (1L << 53) + 1}, {MIN + 1, 7}};
+        for (final long[] v : values) {
+            Assertions.assertEquals(BigFraction.of(v[0], v[1]).doubleValue(), LongFraction.of(v[0], v[1]).doubleValue());
+            Assertions.assertEquals(BigFraction.of(v[0], v[1]).floatValue(), LongFraction.of(v[0], v[1]).floatValue());
+        }
+        Assertions.assertEquals(0.5f, LongFraction.of(-1, -2).floatValue());
+    }
+
+    @Test
+    void testIntAndLongValue() {
+        Assertions.assertEquals(1, LongFraction.of(3, 2).intValue());
+        Assertions.assertEquals(-1, LongFraction.of(3, -2).intValue());
+        Assertions.assertEquals(1L, LongFraction.of(-3, -2).longValue());
+        Assertions.assertEquals(0L, LongFraction.of(1, MIN).longValue());
+        Assertions.assertEquals(MAX / 3, LongFraction.of(MAX, 3).longValue());
+        Assertions.assertEquals(MIN, LongFraction.of(MIN).longValue());
+        // Wraps in the same way as BigFraction
+        Assertions.assertEquals(BigFraction.of(MIN, -1).longValue(), LongFraction.of(MIN, -1).longValue());
+        Assertions.assertEquals(BigFraction.of(MAX, 3).intValue(), LongFraction.of(MAX, 3).intValue());
+        Assertions.assertEquals(0L, LongFraction.ZERO.longValue());
+    }
+
+    @Test
+    void testAbs() {
+        for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.absTestCases()) {
+            final LongFraction f = LongFraction.of(testCase.operandNumerator, testCase.operandDenominator);
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f.abs());
+        }
+        assertFraction(MIN, -1, LongFraction.of(MIN).abs());
+    }
+
+    @Test
+    void testReciprocal() {
+        for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.reciprocalTestCases()) {
+            final LongFraction f = LongFraction.of(testCase.operandNumerator, testCase.operandDenominator);
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f.reciprocal());
+        }
+        assertFraction(1, MIN, LongFraction.of(MIN).reciprocal());
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.ZERO.reciprocal());
+    }
+
+    @Test
+    void testNegate() {
+        for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.negateTestCases()) {
+            final LongFraction f = LongFraction.of(testCase.operandNumerator, testCase.operandDenominator);
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f.negate());
+        }
+        assertFraction(-1, 1, LongFraction.ONE.negate());
+        assertFraction(MIN, -1, LongFraction.of(MIN).negate());
+        assertFraction(-MAX, 1, LongFraction.of(MAX).negate());
+    }
+
+    @Test
+    void testAdd() {
+        for (final CommonTestCases.BinaryOperatorTestCase testCase : CommonTestCases.addFractionTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final LongFraction f2 = LongFraction.of(testCase.secondOperandNumerator, testCase.secondOperandDenominator);
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f1.add(f2));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.addIntTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final long i2 = testCase.secondOperand;
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f1.add(i2));
+        }
+
+        // Results outside the range of Fraction
+        assertFraction(1L << 31, 1, LongFraction.of(Integer.MAX_VALUE).add(1));
+        assertFraction(MAX, 1, LongFraction.of(MAX - 1).add(LongFraction.ONE));
+        assertFraction(MIN, 1, LongFraction.ZERO.add(MIN));
+        assertFraction(MIN, -1, LongFraction.ZERO.add(LongFraction.of(MIN, -1)));
+        // Intermediate products overflow but the result is representable
+        assertFraction(1, 1, LongFraction.of(MAX, MAX - 1).add(LongFraction.of(-1, MAX - 1)));
+        assertFraction(MAX - 1, 1, LongFraction.of(MAX - 1, 2).add(LongFraction.of(MAX - 1, 2)));
+        assertFraction(1, -3, LongFraction.of(MAX, -3).add(MAX / 3));
+        assertFraction(MIN, 1, LongFraction.of(MIN / 2 + 1).add(MIN / 2 - 1));
+        // Both denominators are Long.MIN_VALUE: gcd is 2^63
+        assertValue(-1, 1L << 62, LongFraction.of(1, MIN).add(LongFraction.of(1, MIN)));
+        assertValue(1, 1, LongFraction.of(MIN + 1, MIN).add(LongFraction.of(-1, MIN)));
+        assertValue(-MAX, 1L << 62, LongFraction.of(MAX, MIN).add(LongFraction.of(MAX, MIN)));
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.of(1, MIN).add(LongFraction.of(-1, MIN)));
+
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(MAX).add(1));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(MAX).add(LongFraction.ONE));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(1, MAX).add(LongFraction.of(1, MAX - 1)));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(MAX, 2).add(MAX));
+        Assertions.assertThrows(NullPointerException.class, () -> LongFraction.ONE.add((LongFraction) null));
+
+        assertExactBinary(LongFraction::add, BigFraction::add);
+    }
+
+    @Test
+    void testSubtract() {
+        for (final CommonTestCases.BinaryOperatorTestCase testCase : CommonTestCases.subtractFractionTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final LongFraction f2 = LongFraction.of(testCase.secondOperandNumerator, testCase.secondOperandDenominator);
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f1.subtract(f2));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.subtractIntTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final long i2 = testCase.secondOperand;
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f1.subtract(i2));
+        }
+
+        // Edge cases
+        assertFraction(MIN, 1, LongFraction.ZERO.subtract(LongFraction.of(MIN, -1)));
+        assertFraction(MIN, -1, LongFraction.ZERO.subtract(LongFraction.of(MIN, 1)));
+        assertFraction(MIN, -1, LongFraction.ZERO.subtract(MIN));
+        assertFraction(MAX, 1, LongFraction.of(-1).subtract(MIN));
+        assertFraction(MAX, 2, LongFraction.of(-1, 2).subtract(MIN / 2));
+        assertFraction(1, 1, LongFraction.of(MAX, MAX - 1).subtract(LongFraction.of(1, MAX - 1)));
+        // Both denominators are Long.MIN_VALUE: gcd is 2^63
+        assertValue(-1, 1L << 62, LongFraction.of(3, MIN).subtract(LongFraction.of(1, MIN)));
+        assertValue(1, 1, LongFraction.of(MIN + 1, MIN).subtract(LongFraction.of(1, MIN)));
+        assertValue(-MAX, 1L << 62, LongFraction.of(MAX, MIN).subtract(LongFraction.of(-MAX, MIN)));
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.of(1, MIN).subtract(LongFraction.of(1, MIN)));
+
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(MIN).subtract(1));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.ONE.subtract(MIN));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(MIN).subtract(LongFraction.ONE));
+
+        assertExactBinary(LongFraction::subtract, BigFraction::subtract);
+    }
+
+    @Test
+    void testMultiply() {
+        for (final CommonTestCases.BinaryOperatorTestCase testCase : CommonTestCases.multiplyByFractionTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final LongFraction f2 = LongFraction.of(testCase.secondOperandNumerator, testCase.secondOperandDenominator);
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f1.multiply(f2));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.multiplyByIntTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final int i2 = testCase.secondOperand;
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f1.multiply(i2));
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f1.multiply((long) i2));
+        }
+
+        assertFraction(1L << 62, 1, LongFraction.of(1L << 31).multiply(1L << 31));
+        assertFraction(MAX, 1, LongFraction.of(MAX, 3).multiply(3));
+        assertFraction(1, 1, LongFraction.of(MAX, MAX - 1).multiply(LongFraction.of(MAX - 1, MAX)));
+        // Long.MIN_VALUE cancels: gcd is 2^63
+        assertValue(1, 1, LongFraction.of(1, MIN).multiply(MIN));
+        assertValue(3, 1, LongFraction.of(3, MIN).multiply(MIN));
+        assertValue(1, 1, LongFraction.of(MIN).multiply(LongFraction.of(1, MIN)));
+        assertValue(1, 3, LongFraction.of(1, MIN).multiply(LongFraction.of(MIN, 3)));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(1L << 32).multiply(1L << 31));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(1, MAX).multiply(LongFraction.of(1, 2)));
+
+        assertExactBinary(LongFraction::multiply, BigFraction::multiply);
+    }
+
+    @Test
+    void testDivide() {
+        for (final CommonTestCases.BinaryOperatorTestCase testCase : CommonTestCases.divideByFractionTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final LongFraction f2 = LongFraction.of(testCase.secondOperandNumerator, testCase.secondOperandDenominator);
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f1.divide(f2));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.divideByIntTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final long i2 = testCase.secondOperand;
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f1.divide(i2));
+        }
+
+        assertFraction(1, 1L << 62, LongFraction.of(1, 1L << 31).divide(1L << 31));
+        assertFraction(MAX, 1, LongFraction.of(MAX).divide(LongFraction.ONE));
+        // Long.MIN_VALUE cancels: gcd is 2^63
+        assertValue(1, 1, LongFraction.of(MIN).divide(MIN));
+        assertValue(1, 3, LongFraction.of(MIN, 3).divide(MIN));
+        assertValue(1, 1, LongFraction.of(1, MIN).divide(LongFraction.of(1, MIN)));
+        assertValue(3, 1, LongFraction.of(MIN).divide(LongFraction.of(MIN, 3)));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.ONE.divide(0));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.ONE.divide(LongFraction.ZERO));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(1, 1L << 32).divide(1L << 31));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(MAX).divide(LongFraction.of(1, 2)));
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.ZERO.divide(3));
+    }
+
+    @Test
+    void testPow() {
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.powTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final int exponent = testCase.secondOperand;
+            assertValue(testCase.expectedNumerator, testCase.expectedDenominator, f1.pow(exponent));
+        }
+
+        assertFraction(1L << 62, 1, LongFraction.of(2).pow(62));
+        assertFraction(1, 1L << 62, LongFraction.of(2).pow(-62));
+        assertFraction((long) Integer.MAX_VALUE * Integer.MAX_VALUE, 9, LongFraction.of(Integer.MAX_VALUE, 3).pow(2));
+        assertFraction(1, 1, LongFraction.of(-1).pow(Integer.MIN_VALUE));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(2).pow(63));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(1, MAX).pow(2));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(MAX).pow(-2));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.ZERO.pow(-1));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        final LongFraction zero = LongFraction.of(0, 1);
+        Assertions.assertEquals(zero, zero);
+        Assertions.assertNotEquals(zero, null);
+        Assertions.assertNotEquals(zero, new Object());
+        Assertions.assertNotEquals(zero, Fraction.ZERO);
+
+        final LongFraction[] values = {LongFraction.of(1, 2), LongFraction.of(-1, -2), LongFraction.of(MIN, -1),
+            LongFraction.of(MIN), LongFraction.of(1, MIN), LongFraction.of(MAX, 3)};
+        for (final LongFraction x : values) {
+            final LongFraction y = LongFraction.of(x.getNumerator(), x.getDenominator());
+            Assertions.assertEquals(x, y);
+            Assertions.assertEquals(x.hashCode(), y.hashCode());
+            // Same value with the sign in the other part
+            if (x.getNumerator() != MIN && x.getDenominator() != MIN) {
+                final LongFraction z = LongFraction.of(-x.getNumerator(), -x.getDenominator());
+                Assertions.assertEquals(x, z);
+                Assertions.assertEquals(x.hashCode(), z.hashCode());
+            }
+            Assertions.assertNotEquals(x, x.negate());
+        }
+        Assertions.assertEquals(LongFraction.of(1, 2), LongFraction.of(-1, -2));
+        Assertions.assertNotEquals(LongFraction.of(1, 2), LongFraction.of(1, 3));
+    }
+
+    @Test
+    void testAdditiveNeutral() {
+        Assertions.assertEquals(LongFraction.ZERO, LongFraction.ONE.zero());
+    }
+
+    @Test
+    void testMultiplicativeNeutral() {
+        Assertions.assertEquals(LongFraction.ONE, LongFraction.ZERO.one());
+    }
+
+    @Test
+    void testSerial() {
+        final LongFraction[] fractions = {
+            LongFraction.of(3, 4), LongFraction.ONE, LongFraction.ZERO,
+            LongFraction.of(17), LongFraction.of(MAX, 3),
+            LongFraction.of(-5, 2)
+        };
+        for (final LongFraction fraction : fractions) {
+            Assertions.assertEquals(fraction,
+                                    TestUtils.serializeAndRecover(fraction));
+        }
+    }
+
+    @Test
+    void testToString() {
+        Assertions.assertEquals("0", LongFraction.of(0, 3).toString());
+        Assertions.assertEquals("3", LongFraction.of(6, 2).toString());
+        Assertions.assertEquals("2 / 3", LongFraction.of(18, 27).toString());
+        Assertions.assertEquals("-10 / 11", LongFraction.of(-10, 11).toString());
+        Assertions.assertEquals("10 / -11", LongFraction.of(10, -11).toString());
+        Assertions.assertEquals("9223372036854775807 / 2", LongFraction.of(MAX, 2).toString());
+    }
+
+    @Test
+    void testParse() {
+        Assertions.assertEquals(LongFraction.of(1, 2), LongFraction.parse("1 / 2"));
+        Assertions.assertEquals(LongFraction.of(-1, 2), LongFraction.parse("-01 / 02"));
+        Assertions.assertEquals(LongFraction.of(1, -2), LongFraction.parse("1 / -2"));
+        Assertions.assertEquals(LongFraction.of(-3), LongFraction.parse("-3"));
+        Assertions.assertEquals(LongFraction.of(MAX, 3), LongFraction.parse("9223372036854775807 / 3"));
+        Assertions.assertEquals(LongFraction.of(1, MIN), LongFraction.parse("1 / -9223372036854775808"));
+        Assertions.assertEquals(LongFraction.of(1L << 40, 3), LongFraction.parse("1,099,511,627,776 / 3"));
+
+        Assertions.assertThrows(NumberFormatException.class, () -> LongFraction.parse("1 // 2"));
+        Assertions.assertThrows(NumberFormatException.class, () -> LongFraction.parse("1 / z"));
+        Assertions.assertThrows(NumberFormatException.class, () -> LongFraction.parse("9223372036854775808"));
+        Assertions.assertThrows(NumberFormatException.class, () -> LongFraction.parse("x"));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.parse("1 / 0"));
+    }
+
+    @Test
+    void testParseRegion() {
+        final String text = "a=-4 / 13;b=42;c= 1,000 /3 ;d=12345678901234567890 / 2";
+        Assertions.assertEquals(LongFraction.of(-4, 13), LongFraction.parse(text, 2, 9));
+        Assertions.assertEquals(LongFraction.of(42), LongFraction.parse(text, 12, 14));
+        Assertions.assertEquals(LongFraction.of(1000, 3), LongFraction.parse(text, 17, 27));
+        Assertions.assertEquals(LongFraction.of(5, 7), LongFraction.parse(new StringBuilder("5/7"), 0, 3));
+        Assertions.assertThrows(NumberFormatException.class, () -> LongFraction.parse(text, 30, text.length()));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> LongFraction.parse(text, 2, 100));
+
+        final String[] inputs = {"0", "-0", "+5", "1 / 2", " 3/ 4 ", "1,2 / 3", "- 1", "1 / 0", "/",
+            "9223372036854775807", "-9223372036854775808", "9223372036854775808", "1 / -9223372036854775808",
+            "123456789012345678 / 1234567890123456789", "1e3"};
+        for (final String s : inputs) {
+            final String t = "ab" + s + "cd";
+            final LongFraction expected;
+            try {
+                expected = LongFraction.parse(s);
+            } catch (NumberFormatException | ArithmeticException ex) {
+                final RuntimeException ex2 = Assertions.assertThrows(ex.getClass(),
+                    () -> LongFraction.parse(t, 2, t.length() - 2), s);
+                Assertions.assertEquals(ex.getMessage(), ex2.getMessage());
+                continue;
+            }
+            Assertions.assertEquals(expected, LongFraction.parse(t, 2, t.length() - 2), s);
+        }
+    }
+
+    @Test
+    void testAppendTo() {
+        final LongFraction[] values = {LongFraction.of(0, 3), LongFraction.of(6, 2), LongFraction.of(-10, 11),
+            LongFraction.of(10, -11), LongFraction.of(MIN, 3)};
+        final StringBuilder sb = new StringBuilder();
+        for (final LongFraction f : values) {
+            sb.setLength(0);
+            Assertions.assertSame(sb, f.appendTo(sb));
+            Assertions.assertEquals(f.toString(), sb.toString());
+        }
+    }
+
+    /**
+     * Assert the binary operation is exact for random operands with large values. Operations
+     * that overflow must raise an exception and the exact result must not be representable.
+     */
+    private static void assertExactBinary(BinaryOperator<LongFraction> op, BinaryOperator<BigFraction> exact) {
+        final SplittableRandom rng = new SplittableRandom(2398472L);
+        for (int i = 0; i < 500; i++) {
+            // Random bit sizes to create both representable and unrepresentable results
+            final LongFraction x = LongFraction.of(rng.nextLong() >> rng.nextInt(64), (rng.nextLong() >>> rng.nextInt(64)) | 1);
+            final LongFraction y = LongFraction.of(rng.nextLong() >> rng.nextInt(64), (rng.nextLong() >>> rng.nextInt(64)) | 1);
+            final BigFraction expected = exact.apply(x.toBigFraction(), y.toBigFraction());
+            if (expected.getNumerator().bitLength() < Long.SIZE &&
+                expected.getDenominator().bitLength() < Long.SIZE) {
+                assertExact(expected, op.apply(x, y));
+            } else {
+                Assertions.assertThrows(ArithmeticException.class, () -> op.apply(x, y));
+            }
+        }
+    }
+}
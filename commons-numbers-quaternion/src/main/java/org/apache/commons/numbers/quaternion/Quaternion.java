@@ -51,11 +51,11 @@ public final class Quaternion implements Serializable {
     private static final String ILLEGAL_NORM_MSG = "Illegal norm: ";
 
     /** {@link #toString() String representation}. */
-    private static final String FORMAT_START = "[";
+    private static final char FORMAT_START = '[';
     /** {@link #toString() String representation}. */
-    private static final String FORMAT_END = "]";
+    private static final char FORMAT_END = ']';
     /** {@link #toString() String representation}. */
-    private static final String FORMAT_SEP = " ";
+    private static final char FORMAT_SEP = ' ';
 
     /** The number of dimensions for the vector part of the quaternion. */
     private static final int VECTOR_DIMENSIONS = 3;
@@ -647,8 +647,78 @@ public final class Quaternion implements Serializable {
      * @return an instance.
      * @throws NumberFormatException if the string does not conform
      * to the specification.
+     * @see #parse(CharSequence, int, int)
      */
     public static Quaternion parse(String s) {
+        return parse(s, 0, s.length());
+    }
+
+    /**
+     * Parses the region of the character sequence {@code s} from {@code start} (inclusive)
+     * to {@code end} (exclusive) that would be produced by {@link #toString()} and
+     * instantiates the corresponding object.
+     *
+     * <p>The result is the same as {@code parse(s.subSequence(start, end).toString())}.
+     * When the parts are in a simple decimal format with a limited number of significant
+     * digits, such as {@code "[1.5 -2.0 3.25e-3 0.0]"}, the parts are parsed directly from
+     * the sequence and no intermediate objects are created.
+     *
+     * @param s Character sequence.
+     * @param start Start index (inclusive).
+     * @param end End index (exclusive).
+     * @return an instance.
+     * @throws IndexOutOfBoundsException if the region is not within the sequence.
+     * @throws NumberFormatException if the region does not conform
+     * to the specification.
+     * @see #parse(String)
+     */
+    public static Quaternion parse(CharSequence s, int start, int end) {
+        final int last = end - 1;
+        if (last > start &&
+            s.charAt(start) == FORMAT_START &&
+            s.charAt(last) == FORMAT_END) {
+            // Each part is parsed up to the next separator. The last part is parsed to
+            // the end delimiter and will not be parsed if it contains another separator.
+            final int sep1 = nextSeparator(s, start + 1, last);
+            final int sep2 = nextSeparator(s, sep1 + 1, last);
+            final int sep3 = nextSeparator(s, sep2 + 1, last);
+            final double a = DoubleParser.parse(s, start + 1, sep1);
+            final double b = DoubleParser.parse(s, sep1 + 1, sep2);
+            final double c = DoubleParser.parse(s, sep2 + 1, sep3);
+            final double d = DoubleParser.parse(s, sep3 + 1, last);
+            if (!(Double.isNaN(a) || Double.isNaN(b) || Double.isNaN(c) || Double.isNaN(d))) {
+                return of(a, b, c, d);
+            }
+        }
+        return parseString(s.subSequence(start, end).toString());
+    }
+
+    /**
+     * Find the index of the next separator.
+     *
+     * @param s Character sequence.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     * @return the index of the separator, or {@code to} if absent
+     */
+    private static int nextSeparator(CharSequence s, int from, int to) {
+        int i = from;
+        while (i < to && s.charAt(i) != FORMAT_SEP) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Parses a string that would be produced by {@link #toString()}
+     * and instantiates the corresponding object.
+     *
+     * @param s String representation.
+     * @return an instance.
+     * @throws NumberFormatException if the string does not conform
+     * to the specification.
+     */
+    private static Quaternion parseString(String s) {
         final int startBracket = s.indexOf(FORMAT_START);
         if (startBracket != 0) {
             throw new QuaternionParsingException("Expected start string: " + FORMAT_START);
@@ -658,7 +728,7 @@ public final class Quaternion implements Serializable {
         if (endBracket != len - 1) {
             throw new QuaternionParsingException("Expected end string: " + FORMAT_END);
         }
-        final String[] elements = s.substring(1, s.length() - 1).split(FORMAT_SEP);
+        final String[] elements = s.substring(1, s.length() - 1).split(String.valueOf(FORMAT_SEP));
         if (elements.length != NUMBER_OF_PARTS) {
             throw new QuaternionParsingException("Incorrect number of parts: Expected 4 but was " +
                                                  elements.length +
@@ -698,15 +768,24 @@ public final class Quaternion implements Serializable {
      */
     @Override
     public String toString() {
-        final StringBuilder s = new StringBuilder();
-        s.append(FORMAT_START)
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    /**
+     * Appends the {@link #toString() string representation} of the quaternion
+     * to the builder. No intermediate strings are created.
+     *
+     * @param sb String builder.
+     * @return the string builder
+     * @see #toString()
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        return sb.append(FORMAT_START)
             .append(w).append(FORMAT_SEP)
             .append(x).append(FORMAT_SEP)
             .append(y).append(FORMAT_SEP)
             .append(z)
             .append(FORMAT_END);
-
-        return s.toString();
     }
 
     /** See {@link #parse(String)}. */
@@ -737,6 +737,50 @@ class QuaternionTest {
         Assertions.assertEquals("[1.0 2.0 3.0 4.0]", q.toString());
     }
 
+    @Test
+    final void testParseRegion() {
+        final String text = "q=[1.5 -2.0 3.25e-3 0.0];[1e300 Infinity NaN -0xa.cp0];[1 2 3]";
+        final Quaternion q1 = Quaternion.parse(text, 2, 24);
+        Assertions.assertEquals(Quaternion.of(1.5, -2.0, 3.25e-3, 0.0), q1);
+        final Quaternion q2 = Quaternion.parse(text, 25, 54);
+        Assertions.assertEquals(1e300, q2.getW());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, q2.getX());
+        Assertions.assertTrue(Double.isNaN(q2.getY()));
+        Assertions.assertEquals(-0xa.cp0, q2.getZ());
+        Assertions.assertEquals(Quaternion.of(1, 2, 3, 4), Quaternion.parse(new StringBuilder("[1 2 3 4]"), 0, 9));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Quaternion.parse(text, 55, text.length()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Quaternion.parse(text, 0, 24));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Quaternion.parse(text, 2, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Quaternion.parse(text, 2, 100));
+    }
+
+    @Test
+    final void testParseRegionMatchesParse() {
+        final String[] inputs = {"[1 2 3 4]", "[1 2 3 4 ]", "[ 1 2 3 4]", "[1  2 3 4]", "[1 2 3 4 5]",
+            "[1 2 3]", "[1\t2 3 4]", "[\t1 2 3 4\t]", "[1e23 2 3 4]", "[1d 2 3 4]", "[]", "[1]"};
+        for (final String s : inputs) {
+            final String text = "ab" + s + "cd";
+            Quaternion expected;
+            try {
+                expected = Quaternion.parse(s);
+            } catch (NumberFormatException ex) {
+                final NumberFormatException ex2 = Assertions.assertThrows(NumberFormatException.class,
+                    () -> Quaternion.parse(text, 2, text.length() - 2), s);
+                Assertions.assertEquals(ex.getMessage(), ex2.getMessage());
+                continue;
+            }
+            Assertions.assertEquals(expected, Quaternion.parse(text, 2, text.length() - 2), s);
+        }
+    }
+
+    @Test
+    final void testAppendTo() {
+        final StringBuilder sb = new StringBuilder("q=");
+        final Quaternion q = Quaternion.of(1, 2, 3, 4);
+        Assertions.assertSame(sb, q.appendTo(sb));
+        Assertions.assertEquals("q=[1.0 2.0 3.0 4.0]", sb.toString());
+    }
+
     /**
      * Assert that two quaternions are equal within tolerance
      * @param actual